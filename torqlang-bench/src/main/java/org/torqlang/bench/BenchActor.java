@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.torqlang.local.Envelope;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures message round-trips through `LocalActor` and `AffinityExecutor`. The tell benchmark sends a burst of
+ * notifications followed by one request, which cannot be answered until the burst has been processed, and scores
+ * are reported per message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djmh.shutdownTimeout=0")
+public class BenchActor {
+
+    @Benchmark
+    public void ask(BenchActorState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(BenchActorState.ask(state.counter, state.clientAddress, BenchActorState.COUNT));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchActorState.TELLS_PER_ASK + 1)
+    public void tellThenAsk(BenchActorState state, Blackhole blackhole) throws Exception {
+        for (int i = 0; i < BenchActorState.TELLS_PER_ASK; i++) {
+            state.counter.send(Envelope.createNotify(BenchActorState.INCREMENT));
+        }
+        blackhole.consume(BenchActorState.ask(state.counter, state.clientAddress, BenchActorState.COUNT));
+    }
+
+}
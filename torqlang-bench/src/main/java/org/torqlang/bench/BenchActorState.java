@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.klvm.Complete;
+import org.torqlang.klvm.Int32;
+import org.torqlang.klvm.Str;
+import org.torqlang.local.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * A counter actor spawned once per trial on an actor system backed by its own executor of the given mode.
+ */
+@State(Scope.Benchmark)
+public class BenchActorState {
+
+    public static final int TELLS_PER_ASK = 100;
+
+    public static final Str COUNT = Str.of("count");
+    public static final Str INCREMENT = Str.of("increment");
+
+    static final String COUNTER = """
+        actor Counter() in
+            import torq.lang.Cell
+            var count = new Cell(0)
+            handle ask 'count' in
+                @count
+            end
+            handle tell 'increment' in
+                count := @count + 1
+            end
+        end""";
+
+    @Param({"AFFINITY", "WORK_STEALING", "VIRTUAL"})
+    public ExecutorMode executorMode;
+
+    public ActorSystem system;
+    public ActorRef counter;
+    public Address clientAddress;
+
+    public static Object ask(ActorRef actorRef, Address clientAddress, Complete message) throws Exception {
+        return RequestClient.builder()
+            .setAddress(clientAddress)
+            .send(actorRef, message)
+            .awaitResponse(5, TimeUnit.SECONDS);
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        system = ActorSystem.builder()
+            .setName("BenchActor")
+            .setExecutorMode(executorMode)
+            .build();
+        counter = Actor.builder()
+            .setSystem(system)
+            .setAddress(Address.create("BenchActor.Counter"))
+            .spawn(COUNTER)
+            .actorRef();
+        clientAddress = Address.create("BenchActor.Client");
+        counter.send(Envelope.createNotify(INCREMENT));
+        Object response = ask(counter, clientAddress, COUNT);
+        if (!Int32.of(1).equals(response)) {
+            throw new IllegalStateException("Expected 1 but found " + response);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures `ApiHandler` end-to-end, from raw HTTP request text to raw HTTP response text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djmh.shutdownTimeout=0")
+public class BenchApiHandler {
+
+    @Benchmark
+    public String getOrder(BenchApiHandlerState state) throws Exception {
+        return state.connector.getResponse(BenchApiHandlerState.GET_ORDER_REQUEST);
+    }
+
+    @Benchmark
+    public String postEcho(BenchApiHandlerState state) throws Exception {
+        return state.connector.getResponse(BenchApiHandlerState.POST_ECHO_REQUEST);
+    }
+
+}
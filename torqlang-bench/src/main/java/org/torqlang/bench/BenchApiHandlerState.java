@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.torqlang.klvm.CompleteRec;
+import org.torqlang.klvm.Rec;
+import org.torqlang.lang.TupleType;
+import org.torqlang.local.*;
+import org.torqlang.server.ApiDesc;
+import org.torqlang.server.ApiHandler;
+import org.torqlang.server.ApiRouter;
+
+/*
+ * An in-process Jetty server with a `LocalConnector`, so that requests travel the complete HTTP path through
+ * `ApiHandler` without socket overhead. The orders route serves each request from an actor image, either by spawning
+ * a new actor or, when `ordersPoolSize` is not zero, by checking out a pooled actor. The echo route sends to an actor
+ * spawned once.
+ */
+@State(Scope.Benchmark)
+public class BenchApiHandlerState {
+
+    public static final String GET_ORDER_REQUEST = """
+        GET /api/orders/42?limit=10 HTTP/1.1\r
+        Host: localhost\r
+        Accept: application/json\r
+        \r
+        """;
+
+    public static final String POST_ECHO_BODY = """
+        {"id":42,"customer":{"first":"Abraham","last":"Lincoln"},"items":[{"sku":"A-1","qty":2},{"sku":"B-7","qty":1}]}""";
+
+    public static final String POST_ECHO_REQUEST = "POST /api/echo HTTP/1.1\r\n" +
+        "Host: localhost\r\n" +
+        "Content-Type: application/json\r\n" +
+        "Content-Length: " + POST_ECHO_BODY.length() + "\r\n" +
+        "\r\n" +
+        POST_ECHO_BODY;
+
+    static final String ORDERS = """
+        actor Orders() in
+            handle ask 'GET'#{'headers': _, 'path': ['orders', id], 'query': query, 'context': _} in
+                {
+                    'id': id,
+                    'limit': query.limit,
+                    'status': 'shipped',
+                    'items': [{'sku': 'A-1', 'qty': 2}, {'sku': 'B-7', 'qty': 1}]
+                }
+            end
+        end""";
+
+    static final String ECHO = """
+        actor Echo() in
+            handle ask 'POST'#{'headers': _, 'path': ['echo'], 'query': _, 'body': body, 'context': _} in
+                body
+            end
+        end""";
+
+    @Param({"0", "16"})
+    public int ordersPoolSize;
+
+    public Server server;
+    public LocalConnector connector;
+
+    private static CompleteRec emptyContextProvider(Request request) {
+        return Rec.completeRecBuilder().build();
+    }
+
+    private static void verify(String response) {
+        if (!response.startsWith("HTTP/1.1 200")) {
+            throw new IllegalStateException("Expected status 200 but found:\n" + response);
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        ActorSystem system = ActorSystem.defaultSystem();
+        ActorImage ordersImage = Actor.builder()
+            .setSystem(system)
+            .actorImage(ORDERS);
+        ActorRef echoRef = Actor.builder()
+            .setSystem(system)
+            .setAddress(Address.create("BenchApiHandler.Echo"))
+            .spawn(ECHO)
+            .actorRef();
+        ApiDesc apiDesc = ApiDesc.builder()
+            .setPathType(TupleType.SINGLETON)
+            .setContextProvider(BenchApiHandlerState::emptyContextProvider)
+            .build();
+        ApiRouter router = ApiRouter.staticBuilder()
+            .addRoute("/orders/{id}", ordersImage, apiDesc, ordersPoolSize)
+            .addRoute("/echo", echoRef, apiDesc)
+            .build();
+        ApiHandler apiHandler = ApiHandler.builder()
+            .setSystem(system)
+            .setRouter(router)
+            .build();
+        server = new Server();
+        connector = new LocalConnector(server);
+        server.addConnector(connector);
+        server.setHandler(new ContextHandler(apiHandler, "/api"));
+        server.start();
+        verify(connector.getResponse(GET_ORDER_REQUEST));
+        verify(connector.getResponse(POST_ECHO_REQUEST));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.torqlang.server.ApiRouteMatch;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures finding the routes for every request path of `BenchApiRouterState`, starting from the raw path as
+ * `ApiHandler` receives it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchApiRouter {
+
+    @Benchmark
+    public int findRoutes(BenchApiRouterState state) {
+        int found = 0;
+        for (String requestPath : state.requestPaths) {
+            ApiRouteMatch match = state.router.findRoute("GET", requestPath);
+            if (match != null) {
+                found += match.path().segs.size();
+            }
+        }
+        return found;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.klvm.Rec;
+import org.torqlang.local.Actor;
+import org.torqlang.local.ActorImage;
+import org.torqlang.local.ActorSystem;
+import org.torqlang.server.ApiDesc;
+import org.torqlang.server.ApiRouter;
+import org.torqlang.server.StaticApiRouterBuilder;
+import org.torqlang.server.TrieApiRouterBuilder;
+
+/*
+ * A router with `RESOURCE_COUNT` resources, each with a collection route, an item route, and a nested collection
+ * route, along with one raw request path per route. The router is either the sorted-array `StaticApiRouter` or the
+ * segment-trie `TrieApiRouter`.
+ */
+@State(Scope.Benchmark)
+public class BenchApiRouterState {
+
+    public static final int RESOURCE_COUNT = 20;
+
+    static final String RESOURCE = """
+        actor Resource() in
+            handle ask 'GET'#{'headers': _, 'path': _, 'query': _, 'context': _} in
+                null
+            end
+        end""";
+
+    @Param({"STATIC", "TRIE"})
+    public String routerKind;
+
+    public ApiRouter router;
+    public String[] requestPaths;
+
+    @Setup
+    public void setup() throws Exception {
+        ActorImage image = Actor.builder()
+            .setSystem(ActorSystem.defaultSystem())
+            .actorImage(RESOURCE);
+        ApiDesc apiDesc = ApiDesc.builder()
+            .setContextProvider(r -> Rec.completeRecBuilder().build())
+            .build();
+        StaticApiRouterBuilder staticBuilder = ApiRouter.staticBuilder();
+        TrieApiRouterBuilder trieBuilder = ApiRouter.trieBuilder();
+        requestPaths = new String[RESOURCE_COUNT * 3];
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            String resource = "/resource" + i;
+            for (String pathExpr : new String[]{resource, resource + "/{id}", resource + "/{id}/items"}) {
+                staticBuilder.addRoute(pathExpr, image, apiDesc);
+                trieBuilder.addRoute(pathExpr, image, apiDesc);
+            }
+            requestPaths[i * 3] = resource;
+            requestPaths[i * 3 + 1] = resource + "/" + (1000 + i);
+            requestPaths[i * 3 + 2] = resource + "/" + (1000 + i) + "/items";
+        }
+        router = routerKind.equals("TRIE") ? trieBuilder.build() : staticBuilder.build();
+        for (String requestPath : requestPaths) {
+            if (router.findRoute("GET", requestPath) == null) {
+                throw new IllegalStateException("Route not found: " + requestPath);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Compare JMH results in CSV format (`-rf csv`) against a baseline in the same format. A benchmark is reported as
+ * improved or regressed when its score moves by more than the threshold percentage and by more than the combined
+ * error margins of both runs. Throughput modes improve upward and all other modes improve downward.
+ *
+ * Usage: BenchComparison <baseline.csv> <results.csv> [threshold-percent]
+ */
+public final class BenchComparison {
+
+    public static final double DEFAULT_THRESHOLD = 5.0;
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final Map<String, Score> baseline;
+    private final Map<String, Score> results;
+    private final double threshold;
+
+    private int regressionCount;
+
+    public BenchComparison(Map<String, Score> baseline, Map<String, Score> results, double threshold) {
+        this.baseline = baseline;
+        this.results = results;
+        this.threshold = threshold;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchComparison <baseline.csv> <results.csv> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        BenchComparison comparison = new BenchComparison(readScores(Path.of(args[0])),
+            readScores(Path.of(args[1])), threshold);
+        System.out.println(comparison.format());
+        if (comparison.regressionCount() > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static double parseScore(String text) {
+        if (text.isBlank() || text.equals("NaN")) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(text);
+    }
+
+    /*
+     * Read scores keyed by benchmark name, mode, and any parameter values, preserving file order.
+     */
+    public static Map<String, Score> readScores(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Empty results file: " + path);
+        }
+        List<String> header = parseCsvLine(lines.get(0));
+        int benchmarkIndex = header.indexOf("Benchmark");
+        int modeIndex = header.indexOf("Mode");
+        int scoreIndex = header.indexOf("Score");
+        int errorIndex = header.indexOf("Score Error (99.9%)");
+        int unitIndex = header.indexOf("Unit");
+        if (benchmarkIndex < 0 || modeIndex < 0 || scoreIndex < 0 || errorIndex < 0 || unitIndex < 0) {
+            throw new IllegalArgumentException("Not a JMH CSV results file: " + path);
+        }
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(line);
+            List<String> params = new ArrayList<>();
+            for (int j = unitIndex + 1; j < fields.size() && j < header.size(); j++) {
+                if (!fields.get(j).isEmpty()) {
+                    params.add(header.get(j).replace("Param: ", "") + "=" + fields.get(j));
+                }
+            }
+            StringBuilder key = new StringBuilder(fields.get(benchmarkIndex));
+            if (!params.isEmpty()) {
+                key.append('(').append(String.join(", ", params)).append(')');
+            }
+            String mode = fields.get(modeIndex);
+            key.append(' ').append(mode);
+            scores.put(key.toString(), new Score(mode, parseScore(fields.get(scoreIndex)),
+                parseScore(fields.get(errorIndex)), fields.get(unitIndex)));
+        }
+        return scores;
+    }
+
+    public final String format() {
+        regressionCount = 0;
+        int keyWidth = "Benchmark".length();
+        for (String key : results.keySet()) {
+            keyWidth = Math.max(keyWidth, key.length());
+        }
+        for (String key : baseline.keySet()) {
+            keyWidth = Math.max(keyWidth, key.length());
+        }
+        String rowFormat = "%-" + keyWidth + "s  %14s  %14s  %9s  %-10s  %s%n";
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(rowFormat, "Benchmark", "Baseline", "Current", "Change", "Unit", "Verdict"));
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null || !base.unit.equals(current.unit)) {
+                sb.append(String.format(rowFormat, entry.getKey(), "-", formatScore(current.score), "-",
+                    current.unit, "new"));
+                continue;
+            }
+            double change = (current.score - base.score) / base.score * 100.0;
+            String verdict = "";
+            boolean significant = Math.abs(change) > threshold &&
+                Math.abs(current.score - base.score) > errorOrZero(current.error) + errorOrZero(base.error);
+            if (significant) {
+                boolean better = current.mode.equals(THROUGHPUT_MODE) ? change > 0 : change < 0;
+                if (better) {
+                    verdict = "improved";
+                } else {
+                    verdict = "REGRESSED";
+                    regressionCount++;
+                }
+            }
+            sb.append(String.format(rowFormat, entry.getKey(), formatScore(base.score), formatScore(current.score),
+                String.format("%+.1f%%", change), current.unit, verdict));
+        }
+        for (String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                Score base = baseline.get(key);
+                sb.append(String.format(rowFormat, key, formatScore(base.score), "-", "-", base.unit, "missing"));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static double errorOrZero(double error) {
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    private static String formatScore(double score) {
+        return String.format("%.3f", score);
+    }
+
+    /*
+     * The number of regressions found by the last call to `format()`.
+     */
+    public final int regressionCount() {
+        return regressionCount;
+    }
+
+    public record Score(String mode, double score, double error, String unit) {
+    }
+
+}
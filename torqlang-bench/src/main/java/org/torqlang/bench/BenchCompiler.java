@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.torqlang.lang.Generator;
+import org.torqlang.lang.Lexer;
+import org.torqlang.lang.LexerToken;
+import org.torqlang.lang.ModuleStmt;
+import org.torqlang.lang.Parser;
+import org.torqlang.util.SourceString;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures front-end throughput over the standard library sources. Each invocation processes every source module
+ * once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchCompiler {
+
+    @Benchmark
+    public void generate(BenchCompilerState state, Blackhole blackhole) throws Exception {
+        for (ModuleStmt moduleStmt : state.moduleStmts) {
+            Generator g = new Generator();
+            blackhole.consume(g.acceptStmt(moduleStmt));
+        }
+    }
+
+    @Benchmark
+    public void lex(BenchCompilerState state, Blackhole blackhole) {
+        for (SourceString source : state.sources) {
+            Lexer lexer = new Lexer(source);
+            LexerToken token = lexer.nextToken(false);
+            while (!token.isEof()) {
+                blackhole.consume(token);
+                token = lexer.nextToken(false);
+            }
+        }
+    }
+
+    @Benchmark
+    public void parse(BenchCompilerState state, Blackhole blackhole) {
+        for (SourceString source : state.sources) {
+            blackhole.consume(new Parser(source).parseModule());
+        }
+    }
+
+}
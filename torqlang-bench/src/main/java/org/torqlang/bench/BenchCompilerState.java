@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.lang.ModuleStmt;
+import org.torqlang.lang.Parser;
+import org.torqlang.local.StandardLibraryBroker;
+import org.torqlang.util.FileName;
+import org.torqlang.util.FileType;
+import org.torqlang.util.SourceFileBroker;
+import org.torqlang.util.SourceString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The standard library sources are read once per trial. Parsed modules are retained so that the generator can be
+ * measured independently of the parser.
+ */
+@State(Scope.Benchmark)
+public class BenchCompilerState {
+
+    public final List<SourceString> sources = new ArrayList<>();
+    public final List<ModuleStmt> moduleStmts = new ArrayList<>();
+
+    private static void collectSources(SourceFileBroker broker, List<FileName> folderPath,
+                                       List<SourceString> sources) throws Exception
+    {
+        for (FileName fileName : broker.list(folderPath)) {
+            List<FileName> path = SourceFileBroker.append(folderPath, fileName);
+            if (fileName.type() == FileType.FOLDER) {
+                collectSources(broker, path, sources);
+            } else if (fileName.type() == FileType.SOURCE) {
+                sources.add(broker.source(path));
+            }
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        SourceFileBroker broker = StandardLibraryBroker.get();
+        for (List<FileName> root : broker.roots()) {
+            collectSources(broker, root, sources);
+        }
+        if (sources.isEmpty()) {
+            throw new IllegalStateException("Standard library sources not found");
+        }
+        for (SourceString source : sources) {
+            moduleStmts.add(new Parser(source).parseModule());
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.torqlang.klvm.Complete;
+import org.torqlang.klvm.WaitVarException;
+import org.torqlang.server.JsonKernelReader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares two equal but separately read copies of the JSON order document used by `BenchJson`. Unification is not
+ * measured separately because unifying two complete records makes them share their field values, after which later
+ * comparisons stop at identical fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchEntails {
+
+    private Complete order1;
+    private Complete order2;
+
+    @Benchmark
+    public boolean entails() throws WaitVarException {
+        return order1.entails(order2, null);
+    }
+
+    @Setup
+    public void setup() {
+        byte[] orderBytes = BenchJsonState.createOrderJson().getBytes(StandardCharsets.UTF_8);
+        order1 = JsonKernelReader.read(ByteBuffer.wrap(orderBytes), null);
+        order2 = JsonKernelReader.read(ByteBuffer.wrap(orderBytes), null);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.torqlang.klvm.Complete;
+import org.torqlang.lang.Json;
+import org.torqlang.lang.JsonParser;
+import org.torqlang.local.ValueTools;
+import org.torqlang.server.JsonKernelReader;
+import org.torqlang.server.JsonKernelWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares converting a JSON request body to kernel values by way of a string and Java collections against reading
+ * the body bytes directly into kernel values. Likewise, compares formatting a response value by way of Java
+ * collections and a string against encoding the kernel value directly into a reusable response buffer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchJson {
+
+    @Benchmark
+    public Complete readDirect(BenchJsonState state) {
+        return JsonKernelReader.read(state.requestBody(), null);
+    }
+
+    @Benchmark
+    public Complete readViaNative(BenchJsonState state) {
+        String requestText = new String(state.requestBytes, StandardCharsets.UTF_8);
+        return ValueTools.toKernelValue(JsonParser.parse(requestText), null);
+    }
+
+    @Benchmark
+    public int writeDirect(BenchJsonState state) {
+        JsonKernelWriter writer = new JsonKernelWriter(state.responseValue);
+        ByteBuffer buffer = state.responseBuffer;
+        int byteCount = 0;
+        while (!writer.isFinished()) {
+            buffer.clear();
+            byteCount += writer.encode(buffer);
+        }
+        return byteCount;
+    }
+
+    @Benchmark
+    public int writeViaNative(BenchJsonState state) {
+        String responseText = Json.format(ValueTools.toNativeValue(state.responseValue));
+        return responseText.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.klvm.Complete;
+import org.torqlang.server.JsonKernelReader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * A JSON order document with `ITEM_COUNT` line items, encoded once per trial as the UTF-8 bytes of a request body.
+ * The same document is also read once into kernel values to serve as a response value.
+ */
+@State(Scope.Benchmark)
+public class BenchJsonState {
+
+    public static final int ITEM_COUNT = 100;
+    public static final int RESPONSE_BUFFER_SIZE = 8192;
+
+    public byte[] requestBytes;
+    public Complete responseValue;
+    public ByteBuffer responseBuffer;
+
+    static String createOrderJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"id\":42,\"customer\":{\"first\":\"Abraham\",\"last\":\"Lincoln\",\"city\":\"Springfield\"},");
+        sb.append("\"note\":\"Deliver to the \\\"back\\\" door\",\"items\":[");
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"sku\":\"SKU-").append(i).append("\",\"qty\":").append(i % 7 + 1)
+                .append(",\"price\":").append(i).append(".25,\"taxable\":").append(i % 2 == 0).append('}');
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    public ByteBuffer requestBody() {
+        return ByteBuffer.wrap(requestBytes);
+    }
+
+    @Setup
+    public void setup() {
+        requestBytes = createOrderJson().getBytes(StandardCharsets.UTF_8);
+        responseValue = JsonKernelReader.read(requestBody(), null);
+        responseBuffer = ByteBuffer.allocate(RESPONSE_BUFFER_SIZE);
+    }
+
+}
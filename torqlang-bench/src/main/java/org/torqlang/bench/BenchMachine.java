@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.torqlang.klvm.Int32;
+import org.torqlang.klvm.Str;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Measures `Machine.compute` over generated kernel instructions. Each invocation loops `ITERATIONS` times inside
+ * the machine, and scores are reported per loop iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchMachine {
+
+    @Benchmark
+    @OperationsPerInvocation(BenchMachineState.ITERATIONS)
+    public void countingLoop(BenchMachineState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(state.perform(state.countingLoopInstr, Int32.of(2), this));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchMachineState.ITERATIONS)
+    public void factorial(BenchMachineState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(state.perform(state.factorialInstr, Int32.of(20), this));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchMachineState.ITERATIONS)
+    public void patternMatching(BenchMachineState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(state.perform(state.patternMatchingInstr, state.patternMatchingArg, this));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchMachineState.ITERATIONS)
+    public void recordConstruction(BenchMachineState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(state.perform(state.recordConstructionInstr, Str.of("Abraham"), this));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchMachineState.ITERATIONS)
+    public void selectAndApply(BenchMachineState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(state.perform(state.selectAndApplyInstr, state.selectAndApplyArg, this));
+    }
+
+}
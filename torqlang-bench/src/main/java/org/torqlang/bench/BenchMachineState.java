@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.klvm.*;
+import org.torqlang.lang.Evaluator;
+
+import java.util.List;
+
+/*
+ * Kernel instructions are generated once per trial so that each benchmark invocation measures `Machine.compute`
+ * alone. The instructions are fused the same way `Evaluator` fuses them. Every invocation computes against a fresh
+ * environment.
+ */
+@State(Scope.Benchmark)
+public class BenchMachineState {
+
+    public static final int ITERATIONS = 1_000;
+    public static final long TIME_SLICE = 10_000;
+
+    public static final Ident A = Ident.create("a");
+    public static final Ident N = Ident.create("n");
+    public static final Ident X = Ident.create("x");
+
+    static final String FACTORIAL = """
+        begin
+            func fact(x) in
+                func fact_cps(n, k) in
+                    if n < 2 then k
+                    else fact_cps(n - 1, n * k) end
+                end
+                fact_cps(x, 1L)
+            end
+            func loop(i, last) in
+                if i == 0 then last
+                else loop(i - 1, fact(a)) end
+            end
+            x = loop(n, 0L)
+        end""";
+
+    static final String RECORD_CONSTRUCTION = """
+        begin
+            func build(i, last) in
+                if i == 0 then last
+                else
+                    build(i - 1, 'customer'#{'id': i, 'name': {'first': a, 'last': 'Lincoln'}, 'tags': [i, i + 1, last.id]})
+                end
+            end
+            x = build(n, {'id': 0})
+        end""";
+
+    static final String PATTERN_MATCHING = """
+        begin
+            func classify(i, count) in
+                if i == 0 then count
+                else
+                    var found = case a
+                        of 'supplier'#{'company': {'name': name, 'address': _}} then 2
+                        of 'customer'#{'name': {'first': first, 'last': last}} then 1
+                        else 0
+                    end
+                    classify(i - 1, count + found)
+                end
+            end
+            x = classify(n, 0)
+        end""";
+
+    static final String SELECT_AND_APPLY = """
+        begin
+            func select(i, count) in
+                if i == 0 then count
+                else
+                    var initial = a.name.first.substring(0, 1)
+                    select(i - 1, count + a.id)
+                end
+            end
+            x = select(n, 0)
+        end""";
+
+    static final String COUNTING_LOOP = """
+        begin
+            var i = new Cell(0)
+            var sum = new Cell(0)
+            while @i < n do
+                sum := @sum + @i * a
+                i := @i + 1
+            end
+            x = @sum
+        end""";
+
+    @Param({"LINKED", "ARRAY"})
+    public String stackMode;
+
+    public Instr factorialInstr;
+    public Instr countingLoopInstr;
+    public Instr recordConstructionInstr;
+    public Instr patternMatchingInstr;
+    public Instr selectAndApplyInstr;
+
+    public Complete patternMatchingArg;
+    public Complete selectAndApplyArg;
+
+    private static Instr generate(String source) throws Exception {
+        Instr instr = (Instr) Evaluator.builder()
+            .addVar(A)
+            .addVar(CellMod.CELL_IDENT)
+            .addVar(N)
+            .addVar(X)
+            .setSource(source)
+            .generate()
+            .kernel();
+        return InstrFuser.apply(instr);
+    }
+
+    /*
+     * Compute the instruction against a fresh environment and return the value bound to `x`.
+     */
+    public final Complete perform(Instr instr, Complete a, Object owner) throws WaitException {
+        Var x = new Var();
+        Env env = Env.create(List.of(
+            new EnvEntry(A, new Var(a)),
+            new EnvEntry(CellMod.CELL_IDENT, new Var(CellMod.singleton().namesake())),
+            new EnvEntry(N, new Var(Int32.of(ITERATIONS))),
+            new EnvEntry(X, x)
+        ));
+        Machine.compute(owner, new Stack(instr, env, null), TIME_SLICE, Machine.StackMode.valueOf(stackMode));
+        return x.resolveValue().checkComplete();
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        factorialInstr = generate(FACTORIAL);
+        countingLoopInstr = generate(COUNTING_LOOP);
+        recordConstructionInstr = generate(RECORD_CONSTRUCTION);
+        patternMatchingInstr = generate(PATTERN_MATCHING);
+        patternMatchingArg = Rec.completeRecBuilder()
+            .setLabel(Str.of("customer"))
+            .addField(Str.of("name"), Rec.completeRecBuilder()
+                .addField(Str.of("first"), Str.of("Abraham"))
+                .addField(Str.of("last"), Str.of("Lincoln"))
+                .build())
+            .build();
+        selectAndApplyInstr = generate(SELECT_AND_APPLY);
+        selectAndApplyArg = Rec.completeRecBuilder()
+            .setLabel(Str.of("customer"))
+            .addField(Str.of("id"), Int32.of(1))
+            .addField(Str.of("name"), Rec.completeRecBuilder()
+                .addField(Str.of("first"), Str.of("Abraham"))
+                .addField(Str.of("last"), Str.of("Lincoln"))
+                .build())
+            .build();
+        // Verify each program once so that a broken benchmark fails fast instead of measuring an error path
+        verify(Int64.of(2_432_902_008_176_640_000L), perform(factorialInstr, Int32.of(20), this));
+        verify(Int32.of(ITERATIONS * (ITERATIONS - 1)), perform(countingLoopInstr, Int32.of(2), this));
+        Complete last = perform(recordConstructionInstr, Str.of("Abraham"), this);
+        verify(Int32.of(1), ((CompleteRec) last).findValue(Str.of("id")));
+        verify(Int32.of(ITERATIONS), perform(patternMatchingInstr, patternMatchingArg, this));
+        verify(Int32.of(ITERATIONS), perform(selectAndApplyInstr, selectAndApplyArg, this));
+    }
+
+    private static void verify(Complete expected, Object actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Expected " + expected + " but found " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.torqlang.lang.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Infers the type of a synthetic module with each inference engine:
+ *     substitution -- Validator, which composes and applies immutable substitutions (Algorithm M)
+ *     unionFind    -- UnionFindValidator, which binds mutable union-find type variables
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchValidator {
+
+    private static TypeScope createScope(SuffixFactory suffixFactory) {
+        return TypeScope.create(TypeEnv.create(), suffixFactory.nextAlphaVar());
+    }
+
+    @Benchmark
+    public TypeSubst substitution(BenchValidatorState state) {
+        SuffixFactory suffixFactory = new SuffixFactory();
+        TypeScope scope = createScope(suffixFactory);
+        return state.module.accept(new Validator(suffixFactory), scope);
+    }
+
+    @Benchmark
+    public TypeSubst unionFind(BenchValidatorState state) {
+        SuffixFactory suffixFactory = new SuffixFactory();
+        TypeScope scope = createScope(suffixFactory);
+        return new UnionFindValidator(suffixFactory).infer(state.module, scope);
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.torqlang.lang.Parser;
+import org.torqlang.lang.StmtOrExpr;
+
+/*
+ * A synthetic module is parsed once per trial. For each of `bindings` steps, it declares a function, applies it, and
+ * declares a variable that depends on the previous step, so every step adds three identifiers and several type
+ * variables to the outermost scope:
+ *     func f0(a, b) in a + b - x0 end
+ *     var y0 = f0(x0, 1)
+ *     var x1 = y0 + x0
+ *
+ * The standard library sources are not used here. They are made of package, import, native and type statements that
+ * Validator does not implement yet.
+ */
+@State(Scope.Benchmark)
+public class BenchValidatorState {
+
+    @Param({"250", "1000", "2000"})
+    public int bindings;
+
+    public StmtOrExpr module;
+
+    static String synthesize(int bindings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("begin\n");
+        sb.append("    var x0 = 0\n");
+        for (int i = 0; i < bindings; i++) {
+            sb.append("    func f").append(i).append("(a, b) in a + b - x").append(i).append(" end\n");
+            sb.append("    var y").append(i).append(" = f").append(i).append("(x").append(i).append(", 1)\n");
+            sb.append("    var x").append(i + 1).append(" = y").append(i).append(" + x").append(i).append('\n');
+        }
+        sb.append("    x").append(bindings).append('\n');
+        sb.append("end");
+        return sb.toString();
+    }
+
+    @Setup
+    public void setup() {
+        module = new Parser(synthesize(bindings)).parse();
+    }
+
+}
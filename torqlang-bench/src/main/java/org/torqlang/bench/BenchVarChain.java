@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.torqlang.klvm.Int32;
+import org.torqlang.klvm.Value;
+import org.torqlang.klvm.Var;
+import org.torqlang.klvm.WaitVarException;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Binds `CHAIN_SIZE` unbound variables into one equivalence set and then binds the set to a value, as a stream
+ * pipeline does when it passes futures through intermediaries:
+ *     bindChain -- each variable is bound to the next, so each bind adds one variable to a growing set
+ *     bindPairs -- variables are first bound in pairs, and then each pair is bound to the next, so each bind merges
+ *                  a pair into a growing set
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchVarChain {
+
+    public static final int CHAIN_SIZE = 10_000;
+
+    private static Var[] createVars() {
+        Var[] vars = new Var[CHAIN_SIZE];
+        for (int i = 0; i < CHAIN_SIZE; i++) {
+            vars[i] = new Var();
+        }
+        return vars;
+    }
+
+    @Benchmark
+    public Value bindChain() throws WaitVarException {
+        Var[] vars = createVars();
+        for (int i = 1; i < CHAIN_SIZE; i++) {
+            vars[i].bindToVar(vars[i - 1], null);
+        }
+        vars[0].bindToValue(Int32.I32_1, null);
+        return vars[CHAIN_SIZE - 1].resolveValue();
+    }
+
+    @Benchmark
+    public Value bindPairs() throws WaitVarException {
+        Var[] vars = createVars();
+        for (int i = 1; i < CHAIN_SIZE; i += 2) {
+            vars[i].bindToVar(vars[i - 1], null);
+        }
+        for (int i = 2; i < CHAIN_SIZE; i += 2) {
+            vars[i].bindToVar(vars[i - 2], null);
+        }
+        vars[0].bindToValue(Int32.I32_1, null);
+        return vars[CHAIN_SIZE - 1].resolveValue();
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * Run benchmarks with the standard JMH command line, write the results as CSV, and compare them against the
+ * checked-in baseline when one exists.
+ *
+ * System properties:
+ *     torq.bench.baseline  -- baseline CSV (default: torqlang-bench/baseline/bench-baseline.csv)
+ *     torq.bench.results   -- results CSV (default: torqlang-bench/target/bench-results.csv)
+ *     torq.bench.threshold -- percentage change required to report an improvement or regression (default: 5)
+ *
+ * The checked-in baseline is a fixed reference. It was recorded once, on the tree that introduced this module, with
+ * `-f 3 -wi 5 -w 2 -i 10 -r 2`. Do not overwrite it with later results; record the results of an individual change in
+ * its commit message instead. Benchmarks and parameters added since the baseline was recorded are reported as new.
+ */
+public final class RunBench {
+
+    public static final String DEFAULT_BASELINE = "torqlang-bench/baseline/bench-baseline.csv";
+    public static final String DEFAULT_RESULTS = "torqlang-bench/target/bench-results.csv";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams() ||
+            cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats())
+        {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Path baselinePath = Path.of(System.getProperty("torq.bench.baseline", DEFAULT_BASELINE));
+        Path resultsPath = Path.of(System.getProperty("torq.bench.results", DEFAULT_RESULTS));
+        double threshold = Double.parseDouble(System.getProperty("torq.bench.threshold",
+            Double.toString(BenchComparison.DEFAULT_THRESHOLD)));
+        if (resultsPath.getParent() != null) {
+            Files.createDirectories(resultsPath.getParent());
+        }
+        Options options = new OptionsBuilder()
+            .parent(cmdOptions)
+            .resultFormat(ResultFormatType.CSV)
+            .result(resultsPath.toString())
+            .build();
+        new Runner(options).run();
+        if (!Files.exists(baselinePath)) {
+            System.out.println("No baseline found at " + baselinePath);
+            return;
+        }
+        BenchComparison comparison = new BenchComparison(BenchComparison.readScores(baselinePath),
+            BenchComparison.readScores(resultsPath), threshold);
+        System.out.println();
+        System.out.println("Comparison with baseline " + baselinePath);
+        System.out.println(comparison.format());
+    }
+
+}
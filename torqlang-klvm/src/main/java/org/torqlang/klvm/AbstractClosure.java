@@ -28,20 +28,7 @@ public abstract class AbstractClosure implements Closure {
 
     @Override
     public final void apply(List<CompleteOrIdent> ys, Env env, Machine machine) throws WaitException {
-        if (ys.size() != procDef.xs.size()) {
-            throw new InvalidArgCountError(procDef.xs.size(), ys, this);
-        }
-        Env bodyEnv;
-        if (!ys.isEmpty()) {
-            EnvEntry[] args = new EnvEntry[ys.size()];
-            for (int i = 0; i < ys.size(); i++) {
-                args[i] = new EnvEntry(procDef.xs.get(i), ys.get(i).toVar(env));
-            }
-            bodyEnv = Env.createPrivatelyForKlvm(capturedEnv, args);
-        } else {
-            bodyEnv = capturedEnv;
-        }
-        machine.pushStackEntry(procDef.instr, bodyEnv);
+        machine.pushStackEntry(procDef.instr, createBodyEnv(ys, env));
     }
 
     @Override
@@ -49,6 +36,20 @@ public abstract class AbstractClosure implements Closure {
         return capturedEnv;
     }
 
+    final Env createBodyEnv(List<CompleteOrIdent> ys, Env env) {
+        if (ys.size() != procDef.xs.size()) {
+            throw new InvalidArgCountError(procDef.xs.size(), ys, this);
+        }
+        if (ys.isEmpty()) {
+            return capturedEnv;
+        }
+        EnvEntry[] args = new EnvEntry[ys.size()];
+        for (int i = 0; i < ys.size(); i++) {
+            args[i] = new EnvEntry(procDef.xs.get(i), ys.get(i).toVar(env));
+        }
+        return Env.createPrivatelyForKlvm(capturedEnv, args);
+    }
+
     @Override
     public final boolean isValidKey() {
         return true;
@@ -7,25 +7,25 @@
 
 package org.torqlang.klvm;
 
-import org.torqlang.util.BinarySearchTools;
-
 import java.util.Arrays;
 
+/*
+ * A complete record stores its label and sorted features in a shared, interned `Arity` and its values in a flat array
+ * in the order of the arity features.
+ */
 public abstract class AbstractCompleteRec implements CompleteRec {
 
-    private CompleteField[] completeFields;
-    private Literal label;
+    private Arity arity;
+    private Complete[] values;
     private int hashCode;
     private boolean hashCodeIsZero;
 
-    /*
-     * Return the index of the field if found, otherwise return -(low + 1).
-     */
-    private int binarySearchFields(Feature feature) {
-        return BinarySearchTools.search(completeFields, f -> FEATURE_COMPARATOR.compare(feature, f.feature));
+    @Override
+    public final Arity arity() {
+        return arity;
     }
 
-    private void checkForDuplicateFeatures() {
+    private void checkForDuplicateFeatures(CompleteField[] completeFields) {
         CompleteField prev = null;
         for (CompleteField f : completeFields) {
             if (prev != null) {
@@ -44,35 +44,26 @@ public abstract class AbstractCompleteRec implements CompleteRec {
 
     @Override
     public final Feature featureAt(int i) {
-        return completeFields[i].feature;
+        return arity.featureAt(i);
     }
 
     @Override
     public final CompleteField fieldAt(int index) {
-        return completeFields[index];
+        return new CompleteField(arity.featureAt(index), values[index]);
     }
 
     @Override
     public final int fieldCount() {
-        return completeFields.length;
-    }
-
-    /*
-     * Use binarySearchFields() to return the field if found, otherwise return null.
-     */
-    private CompleteField findField(Feature feature) {
-        int index = binarySearchFields(feature);
-        return index > -1 ? completeFields[index] : null;
+        return values.length;
     }
 
     /*
-     * Return the value at feature. If not found, return null. This implementation uses findField() to return the
-     * value or null if the value is not found.
+     * Return the value at feature. If not found, return null.
      */
     @Override
     public final Complete findValue(Feature feature) {
-        CompleteField f = findField(feature);
-        return f == null ? null : f.value;
+        int index = arity.indexOf(feature);
+        return index > -1 ? values[index] : null;
     }
 
     @Override
@@ -99,14 +90,32 @@ public abstract class AbstractCompleteRec implements CompleteRec {
 
     @Override
     public final Literal label() {
-        return label;
+        return arity.label();
     }
 
     void restore(Literal label, CompleteField[] completeFields) {
-        this.label = label == null ? Rec.DEFAULT_LABEL : label;
-        this.completeFields = completeFields;
         Arrays.sort(completeFields, FeatureProviderComparator.comparator());
-        checkForDuplicateFeatures();
+        checkForDuplicateFeatures(completeFields);
+        Feature[] features = new Feature[completeFields.length];
+        Complete[] values = new Complete[completeFields.length];
+        for (int i = 0; i < completeFields.length; i++) {
+            CompleteField f = completeFields[i];
+            features[i] = f.feature;
+            values[i] = f.value;
+        }
+        this.arity = Arity.createPrivatelyForKlvm(label, features);
+        this.values = values;
+    }
+
+    /*
+     * PRECONDITION: The values are in the order of the arity features. The record takes ownership of the array.
+     */
+    void restore(Arity arity, Complete[] values) {
+        if (values.length != arity.fieldCount()) {
+            throw new IllegalArgumentException("Value count does not match arity");
+        }
+        this.arity = arity;
+        this.values = values;
     }
 
     @Override
@@ -125,9 +134,8 @@ public abstract class AbstractCompleteRec implements CompleteRec {
      */
     @Override
     public final void setUnifiedValue(int index, ValueOrVar unifiedValueOrVar) {
-        CompleteField currentField = completeFields[index];
-        if (currentField.value != unifiedValueOrVar) {
-            completeFields[index] = new CompleteField(currentField.feature, (Complete) unifiedValueOrVar);
+        if (values[index] != unifiedValueOrVar) {
+            values[index] = (Complete) unifiedValueOrVar;
         }
     }
 
@@ -138,7 +146,7 @@ public abstract class AbstractCompleteRec implements CompleteRec {
 
     @Override
     public final Complete valueAt(int i) {
-        return completeFields[i].value;
+        return values[i];
     }
 
 }
@@ -14,6 +14,7 @@ public abstract class AbstractCompleteTuple extends AbstractTuple implements Com
 
     private Literal label;
     private Complete[] values;
+    private Arity arity;
     private int hashCode;
     private boolean hashCodeIsZero;
 
@@ -22,6 +23,19 @@ public abstract class AbstractCompleteTuple extends AbstractTuple implements Com
         Collections.addAll(collection, values);
     }
 
+    /*
+     * Tuples do not need an arity to select their values, so the arity is interned on first use.
+     */
+    @Override
+    public final Arity arity() {
+        Arity a = arity;
+        if (a == null) {
+            a = Arity.createTupleArity(label, values.length);
+            arity = a;
+        }
+        return a;
+    }
+
     @Override
     public final boolean equals(Object other) {
         return equalsComplete(other);
@@ -78,6 +92,19 @@ public abstract class AbstractCompleteTuple extends AbstractTuple implements Com
         this.values = values;
     }
 
+    /*
+     * PRECONDITION: The arity is tuple-shaped and the values are in index order. The tuple takes ownership of the
+     * array.
+     */
+    void restore(Arity arity, Complete[] values) {
+        if (values.length != arity.fieldCount()) {
+            throw new IllegalArgumentException("Value count does not match arity");
+        }
+        this.label = arity.label();
+        this.values = values;
+        this.arity = arity;
+    }
+
     @Override
     public final Complete select(Feature feature) {
         return valueAt(featureToIndex(feature, values.length));
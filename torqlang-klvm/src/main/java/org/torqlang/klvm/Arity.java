@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.WeakValueInterner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/*
+ * The shape of a complete record: its label and its features in sorted order. Arities are interned, so every record
+ * with the same shape shares one arity and two records have the same shape if and only if their arities are
+ * identical. A record stores its values in the order of its arity features.
+ *
+ * An arity maps features to value indexes. Small arities are searched linearly, which is faster than hashing for the
+ * few features of a typical record, and larger arities use a hash map.
+ */
+public final class Arity {
+
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+
+    private static final WeakValueInterner<Key, Arity> INTERNED = new WeakValueInterner<>();
+
+    private final Literal label;
+    private final Feature[] features;
+    private final HashMap<Feature, Integer> indexes;
+    private final boolean tupleShape;
+
+    private Arity(Literal label, Feature[] features) {
+        this.label = label;
+        this.features = features;
+        if (features.length > LINEAR_SEARCH_LIMIT) {
+            indexes = new HashMap<>(features.length * 2);
+            for (int i = 0; i < features.length; i++) {
+                indexes.put(features[i], i);
+            }
+        } else {
+            indexes = null;
+        }
+        this.tupleShape = isTupleShape(features);
+    }
+
+    /*
+     * Return the interned arity for the given label and features. The features may be in any order, but they must not
+     * contain duplicates. A null label is the default label.
+     */
+    public static Arity create(Literal label, List<? extends Feature> features) {
+        Feature[] sorted = features.toArray(new Feature[0]);
+        Arrays.sort(sorted, FeatureComparator.SINGLETON);
+        for (int i = 1; i < sorted.length; i++) {
+            if (FeatureComparator.SINGLETON.compare(sorted[i - 1], sorted[i]) == 0) {
+                throw new IllegalArgumentException("Duplicate feature: " + sorted[i]);
+            }
+        }
+        return createPrivatelyForKlvm(label, sorted);
+    }
+
+    /*
+     * PRECONDITION: The features are sorted and contain no duplicates. The arity takes ownership of the array.
+     */
+    static Arity createPrivatelyForKlvm(Literal label, Feature[] sortedFeatures) {
+        Literal labelOrDefault = label == null ? Rec.DEFAULT_LABEL : label;
+        return INTERNED.intern(new Key(labelOrDefault, sortedFeatures), k -> new Arity(k.label, k.features));
+    }
+
+    /*
+     * Return the interned arity of a tuple with the given label and number of values.
+     */
+    static Arity createTupleArity(Literal label, int fieldCount) {
+        Feature[] features = new Feature[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            features[i] = Int32.of(i);
+        }
+        return createPrivatelyForKlvm(label, features);
+    }
+
+    private static boolean isTupleShape(Feature[] features) {
+        for (int i = 0; i < features.length; i++) {
+            if (!(features[i] instanceof Int64 int64) || int64.longValue() != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int binarySearch(Feature feature) {
+        int index = Arrays.binarySearch(features, feature, FeatureComparator.SINGLETON);
+        return index >= 0 ? index : -1;
+    }
+
+    public final Feature featureAt(int index) {
+        return features[index];
+    }
+
+    public final int fieldCount() {
+        return features.length;
+    }
+
+    /*
+     * Return the index of the feature, or -1 if this arity does not contain the feature.
+     */
+    public final int indexOf(Feature feature) {
+        if (indexes != null) {
+            Integer index = indexes.get(feature);
+            if (index != null) {
+                return index;
+            }
+            // An Int32 and an Int64 with the same value are the same feature, but they are not equal objects
+            return feature instanceof Int64 ? binarySearch(feature) : -1;
+        }
+        // Interned features are identical when equal, so try identity before comparing
+        for (int i = 0; i < features.length; i++) {
+            if (features[i] == feature) {
+                return i;
+            }
+        }
+        for (int i = 0; i < features.length; i++) {
+            if (FeatureComparator.SINGLETON.compare(features[i], feature) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Return true if the features are the integers 0 through n - 1, which is the shape of a tuple.
+     */
+    public final boolean isTupleShape() {
+        return tupleShape;
+    }
+
+    public final Literal label() {
+        return label;
+    }
+
+    @Override
+    public final String toString() {
+        return label + "#" + Arrays.toString(features);
+    }
+
+    /*
+     * The intern table holds its keys strongly and its arities weakly, so a key must not refer to its arity.
+     */
+    private static final class Key {
+        private final Literal label;
+        private final Feature[] features;
+        private final int hashCode;
+
+        private Key(Literal label, Feature[] features) {
+            this.label = label;
+            this.features = features;
+            this.hashCode = 31 * label.hashCode() + Arrays.hashCode(features);
+        }
+
+        @Override
+        public final boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key that)) {
+                return false;
+            }
+            return hashCode == that.hashCode && label.equals(that.label) && Arrays.equals(features, that.features);
+        }
+
+        @Override
+        public final int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -18,6 +18,14 @@ final class BasicCompleteRec extends AbstractCompleteRec {
         restore(label, completeFields);
     }
 
+    private BasicCompleteRec(Arity arity, Complete[] values) {
+        restore(arity, values);
+    }
+
+    static CompleteRec createWithArityPrivatelyForKlvm(Arity arity, Complete[] values) {
+        return new BasicCompleteRec(arity, values);
+    }
+
     static CompleteRec createPrivatelyForKlvm(Literal label, List<CompleteField> completeFields) {
         return new BasicCompleteRec(label, completeFields.toArray(new CompleteField[0]));
     }
@@ -16,6 +16,14 @@ final class BasicCompleteTuple extends AbstractCompleteTuple {
         restore(label, values);
     }
 
+    private BasicCompleteTuple(Arity arity, Complete[] values) {
+        restore(arity, values);
+    }
+
+    static CompleteTuple createWithArityPrivatelyForKlvm(Arity arity, Complete[] values) {
+        return new BasicCompleteTuple(arity, values);
+    }
+
     static CompleteTuple createPrivatelyForKlvm(Literal label, Complete[] values) {
         return new BasicCompleteTuple(label, values);
     }
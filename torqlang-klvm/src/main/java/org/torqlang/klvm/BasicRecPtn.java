@@ -22,11 +22,51 @@ public final class BasicRecPtn implements RecPtn {
     private final boolean partialArity;
     private final SourceSpan sourceSpan;
 
+    // A pattern with a literal label, literal features, and a complete arity only matches complete records with
+    // exactly this arity. In that case, the fields are also kept in the order of the arity features.
+    private final Arity arity;
+    private final List<FieldPtn> fieldsInArityOrder;
+
     public BasicRecPtn(LiteralOrIdentPtn label, List<FieldPtn> fields, boolean partialArity, SourceSpan sourceSpan) {
         this.label = label;
         this.fields = nullSafeCopyOf(fields);
         this.partialArity = partialArity;
         this.sourceSpan = sourceSpan;
+        List<FieldPtn> sortedFields = partialArity ? null : sortLiteralFeatures(label, this.fields);
+        if (sortedFields != null) {
+            Feature[] features = new Feature[sortedFields.size()];
+            for (int i = 0; i < features.length; i++) {
+                features[i] = (Feature) sortedFields.get(i).feature;
+            }
+            this.arity = Arity.createPrivatelyForKlvm((Literal) label, features);
+            this.fieldsInArityOrder = sortedFields;
+        } else {
+            this.arity = null;
+            this.fieldsInArityOrder = null;
+        }
+    }
+
+    /*
+     * A complete record has the arity of this pattern if and only if the two arities are identical. Therefore, only the
+     * values of the record need to be compared.
+     */
+    private ValueOrResolvedPtn caseCompleteRecOfArity(CompleteRec rec, Env env) throws WaitException {
+        if (rec.arity() != arity) {
+            return null;
+        }
+        List<ResolvedFieldPtn> fieldsRes = new ArrayList<>(fieldsInArityOrder.size());
+        for (int i = 0; i < fieldsInArityOrder.size(); i++) {
+            FieldPtn fp = fieldsInArityOrder.get(i);
+            ValueOrIdent valueRes = fp.value.resolveValueOrIdent(env);
+            // See caseRecOfResolvedRecPtn for why only pattern values are compared
+            if (valueRes instanceof Value value) {
+                if (!rec.valueAt(i).entails(value, null)) {
+                    return null;
+                }
+            }
+            fieldsRes.add(new ResolvedFieldPtn((Feature) fp.feature, valueRes));
+        }
+        return new ResolvedRecPtn((Literal) label, fieldsRes, false);
     }
 
     private static ValueOrResolvedPtn caseRecOfResolvedRecPtn(Rec rec, ResolvedRecPtn resRecPtn, Env env)
@@ -98,6 +138,9 @@ public final class BasicRecPtn implements RecPtn {
      */
     @Override
     public final ValueOrResolvedPtn caseRecOfThis(Rec rec, Env env) throws WaitException {
+        if (arity != null && rec instanceof CompleteRec completeRec) {
+            return caseCompleteRecOfArity(completeRec, env);
+        }
         rec.checkDetermined();
         Value labelRes = label.resolveValue(env);
         List<ResolvedFieldPtn> fieldsRes = new ArrayList<>();
@@ -111,6 +154,31 @@ public final class BasicRecPtn implements RecPtn {
         return caseRecOfResolvedRecPtn(rec, resolvedRecPtn, env);
     }
 
+    /*
+     * Return the fields sorted by feature if the label and features are literals without duplicates. Otherwise,
+     * return null.
+     */
+    private static List<FieldPtn> sortLiteralFeatures(LiteralOrIdentPtn label, List<FieldPtn> fields) {
+        if (!(label instanceof Literal)) {
+            return null;
+        }
+        for (FieldPtn fp : fields) {
+            if (!(fp.feature instanceof Feature)) {
+                return null;
+            }
+        }
+        List<FieldPtn> sortedFields = new ArrayList<>(fields);
+        sortedFields.sort((a, b) -> FeatureComparator.SINGLETON.compare((Feature) a.feature, (Feature) b.feature));
+        for (int i = 1; i < sortedFields.size(); i++) {
+            if (FeatureComparator.SINGLETON.compare((Feature) sortedFields.get(i - 1).feature,
+                (Feature) sortedFields.get(i).feature) == 0)
+            {
+                return null;
+            }
+        }
+        return List.copyOf(sortedFields);
+    }
+
     @Override
     public final List<FieldPtn> fields() {
         return fields;
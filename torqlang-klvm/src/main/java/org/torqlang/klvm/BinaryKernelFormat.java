@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+/*
+ * The binary kernel format stores a tree of generated kernel instructions so that it can be loaded without parsing or
+ * generating its source again. It can also store a list of complete values, such as the handlers of an actor image.
+ * See `BinaryKernelWriter` and `BinaryKernelReader`.
+ *
+ * Layout:
+ *     magic            4 bytes, "TQKM"
+ *     format version   varint
+ *     key              string, chosen by the writer, such as a content hash
+ *     string table     varint count, followed by each string as a varint UTF-8 length and its bytes
+ *     source table     varint count, followed by the index of each source string in the string table
+ *     root             the root instruction, or a varint count followed by each value
+ *
+ * Every kernel begins with one of the tags below, followed by its operands in constructor order. Lists begin with
+ * their varint size. Strings are written as their varint index in the string table. Source spans are written as a
+ * varint source index plus one, where 0 is the empty span, followed by the varint begin and end offsets. Signed
+ * integers are zigzag varints, and floating-point numbers are their raw IEEE 754 bits.
+ *
+ * Identifiers are written by name only. The reader restores lexical addresses with `LexicalAddresser`. Fused
+ * instructions are written as the instructions they replace. Variables and partial values cannot be written.
+ *
+ * When writing values, complete closures and actor constructors are numbered in the order they are first written. A
+ * closure that is reached again, such as a recursive function captured in its own environment, is written as a
+ * reference to its number. Native values, such as the procedures and classes of kernel modules, are written by a name
+ * that the writer and the reader resolve through the same map of native values.
+ *
+ * Increment the format version whenever the layout or the meaning of a tag changes. A reader ignores a file with a
+ * different version or key, so stale files are never loaded.
+ */
+final class BinaryKernelFormat {
+
+    static final int MAGIC = 0x54514B4D;
+    static final int FORMAT_VERSION = 1;
+
+    static final byte NULL_KERNEL = 0;
+
+    // Instructions
+    static final byte ACT = 1;
+    static final byte ADD = 2;
+    static final byte APPLY = 3;
+    static final byte BIND_COMPLETE_TO_COMPLETE = 4;
+    static final byte BIND_COMPLETE_TO_IDENT = 5;
+    static final byte BIND_IDENT_TO_IDENT = 6;
+    static final byte CASE_ELSE = 7;
+    static final byte CASE = 8;
+    static final byte CATCH = 9;
+    static final byte CREATE_ACTOR_CTOR = 10;
+    static final byte CREATE_PROC = 11;
+    static final byte CREATE_REC = 12;
+    static final byte CREATE_TUPLE = 13;
+    static final byte DISENTAILS = 14;
+    static final byte DIVIDE = 15;
+    static final byte ENTAILS = 16;
+    static final byte GET_CELL_VALUE = 17;
+    static final byte GREATER_THAN = 18;
+    static final byte GREATER_THAN_OR_EQUAL_TO = 19;
+    static final byte IF_ELSE = 20;
+    static final byte IF = 21;
+    static final byte JUMP_CATCH = 22;
+    static final byte JUMP_THROW = 23;
+    static final byte LESS_THAN = 24;
+    static final byte LESS_THAN_OR_EQUAL_TO = 25;
+    static final byte LOCAL = 26;
+    static final byte MODULO = 27;
+    static final byte MULTIPLY = 28;
+    static final byte NEGATE = 29;
+    static final byte NOT = 30;
+    static final byte SELECT_AND_APPLY = 31;
+    static final byte SELECT = 32;
+    static final byte SEQ = 33;
+    static final byte SET_CELL_VALUE = 34;
+    static final byte SKIP = 35;
+    static final byte SUBTRACT = 36;
+    static final byte TAIL_APPLY = 37;
+    static final byte THROW = 38;
+    static final byte TRY = 39;
+
+    // Identifiers and patterns
+    static final byte IDENT = 50;
+    static final byte IDENT_PTN = 51;
+    static final byte REC_PTN = 52;
+
+    // Values
+    static final byte BOOL_FALSE = 60;
+    static final byte BOOL_TRUE = 61;
+    static final byte CHAR = 62;
+    static final byte DEC128 = 63;
+    static final byte EOF = 64;
+    static final byte FLT32 = 65;
+    static final byte FLT64 = 66;
+    static final byte INT32 = 67;
+    static final byte INT64 = 68;
+    static final byte NULL = 69;
+    static final byte STR = 70;
+    static final byte REC = 71;
+    static final byte CLOSURE = 72;
+    static final byte ACTOR_CTOR = 73;
+    static final byte NATIVE = 74;
+    static final byte VALUE_REF = 75;
+
+    private BinaryKernelFormat() {
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.SourceSpan;
+import org.torqlang.util.SourceString;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.torqlang.klvm.BinaryKernelFormat.*;
+
+/*
+ * BinaryKernelReader reads a tree of kernel instructions, or a list of complete values, written by
+ * `BinaryKernelWriter`. Identifiers are read by name and lexical addresses are restored with `LexicalAddresser` once
+ * the tree is complete. The procedure definition of each closure is fused and addressed as soon as it is read, just as
+ * it was before it was written.
+ *
+ * A reader returns null, rather than throwing an exception, when the format version or key of the encoded module
+ * differs from what is expected. In that case, the caller is expected to regenerate the module from its source.
+ */
+public final class BinaryKernelReader {
+
+    private final ByteBuffer buffer;
+    private final Map<String, ? extends Complete> nativesByName;
+    private final List<Complete> values = new ArrayList<>();
+    private String[] strings;
+    private SourceString[] sources;
+
+    private BinaryKernelReader(ByteBuffer buffer, Map<String, ? extends Complete> nativesByName) {
+        this.buffer = buffer;
+        this.nativesByName = nativesByName;
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    public static Instr read(ByteBuffer buffer, String key) {
+        BinaryKernelReader reader = new BinaryKernelReader(buffer, Map.of());
+        try {
+            return reader.readModule(key);
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("Truncated binary kernel", exc);
+        }
+    }
+
+    public static Instr read(Path path, String key) throws IOException {
+        return read(map(path), key);
+    }
+
+    /*
+     * Read a list of complete values written by `BinaryKernelWriter.writeValues`. Native values are resolved by name
+     * in `nativesByName`. Throw an IllegalArgumentException if a native value is not found.
+     */
+    public static List<Complete> readValues(ByteBuffer buffer, String key,
+                                            Map<String, ? extends Complete> nativesByName)
+    {
+        BinaryKernelReader reader = new BinaryKernelReader(buffer, nativesByName);
+        try {
+            return reader.readValueList(key);
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("Truncated binary kernel", exc);
+        }
+    }
+
+    public static List<Complete> readValues(Path path, String key, Map<String, ? extends Complete> nativesByName)
+        throws IOException
+    {
+        return readValues(map(path), key, nativesByName);
+    }
+
+    private static IllegalArgumentException unexpectedTag(int tag) {
+        return new IllegalArgumentException("Unexpected binary kernel tag: " + tag);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private CompleteActorCtor readActorCtor() {
+        CompleteActorCtor actorCtor = CompleteActorCtor.instanceForRestore();
+        values.add(actorCtor);
+        actorCtor.restore((CompleteClosure) readKernel(readByte()));
+        return actorCtor;
+    }
+
+    private byte readByte() {
+        return buffer.get();
+    }
+
+    private CompleteClosure readClosure() {
+        CompleteClosure closure = CompleteClosure.instanceForRestore();
+        values.add(closure);
+        ProcDef procDef = InstrFuser.apply(readProcDef());
+        int size = readVarInt();
+        EnvEntry[] entries = new EnvEntry[size];
+        for (int i = 0; i < size; i++) {
+            Ident ident = readIdent();
+            entries[i] = new EnvEntry(ident, new Var((Complete) readKernel(readByte())));
+        }
+        closure.restore(procDef, Env.createPrivatelyForKlvm(null, entries));
+        return closure;
+    }
+
+    private CompleteOrIdent readCompleteOrIdent() {
+        return (CompleteOrIdent) readKernel(readByte());
+    }
+
+    private List<CompleteOrIdent> readCompleteOrIdents() {
+        int size = readVarInt();
+        List<CompleteOrIdent> answer = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            answer.add(readCompleteOrIdent());
+        }
+        return answer;
+    }
+
+    private FieldDef readFieldDef() {
+        FeatureOrIdent feature = (FeatureOrIdent) readKernel(readByte());
+        CompleteOrIdent value = readCompleteOrIdent();
+        return new FieldDef(feature, value, readSourceSpan());
+    }
+
+    private FieldPtn readFieldPtn() {
+        FeatureOrIdentPtn feature = (FeatureOrIdentPtn) readKernel(readByte());
+        ValueOrIdentPtn value = (ValueOrIdentPtn) readKernel(readByte());
+        return new FieldPtn(feature, value, readSourceSpan());
+    }
+
+    private Ident readIdent() {
+        return (Ident) readKernel(readByte());
+    }
+
+    private IdentDef readIdentDef() {
+        Ident ident = readIdent();
+        Complete value = (Complete) readKernel(readByte());
+        return new IdentDef(ident, value);
+    }
+
+    /*
+     * Read the header and return true if it has the expected format version and key.
+     */
+    private boolean readHeader(String key) {
+        if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary kernel");
+        }
+        if (readVarInt() != FORMAT_VERSION) {
+            return false;
+        }
+        int keyIndex = readVarInt();
+        int stringCount = readVarInt();
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readVarInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (!strings[keyIndex].equals(key)) {
+            return false;
+        }
+        int sourceCount = readVarInt();
+        sources = new SourceString[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            sources[i] = SourceString.of(strings[readVarInt()]);
+        }
+        return true;
+    }
+
+    private Instr readInstr() {
+        return (Instr) readKernel(readByte());
+    }
+
+    private Kernel readKernel(int tag) {
+        return switch (tag) {
+            case NULL_KERNEL -> null;
+            case ACT -> new ActInstr(readInstr(), readIdent(), readSourceSpan());
+            case ADD -> new AddInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(), readSourceSpan());
+            case APPLY -> new ApplyInstr(readCompleteOrIdent(), readCompleteOrIdents(), readSourceSpan());
+            case BIND_COMPLETE_TO_COMPLETE -> new BindCompleteToCompleteInstr((Complete) readKernel(readByte()),
+                (Complete) readKernel(readByte()), readSourceSpan());
+            case BIND_COMPLETE_TO_IDENT -> new BindCompleteToIdentInstr((Complete) readKernel(readByte()),
+                readIdent(), readSourceSpan());
+            case BIND_IDENT_TO_IDENT -> new BindIdentToIdentInstr(readIdent(), readIdent(), readSourceSpan());
+            case CASE_ELSE -> new CaseElseInstr(readCompleteOrIdent(), (ValueOrPtn) readKernel(readByte()),
+                readInstr(), readInstr(), readSourceSpan());
+            case CASE -> new CaseInstr(readCompleteOrIdent(), (ValueOrPtn) readKernel(readByte()), readInstr(),
+                readSourceSpan());
+            case CATCH -> new CatchInstr(readIdent(), readInstr(), readSourceSpan());
+            case CREATE_ACTOR_CTOR -> new CreateActorCtorInstr(readIdent(), readProcDef(), readSourceSpan());
+            case CREATE_PROC -> new CreateProcInstr(readIdent(), readProcDef(), readSourceSpan());
+            case CREATE_REC -> new CreateRecInstr(readIdent(), readRecDef(), readSourceSpan());
+            case CREATE_TUPLE -> new CreateTupleInstr(readIdent(), readTupleDef(), readSourceSpan());
+            case DISENTAILS -> new DisentailsInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case DIVIDE -> new DivideInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case ENTAILS -> new EntailsInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case GET_CELL_VALUE -> new GetCellValueInstr(readIdent(), readIdent(), readSourceSpan());
+            case GREATER_THAN -> new GreaterThanInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case GREATER_THAN_OR_EQUAL_TO -> new GreaterThanOrEqualToInstr(readCompleteOrIdent(),
+                readCompleteOrIdent(), readIdent(), readSourceSpan());
+            case IF_ELSE -> new IfElseInstr(readCompleteOrIdent(), readInstr(), readInstr(), readSourceSpan());
+            case IF -> new IfInstr(readCompleteOrIdent(), readInstr(), readSourceSpan());
+            case JUMP_CATCH -> new JumpCatchInstr(readVarInt(), readSourceSpan());
+            case JUMP_THROW -> new JumpThrowInstr(readVarInt(), readSourceSpan());
+            case LESS_THAN -> new LessThanInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case LESS_THAN_OR_EQUAL_TO -> new LessThanOrEqualToInstr(readCompleteOrIdent(), readCompleteOrIdent(),
+                readIdent(), readSourceSpan());
+            case LOCAL -> readLocalInstr();
+            case MODULO -> new ModuloInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case MULTIPLY -> new MultiplyInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case NEGATE -> new NegateInstr(readCompleteOrIdent(), readIdent(), readSourceSpan());
+            case NOT -> new NotInstr(readCompleteOrIdent(), readIdent(), readSourceSpan());
+            case SELECT_AND_APPLY -> readSelectAndApplyInstr();
+            case SELECT -> new SelectInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case SEQ -> readSeqInstr();
+            case SET_CELL_VALUE -> new SetCellValueInstr(readIdent(), readCompleteOrIdent(), readSourceSpan());
+            case SKIP -> new SkipInstr(readSourceSpan());
+            case SUBTRACT -> new SubtractInstr(readCompleteOrIdent(), readCompleteOrIdent(), readIdent(),
+                readSourceSpan());
+            case TAIL_APPLY -> new TailApplyInstr(readCompleteOrIdent(), readCompleteOrIdents(), readVarInt(),
+                readSourceSpan());
+            case THROW -> new ThrowInstr(readCompleteOrIdent(), readSourceSpan());
+            case TRY -> new TryInstr(readInstr(), readInstr(), readSourceSpan());
+            case IDENT -> Ident.createPrivately(readString());
+            case IDENT_PTN -> new IdentPtn(readIdent(), readByte() != 0);
+            case REC_PTN -> readRecPtn();
+            case BOOL_FALSE -> Bool.FALSE;
+            case BOOL_TRUE -> Bool.TRUE;
+            case CHAR -> Char.of((char) readVarInt());
+            case DEC128 -> Dec128.of(readString());
+            case EOF -> Eof.SINGLETON;
+            case FLT32 -> Flt32.of(Float.intBitsToFloat(buffer.getInt()));
+            case FLT64 -> Flt64.of(Double.longBitsToDouble(buffer.getLong()));
+            case INT32 -> Int32.of((int) unzigzag(readVarLong()));
+            case INT64 -> Int64.of(unzigzag(readVarLong()));
+            case NULL -> Null.SINGLETON;
+            case STR -> Str.of(readString());
+            case REC -> readRec();
+            case CLOSURE -> readClosure();
+            case ACTOR_CTOR -> readActorCtor();
+            case NATIVE -> readNative();
+            case VALUE_REF -> values.get(readVarInt());
+            default -> throw unexpectedTag(tag);
+        };
+    }
+
+    private LocalInstr readLocalInstr() {
+        int size = readVarInt();
+        List<IdentDef> xs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            xs.add(readIdentDef());
+        }
+        return new LocalInstr(xs, readInstr(), readSourceSpan());
+    }
+
+    private Instr readModule(String key) {
+        if (!readHeader(key)) {
+            return null;
+        }
+        Instr root = readInstr();
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected bytes after binary kernel");
+        }
+        return LexicalAddresser.apply(root);
+    }
+
+    private Complete readNative() {
+        String name = readString();
+        Complete value = nativesByName.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Native value not found: " + name);
+        }
+        return value;
+    }
+
+    private ProcDef readProcDef() {
+        int size = readVarInt();
+        List<Ident> xs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            xs.add(readIdent());
+        }
+        return new ProcDef(xs, readInstr(), readSourceSpan());
+    }
+
+    private Rec readRec() {
+        Literal label = (Literal) readKernel(readByte());
+        int fieldCount = readVarInt();
+        CompleteRecBuilder builder = Rec.completeRecBuilder();
+        builder.setLabel(label);
+        for (int i = 0; i < fieldCount; i++) {
+            Feature feature = (Feature) readKernel(readByte());
+            Complete value = (Complete) readKernel(readByte());
+            builder.addField(feature, value);
+        }
+        return builder.build();
+    }
+
+    private RecDef readRecDef() {
+        LiteralOrIdent label = (LiteralOrIdent) readKernel(readByte());
+        int size = readVarInt();
+        List<FieldDef> fieldDefs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fieldDefs.add(readFieldDef());
+        }
+        return new RecDef(label, fieldDefs, readSourceSpan());
+    }
+
+    private BasicRecPtn readRecPtn() {
+        LiteralOrIdentPtn label = (LiteralOrIdentPtn) readKernel(readByte());
+        int size = readVarInt();
+        List<FieldPtn> fields = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fields.add(readFieldPtn());
+        }
+        boolean partialArity = readByte() != 0;
+        return new BasicRecPtn(label, fields, partialArity, readSourceSpan());
+    }
+
+    private SelectAndApplyInstr readSelectAndApplyInstr() {
+        CompleteOrIdent rec = readCompleteOrIdent();
+        int size = readVarInt();
+        List<FeatureOrIdent> path = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            path.add((FeatureOrIdent) readKernel(readByte()));
+        }
+        return new SelectAndApplyInstr(rec, path, readCompleteOrIdents(), readSourceSpan());
+    }
+
+    private SeqInstr readSeqInstr() {
+        int size = readVarInt();
+        List<Instr> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readInstr());
+        }
+        return new SeqInstr(list, readSourceSpan());
+    }
+
+    private SourceSpan readSourceSpan() {
+        int sourceIndex = readVarInt();
+        if (sourceIndex == 0) {
+            return SourceSpan.emptySourceSpan();
+        }
+        int begin = readVarInt();
+        int end = readVarInt();
+        return new DecodedSourceSpan(sources[sourceIndex - 1], begin, end);
+    }
+
+    private String readString() {
+        return strings[readVarInt()];
+    }
+
+    private TupleDef readTupleDef() {
+        LiteralOrIdent label = (LiteralOrIdent) readKernel(readByte());
+        int size = readVarInt();
+        List<ValueDef> valueDefs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            CompleteOrIdent value = readCompleteOrIdent();
+            valueDefs.add(new ValueDef(value, readSourceSpan()));
+        }
+        return new TupleDef(label, valueDefs, readSourceSpan());
+    }
+
+    private List<Complete> readValueList(String key) {
+        if (!readHeader(key)) {
+            return null;
+        }
+        int size = readVarInt();
+        List<Complete> answer = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            answer.add((Complete) readKernel(readByte()));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected bytes after binary kernel");
+        }
+        return answer;
+    }
+
+    private int readVarInt() {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+}
@@ -0,0 +1,813 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.SourceSpan;
+import org.torqlang.util.SourceString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.torqlang.klvm.BinaryKernelFormat.*;
+
+/*
+ * BinaryKernelWriter writes a tree of generated kernel instructions, or a list of complete values, in the binary kernel
+ * format described by `BinaryKernelFormat`. Throw an IllegalArgumentException if the tree contains a kernel that
+ * cannot be written.
+ */
+public final class BinaryKernelWriter implements KernelVisitor<Void, Void> {
+
+    private final Output body = new Output();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<SourceString, Integer> sourceIndexes = new IdentityHashMap<>();
+    private final List<Integer> sourceStringIndexes = new ArrayList<>();
+    private final Map<Kernel, String> nativeNames = new IdentityHashMap<>();
+    private final Map<Kernel, Integer> valueIds = new IdentityHashMap<>();
+
+    private BinaryKernelWriter() {
+    }
+
+    private static IllegalArgumentException cannotWrite(Kernel kernel) {
+        return new IllegalArgumentException("Cannot write kernel: " + Kernel.toSystemString(kernel));
+    }
+
+    public static byte[] write(Instr instr, String key) {
+        BinaryKernelWriter writer = new BinaryKernelWriter();
+        int keyIndex = writer.stringIndex(key);
+        writer.writeKernel(instr);
+        return writer.toByteArray(keyIndex);
+    }
+
+    /*
+     * Write a list of complete values. Values found in `nativesByName` are written by their name, and a reader must
+     * resolve them with an equivalent map.
+     */
+    public static byte[] writeValues(List<? extends Complete> values, String key,
+                                     Map<String, ? extends Complete> nativesByName)
+    {
+        BinaryKernelWriter writer = new BinaryKernelWriter();
+        for (Map.Entry<String, ? extends Complete> entry : nativesByName.entrySet()) {
+            writer.nativeNames.put(entry.getValue(), entry.getKey());
+        }
+        int keyIndex = writer.stringIndex(key);
+        writer.body.writeVarInt(values.size());
+        for (Complete value : values) {
+            writer.writeKernel(value);
+        }
+        return writer.toByteArray(keyIndex);
+    }
+
+    private int stringIndex(String s) {
+        Integer index = stringIndexes.get(s);
+        if (index == null) {
+            index = strings.size();
+            strings.add(s);
+            stringIndexes.put(s, index);
+        }
+        return index;
+    }
+
+    private byte[] toByteArray(int keyIndex) {
+        Output output = new Output();
+        output.writeFixedInt(MAGIC);
+        output.writeVarInt(FORMAT_VERSION);
+        output.writeVarInt(keyIndex);
+        output.writeVarInt(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            output.writeVarInt(bytes.length);
+            output.writeBytes(bytes, bytes.length);
+        }
+        output.writeVarInt(sourceStringIndexes.size());
+        for (int stringIndex : sourceStringIndexes) {
+            output.writeVarInt(stringIndex);
+        }
+        output.writeBytes(body.bytes, body.size);
+        return output.toByteArray();
+    }
+
+    @Override
+    public final Void visitActInstr(ActInstr kernel, Void state) {
+        body.writeByte(ACT);
+        writeKernel(kernel.instr);
+        writeKernel(kernel.target);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitActorCfg(ActorCfg kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitActorCtor(ActorCtor kernel, Void state) {
+        if (!(kernel instanceof CompleteActorCtor)) {
+            throw cannotWrite(kernel);
+        }
+        if (writeValueRef(kernel)) {
+            return null;
+        }
+        body.writeByte(ACTOR_CTOR);
+        writeKernel(kernel.handlersCtor());
+        return null;
+    }
+
+    @Override
+    public final Void visitAddInstr(AddInstr kernel, Void state) {
+        writeBinaryInstr(ADD, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitApplyInstr(ApplyInstr kernel, Void state) {
+        body.writeByte(APPLY);
+        writeKernel(kernel.x);
+        writeKernels(kernel.ys);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitBindCompleteToCompleteInstr(BindCompleteToCompleteInstr kernel, Void state) {
+        body.writeByte(BIND_COMPLETE_TO_COMPLETE);
+        writeKernel(kernel.a);
+        writeKernel(kernel.x);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitBindCompleteToIdentInstr(BindCompleteToIdentInstr kernel, Void state) {
+        body.writeByte(BIND_COMPLETE_TO_IDENT);
+        writeKernel(kernel.a);
+        writeKernel(kernel.x);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitBindCompleteToValueOrVarInstr(BindCompleteToValueOrVarInstr kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitBindIdentToIdentInstr(BindIdentToIdentInstr kernel, Void state) {
+        body.writeByte(BIND_IDENT_TO_IDENT);
+        writeKernel(kernel.a);
+        writeKernel(kernel.x);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCaseElseInstr(CaseElseInstr kernel, Void state) {
+        body.writeByte(CASE_ELSE);
+        writeKernel(kernel.x);
+        writeKernel(kernel.valueOrPtn);
+        writeKernel(kernel.consequent);
+        writeKernel(kernel.alternate);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCaseInstr(CaseInstr kernel, Void state) {
+        body.writeByte(CASE);
+        writeKernel(kernel.x);
+        writeKernel(kernel.valueOrPtn);
+        writeKernel(kernel.consequent);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCatchInstr(CatchInstr kernel, Void state) {
+        body.writeByte(CATCH);
+        writeKernel(kernel.arg);
+        writeKernel(kernel.caseInstr);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitClosure(Closure kernel, Void state) {
+        if (!(kernel instanceof CompleteClosure) || kernel.capturedEnv().parentEnv() != null) {
+            throw cannotWrite(kernel);
+        }
+        if (writeValueRef(kernel)) {
+            return null;
+        }
+        Env capturedEnv = kernel.capturedEnv();
+        body.writeByte(CLOSURE);
+        visitProcDef(kernel.procDef(), null);
+        body.writeVarInt(capturedEnv.shallowSize());
+        for (int i = 0; i < capturedEnv.shallowSize(); i++) {
+            EnvEntry entry = capturedEnv.shallowEntryAt(i);
+            writeKernel(entry.ident);
+            if (!(entry.var.valueOrVarSet() instanceof Complete value)) {
+                throw cannotWrite(kernel);
+            }
+            writeKernel(value);
+        }
+        return null;
+    }
+
+    @Override
+    public final Void visitCreateActorCtorInstr(CreateActorCtorInstr kernel, Void state) {
+        body.writeByte(CREATE_ACTOR_CTOR);
+        writeKernel(kernel.x);
+        visitProcDef(kernel.procDef, null);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCreateProcInstr(CreateProcInstr kernel, Void state) {
+        body.writeByte(CREATE_PROC);
+        writeKernel(kernel.x);
+        visitProcDef(kernel.procDef, null);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCreateRecInstr(CreateRecInstr kernel, Void state) {
+        body.writeByte(CREATE_REC);
+        writeKernel(kernel.x);
+        visitRecDef(kernel.recDef, null);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitCreateTupleInstr(CreateTupleInstr kernel, Void state) {
+        body.writeByte(CREATE_TUPLE);
+        writeKernel(kernel.x);
+        visitTupleDef(kernel.tupleDef, null);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitDebugInstr(DebugInstr kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitDisentailsInstr(DisentailsInstr kernel, Void state) {
+        writeBinaryInstr(DISENTAILS, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitDivideInstr(DivideInstr kernel, Void state) {
+        writeBinaryInstr(DIVIDE, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitEntailsInstr(EntailsInstr kernel, Void state) {
+        writeBinaryInstr(ENTAILS, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitEnv(Env kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitFailedValue(FailedValue kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitFieldDef(FieldDef kernel, Void state) {
+        writeKernel(kernel.feature);
+        writeKernel(kernel.value);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitFieldPtn(FieldPtn kernel, Void state) {
+        writeKernel(kernel.feature);
+        writeKernel(kernel.value);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitFusedIfElseInstr(FusedIfElseInstr kernel, Void state) {
+        writeKernel(kernel.unfused);
+        return null;
+    }
+
+    @Override
+    public final Void visitFusedLocalInstr(FusedLocalInstr kernel, Void state) {
+        writeKernel(kernel.unfused);
+        return null;
+    }
+
+    @Override
+    public final Void visitFusedSeqInstr(FusedSeqInstr kernel, Void state) {
+        writeKernel(kernel.unfused);
+        return null;
+    }
+
+    @Override
+    public final Void visitGetCellValueInstr(GetCellValueInstr kernel, Void state) {
+        body.writeByte(GET_CELL_VALUE);
+        writeKernel(kernel.cell);
+        writeKernel(kernel.target);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitGreaterThanOrEqualToInstr(GreaterThanOrEqualToInstr kernel, Void state) {
+        writeBinaryInstr(GREATER_THAN_OR_EQUAL_TO, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitGreaterThanInstr(GreaterThanInstr kernel, Void state) {
+        writeBinaryInstr(GREATER_THAN, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitIdent(Ident kernel, Void state) {
+        body.writeByte(IDENT);
+        body.writeVarInt(stringIndex(kernel.name));
+        return null;
+    }
+
+    @Override
+    public final Void visitIdentDef(IdentDef kernel, Void state) {
+        writeKernel(kernel.ident);
+        writeKernel(kernel.value);
+        return null;
+    }
+
+    @Override
+    public final Void visitIdentPtn(IdentPtn kernel, Void state) {
+        body.writeByte(IDENT_PTN);
+        writeKernel(kernel.ident);
+        body.writeByte(kernel.escaped ? 1 : 0);
+        return null;
+    }
+
+    @Override
+    public final Void visitIfElseInstr(IfElseInstr kernel, Void state) {
+        body.writeByte(IF_ELSE);
+        writeKernel(kernel.x);
+        writeKernel(kernel.consequent);
+        writeKernel(kernel.alternate);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitIfInstr(IfInstr kernel, Void state) {
+        body.writeByte(IF);
+        writeKernel(kernel.x);
+        writeKernel(kernel.consequent);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitJumpCatchInstr(JumpCatchInstr kernel, Void state) {
+        body.writeByte(JUMP_CATCH);
+        body.writeVarInt(kernel.id);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitJumpThrowInstr(JumpThrowInstr kernel, Void state) {
+        body.writeByte(JUMP_THROW);
+        body.writeVarInt(kernel.id);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitLessThanOrEqualToInstr(LessThanOrEqualToInstr kernel, Void state) {
+        writeBinaryInstr(LESS_THAN_OR_EQUAL_TO, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitLessThanInstr(LessThanInstr kernel, Void state) {
+        writeBinaryInstr(LESS_THAN, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitLocalInstr(LocalInstr kernel, Void state) {
+        body.writeByte(LOCAL);
+        body.writeVarInt(kernel.xs.size());
+        for (IdentDef identDef : kernel.xs) {
+            visitIdentDef(identDef, null);
+        }
+        writeKernel(kernel.body);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitModuloInstr(ModuloInstr kernel, Void state) {
+        writeBinaryInstr(MODULO, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitMultiplyInstr(MultiplyInstr kernel, Void state) {
+        writeBinaryInstr(MULTIPLY, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitNegateInstr(NegateInstr kernel, Void state) {
+        body.writeByte(NEGATE);
+        writeKernel(kernel.a);
+        writeKernel(kernel.x);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitNotInstr(NotInstr kernel, Void state) {
+        body.writeByte(NOT);
+        writeKernel(kernel.a);
+        writeKernel(kernel.x);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitObj(Obj kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitOpaqueValue(OpaqueValue kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitProc(Proc kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitProcDef(ProcDef kernel, Void state) {
+        writeKernels(kernel.xs);
+        writeKernel(kernel.instr);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitRec(Rec kernel, Void state) {
+        if (!(kernel instanceof BasicCompleteRec || kernel instanceof BasicCompleteTuple)) {
+            throw cannotWrite(kernel);
+        }
+        CompleteRec rec = (CompleteRec) kernel;
+        body.writeByte(REC);
+        writeKernel(rec.label());
+        body.writeVarInt(rec.fieldCount());
+        for (int i = 0; i < rec.fieldCount(); i++) {
+            writeKernel(rec.featureAt(i));
+            writeKernel(rec.valueAt(i));
+        }
+        return null;
+    }
+
+    @Override
+    public final Void visitRecDef(RecDef kernel, Void state) {
+        writeKernel(kernel.label);
+        body.writeVarInt(kernel.fieldDefs.size());
+        for (FieldDef fieldDef : kernel.fieldDefs) {
+            visitFieldDef(fieldDef, null);
+        }
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitRecPtn(RecPtn kernel, Void state) {
+        if (!(kernel instanceof BasicRecPtn)) {
+            throw cannotWrite(kernel);
+        }
+        body.writeByte(REC_PTN);
+        writeKernel(kernel.label());
+        body.writeVarInt(kernel.fields().size());
+        for (FieldPtn fieldPtn : kernel.fields()) {
+            visitFieldPtn(fieldPtn, null);
+        }
+        body.writeByte(kernel.partialArity() ? 1 : 0);
+        writeSourceSpan(kernel.sourceSpan());
+        return null;
+    }
+
+    @Override
+    public final Void visitResolvedFieldPtn(ResolvedFieldPtn kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitResolvedIdentPtn(ResolvedIdentPtn kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitResolvedRecPtn(ResolvedRecPtn kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitScalar(Scalar kernel, Void state) {
+        if (kernel instanceof Str str) {
+            body.writeByte(STR);
+            body.writeVarInt(stringIndex(str.value));
+        } else if (kernel instanceof Char c) {
+            body.writeByte(CHAR);
+            body.writeVarInt(c.charValue());
+        } else if (kernel instanceof Int32 int32) {
+            body.writeByte(INT32);
+            body.writeVarLong(zigzag(int32.intValue()));
+        } else if (kernel instanceof Int64 int64) {
+            body.writeByte(INT64);
+            body.writeVarLong(zigzag(int64.longValue()));
+        } else if (kernel instanceof Flt32 flt32) {
+            body.writeByte(FLT32);
+            body.writeFixedInt(Float.floatToRawIntBits(flt32.floatValue()));
+        } else if (kernel instanceof Flt64 flt64) {
+            body.writeByte(FLT64);
+            body.writeFixedLong(Double.doubleToRawLongBits(flt64.doubleValue()));
+        } else if (kernel instanceof Dec128 dec128) {
+            body.writeByte(DEC128);
+            body.writeVarInt(stringIndex(dec128.decimal128Value().toString()));
+        } else if (kernel instanceof Bool bool) {
+            body.writeByte(bool.value ? BOOL_TRUE : BOOL_FALSE);
+        } else if (kernel instanceof Null) {
+            body.writeByte(NULL);
+        } else if (kernel instanceof Eof) {
+            body.writeByte(EOF);
+        } else {
+            throw cannotWrite(kernel);
+        }
+        return null;
+    }
+
+    @Override
+    public final Void visitSelectAndApplyInstr(SelectAndApplyInstr kernel, Void state) {
+        body.writeByte(SELECT_AND_APPLY);
+        writeKernel(kernel.rec);
+        writeKernels(kernel.path);
+        writeKernels(kernel.args);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitSelectInstr(SelectInstr kernel, Void state) {
+        body.writeByte(SELECT);
+        writeKernel(kernel.rec);
+        writeKernel(kernel.feature);
+        writeKernel(kernel.target);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitSeqInstr(SeqInstr kernel, Void state) {
+        body.writeByte(SEQ);
+        writeKernels(kernel.list);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitSetCellValueInstr(SetCellValueInstr kernel, Void state) {
+        body.writeByte(SET_CELL_VALUE);
+        writeKernel(kernel.cell);
+        writeKernel(kernel.value);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitSkipInstr(SkipInstr kernel, Void state) {
+        body.writeByte(SKIP);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitStack(Stack kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitSubtractInstr(SubtractInstr kernel, Void state) {
+        writeBinaryInstr(SUBTRACT, kernel.a, kernel.b, kernel.x, kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitTailApplyInstr(TailApplyInstr kernel, Void state) {
+        body.writeByte(TAIL_APPLY);
+        writeKernel(kernel.x);
+        writeKernels(kernel.ys);
+        body.writeVarInt(kernel.jumpCatchId);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitThrowInstr(ThrowInstr kernel, Void state) {
+        // A native cause only exists for a throw created by the machine at run time
+        if (kernel.nativeCause != null) {
+            throw cannotWrite(kernel);
+        }
+        body.writeByte(THROW);
+        writeKernel(kernel.error);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitTryInstr(TryInstr kernel, Void state) {
+        body.writeByte(TRY);
+        writeKernel(kernel.body);
+        writeKernel(kernel.catchInstr);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitTupleDef(TupleDef kernel, Void state) {
+        writeKernel(kernel.label);
+        body.writeVarInt(kernel.valueDefs.size());
+        for (ValueDef valueDef : kernel.valueDefs) {
+            visitValueDef(valueDef, null);
+        }
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitValueDef(ValueDef kernel, Void state) {
+        writeKernel(kernel.value);
+        writeSourceSpan(kernel.sourceSpan);
+        return null;
+    }
+
+    @Override
+    public final Void visitVar(Var kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    @Override
+    public final Void visitVarSet(VarSet kernel, Void state) {
+        throw cannotWrite(kernel);
+    }
+
+    private void writeBinaryInstr(byte tag, CompleteOrIdent a, CompleteOrIdent b, Ident x, SourceSpan sourceSpan) {
+        body.writeByte(tag);
+        writeKernel(a);
+        writeKernel(b);
+        writeKernel(x);
+        writeSourceSpan(sourceSpan);
+    }
+
+    private void writeKernel(Kernel kernel) {
+        if (kernel == null) {
+            body.writeByte(NULL_KERNEL);
+            return;
+        }
+        String nativeName = nativeNames.get(kernel);
+        if (nativeName != null) {
+            body.writeByte(NATIVE);
+            body.writeVarInt(stringIndex(nativeName));
+        } else {
+            kernel.accept(this, null);
+        }
+    }
+
+    private void writeKernels(List<? extends Kernel> kernels) {
+        body.writeVarInt(kernels.size());
+        for (Kernel kernel : kernels) {
+            writeKernel(kernel);
+        }
+    }
+
+    /*
+     * Write a reference if the given value was already written. Otherwise, number the value and return false so that
+     * the caller writes it in full.
+     */
+    private boolean writeValueRef(Kernel kernel) {
+        Integer id = valueIds.get(kernel);
+        if (id != null) {
+            body.writeByte(VALUE_REF);
+            body.writeVarInt(id);
+            return true;
+        }
+        valueIds.put(kernel, valueIds.size());
+        return false;
+    }
+
+    private void writeSourceSpan(SourceSpan sourceSpan) {
+        if (sourceSpan == null || sourceSpan.source() == SourceString.EMPTY_SOURCE_STRING) {
+            body.writeVarInt(0);
+            return;
+        }
+        SourceString source = sourceSpan.source();
+        Integer sourceIndex = sourceIndexes.get(source);
+        if (sourceIndex == null) {
+            sourceIndex = sourceStringIndexes.size();
+            sourceStringIndexes.add(stringIndex(source.content()));
+            sourceIndexes.put(source, sourceIndex);
+        }
+        body.writeVarInt(sourceIndex + 1);
+        body.writeVarInt(sourceSpan.sourceBegin());
+        body.writeVarInt(sourceSpan.sourceEnd());
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /*
+     * A growable byte array with the encodings of the binary kernel format.
+     */
+    private static final class Output {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+
+        final byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        final void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        final void writeBytes(byte[] source, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, 0, bytes, size, length);
+            size += length;
+        }
+
+        final void writeFixedInt(int value) {
+            writeByte(value >>> 24);
+            writeByte(value >>> 16);
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        final void writeFixedLong(long value) {
+            writeFixedInt((int) (value >>> 32));
+            writeFixedInt((int) value);
+        }
+
+        final void writeVarInt(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative varint: " + value);
+            }
+            writeVarLong(value);
+        }
+
+        final void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+    }
+
+}
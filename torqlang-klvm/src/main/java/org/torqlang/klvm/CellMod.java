@@ -98,6 +98,11 @@ public final class CellMod implements KernelModule {
             return Null.SINGLETON;
         }
 
+        @Override
+        public final PartialObjProcTable<CellObj> objProcTable() {
+            return objProcTable;
+        }
+
         @Override
         public final ValueOrVar select(Feature feature) {
             return objProcTable.selectAndBind(this, feature);
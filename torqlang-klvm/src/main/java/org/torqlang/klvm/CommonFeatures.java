@@ -9,18 +9,18 @@ package org.torqlang.klvm;
 
 public class CommonFeatures {
 
-    public static final Str $NEW = Str.of("$new");
-    public static final Str $TYPE = Str.of("$type");
+    public static final Str $NEW = Str.intern("$new");
+    public static final Str $TYPE = Str.intern("$type");
 
-    public static final Str ADD = Str.of("add");
-    public static final Str ASK = Str.of("ask");
-    public static final Str ASSIGN = Str.of("assign");
-    public static final Str CLEAR = Str.of("clear");
-    public static final Str GET = Str.of("get");
-    public static final Str PARSE = Str.of("parse");
-    public static final Str PUT = Str.of("put");
-    public static final Str SIZE = Str.of("size");
-    public static final Str TELL = Str.of("tell");
-    public static final Str TO_ARRAY = Str.of("to_array");
+    public static final Str ADD = Str.intern("add");
+    public static final Str ASK = Str.intern("ask");
+    public static final Str ASSIGN = Str.intern("assign");
+    public static final Str CLEAR = Str.intern("clear");
+    public static final Str GET = Str.intern("get");
+    public static final Str PARSE = Str.intern("parse");
+    public static final Str PUT = Str.intern("put");
+    public static final Str SIZE = Str.intern("size");
+    public static final Str TELL = Str.intern("tell");
+    public static final Str TO_ARRAY = Str.intern("to_array");
 
 }
@@ -44,8 +44,19 @@ public final class CompleteObjProcTable<T extends CompleteObj> implements ObjPro
     }
 
     @Override
-    public final CompleteObjProcBinding<T> selectAndBind(T target, Feature selector) {
+    public final int indexOf(Feature selector) {
         int index = BinarySearchTools.search(entries, e -> FeatureComparator.SINGLETON.compare(selector, e.feature));
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public final CompleteObjProc<T> procAt(int index) {
+        return entries[index].objProc;
+    }
+
+    @Override
+    public final CompleteObjProcBinding<T> selectAndBind(T target, Feature selector) {
+        int index = indexOf(selector);
         if (index < 0) {
             throw new FeatureNotFoundError(target, selector);
         }
@@ -17,6 +17,18 @@ import java.util.Map;
  */
 public interface CompleteRec extends Complete, Rec {
 
+    /*
+     * Create a record with the given arity and values in the order of the arity features. A tuple-shaped arity
+     * creates a tuple.
+     */
+    static CompleteRec create(Arity arity, List<Complete> values) {
+        Complete[] valuesArray = values.toArray(new Complete[0]);
+        if (arity.isTupleShape()) {
+            return BasicCompleteTuple.createWithArityPrivatelyForKlvm(arity, valuesArray);
+        }
+        return BasicCompleteRec.createWithArityPrivatelyForKlvm(arity, valuesArray);
+    }
+
     static CompleteRec create(List<CompleteField> completeFields) {
         return BasicCompleteRec.createPrivatelyForKlvm(null, completeFields);
     }
@@ -29,6 +41,11 @@ public interface CompleteRec extends Complete, Rec {
         return BasicCompleteRec.createPrivatelyForKlvm(null, List.of(new CompleteField(feature, value)));
     }
 
+    /*
+     * Return the interned label and features of this record. Records with identical arities have the same shape.
+     */
+    Arity arity();
+
     /*
      * Return true if the other object is complete and this object entails the other object. Native objects, such as
      * Java hash maps, must utilize checkComplete() and isValidKey() before using Torq values as keys.
@@ -60,8 +77,8 @@ public interface CompleteRec extends Complete, Rec {
         memos.put(this, Value.PRESENT);
         int hash = 17;
         for (int i = 0; i < fieldCount(); i++) {
-            CompleteField f = fieldAt(i);
-            if (f.value instanceof CompleteRec completeRec) {
+            Complete value = valueAt(i);
+            if (value instanceof CompleteRec completeRec) {
                 if (memos.containsKey(this)) {
                     // Circular references get a constant hash
                     hash = 31 * hash + 11;
@@ -69,9 +86,9 @@ public interface CompleteRec extends Complete, Rec {
                     hash = 31 * hash + completeRec.hashCodeComplete(memos);
                 }
             } else {
-                hash = 31 * hash + f.value.hashCode();
+                hash = 31 * hash + value.hashCode();
             }
-            hash = 31 * hash + f.feature.hashCode();
+            hash = 31 * hash + featureAt(i).hashCode();
         }
         return hash;
     }
@@ -98,13 +115,13 @@ public interface CompleteRec extends Complete, Rec {
         memos.put(this, Value.PRESENT);
         Map<Object, Object> fields = new HashMap<>(fieldCount());
         for (int i = 0; i < fieldCount(); i++) {
-            CompleteField f = fieldAt(i);
-            Object k = f.feature.toNativeValue();
+            Complete value = valueAt(i);
+            Object k = featureAt(i).toNativeValue();
             Object v;
-            if (f.value instanceof CompleteRec completeRec) {
+            if (value instanceof CompleteRec completeRec) {
                 v = completeRec.toNativeValue(memos);
             } else {
-                v = f.value.toNativeValue();
+                v = value.toNativeValue();
             }
             fields.put(k, v);
         }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.SourceSpan;
+import org.torqlang.util.SourceString;
+
+/*
+ * A source span decoded from the binary kernel format. The span refers to a source string restored from the string
+ * table of the encoded module.
+ */
+final class DecodedSourceSpan implements SourceSpan {
+
+    private final SourceString source;
+    private final int begin;
+    private final int end;
+
+    DecodedSourceSpan(SourceString source, int begin, int end) {
+        this.source = source;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    @Override
+    public final SourceString source() {
+        return source;
+    }
+
+    @Override
+    public final int sourceBegin() {
+        return begin;
+    }
+
+    @Override
+    public final int sourceEnd() {
+        return end;
+    }
+
+    @Override
+    public final SourceSpan toSourceBegin() {
+        return new DecodedSourceSpan(source, begin, begin);
+    }
+
+    @Override
+    public final SourceSpan toSourceEnd() {
+        return new DecodedSourceSpan(source, end, end);
+    }
+
+}
@@ -11,7 +11,7 @@ import org.torqlang.util.SourceSpan;
 
 import java.util.Set;
 
-public final class DisentailsInstr extends AbstractInstr {
+public final class DisentailsInstr extends AbstractInstr implements ValueInstr {
 
     public final CompleteOrIdent a;
     public final CompleteOrIdent b;
@@ -46,13 +46,18 @@ public final class DisentailsInstr extends AbstractInstr {
 
     @Override
     public void compute(Env env, Machine machine) throws WaitException {
-        ValueOrVar aRes = a.resolveValueOrVar(env);
-        ValueOrVar bRes = b.resolveValueOrVar(env);
-        Bool result = Bool.of(!aRes.entailsValueOrVar(bRes, null));
+        Value result = computeValue(env);
         ValueOrVar xRes = x.resolveValueOrVar(env);
         xRes.bindToValue(result, null);
     }
 
+    @Override
+    public final Value computeValue(Env env) throws WaitException {
+        ValueOrVar aRes = a.resolveValueOrVar(env);
+        ValueOrVar bRes = b.resolveValueOrVar(env);
+        return Bool.of(!aRes.entailsValueOrVar(bRes, null));
+    }
+
     public final Ident x() {
         return x;
     }
@@ -11,7 +11,7 @@ import org.torqlang.util.SourceSpan;
 
 import java.util.Set;
 
-public final class DivideInstr extends AbstractInstr {
+public final class DivideInstr extends AbstractInstr implements ValueInstr {
 
     public final CompleteOrIdent a;
     public final CompleteOrIdent b;
@@ -46,13 +46,18 @@ public final class DivideInstr extends AbstractInstr {
 
     @Override
     public void compute(Env env, Machine machine) throws WaitException {
-        Value aRes = a.resolveValue(env);
-        Value bRes = b.resolveValue(env);
-        Value result = aRes.divide(bRes);
+        Value result = computeValue(env);
         ValueOrVar xRes = x.resolveValueOrVar(env);
         xRes.bindToValue(result, null);
     }
 
+    @Override
+    public final Value computeValue(Env env) throws WaitException {
+        Value aRes = a.resolveValue(env);
+        Value bRes = b.resolveValue(env);
+        return NumOps.divide(aRes, bRes);
+    }
+
     public final Ident x() {
         return x;
     }
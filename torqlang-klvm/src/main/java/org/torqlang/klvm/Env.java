@@ -199,7 +199,7 @@ public interface Env extends Kernel, Iterable<EnvEntry> {
         @Override
         public final Env add(EnvEntry entry) {
             for (EnvEntry e : bindings) {
-                if (entry.ident.equals(e.ident)) {
+                if (entry.ident == e.ident) {
                     throw new DuplicateIdentError(entry.ident);
                 }
             }
@@ -230,12 +230,13 @@ public interface Env extends Kernel, Iterable<EnvEntry> {
 
         @Override
         public final boolean contains(Ident ident) {
+            Ident canonical = ident.canonical();
             for (EnvEntry envEntry : bindings) {
-                if (envEntry.ident.equals(ident)) {
+                if (envEntry.ident == canonical) {
                     return true;
                 }
             }
-            return parentEnv != null && parentEnv.contains(ident);
+            return parentEnv != null && parentEnv.contains(canonical);
         }
 
         @Override
@@ -265,14 +266,46 @@ public interface Env extends Kernel, Iterable<EnvEntry> {
             return sb.toString();
         }
 
+        /*
+         * An addressed identifier is resolved by hopping parent environments and indexing the target environment
+         * directly. If the address does not hold in this environment chain, we fall back to resolving by name.
+         */
         @Override
         public final Var get(Ident ident) {
-            for (EnvEntry envEntry : bindings) {
-                if (envEntry.ident.equals(ident)) {
-                    return envEntry.var;
+            if (ident.depth >= 0) {
+                Var var = getAddressed(ident);
+                if (var != null) {
+                    return var;
                 }
             }
-            return parentEnv == null ? null : parentEnv.get(ident);
+            // Environment entries hold canonical identifiers, therefore identity comparison is sufficient
+            Ident canonical = ident.canonical();
+            Env currentEnv = this;
+            while (currentEnv != null) {
+                for (int i = 0; i < currentEnv.shallowSize(); i++) {
+                    EnvEntry envEntry = currentEnv.shallowEntryAt(i);
+                    if (envEntry.ident == canonical) {
+                        return envEntry.var;
+                    }
+                }
+                currentEnv = currentEnv.parentEnv();
+            }
+            return null;
+        }
+
+        private Var getAddressed(Ident ident) {
+            Env targetEnv = this;
+            for (int i = 0; i < ident.depth; i++) {
+                targetEnv = targetEnv.parentEnv();
+                if (targetEnv == null) {
+                    return null;
+                }
+            }
+            if (ident.slot >= targetEnv.shallowSize()) {
+                return null;
+            }
+            EnvEntry envEntry = targetEnv.shallowEntryAt(ident.slot);
+            return envEntry.ident == ident.decl ? envEntry.var : null;
         }
 
         @Override
@@ -20,7 +20,8 @@ public class EnvEntry {
         if (var == null) {
             throw new NullPointerException("Ident <" + ident + "> mapped to null Var");
         }
-        this.ident = ident;
+        // Store the canonical identifier so that environments can compare identifiers by identity
+        this.ident = ident.canonical();
         this.var = var;
     }
 
@@ -35,7 +35,8 @@ import java.util.Set;
  *             Log the new FailedValue details string
  *         Halt the current actor
  *     When a FailedValue is created:
- *         Capture Torq error value, Torq stack, Java stack
+ *         Capture Torq error value, Torq stack, Java stack (formatted only when details are formatted, and omitted
+ *         when the stack trace mode is NONE)
  *     When a response is received, and the response is a FailedValue:
  *         Bind the FailedValue to the response target, which will throw
  *         a FailedValueError when the target is touched
@@ -117,10 +118,14 @@ public final class FailedValue implements Value, Complete {
         }
         if (nativeCause != null) {
             sb.append('\n');
-            sb.append(INDENT + "Native cause with stack trace: ");
-            sb.append('\n');
-            String stackTrace = GetStackTrace.apply(nativeCause, true);
-            sb.append(IndentLines.apply(stackTrace, INDENT.length() * 2));
+            if (StackTraceSetting.get() == StackTraceMode.NONE) {
+                sb.append(INDENT + "Native cause: ").append(nativeCause);
+            } else {
+                sb.append(INDENT + "Native cause with stack trace: ");
+                sb.append('\n');
+                String stackTrace = GetStackTrace.apply(nativeCause, true);
+                sb.append(IndentLines.apply(stackTrace, INDENT.length() * 2));
+            }
         }
     }
 
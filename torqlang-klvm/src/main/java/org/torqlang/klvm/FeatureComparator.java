@@ -22,6 +22,10 @@ public final class FeatureComparator implements Comparator<Feature> {
 
     @Override
     public final int compare(Feature f1, Feature f2) {
+        if (f1 == f2) {
+            // Interned features are identical when equal
+            return 0;
+        }
         if (f1 instanceof Str f1s) {
             // f1 ? f2 when f2 is Str
             // f1 < f2 when f2 is not Str
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.Set;
+
+/*
+ * A compare-and-branch superinstruction. The generator translates `if a < b then ... end` into a local temporary, a
+ * value instruction that binds the temporary, and a conditional on the temporary:
+ *
+ *     local $v0 in
+ *         $lt(a, b, $v0)
+ *         if $v0 then ... else ... end
+ *     end
+ *
+ * If the branches do not use the temporary, this instruction computes the test value directly and pushes the chosen
+ * branch, which avoids the temporary environment and three stack entries. If the test waits or fails with a
+ * RuntimeException, the unfused instructions are pushed instead so that the machine waits or fails at the original
+ * instruction. An Error propagates to the machine.
+ *
+ * The alternate is null when the conditional has no else branch.
+ */
+public final class FusedIfElseInstr extends AbstractInstr {
+
+    public final ValueInstr test;
+    public final Instr consequent;
+    public final Instr alternate;
+    public final Instr unfused;
+
+    FusedIfElseInstr(ValueInstr test, Instr consequent, Instr alternate, Instr unfused) {
+        super(((AbstractInstr) unfused).sourceSpan);
+        this.test = test;
+        this.consequent = consequent;
+        this.alternate = alternate;
+        this.unfused = unfused;
+    }
+
+    @Override
+    public final <T, R> R accept(KernelVisitor<T, R> visitor, T state) {
+        return visitor.visitFusedIfElseInstr(this, state);
+    }
+
+    @Override
+    public final void captureLexicallyFree(Set<Ident> knownBound, Set<Ident> lexicallyFree) {
+        unfused.captureLexicallyFree(knownBound, lexicallyFree);
+    }
+
+    @Override
+    public final void compute(Env env, Machine machine) {
+        Value testRes;
+        try {
+            testRes = test.computeValue(env);
+        } catch (WaitException | RuntimeException exc) {
+            machine.pushStackEntry(unfused, env);
+            return;
+        }
+        if (!(testRes instanceof Bool bool)) {
+            machine.pushStackEntry(unfused, env);
+            return;
+        }
+        if (bool.value) {
+            machine.pushStackEntry(consequent, env);
+        } else if (alternate != null) {
+            machine.pushStackEntry(alternate, env);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.List;
+import java.util.Set;
+
+/*
+ * A declare-and-compute superinstruction. A local instruction whose body is a fused sequence declares its variables
+ * and computes the inline instructions of its body in the same dispatch. This is safe because computing a fused
+ * sequence never throws, so the local instruction is never computed twice.
+ */
+public final class FusedLocalInstr extends AbstractInstr {
+
+    public final List<IdentDef> xs;
+    public final FusedSeqInstr body;
+    public final Instr unfused;
+
+    FusedLocalInstr(List<IdentDef> xs, FusedSeqInstr body, Instr unfused) {
+        super(((AbstractInstr) unfused).sourceSpan);
+        this.xs = List.copyOf(xs);
+        this.body = body;
+        this.unfused = unfused;
+    }
+
+    @Override
+    public final <T, R> R accept(KernelVisitor<T, R> visitor, T state) {
+        return visitor.visitFusedLocalInstr(this, state);
+    }
+
+    @Override
+    public final void captureLexicallyFree(Set<Ident> knownBound, Set<Ident> lexicallyFree) {
+        unfused.captureLexicallyFree(knownBound, lexicallyFree);
+    }
+
+    @Override
+    public final void compute(Env env, Machine machine) {
+        List<IdentDef> xs = this.xs;
+        EnvEntry[] localBindings = new EnvEntry[xs.size()];
+        for (int i = 0; i < localBindings.length; i++) {
+            IdentDef id = xs.get(i);
+            Var var = id.value != null ? new Var(id.value) : new Var();
+            localBindings[i] = new EnvEntry(id.ident, var);
+        }
+        body.compute(Env.createPrivatelyForKlvm(env, localBindings), machine);
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.List;
+import java.util.Set;
+
+/*
+ * A straight-line superinstruction. A sequence that begins with inline instructions, such as arithmetic, selection,
+ * and record construction, computes them in one dispatch and then pushes the rest of the sequence, if any.
+ *
+ * Inline instructions never push stack entries and they wait or fail before they bind their targets. If an inline
+ * instruction waits or fails, it and the instructions after it are pushed as ordinary stack entries. The machine then
+ * computes the failed instruction again, and it waits or fails at the original instruction with the original source
+ * span. Therefore, computing a fused sequence never throws a WaitException or RuntimeException. An Error, such as
+ * StackOverflowError or OutOfMemoryError, is not caught and propagates to the machine unchanged.
+ */
+public final class FusedSeqInstr extends AbstractInstr {
+
+    public final List<Instr> inline;
+    public final Instr rest;
+    public final Instr unfused;
+
+    private final Instr[] inlineArray;
+
+    FusedSeqInstr(List<Instr> inline, Instr rest, Instr unfused) {
+        super(((AbstractInstr) unfused).sourceSpan);
+        this.inline = List.copyOf(inline);
+        this.rest = rest;
+        this.unfused = unfused;
+        this.inlineArray = this.inline.toArray(new Instr[0]);
+    }
+
+    @Override
+    public final <T, R> R accept(KernelVisitor<T, R> visitor, T state) {
+        return visitor.visitFusedSeqInstr(this, state);
+    }
+
+    @Override
+    public final void captureLexicallyFree(Set<Ident> knownBound, Set<Ident> lexicallyFree) {
+        unfused.captureLexicallyFree(knownBound, lexicallyFree);
+    }
+
+    @Override
+    public final void compute(Env env, Machine machine) {
+        Instr[] inlineArray = this.inlineArray;
+        for (int i = 0; i < inlineArray.length; i++) {
+            try {
+                inlineArray[i].compute(env, machine);
+            } catch (WaitException | RuntimeException exc) {
+                if (rest != null) {
+                    rest.pushStackEntries(machine, env);
+                }
+                for (int j = inlineArray.length - 1; j >= i; j--) {
+                    machine.pushStackEntry(inlineArray[j], env);
+                }
+                return;
+            }
+        }
+        if (rest != null) {
+            rest.pushStackEntries(machine, env);
+        }
+    }
+
+}
@@ -8,30 +8,35 @@
 package org.torqlang.klvm;
 
 import org.torqlang.util.EscapeChar;
+import org.torqlang.util.WeakValueInterner;
 
 import java.util.Set;
 
 public final class Ident implements Decl, LiteralOrIdent {
 
-    public static final Ident $ACT = new Ident("$act");
-    public static final Ident $ACTOR_CTOR = new Ident("$actor_ctor");
-    public static final Ident $ELSE = new Ident("$else");
-    public static final Ident $FINALLY = new Ident("$finally");
-    public static final Ident $FOR = new Ident("$for");
-    public static final Ident $GUARD = new Ident("$guard");
-    public static final Ident $HANDLER = new Ident("$handler");
-    public static final Ident $HANDLERS = new Ident("$handlers");
-    public static final Ident $HANDLERS_CTOR = new Ident("$handlers_ctor");
-    public static final Ident $IMPORT = new Ident("$import");
-    public static final Ident $ITER = new Ident("$iter");
-    public static final Ident $M = new Ident("$m");
-    public static final Ident $MAIN = new Ident("$main");
-    public static final Ident $NEXT = new Ident("$next");
-    public static final Ident $RESPOND = new Ident("$respond");
-    public static final Ident $R = new Ident("$r");
-    public static final Ident $SELF = new Ident("$self");
-    public static final Ident $SPAWN = new Ident("$spawn");
-    public static final Ident $WHILE = new Ident("$while");
+    // Identifiers are interned so that identity comparison is sufficient to compare canonical identifiers. This table
+    // must be initialized before the constant identifiers below.
+    private static final WeakValueInterner<String, Ident> INTERNED = new WeakValueInterner<>();
+
+    public static final Ident $ACT = intern("$act");
+    public static final Ident $ACTOR_CTOR = intern("$actor_ctor");
+    public static final Ident $ELSE = intern("$else");
+    public static final Ident $FINALLY = intern("$finally");
+    public static final Ident $FOR = intern("$for");
+    public static final Ident $GUARD = intern("$guard");
+    public static final Ident $HANDLER = intern("$handler");
+    public static final Ident $HANDLERS = intern("$handlers");
+    public static final Ident $HANDLERS_CTOR = intern("$handlers_ctor");
+    public static final Ident $IMPORT = intern("$import");
+    public static final Ident $ITER = intern("$iter");
+    public static final Ident $M = intern("$m");
+    public static final Ident $MAIN = intern("$main");
+    public static final Ident $NEXT = intern("$next");
+    public static final Ident $RESPOND = intern("$respond");
+    public static final Ident $R = intern("$r");
+    public static final Ident $SELF = intern("$self");
+    public static final Ident $SPAWN = intern("$spawn");
+    public static final Ident $WHILE = intern("$while");
 
     private static final String $_ = "$_";
     private static final String $A = "$a";
@@ -46,8 +51,27 @@ public final class Ident implements Decl, LiteralOrIdent {
 
     public final String name;
 
+    /*
+     * A lexical address locates the variable for this identifier by hopping `depth` parent environments and then
+     * indexing `slot` within that environment. The `decl` identifier is the canonical identifier stored in the
+     * environment entry at the address, and it guards the address with an identity comparison. A depth of -1 means
+     * the identifier is not addressed and must be resolved by name. See `LexicalAddresser`.
+     *
+     * An addressed identifier is a use-site copy and is never interned. Its canonical identifier is `decl`.
+     */
+    final int depth;
+    final int slot;
+    final Ident decl;
+
     private Ident(String name) {
+        this(name, -1, -1, null);
+    }
+
+    private Ident(String name, int depth, int slot, Ident decl) {
         this.name = name;
+        this.depth = depth;
+        this.slot = slot;
+        this.decl = decl;
     }
 
     /*
@@ -68,23 +92,35 @@ public final class Ident implements Decl, LiteralOrIdent {
         if (name.charAt(0) == '$') {
             throw new IllegalArgumentException(KlvmMessageText.USER_IDENTIFIERS_CANNOT_BEGIN_WITH_A_DOLLAR_SIGN);
         }
-        return new Ident(name);
+        return intern(name);
+    }
+
+    /*
+     * Create a use-site copy of the given identifier addressed at (depth, slot). Addressed identifiers are equal to
+     * their unaddressed counterparts.
+     */
+    static Ident createAddressed(Ident ident, int depth, int slot, Ident decl) {
+        return new Ident(ident.name, depth, slot, decl.canonical());
     }
 
     public static Ident createPrivately(String name) {
-        return new Ident(name);
+        return intern(name);
     }
 
     public static Ident createSystemAnonymousIdent(int suffix) {
-        return new Ident($_ + suffix);
+        return intern($_ + suffix);
     }
 
     public static Ident createSystemArgIdent(int suffix) {
-        return new Ident($A + suffix);
+        return intern($A + suffix);
     }
 
     public static Ident createSystemVarIdent(int suffix) {
-        return new Ident($V + suffix);
+        return intern($V + suffix);
+    }
+
+    private static Ident intern(String name) {
+        return INTERNED.intern(name, Ident::new);
     }
 
     public static boolean isAlphaNumericOrUnderscore(char c) {
@@ -152,16 +188,23 @@ public final class Ident implements Decl, LiteralOrIdent {
         throw new IllegalStateException(KlvmMessageText.IDENT_ALONE_CANNOT_DETERMINE_WHETHER_IT_IS_BOUND_OR_FREE);
     }
 
+    /*
+     * Return the interned identifier for this identifier. An unaddressed identifier is its own canonical identifier.
+     */
+    final Ident canonical() {
+        return depth >= 0 ? decl : this;
+    }
+
     @Override
     public final boolean equals(Object other) {
         if (this == other) {
             return true;
         }
-        if (other == null || getClass() != other.getClass()) {
+        if (!(other instanceof Ident that)) {
             return false;
         }
-        Ident that = (Ident) other;
-        return name.equals(that.name);
+        // Canonical identifiers are interned, therefore they are equal only if they are identical
+        return canonical() == that.canonical();
     }
 
     public final String formatValue() {
@@ -173,6 +216,10 @@ public final class Ident implements Decl, LiteralOrIdent {
         return name.hashCode();
     }
 
+    public final boolean isAddressed() {
+        return depth >= 0;
+    }
+
     public final boolean isAnonymous() {
         return name.equals("_");
     }
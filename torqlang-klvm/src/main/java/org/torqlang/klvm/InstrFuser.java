@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.SourceSpan;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * InstrFuser is an optimizing pass that rewrites common sequences of generated kernel instructions into fused
+ * superinstructions. A fused instruction does the work of several instructions in one machine dispatch and pushes
+ * fewer stack entries:
+ *     -- FusedIfElseInstr: a comparison into a temporary followed by a conditional on the temporary
+ *     -- FusedSeqInstr: a sequence that begins with inline instructions, such as arithmetic and selection
+ *     -- FusedLocalInstr: a local instruction whose body is a fused sequence
+ *
+ * Fusion runs between generation and execution, after consumers that inspect the generated instructions are done
+ * with them. The debugger steps through unfused instructions, so callers do not fuse instructions when debugging.
+ *
+ * Every fused instruction keeps the instructions it replaces. It formats as those instructions, it captures free
+ * identifiers from them, and it falls back to them if it must wait or fail, so the machine waits or fails at the
+ * original instruction. A compare-and-branch removes the environment of its temporary, therefore the fused result is
+ * addressed again with `LexicalAddresser`.
+ */
+public final class InstrFuser implements KernelVisitor<Void, Kernel> {
+
+    private static final InstrFuser SINGLETON = new InstrFuser();
+
+    private InstrFuser() {
+    }
+
+    public static Instr apply(Instr instr) {
+        return LexicalAddresser.apply(SINGLETON.fuseInstr(instr));
+    }
+
+    public static ProcDef apply(ProcDef procDef) {
+        return LexicalAddresser.apply(SINGLETON.fuseProcDef(procDef));
+    }
+
+    private static boolean containsJumpCatch(List<Instr> list) {
+        for (Instr instr : list) {
+            if (instr instanceof JumpCatchInstr) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Inline instructions never push stack entries, and they wait or fail before binding their target.
+     */
+    private static boolean isInline(Instr instr) {
+        return instr instanceof ValueInstr || instr instanceof SelectInstr || instr instanceof CreateRecInstr ||
+            instr instanceof CreateTupleInstr;
+    }
+
+    private static boolean isLexicallyFree(Ident ident, Instr instr) {
+        Set<Ident> lexicallyFree = new HashSet<>();
+        instr.captureLexicallyFree(new HashSet<>(), lexicallyFree);
+        return lexicallyFree.contains(ident);
+    }
+
+    /*
+     * Fuse `local t in <value instr binding t> if t then ... else ... end end` if the branches do not use `t`.
+     * Return null if the local instruction does not have this shape.
+     */
+    private Instr fuseIfElse(LocalInstr kernel) {
+        if (kernel.xs.size() != 1 || kernel.xs.get(0).value != null ||
+            !(kernel.body instanceof SeqInstr seqInstr) || seqInstr.list.size() != 2 ||
+            !(seqInstr.list.get(0) instanceof ValueInstr test))
+        {
+            return null;
+        }
+        Ident temp = kernel.xs.get(0).ident;
+        Instr branch = seqInstr.list.get(1);
+        Instr consequent;
+        Instr alternate;
+        if (branch instanceof IfElseInstr ifElseInstr && temp.equals(ifElseInstr.x)) {
+            consequent = ifElseInstr.consequent;
+            alternate = ifElseInstr.alternate;
+        } else if (branch instanceof IfInstr ifInstr && temp.equals(ifInstr.x)) {
+            consequent = ifInstr.consequent;
+            alternate = null;
+        } else {
+            return null;
+        }
+        if (!temp.equals(test.x()) || isLexicallyFree(temp, consequent) ||
+            (alternate != null && isLexicallyFree(temp, alternate)))
+        {
+            return null;
+        }
+        return new FusedIfElseInstr(test, fuseInstr(consequent), alternate != null ? fuseInstr(alternate) : null,
+            kernel);
+    }
+
+    private Instr fuseInstr(Instr instr) {
+        return (Instr) instr.accept(this, null);
+    }
+
+    private ProcDef fuseProcDef(ProcDef procDef) {
+        return new ProcDef(procDef.xs, fuseInstr(procDef.instr), procDef.sourceSpan);
+    }
+
+    /*
+     * Fuse the leading inline instructions of a sequence with the rest of the sequence. If the sequence does not
+     * begin with an inline instruction, fuse its first later run of inline instructions instead.
+     */
+    private Instr fuseSeq(List<Instr> list, SourceSpan sourceSpan) {
+        SeqInstr seqInstr = new SeqInstr(list, sourceSpan);
+        if (list.size() < 2) {
+            return seqInstr;
+        }
+        int inlineCount = 0;
+        while (inlineCount < list.size() && isInline(list.get(inlineCount))) {
+            inlineCount++;
+        }
+        if (inlineCount == 0) {
+            int runStart = 1;
+            while (runStart < list.size() && !isInline(list.get(runStart))) {
+                runStart++;
+            }
+            // A single trailing inline instruction gains nothing from fusion. A jump catch must be on the stack
+            // before the instructions ahead of it compute, so a tail with a jump catch cannot be deferred.
+            if (runStart >= list.size() - 1 || containsJumpCatch(list.subList(runStart, list.size()))) {
+                return seqInstr;
+            }
+            List<Instr> head = new ArrayList<>(list.subList(0, runStart));
+            head.add(fuseSeq(list.subList(runStart, list.size()), sourceSpan));
+            return new SeqInstr(head, sourceSpan);
+        }
+        Instr rest = null;
+        if (inlineCount < list.size()) {
+            List<Instr> restList = list.subList(inlineCount, list.size());
+            rest = restList.size() == 1 ? restList.get(0) : fuseSeq(restList, sourceSpan);
+        }
+        return new FusedSeqInstr(list.subList(0, inlineCount), rest, seqInstr);
+    }
+
+    @Override
+    public final Kernel visitActInstr(ActInstr kernel, Void state) {
+        return new ActInstr(fuseInstr(kernel.instr), kernel.target, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitActorCfg(ActorCfg kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitActorCtor(ActorCtor kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitAddInstr(AddInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitApplyInstr(ApplyInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToCompleteInstr(BindCompleteToCompleteInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToIdentInstr(BindCompleteToIdentInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToValueOrVarInstr(BindCompleteToValueOrVarInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindIdentToIdentInstr(BindIdentToIdentInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitCaseElseInstr(CaseElseInstr kernel, Void state) {
+        return new CaseElseInstr(kernel.x, kernel.valueOrPtn, fuseInstr(kernel.consequent),
+            fuseInstr(kernel.alternate), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCaseInstr(CaseInstr kernel, Void state) {
+        return new CaseInstr(kernel.x, kernel.valueOrPtn, fuseInstr(kernel.consequent), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCatchInstr(CatchInstr kernel, Void state) {
+        return new CatchInstr(kernel.arg, fuseInstr(kernel.caseInstr), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitClosure(Closure kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitCreateActorCtorInstr(CreateActorCtorInstr kernel, Void state) {
+        return new CreateActorCtorInstr(kernel.x, fuseProcDef(kernel.procDef), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCreateProcInstr(CreateProcInstr kernel, Void state) {
+        return new CreateProcInstr(kernel.x, fuseProcDef(kernel.procDef), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCreateRecInstr(CreateRecInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitCreateTupleInstr(CreateTupleInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitDebugInstr(DebugInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitDisentailsInstr(DisentailsInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitDivideInstr(DivideInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitEntailsInstr(EntailsInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitEnv(Env kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFailedValue(FailedValue kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFieldDef(FieldDef kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFieldPtn(FieldPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFusedIfElseInstr(FusedIfElseInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFusedLocalInstr(FusedLocalInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFusedSeqInstr(FusedSeqInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitGetCellValueInstr(GetCellValueInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitGreaterThanOrEqualToInstr(GreaterThanOrEqualToInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitGreaterThanInstr(GreaterThanInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIdent(Ident kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIdentDef(IdentDef kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIdentPtn(IdentPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIfElseInstr(IfElseInstr kernel, Void state) {
+        return new IfElseInstr(kernel.x, fuseInstr(kernel.consequent), fuseInstr(kernel.alternate),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitIfInstr(IfInstr kernel, Void state) {
+        return new IfInstr(kernel.x, fuseInstr(kernel.consequent), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitJumpCatchInstr(JumpCatchInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitJumpThrowInstr(JumpThrowInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitLessThanOrEqualToInstr(LessThanOrEqualToInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitLessThanInstr(LessThanInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitLocalInstr(LocalInstr kernel, Void state) {
+        Instr ifElseInstr = fuseIfElse(kernel);
+        if (ifElseInstr != null) {
+            return ifElseInstr;
+        }
+        Instr body = fuseInstr(kernel.body);
+        if (body instanceof FusedSeqInstr fusedSeqInstr) {
+            return new FusedLocalInstr(kernel.xs, fusedSeqInstr, kernel);
+        }
+        return new LocalInstr(kernel.xs, body, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitModuloInstr(ModuloInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitMultiplyInstr(MultiplyInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitNegateInstr(NegateInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitNotInstr(NotInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitObj(Obj kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitOpaqueValue(OpaqueValue kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitProc(Proc kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitProcDef(ProcDef kernel, Void state) {
+        return fuseProcDef(kernel);
+    }
+
+    @Override
+    public final Kernel visitRec(Rec kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitRecDef(RecDef kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitRecPtn(RecPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedFieldPtn(ResolvedFieldPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedIdentPtn(ResolvedIdentPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedRecPtn(ResolvedRecPtn kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitScalar(Scalar kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSelectAndApplyInstr(SelectAndApplyInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSelectInstr(SelectInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSeqInstr(SeqInstr kernel, Void state) {
+        List<Instr> list = new ArrayList<>(kernel.list.size());
+        for (Instr instr : kernel.list) {
+            list.add(fuseInstr(instr));
+        }
+        return fuseSeq(list, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitSetCellValueInstr(SetCellValueInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSkipInstr(SkipInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitStack(Stack kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSubtractInstr(SubtractInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitTailApplyInstr(TailApplyInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitThrowInstr(ThrowInstr kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitTryInstr(TryInstr kernel, Void state) {
+        return new TryInstr(fuseInstr(kernel.body), fuseInstr(kernel.catchInstr), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitTupleDef(TupleDef kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitValueDef(ValueDef kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitVar(Var kernel, Void state) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitVarSet(VarSet kernel, Void state) {
+        return kernel;
+    }
+
+}
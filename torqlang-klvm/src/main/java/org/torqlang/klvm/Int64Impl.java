@@ -13,13 +13,18 @@ import java.util.Set;
 
 final class Int64Impl implements Int64 {
 
-    private static final int I64_CACHE_SIZE = 10;
+    /*
+     * Small integers are cached so that loop counters and indexes do not allocate. The range matches the typical
+     * counters, offsets and sizes computed by programs.
+     */
+    private static final int I64_CACHE_LOW = -128;
+    private static final int I64_CACHE_HIGH = 1023;
     private static final Int64Impl[] I64_CACHE;
 
     static {
-        I64_CACHE = new Int64Impl[I64_CACHE_SIZE];
-        for (int i = 0; i < I64_CACHE_SIZE; i++) {
-            I64_CACHE[i] = new Int64Impl(i);
+        I64_CACHE = new Int64Impl[I64_CACHE_HIGH - I64_CACHE_LOW + 1];
+        for (int i = 0; i < I64_CACHE.length; i++) {
+            I64_CACHE[i] = new Int64Impl(i + I64_CACHE_LOW);
         }
     }
 
@@ -30,8 +35,8 @@ final class Int64Impl implements Int64 {
     }
 
     static Int64Impl of(long num) {
-        if (num > -1 && num < I64_CACHE_SIZE) {
-            return I64_CACHE[(int) num];
+        if (num >= I64_CACHE_LOW && num <= I64_CACHE_HIGH) {
+            return I64_CACHE[(int) num - I64_CACHE_LOW];
         }
         return new Int64Impl(num);
     }
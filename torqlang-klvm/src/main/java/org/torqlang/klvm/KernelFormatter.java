@@ -362,6 +362,27 @@ public final class KernelFormatter implements KernelVisitor<FormatterState, Void
         return null;
     }
 
+    /*
+     * Fused instructions format as the instructions they replace.
+     */
+    @Override
+    public final Void visitFusedIfElseInstr(FusedIfElseInstr instr, FormatterState state) {
+        accept(instr.unfused, state);
+        return null;
+    }
+
+    @Override
+    public final Void visitFusedLocalInstr(FusedLocalInstr instr, FormatterState state) {
+        accept(instr.unfused, state);
+        return null;
+    }
+
+    @Override
+    public final Void visitFusedSeqInstr(FusedSeqInstr instr, FormatterState state) {
+        accept(instr.unfused, state);
+        return null;
+    }
+
     @Override
     public final Void visitGetCellValueInstr(GetCellValueInstr instr, FormatterState state) {
         state.write($GET);
@@ -799,6 +820,13 @@ public final class KernelFormatter implements KernelVisitor<FormatterState, Void
         return null;
     }
 
+    @Override
+    public final Void visitTailApplyInstr(TailApplyInstr instr, FormatterState state) {
+        accept(instr.x, state.inline());
+        formatApplyArgs(instr.ys, state);
+        return null;
+    }
+
     @Override
     public final Void visitThrowInstr(ThrowInstr instr, FormatterState state) {
         state.write("throw ");
@@ -59,6 +59,12 @@ public interface KernelVisitor<T, R> {
 
     R visitFieldPtn(FieldPtn kernel, T state);
 
+    R visitFusedIfElseInstr(FusedIfElseInstr kernel, T state);
+
+    R visitFusedLocalInstr(FusedLocalInstr kernel, T state);
+
+    R visitFusedSeqInstr(FusedSeqInstr kernel, T state);
+
     R visitGetCellValueInstr(GetCellValueInstr kernel, T state);
 
     R visitGreaterThanOrEqualToInstr(GreaterThanOrEqualToInstr kernel, T state);
@@ -129,6 +135,8 @@ public interface KernelVisitor<T, R> {
 
     R visitSubtractInstr(SubtractInstr kernel, T state);
 
+    R visitTailApplyInstr(TailApplyInstr kernel, T state);
+
     R visitThrowInstr(ThrowInstr kernel, T state);
 
     R visitTryInstr(TryInstr kernel, T state);
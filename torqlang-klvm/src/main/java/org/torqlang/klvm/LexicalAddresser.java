@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * LexicalAddresser is a post-pass over generated kernel instructions that rewrites identifier uses into lexically
+ * addressed copies. An address (depth, slot) locates a variable by hopping `depth` parent environments and indexing
+ * `slot` within that environment, which lets `Env.get(Ident)` avoid comparing identifier names along the chain.
+ *
+ * Only environments whose shape is known when the instructions are generated are addressed:
+ *     -- the bindings of a local instruction, in declaration order
+ *     -- the parameters of a procedure definition, in parameter order
+ *     -- the single binding created for the argument of a catch instruction
+ *
+ * Environments created at runtime, such as captured closure environments, pattern match environments, and
+ * environments built by native code, end the static scope. Identifiers that resolve beyond the static scope are left
+ * unaddressed and continue to be resolved by name. Declaring identifiers are never copied, because an address is
+ * guarded by the identity of its declaring identifier.
+ *
+ * Instructions that do not reference identifiers are returned as-is. All other instructions are rebuilt with the same
+ * source spans, and addressed identifiers are equal to their unaddressed counterparts, so the rewritten instructions
+ * format identically.
+ */
+public final class LexicalAddresser implements KernelVisitor<LexicalAddresser.Scope, Kernel> {
+
+    private static final LexicalAddresser SINGLETON = new LexicalAddresser();
+
+    private LexicalAddresser() {
+    }
+
+    public static Instr apply(Instr instr) {
+        return SINGLETON.addressInstr(instr, null);
+    }
+
+    public static ProcDef apply(ProcDef procDef) {
+        return SINGLETON.addressProcDef(procDef);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Kernel> T address(T kernel, Scope scope) {
+        if (kernel instanceof Ident ident) {
+            return (T) addressIdent(ident, scope);
+        }
+        return kernel;
+    }
+
+    private Ident addressIdent(Ident ident, Scope scope) {
+        int depth = 0;
+        while (scope != null) {
+            for (int slot = 0; slot < scope.idents.size(); slot++) {
+                Ident decl = scope.idents.get(slot);
+                if (decl.equals(ident)) {
+                    return Ident.createAddressed(ident, depth, slot, decl);
+                }
+            }
+            depth++;
+            scope = scope.parent;
+        }
+        return ident;
+    }
+
+    private <T extends Kernel> List<T> addressAll(List<T> kernels, Scope scope) {
+        List<T> answer = new ArrayList<>(kernels.size());
+        for (T k : kernels) {
+            answer.add(address(k, scope));
+        }
+        return answer;
+    }
+
+    private Instr addressInstr(Instr instr, Scope scope) {
+        return (Instr) instr.accept(this, scope);
+    }
+
+    private ProcDef addressProcDef(ProcDef procDef) {
+        // A closure body computes in its captured environment extended with its parameters, if any
+        Scope bodyScope = procDef.xs.isEmpty() ? null : new Scope(procDef.xs, null);
+        return new ProcDef(procDef.xs, addressInstr(procDef.instr, bodyScope), procDef.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitActInstr(ActInstr kernel, Scope scope) {
+        // An act instruction is lifted from its parent and computed by a child actor in a new environment
+        return new ActInstr(addressInstr(kernel.instr, null), kernel.target, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitActorCfg(ActorCfg kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitActorCtor(ActorCtor kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitAddInstr(AddInstr kernel, Scope scope) {
+        return new AddInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitApplyInstr(ApplyInstr kernel, Scope scope) {
+        return new ApplyInstr(address(kernel.x, scope), addressAll(kernel.ys, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToCompleteInstr(BindCompleteToCompleteInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToIdentInstr(BindCompleteToIdentInstr kernel, Scope scope) {
+        return new BindCompleteToIdentInstr(kernel.a, address(kernel.x, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitBindCompleteToValueOrVarInstr(BindCompleteToValueOrVarInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitBindIdentToIdentInstr(BindIdentToIdentInstr kernel, Scope scope) {
+        return new BindIdentToIdentInstr(address(kernel.a, scope), address(kernel.x, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCaseElseInstr(CaseElseInstr kernel, Scope scope) {
+        // The consequent computes in a pattern environment whose shape depends on the matched value
+        return new CaseElseInstr(address(kernel.x, scope), kernel.valueOrPtn, addressInstr(kernel.consequent, null),
+            addressInstr(kernel.alternate, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCaseInstr(CaseInstr kernel, Scope scope) {
+        // The consequent computes in a pattern environment whose shape depends on the matched value
+        return new CaseInstr(address(kernel.x, scope), kernel.valueOrPtn, addressInstr(kernel.consequent, null),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCatchInstr(CatchInstr kernel, Scope scope) {
+        // When unwinding, the machine binds the error to the catch argument in a new environment
+        Scope catchScope = new Scope(List.of(kernel.arg), scope);
+        return new CatchInstr(kernel.arg, addressInstr(kernel.caseInstr, catchScope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitClosure(Closure kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitCreateActorCtorInstr(CreateActorCtorInstr kernel, Scope scope) {
+        return new CreateActorCtorInstr(address(kernel.x, scope), addressProcDef(kernel.procDef), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCreateProcInstr(CreateProcInstr kernel, Scope scope) {
+        return new CreateProcInstr(address(kernel.x, scope), addressProcDef(kernel.procDef), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCreateRecInstr(CreateRecInstr kernel, Scope scope) {
+        RecDef recDef = kernel.recDef;
+        List<FieldDef> fieldDefs = new ArrayList<>(recDef.fieldDefs.size());
+        for (FieldDef fieldDef : recDef.fieldDefs) {
+            fieldDefs.add(new FieldDef(address(fieldDef.feature, scope), address(fieldDef.value, scope),
+                fieldDef.sourceSpan));
+        }
+        return new CreateRecInstr(address(kernel.x, scope),
+            new RecDef(address(recDef.label, scope), fieldDefs, recDef.sourceSpan), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitCreateTupleInstr(CreateTupleInstr kernel, Scope scope) {
+        TupleDef tupleDef = kernel.tupleDef;
+        List<ValueDef> valueDefs = new ArrayList<>(tupleDef.valueDefs.size());
+        for (ValueDef valueDef : tupleDef.valueDefs) {
+            valueDefs.add(new ValueDef(address(valueDef.value, scope), valueDef.sourceSpan));
+        }
+        return new CreateTupleInstr(address(kernel.x, scope),
+            new TupleDef(address(tupleDef.label, scope), valueDefs, tupleDef.sourceSpan), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitDebugInstr(DebugInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitDisentailsInstr(DisentailsInstr kernel, Scope scope) {
+        return new DisentailsInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitDivideInstr(DivideInstr kernel, Scope scope) {
+        return new DivideInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitEntailsInstr(EntailsInstr kernel, Scope scope) {
+        return new EntailsInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitEnv(Env kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFailedValue(FailedValue kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFieldDef(FieldDef kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitFieldPtn(FieldPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    /*
+     * Fused instructions are addressed after fusion, because fusing a compare-and-branch removes the environment of
+     * its temporary. The unfused instructions are addressed in the same scope, since they compute in the same
+     * environment when a fused instruction falls back to them.
+     */
+    @Override
+    public final Kernel visitFusedIfElseInstr(FusedIfElseInstr kernel, Scope scope) {
+        return new FusedIfElseInstr((ValueInstr) addressInstr(kernel.test, scope),
+            addressInstr(kernel.consequent, scope),
+            kernel.alternate != null ? addressInstr(kernel.alternate, scope) : null,
+            addressInstr(kernel.unfused, scope));
+    }
+
+    @Override
+    public final Kernel visitFusedLocalInstr(FusedLocalInstr kernel, Scope scope) {
+        List<Ident> idents = new ArrayList<>(kernel.xs.size());
+        for (IdentDef identDef : kernel.xs) {
+            idents.add(identDef.ident);
+        }
+        Scope bodyScope = new Scope(idents, scope);
+        return new FusedLocalInstr(kernel.xs, (FusedSeqInstr) addressInstr(kernel.body, bodyScope),
+            addressInstr(kernel.unfused, scope));
+    }
+
+    @Override
+    public final Kernel visitFusedSeqInstr(FusedSeqInstr kernel, Scope scope) {
+        List<Instr> inline = new ArrayList<>(kernel.inline.size());
+        for (Instr instr : kernel.inline) {
+            inline.add(addressInstr(instr, scope));
+        }
+        return new FusedSeqInstr(inline, kernel.rest != null ? addressInstr(kernel.rest, scope) : null,
+            addressInstr(kernel.unfused, scope));
+    }
+
+    @Override
+    public final Kernel visitGetCellValueInstr(GetCellValueInstr kernel, Scope scope) {
+        return new GetCellValueInstr(address(kernel.cell, scope), address(kernel.target, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitGreaterThanOrEqualToInstr(GreaterThanOrEqualToInstr kernel, Scope scope) {
+        return new GreaterThanOrEqualToInstr(address(kernel.a, scope), address(kernel.b, scope),
+            address(kernel.x, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitGreaterThanInstr(GreaterThanInstr kernel, Scope scope) {
+        return new GreaterThanInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitIdent(Ident kernel, Scope scope) {
+        return addressIdent(kernel, scope);
+    }
+
+    @Override
+    public final Kernel visitIdentDef(IdentDef kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIdentPtn(IdentPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitIfElseInstr(IfElseInstr kernel, Scope scope) {
+        return new IfElseInstr(address(kernel.x, scope), addressInstr(kernel.consequent, scope),
+            addressInstr(kernel.alternate, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitIfInstr(IfInstr kernel, Scope scope) {
+        return new IfInstr(address(kernel.x, scope), addressInstr(kernel.consequent, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitJumpCatchInstr(JumpCatchInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitJumpThrowInstr(JumpThrowInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitLessThanOrEqualToInstr(LessThanOrEqualToInstr kernel, Scope scope) {
+        return new LessThanOrEqualToInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitLessThanInstr(LessThanInstr kernel, Scope scope) {
+        return new LessThanInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitLocalInstr(LocalInstr kernel, Scope scope) {
+        List<Ident> idents = new ArrayList<>(kernel.xs.size());
+        for (IdentDef identDef : kernel.xs) {
+            idents.add(identDef.ident);
+        }
+        Scope bodyScope = new Scope(idents, scope);
+        return new LocalInstr(kernel.xs, addressInstr(kernel.body, bodyScope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitModuloInstr(ModuloInstr kernel, Scope scope) {
+        return new ModuloInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitMultiplyInstr(MultiplyInstr kernel, Scope scope) {
+        return new MultiplyInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitNegateInstr(NegateInstr kernel, Scope scope) {
+        return new NegateInstr(address(kernel.a, scope), address(kernel.x, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitNotInstr(NotInstr kernel, Scope scope) {
+        return new NotInstr(address(kernel.a, scope), address(kernel.x, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitObj(Obj kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitOpaqueValue(OpaqueValue kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitProc(Proc kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitProcDef(ProcDef kernel, Scope scope) {
+        return addressProcDef(kernel);
+    }
+
+    @Override
+    public final Kernel visitRec(Rec kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitRecDef(RecDef kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitRecPtn(RecPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedFieldPtn(ResolvedFieldPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedIdentPtn(ResolvedIdentPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitResolvedRecPtn(ResolvedRecPtn kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitScalar(Scalar kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSelectAndApplyInstr(SelectAndApplyInstr kernel, Scope scope) {
+        return new SelectAndApplyInstr(address(kernel.rec, scope), addressAll(kernel.path, scope),
+            addressAll(kernel.args, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitSelectInstr(SelectInstr kernel, Scope scope) {
+        return new SelectInstr(address(kernel.rec, scope), address(kernel.feature, scope),
+            address(kernel.target, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitSeqInstr(SeqInstr kernel, Scope scope) {
+        List<Instr> list = new ArrayList<>(kernel.list.size());
+        for (Instr instr : kernel.list) {
+            list.add(addressInstr(instr, scope));
+        }
+        return new SeqInstr(list, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitSetCellValueInstr(SetCellValueInstr kernel, Scope scope) {
+        return new SetCellValueInstr(address(kernel.cell, scope), address(kernel.value, scope), kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitSkipInstr(SkipInstr kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitStack(Stack kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitSubtractInstr(SubtractInstr kernel, Scope scope) {
+        return new SubtractInstr(address(kernel.a, scope), address(kernel.b, scope), address(kernel.x, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitTailApplyInstr(TailApplyInstr kernel, Scope scope) {
+        return new TailApplyInstr(address(kernel.x, scope), addressAll(kernel.ys, scope), kernel.jumpCatchId,
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitThrowInstr(ThrowInstr kernel, Scope scope) {
+        return new ThrowInstr(address(kernel.error, scope), kernel.nativeCause, kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitTryInstr(TryInstr kernel, Scope scope) {
+        return new TryInstr(addressInstr(kernel.body, scope), addressInstr(kernel.catchInstr, scope),
+            kernel.sourceSpan);
+    }
+
+    @Override
+    public final Kernel visitTupleDef(TupleDef kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitValueDef(ValueDef kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitVar(Var kernel, Scope scope) {
+        return kernel;
+    }
+
+    @Override
+    public final Kernel visitVarSet(VarSet kernel, Scope scope) {
+        return kernel;
+    }
+
+    /*
+     * A scope mirrors one environment whose shape is known statically. A null scope marks the end of the static
+     * scope.
+     */
+    public static final class Scope {
+        private final List<Ident> idents;
+        private final Scope parent;
+
+        private Scope(List<Ident> idents, Scope parent) {
+            this.idents = idents;
+            this.parent = parent;
+        }
+    }
+
+}
@@ -7,14 +7,39 @@
 
 package org.torqlang.klvm;
 
+import java.util.Arrays;
 import java.util.List;
 
+/*
+ * A machine computes the instructions on its stack. The stack is kept in one of two modes:
+ *
+ *   LINKED -- Each entry is an immutable `Stack` node. Pushing an entry allocates a node.
+ *   ARRAY  -- Entries are kept in parallel instruction and environment arrays with a top index. The arrays grow as
+ *             needed and are reused for the life of the machine, so pushing an entry does not allocate. This mode
+ *             suits long-lived machines, such as the machine of an actor, that compute many short instructions.
+ *
+ * Both modes compute the same way. In array mode, `stack()`, `current()` and `popStackEntry()` return `Stack` nodes
+ * created on demand, which are snapshots of the arrays at the time of the call. Use `hasStackEntries()` to test for
+ * an empty stack without creating nodes.
+ */
 public final class Machine {
 
+    private static final int INITIAL_CAPACITY = 16;
+
     private final Object owner;
+    private final StackMode stackMode;
 
+    // LINKED mode
     private Stack stack;
     private Stack current;
+
+    // ARRAY mode
+    private Instr[] instrs;
+    private Env[] envs;
+    private int top;
+    private Instr currentInstr;
+    private Env currentEnv;
+
     private long computeCount;
 
     public Machine(Object owner, Stack stack) {
@@ -22,13 +47,34 @@ public final class Machine {
     }
 
     public Machine(Object owner, Stack stack, long computeCount) {
+        this(owner, stack, computeCount, StackMode.LINKED);
+    }
+
+    public Machine(Object owner, Stack stack, long computeCount, StackMode stackMode) {
         this.owner = owner;
-        this.stack = stack;
         this.computeCount = computeCount;
+        this.stackMode = stackMode;
+        if (stackMode == StackMode.ARRAY) {
+            int size = stack == null ? 0 : stack.size;
+            instrs = new Instr[Math.max(INITIAL_CAPACITY, size)];
+            envs = new Env[instrs.length];
+            top = size;
+            for (Stack s = stack; s != null; s = s.next) {
+                size--;
+                instrs[size] = s.instr;
+                envs[size] = s.env;
+            }
+        } else {
+            this.stack = stack;
+        }
     }
 
     public static void compute(Object owner, Stack stack, long timeSlice) {
-        Machine machine = new Machine(owner, stack);
+        compute(owner, stack, timeSlice, StackMode.LINKED);
+    }
+
+    public static void compute(Object owner, Stack stack, long timeSlice, StackMode stackMode) {
+        Machine machine = new Machine(owner, stack, 0, stackMode);
         ComputeAdvice advice = machine.compute(timeSlice);
         while (advice == ComputePreempt.SINGLETON) {
             advice = machine.compute(timeSlice);
@@ -42,6 +88,61 @@ public final class Machine {
     }
 
     public final ComputeAdvice compute(long timeSlice) {
+        return instrs != null ? computeArray(timeSlice) : computeLinked(timeSlice);
+    }
+
+    /*
+     * Compute in array mode. Entries pushed by an instruction that waits or throws are discarded, the same as in
+     * linked mode, and popped slots are cleared so that the arrays do not keep environments reachable.
+     */
+    private ComputeAdvice computeArray(long timeSlice) {
+        if (top == 0) {
+            return ComputeEnd.SINGLETON;
+        }
+        long computeAllowed = computeCount + timeSlice;
+        while (computeCount < computeAllowed) {
+            computeCount++;
+            int base = --top;
+            currentInstr = instrs[base];
+            currentEnv = envs[base];
+            instrs[base] = null;
+            envs[base] = null;
+            try {
+                currentInstr.compute(currentEnv, this);
+            } catch (WaitException wx) {
+                truncate(base);
+                pushStackEntry(currentInstr, currentEnv);
+                currentInstr = null;
+                currentEnv = null;
+                return new ComputeWait(wx.barrier());
+            } catch (NativeThrow nt) {
+                ThrowInstr ti = new ThrowInstr(nt.error, nt, currentInstr);
+                truncate(base);
+                pushStackEntry(currentInstr, currentEnv);
+                pushStackEntry(ti, currentEnv);
+            } catch (MachineError error) {
+                return error.asComputeHalt(current());
+            } catch (Throwable throwable) {
+                Complete ne = new NativeError(throwable);
+                ThrowInstr ti = new ThrowInstr(ne, throwable, currentInstr);
+                truncate(base);
+                pushStackEntry(currentInstr, currentEnv);
+                pushStackEntry(ti, currentEnv);
+            }
+            if (top == 0) {
+                // INVARIANT: Even though we completed the computation, the fields 'currentInstr' and 'currentEnv'
+                // must hold the last instruction computed.
+                return ComputeEnd.SINGLETON;
+            }
+        }
+        return ComputePreempt.SINGLETON;
+    }
+
+    public final long computeCount() {
+        return computeCount;
+    }
+
+    private ComputeAdvice computeLinked(long timeSlice) {
         if (stack == null) {
             return ComputeEnd.SINGLETON;
         }
@@ -75,20 +176,33 @@ public final class Machine {
         return ComputePreempt.SINGLETON;
     }
 
-    public final long computeCount() {
-        return computeCount;
-    }
-
     public final Stack current() {
+        if (instrs != null) {
+            return currentInstr == null ? null : new Stack(currentInstr, currentEnv, stack());
+        }
         return current;
     }
 
+    public final boolean hasStackEntries() {
+        return instrs != null ? top > 0 : stack != null;
+    }
+
     @SuppressWarnings("unchecked")
     public final <T> T owner() {
         return (T) owner;
     }
 
     final Stack popStackEntry() {
+        if (instrs != null) {
+            if (top == 0) {
+                return null;
+            }
+            top--;
+            Stack entry = new Stack(instrs[top], envs[top], null);
+            instrs[top] = null;
+            envs[top] = null;
+            return entry;
+        }
         Stack entry = stack;
         if (stack != null) {
             stack = stack.next;
@@ -98,27 +212,86 @@ public final class Machine {
 
     public final void pushStackEntries(List<Instr> instrs, Env env) {
         for (int i = instrs.size() - 1; i >= 0; i--) {
-            stack = new Stack(instrs.get(i), env, stack);
+            pushStackEntry(instrs.get(i), env);
         }
     }
 
     public final void pushStackEntry(Instr instr, Env env) {
-        stack = new Stack(instr, env, stack);
+        if (instrs != null) {
+            if (top == instrs.length) {
+                instrs = Arrays.copyOf(instrs, top * 2);
+                envs = Arrays.copyOf(envs, top * 2);
+            }
+            instrs[top] = instr;
+            envs[top] = env;
+            top++;
+        } else {
+            stack = new Stack(instr, env, stack);
+        }
     }
 
     public final Stack stack() {
+        if (instrs != null) {
+            Stack answer = null;
+            for (int i = 0; i < top; i++) {
+                answer = new Stack(instrs[i], envs[i], answer);
+            }
+            return answer;
+        }
         return stack;
     }
 
+    public final StackMode stackMode() {
+        return stackMode;
+    }
+
+    private void truncate(int newTop) {
+        Arrays.fill(instrs, newTop, top, null);
+        Arrays.fill(envs, newTop, top, null);
+        top = newTop;
+    }
+
+    /*
+     * Remove the stack entries down to and including the jump catch instruction with the given id. Leave the stack
+     * unchanged if there is no such instruction.
+     */
+    final void unwindPastJumpCatchInstr(int jumpCatchId) {
+        if (instrs != null) {
+            int i = top - 1;
+            while (i >= 0 && !(instrs[i] instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == jumpCatchId)) {
+                i--;
+            }
+            if (i >= 0) {
+                truncate(i);
+            }
+        } else {
+            Stack s = stack;
+            while (s != null && !(s.instr instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == jumpCatchId)) {
+                s = s.next;
+            }
+            if (s != null) {
+                stack = s.next;
+            }
+        }
+    }
+
     final void unwindToJumpCatchInstr(JumpThrowInstr jumpThrowInstr) {
         int jumpThrowId = jumpThrowInstr.id;
-        while (stack != null) {
-            if (stack.instr instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == jumpThrowId) {
-                break;
+        if (instrs != null) {
+            int i = top - 1;
+            while (i >= 0 && !(instrs[i] instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == jumpThrowId)) {
+                i--;
+            }
+            truncate(i + 1);
+        } else {
+            while (stack != null) {
+                if (stack.instr instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == jumpThrowId) {
+                    break;
+                }
+                stack = stack.next;
             }
-            stack = stack.next;
         }
-        if (stack == null) {
+        if (!hasStackEntries()) {
             // If this condition occurs, we generated an invalid program containing unmatched jump-throw/jump-catch
             // instructions. The field 'current' will hold the instruction that issued the unmatched jump-throw.
             throw new UnmatchedJumpThrowError(jumpThrowInstr);
@@ -126,20 +299,39 @@ public final class Machine {
     }
 
     final void unwindToNextCatchInstr(Complete error, Throwable nativeCause) {
-        while (stack != null) {
-            if (stack.instr instanceof CatchInstr catchInstr) {
-                Env catchEnv = Env.createPrivatelyForKlvm(stack.env,
+        if (instrs != null) {
+            int i = top - 1;
+            while (i >= 0 && !(instrs[i] instanceof CatchInstr)) {
+                i--;
+            }
+            truncate(i + 1);
+            if (i >= 0) {
+                CatchInstr catchInstr = (CatchInstr) instrs[i];
+                envs[i] = Env.createPrivatelyForKlvm(envs[i],
                     new EnvEntry[]{new EnvEntry(catchInstr.arg, new Var(error))});
-                stack = new Stack(catchInstr.caseInstr, catchEnv, stack.next);
-                break;
+                instrs[i] = catchInstr.caseInstr;
+            }
+        } else {
+            while (stack != null) {
+                if (stack.instr instanceof CatchInstr catchInstr) {
+                    Env catchEnv = Env.createPrivatelyForKlvm(stack.env,
+                        new EnvEntry[]{new EnvEntry(catchInstr.arg, new Var(error))});
+                    stack = new Stack(catchInstr.caseInstr, catchEnv, stack.next);
+                    break;
+                }
+                stack = stack.next;
             }
-            stack = stack.next;
         }
-        if (stack == null) {
+        if (!hasStackEntries()) {
             // INVARIANT: Even though we have unwound the stack, the field 'current' still holds the
             // instruction that threw the error.
             throw new UncaughtThrowError(error, nativeCause);
         }
     }
 
+    public enum StackMode {
+        LINKED,
+        ARRAY
+    }
+
 }
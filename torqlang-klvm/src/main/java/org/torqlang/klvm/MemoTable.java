@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/*
+ * Records the pairs of records visited while two values are compared for entailment or unified, so that comparing or
+ * unifying cyclic values terminates.
+ *
+ * Most values are small and acyclic, so memoization is skipped until the comparison reaches `DEPTH_THRESHOLD` nested
+ * records or has visited `NODE_THRESHOLD` pairs of records. Until then, each level passes an immutable marker of its
+ * depth to the next level, and nothing is allocated. The markers belong to a per-thread `Walk`, which counts the pairs
+ * visited since the current comparison began. A cyclic value nests without bound, therefore it always reaches the
+ * depth threshold. A value that shares a record among several fields, such as a diamond, reaches the node threshold
+ * long before the number of paths to the shared record grows. Past either threshold, the pairs are recorded in the
+ * single MemoTable of the comparison, an open-addressed table of identity pairs that does not box its entries. Below
+ * the thresholds, a record shared within a value is compared once for each path that reaches it.
+ *
+ * A comparison that begins while another is in progress on the same thread resets the walk. The outer comparison then
+ * counts its pairs again and starts a new table, which can repeat some comparisons but does not affect termination,
+ * because the depth of each path is carried by its own markers. A comparison has no end that the walk can observe, so
+ * the table of the last deep comparison remains reachable from its thread until the next comparison begins.
+ *
+ * The memos passed through `bindToValue`, `entails` and their relatives are either null at the start of a comparison,
+ * a depth marker, a MemoTable, or a set of `Memo` supplied by a caller.
+ */
+final class MemoTable extends AbstractSet<Memo> {
+
+    static final int DEPTH_THRESHOLD = 16;
+    static final int NODE_THRESHOLD = 1024;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final ThreadLocal<Walk> WALK = ThreadLocal.withInitial(Walk::new);
+
+    // Pairs are stored in adjacent slots: a at 2i, b at 2i + 1
+    private Value[] slots = new Value[INITIAL_CAPACITY * 2];
+    private int size;
+
+    private MemoTable() {
+    }
+
+    private static int indexFor(Value a, Value b, int capacity) {
+        int h = System.identityHashCode(a) * 31 + System.identityHashCode(b);
+        h ^= (h >>> 16);
+        return h & (capacity - 1);
+    }
+
+    /*
+     * Visit the pair of records `a` and `b` and return the memos to pass when visiting their fields. Return null if
+     * the pair was already visited.
+     */
+    static Set<Memo> visit(Set<Memo> memos, Value a, Value b) {
+        if (memos instanceof DepthMarker depthMarker) {
+            Walk walk = depthMarker.walk;
+            if (depthMarker.next != null && walk.nodeCount < NODE_THRESHOLD) {
+                walk.nodeCount++;
+                return depthMarker.next;
+            }
+            return walk.visitTable(a, b);
+        }
+        if (memos == null) {
+            return WALK.get().begin();
+        }
+        if (memos instanceof MemoTable table) {
+            return table.addPair(a, b) ? table : null;
+        }
+        return memos.add(new Memo(a, b)) ? memos : null;
+    }
+
+    /*
+     * Add the pair and return true, or return false if the pair is already present.
+     */
+    final boolean addPair(Value a, Value b) {
+        int capacity = slots.length >> 1;
+        int i = indexFor(a, b, capacity);
+        while (slots[i << 1] != null) {
+            if (slots[i << 1] == a && slots[(i << 1) + 1] == b) {
+                return false;
+            }
+            i = (i + 1) & (capacity - 1);
+        }
+        slots[i << 1] = a;
+        slots[(i << 1) + 1] = b;
+        size++;
+        if (size > capacity >> 1) {
+            resize(capacity << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public final Iterator<Memo> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int i) {
+                while (i < slots.length && slots[i] == null) {
+                    i += 2;
+                }
+                return i;
+            }
+
+            @Override
+            public final boolean hasNext() {
+                return next < slots.length;
+            }
+
+            @Override
+            public final Memo next() {
+                if (next >= slots.length) {
+                    throw new NoSuchElementException("Next element is not present");
+                }
+                Memo memo = new Memo(slots[next], slots[next + 1]);
+                next = advance(next + 2);
+                return memo;
+            }
+        };
+    }
+
+    private void resize(int newCapacity) {
+        Value[] oldSlots = slots;
+        slots = new Value[newCapacity * 2];
+        for (int j = 0; j < oldSlots.length; j += 2) {
+            Value a = oldSlots[j];
+            if (a != null) {
+                Value b = oldSlots[j + 1];
+                int i = indexFor(a, b, newCapacity);
+                while (slots[i << 1] != null) {
+                    i = (i + 1) & (newCapacity - 1);
+                }
+                slots[i << 1] = a;
+                slots[(i << 1) + 1] = b;
+            }
+        }
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    /*
+     * A depth marker is an empty set of memos that tells how many records deep a comparison is.
+     */
+    static final class DepthMarker extends AbstractSet<Memo> {
+
+        final int depth;
+        final Walk walk;
+        private DepthMarker next;
+
+        private DepthMarker(int depth, Walk walk) {
+            this.depth = depth;
+            this.walk = walk;
+        }
+
+        @Override
+        public final Iterator<Memo> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public final int size() {
+            return 0;
+        }
+
+    }
+
+    /*
+     * The state of the comparison in progress on one thread: the pairs visited so far and the table shared by every
+     * path once a threshold is reached.
+     */
+    static final class Walk {
+
+        private final DepthMarker first;
+        private int nodeCount;
+        private MemoTable table;
+
+        private Walk() {
+            // The marker at DEPTH_THRESHOLD has no next marker
+            DepthMarker next = null;
+            for (int depth = DEPTH_THRESHOLD; depth > 0; depth--) {
+                DepthMarker marker = new DepthMarker(depth, this);
+                marker.next = next;
+                next = marker;
+            }
+            first = next;
+        }
+
+        private DepthMarker begin() {
+            nodeCount = 1;
+            table = null;
+            return first;
+        }
+
+        private Set<Memo> visitTable(Value a, Value b) {
+            if (table == null) {
+                table = new MemoTable();
+            }
+            return table.addPair(a, b) ? table : null;
+        }
+
+    }
+
+}
@@ -9,6 +9,10 @@ package org.torqlang.klvm;
 
 import org.torqlang.util.GetStackTrace;
 
+/*
+ * A NativeError is the Torq error value for a Java throwable caught by a machine. Its `stackTrace` field is only
+ * present when the stack trace mode is EAGER. Otherwise, the stack trace is formatted on demand by `stackTrace()`.
+ */
 public final class NativeError extends AbstractCompleteRec {
 
     public static final Str LABEL = Str.of("ERROR");
@@ -22,12 +26,23 @@ public final class NativeError extends AbstractCompleteRec {
         this.throwable = throwable;
         Complete messageValue = throwable.getMessage() != null ? Str.of(throwable.getMessage()) : Null.SINGLETON;
         Str nameValue = Str.of(throwable.getClass().getName());
-        Str stackTraceValue = Str.of(GetStackTrace.apply(throwable, true));
-        restore(LABEL, new CompleteField[]{
-            new CompleteField(MESSAGE, messageValue),
-            new CompleteField(NAME, nameValue),
-            new CompleteField(STACK_TRACE, stackTraceValue)
-        });
+        if (StackTraceSetting.get() == StackTraceMode.EAGER) {
+            Str stackTraceValue = Str.of(stackTrace());
+            restore(LABEL, new CompleteField[]{
+                new CompleteField(MESSAGE, messageValue),
+                new CompleteField(NAME, nameValue),
+                new CompleteField(STACK_TRACE, stackTraceValue)
+            });
+        } else {
+            restore(LABEL, new CompleteField[]{
+                new CompleteField(MESSAGE, messageValue),
+                new CompleteField(NAME, nameValue)
+            });
+        }
+    }
+
+    public final String stackTrace() {
+        return GetStackTrace.apply(throwable, true);
     }
 
     public final Throwable throwable() {
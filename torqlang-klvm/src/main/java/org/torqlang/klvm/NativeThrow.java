@@ -7,11 +7,16 @@
 
 package org.torqlang.klvm;
 
+/*
+ * Native code throws a NativeThrow to throw a Torq error value. The Java stack trace is not captured when the stack
+ * trace mode is NONE.
+ */
 public class NativeThrow extends RuntimeException {
 
     public final Complete error;
 
     public NativeThrow(Complete error) {
+        super(null, null, true, StackTraceSetting.get() != StackTraceMode.NONE);
         this.error = error;
     }
 
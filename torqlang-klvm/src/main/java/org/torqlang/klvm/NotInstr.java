@@ -11,7 +11,7 @@ import org.torqlang.util.SourceSpan;
 
 import java.util.Set;
 
-public final class NotInstr extends AbstractInstr {
+public final class NotInstr extends AbstractInstr implements ValueInstr {
 
     public final CompleteOrIdent a;
     public final Ident x;
@@ -39,12 +39,17 @@ public final class NotInstr extends AbstractInstr {
 
     @Override
     public void compute(Env env, Machine machine) throws WaitException {
-        Value aRes = a.resolveValue(env);
-        Value result = aRes.not();
+        Value result = computeValue(env);
         ValueOrVar xRes = x.resolveValueOrVar(env);
         xRes.bindToValue(result, null);
     }
 
+    @Override
+    public final Value computeValue(Env env) throws WaitException {
+        Value aRes = a.resolveValue(env);
+        return aRes.not();
+    }
+
     public final Ident x() {
         return x;
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+/*
+ * Fast paths for the arithmetic and comparison instructions. Most operands are Int32, Int64 or Flt64 values, and for
+ * those the operation is computed on primitives after a type check, skipping the double dispatch through `Num`. The
+ * results are the same as the double dispatch: two Int32 operands produce an Int32, an Int32 mixed with an Int64
+ * produces an Int64, and two Flt64 operands produce a Flt64. Any other operands take the general path.
+ */
+final class NumOps {
+
+    private static final int NOT_COMPARED = Integer.MIN_VALUE;
+
+    private NumOps() {
+    }
+
+    static Value add(Value a, Value b) {
+        if (a instanceof Int32Impl i && b instanceof Int32Impl j) {
+            return Int32Impl.of(i.value + j.value);
+        }
+        if (isInt(a) && isInt(b)) {
+            return Int64Impl.of(((Num) a).longValue() + ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Flt64Impl.of(f.doubleValue() + g.doubleValue());
+        }
+        return a.add(b);
+    }
+
+    /*
+     * Compare two Int32, Int64 or Flt64 operands, or return `NOT_COMPARED` if the operands need the general path. Flt64
+     * operands are compared with `Double.compare`, the same as `Num.compareValueTo`.
+     */
+    private static int compare(Value a, Value b) {
+        if (isInt(a) && isInt(b)) {
+            return Long.compare(((Num) a).longValue(), ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Double.compare(f.doubleValue(), g.doubleValue());
+        }
+        return NOT_COMPARED;
+    }
+
+    static Value divide(Value a, Value b) {
+        if (a instanceof Int32Impl i && b instanceof Int32Impl j) {
+            return Int32Impl.of(i.value / j.value);
+        }
+        if (isInt(a) && isInt(b)) {
+            return Int64Impl.of(((Num) a).longValue() / ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Flt64Impl.of(f.doubleValue() / g.doubleValue());
+        }
+        return a.divide(b);
+    }
+
+    static Bool greaterThan(Value a, Value b) {
+        int c = compare(a, b);
+        return c != NOT_COMPARED ? Bool.of(c > 0) : a.greaterThan(b);
+    }
+
+    static Bool greaterThanOrEqualTo(Value a, Value b) {
+        int c = compare(a, b);
+        return c != NOT_COMPARED ? Bool.of(c >= 0) : a.greaterThanOrEqualTo(b);
+    }
+
+    private static boolean isInt(Value value) {
+        return value instanceof Int32Impl || value instanceof Int64Impl;
+    }
+
+    static Bool lessThan(Value a, Value b) {
+        int c = compare(a, b);
+        return c != NOT_COMPARED ? Bool.of(c < 0) : a.lessThan(b);
+    }
+
+    static Bool lessThanOrEqualTo(Value a, Value b) {
+        int c = compare(a, b);
+        return c != NOT_COMPARED ? Bool.of(c <= 0) : a.lessThanOrEqualTo(b);
+    }
+
+    static Value modulo(Value a, Value b) {
+        if (a instanceof Int32Impl i && b instanceof Int32Impl j) {
+            return Int32Impl.of(i.value % j.value);
+        }
+        if (isInt(a) && isInt(b)) {
+            return Int64Impl.of(((Num) a).longValue() % ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Flt64Impl.of(f.doubleValue() % g.doubleValue());
+        }
+        return a.modulo(b);
+    }
+
+    static Value multiply(Value a, Value b) {
+        if (a instanceof Int32Impl i && b instanceof Int32Impl j) {
+            return Int32Impl.of(i.value * j.value);
+        }
+        if (isInt(a) && isInt(b)) {
+            return Int64Impl.of(((Num) a).longValue() * ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Flt64Impl.of(f.doubleValue() * g.doubleValue());
+        }
+        return a.multiply(b);
+    }
+
+    static Value subtract(Value a, Value b) {
+        if (a instanceof Int32Impl i && b instanceof Int32Impl j) {
+            return Int32Impl.of(i.value - j.value);
+        }
+        if (isInt(a) && isInt(b)) {
+            return Int64Impl.of(((Num) a).longValue() - ((Num) b).longValue());
+        }
+        if (a instanceof Flt64Impl f && b instanceof Flt64Impl g) {
+            return Flt64Impl.of(f.doubleValue() - g.doubleValue());
+        }
+        return a.subtract(b);
+    }
+
+}
@@ -34,4 +34,12 @@ public interface Obj extends Composite, FormatAsKernelString {
         return getClass().getName();
     }
 
+    /*
+     * Return the procedure table used to select features, or null if this object does not select its features from
+     * a table. Instructions use the table to cache feature lookups across objects of the same class.
+     */
+    default ObjProcTable<?> objProcTable() {
+        return null;
+    }
+
 }
@@ -30,6 +30,14 @@ public interface ObjProcTable<T extends Obj> {
 
     int fieldCount();
 
+    /*
+     * Return the index of the selector, or -1 if this table does not contain the selector. Since tables are immutable,
+     * an index remains valid for the life of the table.
+     */
+    int indexOf(Feature selector);
+
+    ObjProc<T> procAt(int index);
+
     ObjProcBinding<T> selectAndBind(T target, Feature selector);
 
     Proc valueAt(T target, int index);
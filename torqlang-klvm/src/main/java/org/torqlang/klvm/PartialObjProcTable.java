@@ -44,8 +44,19 @@ public final class PartialObjProcTable<T extends PartialObj> implements ObjProcT
     }
 
     @Override
-    public final PartialObjProcBinding<T> selectAndBind(T target, Feature selector) {
+    public final int indexOf(Feature selector) {
         int index = BinarySearchTools.search(entries, e -> FeatureComparator.SINGLETON.compare(selector, e.feature));
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public final PartialObjProc<T> procAt(int index) {
+        return entries[index].objProc;
+    }
+
+    @Override
+    public final PartialObjProcBinding<T> selectAndBind(T target, Feature selector) {
+        int index = indexOf(selector);
         if (index < 0) {
             throw new FeatureNotFoundError(target, selector);
         }
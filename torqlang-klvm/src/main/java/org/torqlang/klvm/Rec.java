@@ -134,18 +134,20 @@ public interface Rec extends Composite, FieldIterSource, ValueIterSource {
         }
         checkDetermined();
         other.checkDetermined();
-        Memo here = new Memo(this, other);
+        memos = MemoTable.visit(memos, this, other);
         if (memos == null) {
-            memos = new HashSet<>();
-        } else if (memos.contains(here)) {
             return true;
         }
-        memos.add(here);
-        if (!this.label().equals(other.label())) {
-            return false;
-        }
-        if (!equalFeatures(other)) {
-            return false;
+        // Complete records with identical arities have equal labels and features
+        if (!(this instanceof CompleteRec thisComplete && other instanceof CompleteRec otherComplete &&
+            thisComplete.arity() == otherComplete.arity()))
+        {
+            if (!this.label().equals(other.label())) {
+                return false;
+            }
+            if (!equalFeatures(other)) {
+                return false;
+            }
         }
         int fc = fieldCount();
         for (int i = 0; i < fc; i++) {
@@ -226,13 +228,10 @@ public interface Rec extends Composite, FieldIterSource, ValueIterSource {
         }
         checkDetermined();
         other.checkDetermined();
-        Memo here = new Memo(this, other);
+        memos = MemoTable.visit(memos, this, other);
         if (memos == null) {
-            memos = new HashSet<>();
-        } else if (memos.contains(here)) {
             return this;
         }
-        memos.add(here);
         if (!this.label().equals(other.label())) {
             throw new UnificationError(this, other.label());
         }
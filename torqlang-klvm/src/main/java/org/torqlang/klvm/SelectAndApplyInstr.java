@@ -20,11 +20,17 @@ public final class SelectAndApplyInstr extends AbstractInstr {
     public final List<FeatureOrIdent> path;
     public final List<CompleteOrIdent> args;
 
+    private final SelectCache[] selectCaches;
+
     public SelectAndApplyInstr(CompleteOrIdent rec, List<FeatureOrIdent> path, List<CompleteOrIdent> args, SourceSpan sourceSpan) {
         super(sourceSpan);
         this.rec = rec;
         this.path = path;
         this.args = nullSafeCopyOf(args);
+        this.selectCaches = new SelectCache[path.size()];
+        for (int i = 0; i < selectCaches.length; i++) {
+            selectCaches[i] = new SelectCache();
+        }
     }
 
     @Override
@@ -46,13 +52,21 @@ public final class SelectAndApplyInstr extends AbstractInstr {
     @Override
     public final void compute(Env env, Machine machine) throws WaitException {
         Value selectedValue = rec.resolveValue(env);
-        for (FeatureOrIdent f : path) {
+        int last = selectCaches.length - 1;
+        for (int i = 0; i < last; i++) {
             Composite composite = (Composite) selectedValue;
-            Feature featureRes = (Feature) f.resolveValue(env);
-            selectedValue = composite.select(featureRes).resolveValue();
+            Feature featureRes = (Feature) path.get(i).resolveValue(env);
+            selectedValue = selectCaches[i].select(composite, featureRes).resolveValue();
         }
-        Proc p = (Proc) selectedValue;
-        p.apply(args, env, machine);
+        Feature featureRes = (Feature) path.get(last).resolveValue(env);
+        selectCaches[last].apply((Composite) selectedValue, featureRes, args, env, machine);
+    }
+
+    /*
+     * Return the cache for the selection at the given path index.
+     */
+    public final SelectCache selectCache(int index) {
+        return selectCaches[index];
     }
 
 }
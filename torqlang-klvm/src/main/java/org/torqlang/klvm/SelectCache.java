@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/*
+ * A polymorphic inline cache for one feature selection site in an instruction. The cache remembers the shapes seen at
+ * the site, where a shape is the arity of a complete record or the procedure table of an object, along with the
+ * feature and the index it resolved to. Arities are interned and procedure tables are shared by all objects of a
+ * class, so a shape is matched by identity and a hit skips the feature search.
+ *
+ * Instructions are shared by every actor spawned from the same image and may execute on many threads at once. The
+ * entries are immutable and replaced as a whole, so a reader always sees a consistent entry. A racing update may lose
+ * an entry, which only costs a later miss. Once the cache holds `MAX_SHAPES` shapes, the site is megamorphic and new
+ * shapes are no longer remembered.
+ *
+ * Hit and miss counts are only kept while profiling is enabled, which keeps counter updates off the hot path.
+ */
+public final class SelectCache {
+
+    public static final int MAX_SHAPES = 4;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final AtomicLongFieldUpdater<SelectCache> HIT_COUNT =
+        AtomicLongFieldUpdater.newUpdater(SelectCache.class, "hitCount");
+    private static final AtomicLongFieldUpdater<SelectCache> MISS_COUNT =
+        AtomicLongFieldUpdater.newUpdater(SelectCache.class, "missCount");
+
+    private static volatile boolean profiling;
+
+    private Entry[] entries = NO_ENTRIES;
+
+    private volatile long hitCount;
+    private volatile long missCount;
+
+    public static boolean isProfiling() {
+        return profiling;
+    }
+
+    public static void setProfiling(boolean profiling) {
+        SelectCache.profiling = profiling;
+    }
+
+    /*
+     * Select the feature and apply the selected procedure. A method call on an object with a procedure table applies
+     * the table procedure directly to the object without creating a binding.
+     */
+    @SuppressWarnings("unchecked")
+    public final void apply(Composite composite, Feature feature, List<CompleteOrIdent> args, Env env, Machine machine)
+        throws WaitException
+    {
+        if (composite instanceof Obj obj) {
+            ObjProcTable<Obj> table = (ObjProcTable<Obj>) obj.objProcTable();
+            if (table != null) {
+                int index = lookup(table, feature);
+                if (index < 0) {
+                    index = table.indexOf(feature);
+                    if (index < 0) {
+                        throw new FeatureNotFoundError(obj, feature);
+                    }
+                    remember(table, feature, index);
+                }
+                table.procAt(index).apply(obj, args, env, machine);
+                return;
+            }
+        }
+        Proc proc = (Proc) select(composite, feature).resolveValue();
+        proc.apply(args, env, machine);
+    }
+
+    public final long hitCount() {
+        return hitCount;
+    }
+
+    /*
+     * Return the fraction of profiled selections that hit the cache, or 0 if no selections were profiled.
+     */
+    public final double hitRate() {
+        long hits = hitCount;
+        long total = hits + missCount;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private int lookup(Object shape, Feature feature) {
+        Entry[] entries = this.entries;
+        for (Entry entry : entries) {
+            // An array published by a racing thread may not show its last element yet
+            if (entry != null && entry.shape == shape && entry.feature == feature) {
+                if (profiling) {
+                    HIT_COUNT.incrementAndGet(this);
+                }
+                return entry.index;
+            }
+        }
+        if (profiling) {
+            MISS_COUNT.incrementAndGet(this);
+        }
+        return -1;
+    }
+
+    public final long missCount() {
+        return missCount;
+    }
+
+    private void remember(Object shape, Feature feature, int index) {
+        Entry[] entries = this.entries;
+        if (entries.length == MAX_SHAPES) {
+            return;
+        }
+        Entry[] next = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, next, 0, entries.length);
+        next[entries.length] = new Entry(shape, feature, index);
+        this.entries = next;
+    }
+
+    /*
+     * Select the feature from a composite. Complete records, excluding tuples whose features are already indexes, are
+     * cached by arity. All other composites select the feature themselves.
+     */
+    public final ValueOrVar select(Composite composite, Feature feature) throws WaitException {
+        if (composite instanceof CompleteRec rec && !(rec instanceof CompleteTuple)) {
+            Arity arity = rec.arity();
+            int index = lookup(arity, feature);
+            if (index < 0) {
+                index = arity.indexOf(feature);
+                if (index < 0) {
+                    throw new FeatureNotFoundError(rec, feature);
+                }
+                remember(arity, feature, index);
+            }
+            return rec.valueAt(index);
+        }
+        return composite.select(feature);
+    }
+
+    /*
+     * Return the number of shapes remembered, which is at most `MAX_SHAPES`.
+     */
+    public final int shapeCount() {
+        return entries.length;
+    }
+
+    private record Entry(Object shape, Feature feature, int index) {
+    }
+
+}
@@ -17,6 +17,8 @@ public final class SelectInstr extends AbstractInstr {
     public final CompleteOrIdent feature;
     public final Ident target;
 
+    private final SelectCache selectCache = new SelectCache();
+
     public SelectInstr(CompleteOrIdent rec, CompleteOrIdent feature, Ident target, SourceSpan sourceSpan) {
         super(sourceSpan);
         this.rec = rec;
@@ -40,7 +42,7 @@ public final class SelectInstr extends AbstractInstr {
     public final void compute(Env env, Machine machine) throws WaitException {
         Composite recRes = (Composite) rec.resolveValue(env);
         Feature featureRes = (Feature) feature.resolveValue(env);
-        ValueOrVar selectedValue = recRes.select(featureRes);
+        ValueOrVar selectedValue = selectCache.select(recRes, featureRes);
 
         // CRITICAL: Within this method, DO NOT resolve identifiers to their Value -- stop at Var. We must unify
         //           on Vars so that matching values become just one value in memory.
@@ -52,4 +54,8 @@ public final class SelectInstr extends AbstractInstr {
         targetVar.bindToValueOrVar(selectedValue, null);
     }
 
+    public final SelectCache selectCache() {
+        return selectCache;
+    }
+
 }
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+/*
+ * How much of a Java stack trace is kept when native code fails inside a machine.
+ */
+public enum StackTraceMode {
+    EAGER,  // a NativeError holds its formatted stack trace in its `stackTrace` field
+    LAZY,   // Java stack traces are kept, but are only formatted when failure details are formatted
+    NONE    // NativeThrow does not capture a Java stack trace, and failure details only show Torq source spans
+}
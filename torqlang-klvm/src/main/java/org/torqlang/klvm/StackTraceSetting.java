@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+/*
+ * The stack trace mode used by `NativeError`, `NativeThrow` and `FailedValue`.
+ *
+ * The initial mode is read from the system property `torq.klvm.stackTraceMode`, and is EAGER if the property is not
+ * set. Capturing and formatting Java stack traces dominates the cost of native errors. Servers that return many
+ * failed values, such as validation failures, can use LAZY or NONE and still report the Torq source context.
+ */
+public final class StackTraceSetting {
+
+    public static final String PROPERTY_NAME = "torq.klvm.stackTraceMode";
+
+    private static volatile StackTraceMode mode = parse(System.getProperty(PROPERTY_NAME));
+
+    private StackTraceSetting() {
+    }
+
+    public static StackTraceMode get() {
+        return mode;
+    }
+
+    static StackTraceMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return StackTraceMode.EAGER;
+        }
+        try {
+            return StackTraceMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException exc) {
+            throw new IllegalArgumentException("Invalid " + PROPERTY_NAME + ": " + value);
+        }
+    }
+
+    public static void set(StackTraceMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode is null");
+        }
+        StackTraceSetting.mode = mode;
+    }
+
+}
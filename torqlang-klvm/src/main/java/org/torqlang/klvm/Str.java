@@ -9,13 +9,18 @@ package org.torqlang.klvm;
 
 import org.torqlang.util.EscapeChar;
 import org.torqlang.util.SourceString;
+import org.torqlang.util.WeakValueInterner;
 
 import java.util.Set;
 
 public final class Str implements Literal {
 
+    // Feature literals, such as record keys, are interned so that comparing equal features is an identity check. This
+    // table must be initialized before any interned constants.
+    private static final WeakValueInterner<String, Str> INTERNED = new WeakValueInterner<>();
+
     private static final CompleteObjProcTable<Str> objProcTable = CompleteObjProcTable.<Str>builder()
-        .addEntry(Str.of("substring"), StrMod::objSubstring)
+        .addEntry(Str.intern("substring"), StrMod::objSubstring)
         .build();
 
     public final String value;
@@ -49,6 +54,14 @@ public final class Str implements Literal {
         }
     }
 
+    /*
+     * Return the interned Str for the given value. Use this method for feature literals and other strings that recur
+     * across many records. Use `Str.of` for arbitrary data.
+     */
+    public static Str intern(String value) {
+        return INTERNED.intern(value, Str::new);
+    }
+
     public static Str of(String value) {
         return new Str(value);
     }
@@ -238,6 +251,11 @@ public final class Str implements Literal {
         return Bool.of(value.compareTo(s.value) <= 0);
     }
 
+    @Override
+    public final CompleteObjProcTable<Str> objProcTable() {
+        return objProcTable;
+    }
+
     @Override
     public final Proc select(Feature feature) {
         return objProcTable.selectAndBind(this, feature);
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.torqlang.util.SourceSpan;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.torqlang.util.ListTools.nullSafeCopyOf;
+
+/*
+ * A tail apply instruction is an apply instruction in tail position of a procedure body that ends with a jump catch.
+ * Nothing remains to compute in the caller after the callee returns, except to jump to the end of the caller.
+ * Therefore, before entering a closure, the instruction removes the caller's remaining stack entries down to and
+ * including the jump catch. Recursive calls then run in constant stack space, and the environments of the removed
+ * entries are no longer reachable.
+ *
+ * The callee is entered only after its arguments are resolved, so the stack is unchanged if the apply fails. Native
+ * procedures may wait during an apply, therefore they are applied without removing stack entries.
+ */
+public final class TailApplyInstr extends AbstractInstr {
+
+    public final CompleteOrIdent x;
+    public final List<CompleteOrIdent> ys;
+    public final int jumpCatchId;
+
+    public TailApplyInstr(CompleteOrIdent x, List<CompleteOrIdent> ys, int jumpCatchId, SourceSpan sourceSpan) {
+        super(sourceSpan);
+        this.x = x;
+        this.ys = nullSafeCopyOf(ys);
+        this.jumpCatchId = jumpCatchId;
+    }
+
+    @Override
+    public final <T, R> R accept(KernelVisitor<T, R> visitor, T state) {
+        return visitor.visitTailApplyInstr(this, state);
+    }
+
+    @Override
+    public final void captureLexicallyFree(Set<Ident> knownBound, Set<Ident> lexicallyFree) {
+        CompleteOrIdent.captureLexicallyFree(x, knownBound, lexicallyFree);
+        for (CompleteOrIdent y : ys) {
+            CompleteOrIdent.captureLexicallyFree(y, knownBound, lexicallyFree);
+        }
+    }
+
+    @Override
+    public final void compute(Env env, Machine machine) throws WaitException {
+        Proc p = (Proc) x.resolveValue(env);
+        if (p instanceof AbstractClosure closure) {
+            Env bodyEnv = closure.createBodyEnv(ys, env);
+            machine.unwindPastJumpCatchInstr(jumpCatchId);
+            machine.pushStackEntry(closure.procDef.instr, bodyEnv);
+        } else {
+            p.apply(ys, env, machine);
+        }
+    }
+
+}
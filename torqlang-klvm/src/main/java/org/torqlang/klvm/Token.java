@@ -8,15 +8,14 @@
 package org.torqlang.klvm;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /*
  * A Token is a final and unforgeable value with no fields.
  */
 public final class Token implements Literal {
 
-    private static final Object LOCK = new Object();
-
-    private static volatile long nextId = 1;
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
 
     /*
      * Practically, an id can never overflow. If we create a Token every nanosecond, we create 31,536,000,000,000,000
@@ -26,9 +25,7 @@ public final class Token implements Literal {
     public final long id;
 
     public Token() {
-        synchronized (LOCK) {
-            id = nextId++;
-        }
+        id = NEXT_ID.getAndIncrement();
     }
 
     @Override
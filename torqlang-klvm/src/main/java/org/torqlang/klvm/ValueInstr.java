@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+/*
+ * An instruction that computes a value from its operands and binds it to its target `x`. A value instruction waits
+ * or fails before it binds its target, so computing it again after a wait or failure is harmless. Fused instructions
+ * rely on this property, and they may compute the value without binding it when the target is a temporary.
+ */
+public interface ValueInstr extends Instr {
+
+    Value computeValue(Env env) throws WaitException;
+
+    Ident x();
+
+}
@@ -49,9 +49,9 @@ public final class Var implements LiteralOrVar {
             }
             return value;
         }
-        if (valueOrVarSet instanceof VarSet thisVarSet) {
+        if (valueOrVarSet instanceof VarSet) {
             // Bind Value to MULTIPLE Var locations (for each Var in VarSet)
-            for (Var varElem : thisVarSet) {
+            for (Var varElem : rootVarSet()) {
                 varElem.valueOrVarSet = value;
                 if (varElem.bindCallback != null) {
                     varElem.bindCallback.onBound(this, value);
@@ -89,27 +89,32 @@ public final class Var implements LiteralOrVar {
             other.bindToValue(thisValue, memos);
             return thisValue;
         }
-        // We now know we must add a Var to a VarSet
+        // We now know we must add a Var to a VarSet, or union two VarSets. Only the Vars being bound are updated. The
+        // other members reach the root of their merged VarSet on their next lookup.
+        if (this == other) {
+            return this;
+        }
         if (valueOrVarSet == VarSet.EMPTY_VAR_SET) {
             if (other.valueOrVarSet == VarSet.EMPTY_VAR_SET) {
                 VarSet pair = VarSet.createPrivatelyForKlvm(new Var[]{this, other}, 2);
                 this.valueOrVarSet = pair;
                 other.valueOrVarSet = pair;
             } else {
-                VarSet plusOne = ((VarSet) other.valueOrVarSet).add(this);
-                for (Var v : plusOne) {
-                    v.valueOrVarSet = plusOne;
-                }
+                VarSet otherRoot = other.rootVarSet();
+                otherRoot.addToRoot(this);
+                this.valueOrVarSet = otherRoot;
             }
         } else if (other.valueOrVarSet == VarSet.EMPTY_VAR_SET) {
-            VarSet plusOne = ((VarSet) valueOrVarSet).add(other);
-            for (Var v : plusOne) {
-                v.valueOrVarSet = plusOne;
-            }
+            VarSet thisRoot = rootVarSet();
+            thisRoot.addToRoot(other);
+            other.valueOrVarSet = thisRoot;
         } else {
-            VarSet union = VarSet.union((VarSet) valueOrVarSet, (VarSet) other.valueOrVarSet);
-            for (Var v : union) {
-                v.valueOrVarSet = union;
+            VarSet thisRoot = rootVarSet();
+            VarSet otherRoot = other.rootVarSet();
+            if (thisRoot != otherRoot) {
+                VarSet root = VarSet.linkRoots(thisRoot, otherRoot);
+                this.valueOrVarSet = root;
+                other.valueOrVarSet = root;
             }
         }
         return this;
@@ -155,6 +160,11 @@ public final class Var implements LiteralOrVar {
         if (valueOrVarSet == operand.valueOrVarSet) {
             return true;
         }
+        if (valueOrVarSet instanceof VarSet && operand.valueOrVarSet instanceof VarSet &&
+            rootVarSet() == operand.rootVarSet())
+        {
+            return true;
+        }
         if (operand.valueOrVarSet instanceof Value operandValue) {
             return entails(operandValue, memos);
         }
@@ -182,6 +192,15 @@ public final class Var implements LiteralOrVar {
             thisValue.checkNotFailedValue() : this;
     }
 
+    /*
+     * Return the root of the VarSet containing this unbound Var, and reference the root directly from now on.
+     */
+    private VarSet rootVarSet() {
+        VarSet root = VarSet.findRoot((VarSet) valueOrVarSet);
+        valueOrVarSet = root;
+        return root;
+    }
+
     public final void setBindCallback(BindCallback bindCallback) {
         this.bindCallback = bindCallback;
     }
@@ -192,7 +211,7 @@ public final class Var implements LiteralOrVar {
     }
 
     public final ValueOrVarSet valueOrVarSet() {
-        return this.valueOrVarSet;
+        return valueOrVarSet instanceof VarSet ? rootVarSet() : valueOrVarSet;
     }
 
 }
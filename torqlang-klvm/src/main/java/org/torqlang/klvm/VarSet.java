@@ -7,19 +7,43 @@
 
 package org.torqlang.klvm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+/*
+ * A VarSet is an equivalence set of unbound variables.
+ *
+ * The static `union` and the `add` methods return new sets and never change an existing set.
+ *
+ * When variables are bound to each other, `Var` keeps its equivalence sets as a union-find forest of VarSet nodes
+ * instead. Each node holds the variables that were added to it directly. To union two sets, the root of lower rank is
+ * linked under the root of higher rank, and the linked root is also recorded as a child so that the set can be
+ * iterated. Variables keep referencing the node they were added to, and `Var` moves them to the root on their next
+ * lookup (path compression). Therefore, binding two variables does not copy or revisit the members of either set.
+ * Only the root of a set answers for the whole set, and it is the node returned by `Var.valueOrVarSet()`.
+ */
 public final class VarSet implements ValueOrVarSet, Iterable<Var> {
 
     public static final VarSet EMPTY_VAR_SET = new VarSet(new Var[0], 0);
 
-    private final Var[] vars;
-    private final int size;
+    private static final VarSet[] NO_CHILDREN = new VarSet[0];
+
+    private Var[] vars;
+    private int size;
+
+    // Union-find state used by `Var`
+    private VarSet parent;
+    private int rank;
+    private VarSet[] children = NO_CHILDREN;
+    private int childCount;
+    private int totalSize;
 
     private VarSet(Var[] vars, int size) {
         this.vars = vars;
         this.size = size;
+        this.totalSize = size;
     }
 
     private static boolean contains(Var[] vars, int size, Var var) {
@@ -35,6 +59,43 @@ public final class VarSet implements ValueOrVarSet, Iterable<Var> {
         return new VarSet(vars, size);
     }
 
+    /*
+     * Return the root of the set containing the given node, and link the nodes along the way directly to the root.
+     */
+    static VarSet findRoot(VarSet node) {
+        VarSet root = node;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        while (node != root) {
+            VarSet next = node.parent;
+            node.parent = root;
+            node = next;
+        }
+        return root;
+    }
+
+    /*
+     * Link the roots of two different sets and return the root of the merged set.
+     */
+    static VarSet linkRoots(VarSet root1, VarSet root2) {
+        if (root1.rank < root2.rank) {
+            VarSet swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        root2.parent = root1;
+        if (root1.childCount == root1.children.length) {
+            root1.children = Arrays.copyOf(root1.children, Math.max(4, root1.childCount * 2));
+        }
+        root1.children[root1.childCount++] = root2;
+        if (root1.rank == root2.rank) {
+            root1.rank++;
+        }
+        root1.totalSize += root2.totalSize;
+        return root1;
+    }
+
     public static VarSet union(VarSet es1, VarSet es2) {
         if (es1 == es2) {
             return es1;
@@ -62,18 +123,40 @@ public final class VarSet implements ValueOrVarSet, Iterable<Var> {
     }
 
     public VarSet add(Var var) {
-        if (contains(vars, size, var)) {
+        if (contains(var)) {
             return this;
         }
-        int newSize = size + 1;
+        int newSize = totalSize + 1;
         Var[] newVars = new Var[newSize];
-        System.arraycopy(vars, 0, newVars, 0, size);
-        newVars[size] = var;
+        int i = 0;
+        for (Var v : this) {
+            newVars[i++] = v;
+        }
+        newVars[i] = var;
         return new VarSet(newVars, newSize);
     }
 
+    /*
+     * Add a variable to the root of a set in place. The caller ensures the variable is not already a member.
+     */
+    final void addToRoot(Var var) {
+        if (size == vars.length) {
+            vars = Arrays.copyOf(vars, Math.max(4, size * 2));
+        }
+        vars[size++] = var;
+        totalSize++;
+    }
+
     public final boolean contains(Var var) {
-        return contains(vars, size, var);
+        if (childCount == 0) {
+            return contains(vars, size, var);
+        }
+        for (Var v : this) {
+            if (v == var) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public final String formatValue() {
@@ -102,7 +185,7 @@ public final class VarSet implements ValueOrVarSet, Iterable<Var> {
     }
 
     public final int size() {
-        return size;
+        return totalSize;
     }
 
     @Override
@@ -110,18 +193,40 @@ public final class VarSet implements ValueOrVarSet, Iterable<Var> {
         return formatValue();
     }
 
+    /*
+     * Iterate the variables of this node and then, depth first, the variables of the roots linked under it.
+     */
     private final class VarSetIterator implements Iterator<Var> {
+        private VarSet node = VarSet.this;
         private int index = 0;
+        private ArrayList<VarSet> pending;
+
+        private boolean advance() {
+            while (index == node.size) {
+                for (int i = 0; i < node.childCount; i++) {
+                    if (pending == null) {
+                        pending = new ArrayList<>();
+                    }
+                    pending.add(node.children[i]);
+                }
+                if (pending == null || pending.isEmpty()) {
+                    return false;
+                }
+                node = pending.remove(pending.size() - 1);
+                index = 0;
+            }
+            return true;
+        }
 
         @Override
         public final boolean hasNext() {
-            return index < size;
+            return advance();
         }
 
         @Override
         public final Var next() {
-            if (index < size) {
-                return vars[index++];
+            if (advance()) {
+                return node.vars[index++];
             }
             throw new NoSuchElementException("Next element is not present");
         }
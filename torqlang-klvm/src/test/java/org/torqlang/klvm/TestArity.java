@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.util.SourceSpan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestArity {
+
+    @Test
+    public void testCreate() {
+        Str a = Str.of("a");
+        Str b = Str.of("b");
+        Str label = Str.of("label");
+
+        Arity arity = Arity.create(label, List.of(b, a));
+        assertSame(arity, Arity.create(Str.of("label"), List.of(a, b)));
+        assertNotSame(arity, Arity.create(null, List.of(a, b)));
+        assertSame(Rec.DEFAULT_LABEL, Arity.create(null, List.of(a, b)).label());
+        assertEquals(label, arity.label());
+        assertEquals(2, arity.fieldCount());
+        assertEquals(a, arity.featureAt(0));
+        assertEquals(b, arity.featureAt(1));
+        assertEquals(0, arity.indexOf(a));
+        assertEquals(1, arity.indexOf(Str.of("b")));
+        assertEquals(-1, arity.indexOf(Str.of("c")));
+        assertFalse(arity.isTupleShape());
+        assertTrue(Arity.create(null, List.of(Int32.of(1), Int32.of(0))).isTupleShape());
+        assertThrows(IllegalArgumentException.class, () -> Arity.create(null, List.of(a, Str.of("a"))));
+    }
+
+    @Test
+    public void testIndexOf() {
+        // Small arities search linearly and large arities use a hash map
+        for (int size : new int[]{3, 30}) {
+            List<Feature> features = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                features.add(Str.of("f" + i));
+                features.add(Int64.of(i + 100));
+            }
+            Arity arity = Arity.create(null, features);
+            for (int i = 0; i < arity.fieldCount(); i++) {
+                assertEquals(i, arity.indexOf(arity.featureAt(i)));
+            }
+            assertTrue(arity.indexOf(Str.of("f0")) > -1);
+            // An Int32 feature finds the Int64 feature with the same value
+            assertEquals(arity.indexOf(Int64.of(100)), arity.indexOf(Int32.of(100)));
+            assertEquals(-1, arity.indexOf(Int32.of(99)));
+            assertEquals(-1, arity.indexOf(Bool.TRUE));
+        }
+    }
+
+    @Test
+    public void testPtn() throws Exception {
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Str label = Str.of("order");
+        Str id = Str.of("id");
+        Str status = Str.of("status");
+        Ident x = Ident.create("x");
+
+        // order#{status: 'open', id: x}
+        RecPtn ptn = new BasicRecPtn(label, List.of(
+            new FieldPtn(status, Str.of("open"), emptySpan),
+            new FieldPtn(id, new IdentPtn(x), emptySpan)
+        ), false, emptySpan);
+
+        CompleteRec open = Rec.completeRecBuilder().setLabel(label)
+            .addField(id, Int32.of(7))
+            .addField(status, Str.of("open"))
+            .build();
+        ValueOrResolvedPtn match = ptn.caseRecOfThis(open, Env.emptyEnv());
+        assertInstanceOf(ResolvedRecPtn.class, match);
+        Env ptnEnv = open.deconstruct(match, Env.emptyEnv());
+        assertEquals(Int32.of(7), ptnEnv.get(x).resolveValue());
+
+        CompleteRec closed = CompleteRec.create(label, List.of(
+            new CompleteField(status, Str.of("closed")),
+            new CompleteField(id, Int32.of(7))
+        ));
+        assertSame(open.arity(), closed.arity());
+        assertNull(ptn.caseRecOfThis(closed, Env.emptyEnv()));
+
+        CompleteRec otherShape = CompleteRec.create(label, List.of(
+            new CompleteField(status, Str.of("open")),
+            new CompleteField(Str.of("ident"), Int32.of(7))
+        ));
+        assertNull(ptn.caseRecOfThis(otherShape, Env.emptyEnv()));
+    }
+
+    @Test
+    public void testRecs() {
+        Str a = Str.of("a");
+        Str b = Str.of("b");
+        Arity arity = Arity.create(null, List.of(a, b));
+
+        CompleteRec r1 = CompleteRec.create(List.of(new CompleteField(b, Int32.of(2)), new CompleteField(a, Int32.of(1))));
+        CompleteRec r2 = Rec.completeRecBuilder().addField(a, Str.of("x")).addField(b, Str.of("y")).build();
+        CompleteRec r3 = CompleteRec.create(arity, List.of(Int32.of(1), Int32.of(2)));
+        assertSame(arity, r1.arity());
+        assertSame(arity, r2.arity());
+        assertSame(arity, r3.arity());
+        assertEquals(r1, r3);
+        assertEquals(Int32.of(2), r3.select(b));
+        assertThrows(IllegalArgumentException.class, () -> CompleteRec.create(arity, List.of(Int32.of(1))));
+
+        // Tuples share the arity of records with the same shape
+        CompleteTuple t1 = CompleteTuple.create(List.of(Str.of("x"), Str.of("y")));
+        CompleteRec t2 = Rec.completeRecBuilder().addField(Int32.of(1), Str.of("y")).addField(Int32.of(0), Str.of("x"))
+            .build();
+        CompleteRec t3 = CompleteRec.create(t1.arity(), List.of(Str.of("x"), Str.of("y")));
+        assertSame(t1.arity(), t2.arity());
+        assertInstanceOf(CompleteTuple.class, t3);
+        assertEquals(t1, t3);
+    }
+
+}
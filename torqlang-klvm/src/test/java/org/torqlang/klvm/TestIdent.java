@@ -77,6 +77,9 @@ public class TestIdent {
 
         assertNotEquals(a, b);
         assertEquals(b, b_2);
+        assertSame(b, b_2);
+        assertSame(Ident.$R, Ident.createPrivately("$r"));
+        assertSame(Ident.createSystemVarIdent(7), Ident.createSystemVarIdent(7));
         //noinspection AssertBetweenInconvertibleTypes
         assertNotEquals(a, Int32.I32_0);
     }
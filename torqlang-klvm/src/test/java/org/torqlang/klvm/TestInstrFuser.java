@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.util.SourceSpan;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestInstrFuser {
+
+    private static final SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+
+    // local $v0 in
+    //     $lt(n, 2, $v0)
+    //     if $v0 then r = 'small' else r = <alternateValue> end
+    // end
+    private static LocalInstr compareAndBranch(Ident alternateValue) {
+        Ident v0 = Ident.createSystemVarIdent(0);
+        return new LocalInstr(List.of(new IdentDef(v0)), new SeqInstr(List.of(
+            new LessThanInstr(Ident.create("n"), Int32.of(2), v0, emptySpan),
+            new IfElseInstr(v0,
+                new BindCompleteToIdentInstr(Str.of("small"), Ident.create("r"), emptySpan),
+                new BindIdentToIdentInstr(alternateValue, Ident.create("r"), emptySpan),
+                emptySpan)
+        ), emptySpan), emptySpan);
+    }
+
+    @Test
+    public void testErrorPropagates() {
+        // A VM error is not mistaken for a wait or a failure. It propagates from the fused instruction unchanged.
+        Machine machine = new Machine(this, null);
+        Env env = Env.emptyEnv();
+        SkipInstr skip = new SkipInstr(emptySpan);
+        FusedSeqInstr seqInstr = new FusedSeqInstr(List.of(new ErrorInstr()), skip, skip);
+        assertThrows(StackOverflowError.class, () -> seqInstr.compute(env, machine));
+        FusedIfElseInstr ifElseInstr = new FusedIfElseInstr(new ErrorInstr(), skip, skip, skip);
+        assertThrows(StackOverflowError.class, () -> ifElseInstr.compute(env, machine));
+    }
+
+    @Test
+    public void testIfElse() {
+        Ident n = Ident.create("n");
+        Ident r = Ident.create("r");
+        Ident large = Ident.create("large");
+
+        // local large in
+        //     large = 'large'
+        //     <compare and branch>
+        // end
+        LocalInstr instr = new LocalInstr(List.of(new IdentDef(large)), new SeqInstr(List.of(
+            new BindCompleteToIdentInstr(Str.of("large"), large, emptySpan),
+            compareAndBranch(large)
+        ), emptySpan), emptySpan);
+        Instr fused = InstrFuser.apply(LexicalAddresser.apply(instr));
+        assertEquals(instr.toString(), fused.toString());
+        FusedIfElseInstr ifElseInstr = (FusedIfElseInstr) ((SeqInstr) ((LocalInstr) fused).body).list.get(1);
+        // The temporary environment is gone, so `large` is addressed one environment closer
+        Ident largeUse = ((BindIdentToIdentInstr) ifElseInstr.alternate).a;
+        assertTrue(largeUse.isAddressed());
+        assertEquals(0, largeUse.depth);
+
+        for (int i = 1; i <= 2; i++) {
+            Var rVar = new Var();
+            Env env = Env.create(new EnvEntry(n, new Var(Int32.of(i))), new EnvEntry(r, rVar));
+            Machine.compute(this, new Stack(fused, env, null), 100);
+            assertEquals(Str.of(i < 2 ? "small" : "large"), rVar.valueOrVarSet());
+        }
+
+        // A test value that is not a Bool fails at the original conditional
+        Env env = Env.create(new EnvEntry(n, new Var(Str.of("one"))), new EnvEntry(r, new Var()));
+        assertThrows(MachineHaltError.class, () -> Machine.compute(this, new Stack(fused, env, null), 100));
+    }
+
+    @Test
+    public void testIfElseUsesTemp() {
+        // A branch that uses the temporary keeps its conditional, and only the comparison is fused
+        Instr instr = compareAndBranch(Ident.createSystemVarIdent(0));
+        Instr fused = InstrFuser.apply(instr);
+        FusedLocalInstr localInstr = (FusedLocalInstr) fused;
+        assertInstanceOf(IfElseInstr.class, localInstr.body.rest);
+        assertEquals(instr.toString(), fused.toString());
+    }
+
+    @Test
+    public void testLocalAndSeq() throws Exception {
+        Ident a = Ident.create("a");
+        Ident b = Ident.create("b");
+        Ident x = Ident.create("x");
+
+        // local b in
+        //     $add(a, 1, b)
+        //     $mult(b, 2, x)
+        //     skip
+        // end
+        LocalInstr instr = new LocalInstr(List.of(new IdentDef(b)), new SeqInstr(List.of(
+            new AddInstr(a, Int32.of(1), b, emptySpan),
+            new MultiplyInstr(b, Int32.of(2), x, emptySpan),
+            new SkipInstr(emptySpan)
+        ), emptySpan), emptySpan);
+        Instr fused = InstrFuser.apply(LexicalAddresser.apply(instr));
+        assertEquals(instr.toString(), fused.toString());
+        FusedLocalInstr localInstr = (FusedLocalInstr) fused;
+        assertEquals(2, localInstr.body.inline.size());
+        assertInstanceOf(SkipInstr.class, localInstr.body.rest);
+
+        // The fused instruction waits at the original instruction and resumes from there
+        Var aVar = new Var();
+        Var xVar = new Var();
+        Env env = Env.create(new EnvEntry(a, aVar), new EnvEntry(x, xVar));
+        Machine machine = new Machine(this, new Stack(fused, env, null));
+        assertTrue(machine.compute(100).isWait());
+        assertInstanceOf(AddInstr.class, machine.stack().instr);
+        aVar.bindToValue(Int32.of(2), null);
+        assertSame(ComputeEnd.SINGLETON, machine.compute(100));
+        assertEquals(Int32.of(6), xVar.valueOrVarSet());
+    }
+
+    @Test
+    public void testSeqWithLaterRun() {
+        Ident a = Ident.create("a");
+        Ident x = Ident.create("x");
+        Ident y = Ident.create("y");
+
+        // skip
+        // $add(a, 1, x)
+        // $add(x, 1, y)
+        SeqInstr instr = new SeqInstr(List.of(
+            new SkipInstr(emptySpan),
+            new AddInstr(a, Int32.of(1), x, emptySpan),
+            new AddInstr(x, Int32.of(1), y, emptySpan)
+        ), emptySpan);
+        SeqInstr fused = (SeqInstr) InstrFuser.apply(instr);
+        assertEquals(instr.toString(), fused.toString());
+        assertEquals(2, fused.list.size());
+        assertNull(((FusedSeqInstr) fused.list.get(1)).rest);
+
+        Var yVar = new Var();
+        Env env = Env.create(List.of(new EnvEntry(a, new Var(Int32.of(1))),
+            new EnvEntry(x, new Var()), new EnvEntry(y, yVar)));
+        Machine.compute(this, new Stack(fused, env, null), 100);
+        assertEquals(Int32.of(3), yVar.valueOrVarSet());
+    }
+
+    private static final class ErrorInstr extends AbstractInstr implements ValueInstr {
+
+        private ErrorInstr() {
+            super(emptySpan);
+        }
+
+        @Override
+        public final <T, R> R accept(KernelVisitor<T, R> visitor, T state) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public final void captureLexicallyFree(Set<Ident> knownBound, Set<Ident> lexicallyFree) {
+        }
+
+        @Override
+        public final void compute(Env env, Machine machine) {
+            throw new StackOverflowError();
+        }
+
+        @Override
+        public final Value computeValue(Env env) {
+            throw new StackOverflowError();
+        }
+
+        @Override
+        public final Ident x() {
+            return Ident.create("x");
+        }
+    }
+
+}
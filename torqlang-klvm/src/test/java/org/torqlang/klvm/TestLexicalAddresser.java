@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.util.SourceSpan;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLexicalAddresser {
+
+    @Test
+    public void testAddressedLocals() {
+
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Ident a = Ident.create("a");
+        Ident b = Ident.create("b");
+        Ident x = Ident.create("x");
+
+        // local a, x in
+        //     a = 3
+        //     local b in
+        //         b = 4
+        //         $add(a, b, x)
+        //     end
+        // end
+        Instr innerBody = new SeqInstr(List.of(
+            new BindCompleteToIdentInstr(Int32.of(4), Ident.create("b"), emptySpan),
+            new AddInstr(Ident.create("a"), Ident.create("b"), Ident.create("x"), emptySpan)
+        ), emptySpan);
+        Instr outerBody = new SeqInstr(List.of(
+            new BindCompleteToIdentInstr(Int32.of(3), Ident.create("a"), emptySpan),
+            new LocalInstr(List.of(new IdentDef(b)), innerBody, emptySpan)
+        ), emptySpan);
+        LocalInstr instr = new LocalInstr(List.of(new IdentDef(a), new IdentDef(x)), outerBody, emptySpan);
+
+        LocalInstr addressed = (LocalInstr) LexicalAddresser.apply(instr);
+        assertEquals(instr.toString(), addressed.toString());
+
+        SeqInstr addressedOuter = (SeqInstr) addressed.body;
+        LocalInstr addressedInner = (LocalInstr) addressedOuter.list.get(1);
+        AddInstr addInstr = (AddInstr) ((SeqInstr) addressedInner.body).list.get(1);
+        Ident aUse = (Ident) addInstr.a;
+        Ident bUse = (Ident) addInstr.b;
+        assertTrue(aUse.isAddressed());
+        assertEquals(1, aUse.depth);
+        assertEquals(0, aUse.slot);
+        assertSame(a, aUse.decl);
+        assertTrue(bUse.isAddressed());
+        assertEquals(0, bUse.depth);
+        assertEquals(0, bUse.slot);
+        assertTrue(addInstr.x.isAddressed());
+        assertEquals(1, addInstr.x.depth);
+        assertEquals(1, addInstr.x.slot);
+
+        // Compute the addressed instructions and verify the result through the root environment
+        Ident result = Ident.create("result");
+        Var resultVar = new Var();
+        Env rootEnv = Env.create(new EnvEntry(result, resultVar));
+        Instr bindResult = new LocalInstr(List.of(new IdentDef(Ident.create("y"))), new SeqInstr(List.of(
+            new BindIdentToIdentInstr(Ident.create("y"), result, emptySpan),
+            new BindCompleteToIdentInstr(Int32.of(7), Ident.create("y"), emptySpan)
+        ), emptySpan), emptySpan);
+        Instr program = new SeqInstr(List.of(addressed, LexicalAddresser.apply(bindResult)), emptySpan);
+        Machine.compute(this, new Stack(program, rootEnv, null), 100);
+        assertEquals(Int32.of(7), resultVar.valueOrVarSet());
+    }
+
+    @Test
+    public void testShadowing() throws WaitException {
+
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Ident result = Ident.create("result");
+        Var resultVar = new Var();
+        Env rootEnv = Env.create(new EnvEntry(result, resultVar));
+
+        // local a in
+        //     a = 1
+        //     local a in
+        //         a = 2
+        //         result = a
+        //     end
+        // end
+        Instr innerBody = new SeqInstr(List.of(
+            new BindCompleteToIdentInstr(Int32.of(2), Ident.create("a"), emptySpan),
+            new BindIdentToIdentInstr(Ident.create("a"), result, emptySpan)
+        ), emptySpan);
+        Instr outerBody = new SeqInstr(List.of(
+            new BindCompleteToIdentInstr(Int32.of(1), Ident.create("a"), emptySpan),
+            new LocalInstr(List.of(new IdentDef(Ident.create("a"))), innerBody, emptySpan)
+        ), emptySpan);
+        LocalInstr instr = new LocalInstr(List.of(new IdentDef(Ident.create("a"))), outerBody, emptySpan);
+
+        Machine.compute(this, new Stack(LexicalAddresser.apply(instr), rootEnv, null), 100);
+        assertEquals(Int32.of(2), resultVar.resolveValue());
+    }
+
+    @Test
+    public void testRootIsUnaddressed() {
+
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Ident a = Ident.create("a");
+        Ident x = Ident.create("x");
+
+        // Identifiers bound outside the generated instructions are resolved by name
+        AddInstr instr = new AddInstr(a, Int32.of(1), x, emptySpan);
+        AddInstr addressed = (AddInstr) LexicalAddresser.apply(instr);
+        assertFalse(((Ident) addressed.a).isAddressed());
+        assertFalse(addressed.x.isAddressed());
+
+        Var xVar = new Var();
+        Env env = Env.create(new EnvEntry(a, new Var(Int32.of(2))), new EnvEntry(x, xVar));
+        Machine.compute(this, new Stack(addressed, env, null), 100);
+        assertEquals(Int32.of(3), xVar.valueOrVarSet());
+    }
+
+}
@@ -10,18 +10,119 @@ package org.torqlang.klvm;
 import org.junit.jupiter.api.Test;
 import org.torqlang.util.SourceSpan;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestMachine {
 
+    @Test
+    public void testArrayStack() throws Exception {
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Ident a = Ident.create("a");
+        Ident x = Ident.create("x");
+
+        // Push more entries than the initial capacity, followed by an instruction that waits
+        List<Instr> list = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            list.add(new SkipInstr(emptySpan));
+        }
+        AddInstr addInstr = new AddInstr(a, Int32.of(1), x, emptySpan);
+        list.add(addInstr);
+        list.add(new SkipInstr(emptySpan));
+        Var aVar = new Var();
+        Var xVar = new Var();
+        Env env = Env.create(new EnvEntry(a, aVar), new EnvEntry(x, xVar));
+        Machine machine = new Machine(this, new Stack(new SeqInstr(list, emptySpan), env, null), 0,
+            Machine.StackMode.ARRAY);
+        assertEquals(Machine.StackMode.ARRAY, machine.stackMode());
+        ComputeAdvice advice = machine.compute(1);
+        assertEquals(ComputePreempt.SINGLETON, advice);
+        assertEquals(42, machine.stack().size);
+
+        // The waiting instruction stays on top of the stack
+        advice = machine.compute(100);
+        assertTrue(advice.isWait());
+        assertSame(aVar, ((ComputeWait) advice).barrier);
+        assertNull(machine.current());
+        assertSame(addInstr, machine.stack().instr);
+        assertEquals(2, machine.stack().size);
+        assertEquals(42, machine.computeCount());
+
+        aVar.bindToValue(Int32.of(2), null);
+        advice = machine.compute(100);
+        assertEquals(ComputeEnd.SINGLETON, advice);
+        assertFalse(machine.hasStackEntries());
+        assertNull(machine.stack());
+        assertInstanceOf(SkipInstr.class, machine.current().instr);
+        assertEquals(Int32.of(3), xVar.valueOrVarSet());
+
+        // A native error that is not caught halts the machine at the instruction that failed
+        DivideInstr divideInstr = new DivideInstr(Int32.of(1), Int32.of(0), x, emptySpan);
+        machine = new Machine(this, new Stack(divideInstr, Env.create(new EnvEntry(x, new Var())), null), 0,
+            Machine.StackMode.ARRAY);
+        advice = machine.compute(100);
+        assertTrue(advice.isHalt());
+        assertInstanceOf(ArithmeticException.class, ((ComputeHalt) advice).nativeCause);
+    }
+
+    @Test
+    public void testStackTraceMode() {
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Ident x = Ident.create("x");
+        StackTraceMode previous = StackTraceSetting.get();
+        try {
+            for (StackTraceMode mode : StackTraceMode.values()) {
+                StackTraceSetting.set(mode);
+                DivideInstr divideInstr = new DivideInstr(Int32.of(1), Int32.of(0), x, emptySpan);
+                Machine machine = new Machine(this, new Stack(divideInstr,
+                    Env.create(new EnvEntry(x, new Var())), null), 0);
+                ComputeHalt halt = (ComputeHalt) machine.compute(100);
+                NativeError nativeError = (NativeError) halt.uncaughtThrow;
+                assertInstanceOf(ArithmeticException.class, nativeError.throwable());
+                assertEquals(Str.of(ArithmeticException.class.getName()), nativeError.findValue(NativeError.NAME));
+                assertTrue(nativeError.stackTrace().contains("ArithmeticException"));
+                FailedValue failedValue = new FailedValue("test", nativeError, halt.current, null,
+                    halt.nativeCause);
+                String details = failedValue.toDetailsString();
+                assertTrue(details.contains("Source context:"));
+                if (mode == StackTraceMode.EAGER) {
+                    assertInstanceOf(Str.class, nativeError.findValue(NativeError.STACK_TRACE));
+                } else {
+                    assertNull(nativeError.findValue(NativeError.STACK_TRACE));
+                }
+                if (mode == StackTraceMode.NONE) {
+                    assertTrue(details.contains("Native cause: java.lang.ArithmeticException"));
+                    assertFalse(details.contains("stack trace"));
+                    assertEquals(0, new NativeThrow(Str.of("error")).getStackTrace().length);
+                } else {
+                    assertTrue(details.contains("Native cause with stack trace:"));
+                    assertNotEquals(0, new NativeThrow(Str.of("error")).getStackTrace().length);
+                }
+            }
+        } finally {
+            StackTraceSetting.set(previous);
+        }
+        assertEquals(StackTraceMode.LAZY, StackTraceSetting.parse(" lazy "));
+        assertEquals(StackTraceMode.EAGER, StackTraceSetting.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> StackTraceSetting.parse("bogus"));
+    }
+
     @Test
     public void testTimeSlicing() {
+        for (Machine.StackMode stackMode : Machine.StackMode.values()) {
+            testTimeSlicing(stackMode);
+        }
+    }
+
+    private void testTimeSlicing(Machine.StackMode stackMode) {
 
         // 1 instr and 1 time slice
         Env emptyEnv = Env.emptyEnv();
         Instr skip = new SkipInstr(SourceSpan.emptySourceSpan());
         Stack stack = new Stack(skip, emptyEnv, null);
-        Machine machine = new Machine(this, stack);
+        Machine machine = new Machine(this, stack, 0, stackMode);
         ComputeAdvice advice = machine.compute(1);
         assertEquals(ComputeEnd.SINGLETON, advice);
         assertNull(machine.stack()); // Popping 1 instr should leave a null stack
@@ -36,7 +137,7 @@ public class TestMachine {
         emptyEnv = Env.emptyEnv();
         skip = new SkipInstr(SourceSpan.emptySourceSpan());
         stack = new Stack(skip, emptyEnv, null);
-        machine = new Machine(this, stack);
+        machine = new Machine(this, stack, 0, stackMode);
         advice = machine.compute(0);
         assertEquals(ComputePreempt.SINGLETON, advice);
         assertNotNull(machine.stack());
@@ -53,7 +154,7 @@ public class TestMachine {
         stack = new Stack(skip, emptyEnv, null);
         stack = new Stack(skip, emptyEnv, stack);
         stack = new Stack(skip, emptyEnv, stack);
-        machine = new Machine(this, stack);
+        machine = new Machine(this, stack, 0, stackMode);
         advice = machine.compute(2);
         assertEquals(ComputePreempt.SINGLETON, advice);
         assertNotNull(machine.stack());
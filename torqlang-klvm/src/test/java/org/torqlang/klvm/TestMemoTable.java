@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMemoTable {
+
+    /*
+     * Create a record `{'a': 0, 'next': <record>}` whose field `next` refers back to the record itself.
+     */
+    private static Rec createCycle() throws WaitVarException {
+        Var next = new Var();
+        Rec rec = Rec.partialRecBuilder()
+            .addField(Str.of("a"), Int32.I32_0)
+            .addField(Str.of("next"), next)
+            .build();
+        next.bindToValue(rec, null);
+        return rec;
+    }
+
+    /*
+     * Create a chain of `depth` nested records `{'a': 0, 'next': ...}` that ends with `last`.
+     */
+    private static Complete createChain(int depth, Complete last) {
+        Complete rec = last;
+        for (int i = 0; i < depth; i++) {
+            rec = Rec.completeRecBuilder()
+                .addField(Str.of("a"), Int32.of(i))
+                .addField(Str.of("next"), rec)
+                .build();
+        }
+        return rec;
+    }
+
+    /*
+     * Create `depth` nested records `{'left': <record>, 'right': <record>}` whose two fields refer to the same record
+     * at every level. The value has 2^depth paths to `last` but only `depth` records.
+     */
+    private static Complete createDiamond(int depth, Complete last) {
+        Complete rec = last;
+        for (int i = 0; i < depth; i++) {
+            rec = Rec.completeRecBuilder()
+                .addField(Str.of("left"), rec)
+                .addField(Str.of("right"), rec)
+                .build();
+        }
+        return rec;
+    }
+
+    @Test
+    public void testCyclicEntails() throws Exception {
+        Rec cycle1 = createCycle();
+        Rec cycle2 = createCycle();
+        assertTrue(cycle1.entails(cycle2, null));
+        assertTrue(cycle2.entails(cycle1, null));
+    }
+
+    @Test
+    public void testCyclicUnify() throws Exception {
+        Rec cycle1 = createCycle();
+        Rec cycle2 = createCycle();
+        assertNotNull(cycle1.bindToValue(cycle2, null));
+    }
+
+    @Test
+    public void testDeepAcyclic() throws Exception {
+        int depth = MemoTable.DEPTH_THRESHOLD * 4;
+        assertTrue(createChain(depth, Str.of("end")).entails(createChain(depth, Str.of("end")), null));
+        assertFalse(createChain(depth, Str.of("end")).entails(createChain(depth, Str.of("END")), null));
+    }
+
+    @Test
+    public void testSharedDiamond() throws Exception {
+        // Comparing each path separately would visit 2^40 pairs of records
+        int depth = 40;
+        assertTrue(createDiamond(depth, Str.of("end")).entails(createDiamond(depth, Str.of("end")), null));
+        assertFalse(createDiamond(depth, Str.of("end")).entails(createDiamond(depth, Str.of("END")), null));
+        Rec diamond1 = (Rec) createDiamond(depth, Str.of("end"));
+        Rec diamond2 = (Rec) createDiamond(depth, Str.of("end"));
+        assertNotNull(diamond1.bindToValue(diamond2, null));
+    }
+
+    @Test
+    public void testVisitNodeThreshold() {
+        Value a = Str.of("a");
+        Value b = Str.of("b");
+        Set<Memo> root = MemoTable.visit(null, a, b);
+        for (int i = 1; i < MemoTable.NODE_THRESHOLD; i++) {
+            assertInstanceOf(MemoTable.DepthMarker.class, MemoTable.visit(root, Int32.of(i), a));
+        }
+        // Past the threshold, sibling paths share one table
+        Set<Memo> table = MemoTable.visit(root, a, b);
+        assertInstanceOf(MemoTable.class, table);
+        assertNull(MemoTable.visit(root, a, b));
+        assertSame(table, MemoTable.visit(root, b, a));
+        // A new comparison starts over
+        assertInstanceOf(MemoTable.DepthMarker.class, MemoTable.visit(null, a, b));
+    }
+
+    @Test
+    public void testVisit() {
+        Value a = Str.of("a");
+        Value b = Str.of("b");
+        // Nothing is recorded until the threshold
+        Set<Memo> memos = null;
+        for (int i = 0; i < MemoTable.DEPTH_THRESHOLD; i++) {
+            memos = MemoTable.visit(memos, a, b);
+            assertInstanceOf(MemoTable.DepthMarker.class, memos);
+            assertEquals(0, memos.size());
+        }
+        // Past the threshold, pairs are recorded once
+        Set<Memo> table = MemoTable.visit(memos, a, b);
+        assertInstanceOf(MemoTable.class, table);
+        assertNull(MemoTable.visit(table, a, b));
+        assertSame(table, MemoTable.visit(table, b, a));
+        for (int i = 0; i < 100; i++) {
+            assertSame(table, MemoTable.visit(table, Int32.of(i), a));
+        }
+        assertEquals(102, table.size());
+        for (int i = 0; i < 100; i++) {
+            assertNull(MemoTable.visit(table, Int32.of(i), a));
+        }
+        assertTrue(table.contains(new Memo(b, a)));
+        // A set of memos supplied by a caller is still honored
+        Set<Memo> supplied = new HashSet<>();
+        assertSame(supplied, MemoTable.visit(supplied, a, b));
+        assertNull(MemoTable.visit(supplied, a, b));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestNumOps {
+
+    private static final List<Value> OPERANDS = List.of(
+        Int32.of(0), Int32.of(7), Int32.of(-3), Int32.of(Integer.MAX_VALUE), Int32.of(Integer.MIN_VALUE),
+        Int64.of(0), Int64.of(7), Int64.of(-3), Int64.of(Long.MAX_VALUE),
+        Flt64.of(0.0), Flt64.of(-0.0), Flt64.of(2.5), Flt64.of(Double.NaN),
+        Flt32.of(1.5f), Char.of('a'), Dec128.of("1.25")
+    );
+
+    private static void assertSameResult(Value expected, Value actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        // NaN is not equal to itself, so compare the formatted values
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testArithmetic() {
+        // The fast paths produce the same types and values as the double dispatch through `Num`
+        for (Value a : OPERANDS) {
+            for (Value b : OPERANDS) {
+                if (a instanceof Dec128 != b instanceof Dec128) {
+                    assertThrows(IllegalArgumentException.class, () -> NumOps.add(a, b));
+                    continue;
+                }
+                assertSameResult(a.add(b), NumOps.add(a, b));
+                assertSameResult(a.subtract(b), NumOps.subtract(a, b));
+                assertSameResult(a.multiply(b), NumOps.multiply(a, b));
+                // Integer division by zero throws, but floating point division by an integer zero does not
+                if (a instanceof Int64 && b instanceof Int64 int64 && int64.longValue() == 0) {
+                    assertThrows(ArithmeticException.class, () -> NumOps.divide(a, b));
+                    assertThrows(ArithmeticException.class, () -> NumOps.modulo(a, b));
+                    continue;
+                }
+                assertSameResult(a.divide(b), NumOps.divide(a, b));
+                assertSameResult(a.modulo(b), NumOps.modulo(a, b));
+            }
+        }
+    }
+
+    @Test
+    public void testCache() {
+        assertSame(Int32.of(-128), NumOps.subtract(Int32.of(0), Int32.of(128)));
+        assertSame(Int32.of(1023), NumOps.add(Int32.of(1000), Int32.of(23)));
+        assertNotSame(Int32.of(1024), NumOps.add(Int32.of(1000), Int32.of(24)));
+        assertSame(Int64.of(-128), NumOps.subtract(Int64.of(0), Int64.of(128)));
+        assertSame(Int64.of(1023), NumOps.add(Int64.of(1000), Int32.of(23)));
+        assertNotSame(Int64.of(-129), NumOps.subtract(Int64.of(0), Int64.of(129)));
+    }
+
+    @Test
+    public void testCompare() {
+        for (Value a : OPERANDS) {
+            for (Value b : OPERANDS) {
+                if (a instanceof Dec128 != b instanceof Dec128) {
+                    continue;
+                }
+                assertSame(a.lessThan(b), NumOps.lessThan(a, b));
+                assertSame(a.lessThanOrEqualTo(b), NumOps.lessThanOrEqualTo(a, b));
+                assertSame(a.greaterThan(b), NumOps.greaterThan(a, b));
+                assertSame(a.greaterThanOrEqualTo(b), NumOps.greaterThanOrEqualTo(a, b));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> NumOps.lessThan(Int32.of(1), Str.of("a")));
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.klvm;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.util.SourceSpan;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSelectCache {
+
+    @Test
+    public void testApply() throws Exception {
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Str substring = Str.of("substring");
+        Ident s = Ident.create("s");
+        Ident x = Ident.create("x");
+
+        // s.substring(1, x)
+        SelectAndApplyInstr instr = new SelectAndApplyInstr(s, List.of(substring), List.of(Int64.of(1), x),
+            emptySpan);
+        SelectCache.setProfiling(true);
+        try {
+            for (String value : List.of("abc", "xyz")) {
+                Var xVar = new Var();
+                Env env = Env.create(new EnvEntry(s, new Var(Str.of(value))), new EnvEntry(x, xVar));
+                instr.compute(env, null);
+                assertEquals(Str.of(value.substring(1)), xVar.resolveValue());
+            }
+        } finally {
+            SelectCache.setProfiling(false);
+        }
+        // Every Str shares one procedure table
+        SelectCache cache = instr.selectCache(0);
+        assertEquals(1, cache.shapeCount());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate());
+
+        SelectAndApplyInstr notFound = new SelectAndApplyInstr(s, List.of(Str.of("length")), List.of(x), emptySpan);
+        Env env = Env.create(new EnvEntry(s, new Var(Str.of("abc"))), new EnvEntry(x, new Var()));
+        assertThrows(FeatureNotFoundError.class, () -> notFound.compute(env, null));
+    }
+
+    @Test
+    public void testPath() throws Exception {
+        SourceSpan emptySpan = SourceSpan.emptySourceSpan();
+        Str inner = Str.of("inner");
+        Str substring = Str.of("substring");
+        Ident r = Ident.create("r");
+        Ident x = Ident.create("x");
+
+        // r.inner.substring(0, 1, x)
+        SelectAndApplyInstr instr = new SelectAndApplyInstr(r, List.of(inner, substring),
+            List.of(Int64.of(0), Int64.of(1), x), emptySpan);
+        CompleteRec rec = Rec.completeRecBuilder().addField(inner, Str.of("abc")).build();
+        Var xVar = new Var();
+        instr.compute(Env.create(new EnvEntry(r, new Var(rec)), new EnvEntry(x, xVar)), null);
+        assertEquals(Str.of("a"), xVar.resolveValue());
+        assertEquals(1, instr.selectCache(0).shapeCount());
+        assertEquals(1, instr.selectCache(1).shapeCount());
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        Str a = Str.of("a");
+        Str b = Str.of("b");
+        SelectCache cache = new SelectCache();
+
+        SelectCache.setProfiling(true);
+        try {
+            CompleteRec r1 = Rec.completeRecBuilder().addField(a, Int32.of(1)).addField(b, Int32.of(2)).build();
+            CompleteRec r2 = Rec.completeRecBuilder().addField(b, Int32.of(3)).addField(a, Int32.of(4)).build();
+            assertEquals(Int32.of(2), cache.select(r1, b));
+            // A record with the same shape hits the cache
+            assertEquals(Int32.of(3), cache.select(r2, b));
+            assertEquals(1, cache.shapeCount());
+            assertEquals(1, cache.hitCount());
+            assertEquals(1, cache.missCount());
+            // An equal but not identical feature misses the cache and still finds the value
+            assertEquals(Int32.of(3), cache.select(r2, Str.of("b")));
+            assertEquals(2, cache.missCount());
+            assertThrows(FeatureNotFoundError.class, () -> cache.select(r1, Str.of("c")));
+        } finally {
+            SelectCache.setProfiling(false);
+        }
+
+        // A megamorphic site stops remembering shapes
+        for (int i = 0; i < SelectCache.MAX_SHAPES * 2; i++) {
+            CompleteRec rec = Rec.completeRecBuilder().addField(Int32.of(i + 10), Int32.of(i)).addField(b, Int32.of(i))
+                .build();
+            assertEquals(Int32.of(i), cache.select(rec, b));
+        }
+        assertEquals(SelectCache.MAX_SHAPES, cache.shapeCount());
+        // Counts are not kept while profiling is disabled
+        assertEquals(1, cache.hitCount());
+
+        // Tuples and partial records select their own features
+        CompleteTuple tuple = CompleteTuple.create(List.of(Str.of("x"), Str.of("y")));
+        assertEquals(Str.of("y"), cache.select(tuple, Int32.of(1)));
+        Rec partial = Rec.partialRecBuilder().addField(a, new Var()).build();
+        assertInstanceOf(Var.class, cache.select(partial, a));
+    }
+
+}
@@ -10,7 +10,9 @@ package org.torqlang.klvm;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +31,36 @@ public class TestToken {
         assertTrue(t.appendToString("X-").startsWith("X-$token"));
     }
 
+    @Test
+    public void testConcurrentIds() throws Exception {
+        int threadCount = 8;
+        int tokensPerThread = 10_000;
+        long[][] ids = new long[threadCount][tokensPerThread];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            long[] threadIds = ids[i];
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < tokensPerThread; j++) {
+                    threadIds[j] = new Token().id;
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Set<Long> unique = new HashSet<>();
+        for (long[] threadIds : ids) {
+            for (int j = 0; j < tokensPerThread; j++) {
+                assertTrue(unique.add(threadIds[j]));
+                if (j > 0) {
+                    assertTrue(threadIds[j] > threadIds[j - 1]);
+                }
+            }
+        }
+        assertEquals(threadCount * tokensPerThread, unique.size());
+    }
+
     @Test
     public void testEntails() throws WaitException {
         assertFalse(t1.entails(t2).value);
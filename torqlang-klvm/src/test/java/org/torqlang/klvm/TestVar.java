@@ -100,6 +100,39 @@ public class TestVar {
         assertEquals(Int32.I32_0, v1.valueOrVarSet());
     }
 
+    @Test
+    public void testBindToVarChain() throws Exception {
+        // Bind a chain of pairs so that each bind merges two VarSets
+        int count = 1_000;
+        IntegerCounter counter = new IntegerCounter(0);
+        BindCallback bindCallback = (var, value) -> counter.add(1);
+        Var[] vars = new Var[count];
+        for (int i = 0; i < count; i++) {
+            vars[i] = new Var();
+            vars[i].setBindCallback(bindCallback);
+        }
+        for (int i = 1; i < count; i += 2) {
+            vars[i].bindToVar(vars[i - 1], null);
+        }
+        for (int i = 2; i < count; i += 2) {
+            vars[i].bindToVar(vars[i - 2], null);
+        }
+        // Binding two members of the same VarSet changes nothing
+        vars[0].bindToVar(vars[count - 1], null);
+        VarSet vs = (VarSet) vars[0].valueOrVarSet();
+        assertEquals(count, vs.size());
+        for (Var v : vars) {
+            assertSame(vs, v.valueOrVarSet());
+            assertTrue(vs.contains(v));
+        }
+        assertTrue(vars[1].entailsVar(vars[count - 2], null));
+        vars[count - 1].bindToValue(Int32.I32_1, null);
+        assertEquals(count, counter.get());
+        for (Var v : vars) {
+            assertEquals(Int32.I32_1, v.valueOrVarSet());
+        }
+    }
+
     @Test
     public void testBindToVarWithDifferentValues() {
         Var v1 = new Var(Int32.I32_0);
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.lang;
+
+import org.torqlang.klvm.Ident;
+import org.torqlang.util.NeedsImpl;
+
+import java.util.Set;
+
+/*
+ * The language elements that type inference does not support yet. Each method throws NeedsImpl. Validator and
+ * UnionFindValidator override the methods for the elements they support, which are the same in both.
+ */
+abstract class AbstractValidator<S, R> implements LangVisitor<S, R> {
+
+    static final Set<Ident> ILLEGAL_IDENTS = Set.of(
+        Ident.create("ActorCfg"),
+        Ident.create("ActorCtor"),
+        Ident.create("Array"),
+        Ident.create("Bool"),
+        Ident.create("Char"),
+        Ident.create("Comp"),
+        Ident.create("Dec128"),
+        Ident.create("Feat"),
+        Ident.create("Func"),
+        Ident.create("Flt32"),
+        Ident.create("Flt64"),
+        Ident.create("Int32"),
+        Ident.create("Int64"),
+        Ident.create("Lit"),
+        Ident.create("Meth"),
+        Ident.create("Null"),
+        Ident.create("Obj"),
+        Ident.create("Proc"),
+        Ident.create("Rec"),
+        Ident.create("Tuple"),
+        Ident.create("Value"),
+        Ident.create("Void")
+    );
+
+    @Override
+    public R visitActExpr(ActExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitActorExpr(ActorExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitActorStmt(ActorStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitAndExpr(AndExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitAskStmt(AskStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitBreakStmt(BreakStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitCaseClause(CaseClause lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitCaseLang(CaseLang lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitCatchClause(CatchClause lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitContinueStmt(ContinueStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitDotSelectExpr(DotSelectExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFeatureAsPat(FeatureAsPat lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFieldExpr(FieldExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFieldPat(FieldPat lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFieldType(FieldType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitForStmt(ForStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFuncExpr(FuncExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitFuncType(FuncType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitGroupExpr(GroupExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIdentAsProtocolType(IdentAsProtocolType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIdentAsType(IdentAsType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIfClause(IfClause lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitImportName(ImportName lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitImportStmt(ImportStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIndexSelectExpr(IndexSelectExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIntersectionProtocolType(IntersectionProtocolType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitIntersectionType(IntersectionType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitLocalLang(LocalLang lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitMetaField(MetaField lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitMetaRec(MetaRec lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitMetaTuple(MetaTuple lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitModuleStmt(ModuleStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitNewExpr(NewExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitObjType(ObjType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitOrExpr(OrExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitPackageStmt(PackageStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProcExpr(ProcExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProcStmt(ProcStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProcType(ProcType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProductExpr(ProductExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolStmt(ProtocolStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolTypeAskHandler(ProtocolTypeAskHandler lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolTypeCtor(ProtocolTypeCtor lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolTypeStreamHandler(ProtocolTypeStreamHandler lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolTypeStruct(ProtocolTypeStruct lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitProtocolTypeTellHandler(ProtocolTypeTellHandler lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRecExpr(RecExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRecPat(RecPat lang, S scope) {
+        // TODO: Destructure record into current typeEnv, bringing new identifiers into scope
+        //       This implies that the caller created a nestedTypeEnv appropriately.
+        //       See visitIdentAsPat()
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRecType(RecType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRecTypeExpr(RecTypeExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRelationalExpr(RelationalExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitRespondStmt(RespondStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitReturnStmt(ReturnStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitScalarAsType(ScalarAsType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitSelectAndApplyLang(SelectAndApplyLang lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitSetCellValueStmt(SetCellValueStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitSkipStmt(SkipStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitSpawnExpr(SpawnExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTellStmt(TellStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitThrowLang(ThrowLang lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTryLang(TryLang lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTupleExpr(TupleExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTuplePat(TuplePat lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTupleType(TupleType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTupleTypeExpr(TupleTypeExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTypeCtor(TypeCtor lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTypeDecl(TypeDecl lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTypeParam(TypeParam lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitTypeStmt(TypeStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitUnaryExpr(UnaryExpr lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitUnionType(UnionType lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+    @Override
+    public R visitWhileStmt(WhileStmt lang, S scope) {
+        throw new NeedsImpl();
+    }
+
+}
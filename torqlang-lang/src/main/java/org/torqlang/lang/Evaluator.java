@@ -153,6 +153,8 @@ public final class Evaluator implements EvaluatorInit, EvaluatorReady, Evaluator
         Instr instr = (Instr) kernel;
         if (debugInstrListener != null) {
             instr = new DebugInstr(debugInstrListener, instr, env, instr);
+        } else {
+            instr = InstrFuser.apply(instr);
         }
         Stack stack = new Stack(instr, env, null);
         Machine.compute(this, stack, timeSlice);
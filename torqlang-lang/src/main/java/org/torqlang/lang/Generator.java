@@ -12,7 +12,10 @@ import org.torqlang.util.NeedsImpl;
 import org.torqlang.util.SourceSpan;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import static org.torqlang.klvm.CommonFeatures.$NEW;
 import static org.torqlang.klvm.CommonFeatures.$TYPE;
@@ -86,6 +89,9 @@ public final class Generator implements LangVisitor<LocalTarget, CompleteOrIdent
     private int nextSystemAnonymousSuffix = 0;
     private int nextSystemVarSuffix = 0;
 
+    // Apply instructions compiled from calls in the source, as opposed to applies of procedures we generate
+    private final Set<ApplyInstr> callInstrs = Collections.newSetFromMap(new IdentityHashMap<>());
+
     private static IdentAsPat assertIdentAsPatNotEscaped(Pat pat) {
         if (pat instanceof IdentAsPat identAsPat) {
             if (identAsPat.escaped) {
@@ -145,10 +151,15 @@ public final class Generator implements LangVisitor<LocalTarget, CompleteOrIdent
         return new SeqLang(List.of(errorVar, errorBind, errorThrow), lang);
     }
 
+    private static boolean isReturnJump(Instr instr) {
+        return instr instanceof JumpThrowInstr jumpThrowInstr && jumpThrowInstr.id == RETURN_ID ||
+            instr instanceof JumpCatchInstr jumpCatchInstr && jumpCatchInstr.id == RETURN_ID;
+    }
+
     public final Instr acceptExpr(StmtOrExpr stmtOrExpr, Ident exprIdent) {
         LocalTarget target = LocalTarget.createExprTargetForRoot(exprIdent);
         stmtOrExpr.accept(this, target);
-        return target.build();
+        return LexicalAddresser.apply(target.build());
     }
 
     private Ident acceptOfferedIdentOrNextSystemVarIdent(LocalTarget target) {
@@ -175,7 +186,7 @@ public final class Generator implements LangVisitor<LocalTarget, CompleteOrIdent
     public final Instr acceptStmt(StmtOrExpr stmtOrExpr) {
         LocalTarget target = LocalTarget.createStmtTargetForRoot();
         stmtOrExpr.accept(this, target);
-        return target.build();
+        return LexicalAddresser.apply(target.build());
     }
 
     final Ident allocateNextSystemAnonymousIdent() {
@@ -439,9 +450,62 @@ public final class Generator implements LangVisitor<LocalTarget, CompleteOrIdent
             bodyTarget.addInstr(new JumpCatchInstr(RETURN_ID, sourceSpan.toSourceEnd()));
         }
         Instr bodyInstr = bodyTarget.build();
+        if (bodyTarget.isReturnUsed()) {
+            bodyInstr = markTailCalls(bodyInstr, false);
+        }
         return new ProcDef(xs, bodyInstr, sourceSpan);
     }
 
+    /*
+     * A procedure body that uses `return` ends with a jump catch. The jump catch stays on the stack while the body
+     * computes, so a recursive call, even in tail position, grows the stack by one entry per call. Replace each call in
+     * tail position with a tail apply that removes the caller's stack entries, down to and including the jump catch,
+     * before entering the callee. A call is in tail position if it is last in the body or if it is followed by a
+     * `return` jump.
+     *
+     * Only instructions that compute in the caller's own frame are searched. Procedures we generate for loops, `else`
+     * branches, and `finally` blocks may jump to the caller's jump catch, so neither their bodies nor their applies are
+     * changed. Try instructions are not searched because their catch must remain on the stack.
+     */
+    private Instr markTailCalls(Instr instr, boolean tail) {
+        if (instr instanceof ApplyInstr applyInstr) {
+            if (tail && callInstrs.contains(applyInstr)) {
+                return new TailApplyInstr(applyInstr.x, applyInstr.ys, RETURN_ID, applyInstr.sourceSpan);
+            }
+            return instr;
+        }
+        if (instr instanceof SeqInstr seqInstr) {
+            List<Instr> list = new ArrayList<>(seqInstr.list.size());
+            for (int i = 0; i < seqInstr.list.size(); i++) {
+                boolean elementTail = i + 1 < seqInstr.list.size()
+                    ? isReturnJump(seqInstr.list.get(i + 1))
+                    : tail;
+                list.add(markTailCalls(seqInstr.list.get(i), elementTail));
+            }
+            return new SeqInstr(list, seqInstr.sourceSpan);
+        }
+        if (instr instanceof LocalInstr localInstr) {
+            return new LocalInstr(localInstr.xs, markTailCalls(localInstr.body, tail), localInstr.sourceSpan);
+        }
+        if (instr instanceof IfElseInstr ifElseInstr) {
+            return new IfElseInstr(ifElseInstr.x, markTailCalls(ifElseInstr.consequent, tail),
+                markTailCalls(ifElseInstr.alternate, tail), ifElseInstr.sourceSpan);
+        }
+        if (instr instanceof IfInstr ifInstr) {
+            return new IfInstr(ifInstr.x, markTailCalls(ifInstr.consequent, tail), ifInstr.sourceSpan);
+        }
+        if (instr instanceof CaseElseInstr caseElseInstr) {
+            return new CaseElseInstr(caseElseInstr.x, caseElseInstr.valueOrPtn,
+                markTailCalls(caseElseInstr.consequent, tail), markTailCalls(caseElseInstr.alternate, tail),
+                caseElseInstr.sourceSpan);
+        }
+        if (instr instanceof CaseInstr caseInstr) {
+            return new CaseInstr(caseInstr.x, caseInstr.valueOrPtn, markTailCalls(caseInstr.consequent, tail),
+                caseInstr.sourceSpan);
+        }
+        return instr;
+    }
+
     final Ident toIdentOrNextAnonymousIdent(Ident ident) {
         return ident.isAnonymous() ? allocateNextSystemAnonymousIdent() : ident;
     }
@@ -517,7 +581,9 @@ public final class Generator implements LangVisitor<LocalTarget, CompleteOrIdent
         if (exprIdent != null) {
             ys.add(exprIdent);
         }
-        childTarget.addInstr(new ApplyInstr(proc, ys, lang));
+        ApplyInstr applyInstr = new ApplyInstr(proc, ys, lang);
+        callInstrs.add(applyInstr);
+        childTarget.addInstr(applyInstr);
         target.addInstr(childTarget.build());
         return exprIdent;
     }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * A monotype used by UnionFindValidator. Type variables are mutable union-find nodes: binding a variable links it to
+ * its representative instead of recording a substitution that must later be applied to every type.
+ *
+ * A MutableInfr is converted to an immutable MonoInfr only when results are reported.
+ */
+interface MutableInfr {
+
+    /*
+     * Add the unbound type variables with a level greater than the given level to the given set, in order of first
+     * appearance.
+     */
+    void captureVarsAbove(int level, Set<VarInfr> vars);
+
+    /*
+     * Return the representative of this type, compressing the path to it.
+     */
+    MutableInfr find();
+
+    /*
+     * Return the representative of this type without compressing the path to it. Unification uses this method so
+     * that bindings recorded on a trail can be undone exactly.
+     */
+    MutableInfr resolve();
+
+    /*
+     * Return the immutable monotype represented by this type.
+     */
+    MonoInfr toMonoInfr();
+}
+
+final class MutableAppInfr implements MutableInfr {
+
+    final AppInfr appInfr;
+    final List<MutableInfr> params;
+
+    /*
+     * The given AppInfr supplies the type constructor, and the given params replace its params.
+     */
+    MutableAppInfr(AppInfr appInfr, List<MutableInfr> params) {
+        this.appInfr = appInfr;
+        this.params = params;
+    }
+
+    @Override
+    public final void captureVarsAbove(int level, Set<VarInfr> vars) {
+        for (MutableInfr param : params) {
+            param.find().captureVarsAbove(level, vars);
+        }
+    }
+
+    @Override
+    public final MutableInfr find() {
+        return this;
+    }
+
+    @Override
+    public final MutableInfr resolve() {
+        return this;
+    }
+
+    @Override
+    public final MonoInfr toMonoInfr() {
+        if (params.isEmpty()) {
+            return appInfr;
+        }
+        if (appInfr instanceof FuncInfr) {
+            List<MonoInfr> monoParams = new ArrayList<>(params.size());
+            for (MutableInfr param : params) {
+                monoParams.add(param.find().toMonoInfr());
+            }
+            return FuncInfr.create(monoParams);
+        }
+        throw new IllegalStateException("Cannot convert type: " + appInfr);
+    }
+
+    @Override
+    public final String toString() {
+        return toMonoInfr().toString();
+    }
+}
+
+final class MutableVarInfr implements MutableInfr {
+
+    final String name;
+    int level;
+    MutableInfr link;
+
+    MutableVarInfr(String name, int level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    @Override
+    public final void captureVarsAbove(int level, Set<VarInfr> vars) {
+        MutableInfr rep = find();
+        if (rep != this) {
+            rep.captureVarsAbove(level, vars);
+        } else if (this.level > level) {
+            vars.add(VarInfr.create(name));
+        }
+    }
+
+    /*
+     * Find the representative iteratively, then point every variable along the path directly at it.
+     */
+    @Override
+    public final MutableInfr find() {
+        MutableInfr answer = resolve();
+        MutableInfr next = this;
+        while (next != answer) {
+            MutableVarInfr varInfr = (MutableVarInfr) next;
+            next = varInfr.link;
+            varInfr.link = answer;
+        }
+        return answer;
+    }
+
+    @Override
+    public final MutableInfr resolve() {
+        MutableInfr answer = this;
+        while (answer instanceof MutableVarInfr varInfr && varInfr.link != null) {
+            answer = varInfr.link;
+        }
+        return answer;
+    }
+
+    @Override
+    public final MonoInfr toMonoInfr() {
+        MutableInfr rep = find();
+        return rep != this ? rep.toMonoInfr() : VarInfr.create(name);
+    }
+
+    @Override
+    public final String toString() {
+        return toMonoInfr().toString();
+    }
+}
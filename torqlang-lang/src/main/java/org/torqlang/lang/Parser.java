@@ -996,7 +996,7 @@ public final class Parser {
         if (current.isStr()) {
             nextToken(); // accept STR token
             String substring = Str.unquote(current.source(), current.sourceBegin(), current.sourceEnd());
-            return new StrAsExpr(Str.of(substring), current);
+            return new StrAsExpr(Str.intern(substring), current);
         }
         if (current.isIdent()) {
             LexerToken next = nextToken(); // accept IDENT token
@@ -1151,7 +1151,7 @@ public final class Parser {
         if (current.isStr()) {
             LexerToken next = nextToken(); // accept Str token
             String substring = Str.unquote(current.source(), current.sourceBegin(), current.sourceEnd());
-            StrAsPat strAsPat = new StrAsPat(Str.of(substring), current);
+            StrAsPat strAsPat = new StrAsPat(Str.intern(substring), current);
             if (next.isOneCharSymbol(HASH_TAG_CHAR)) {
                 return parseStructPat(strAsPat);
             }
@@ -2102,7 +2102,7 @@ public final class Parser {
         if (current.isStr()) {
             LexerToken next = nextToken(); // accept STR token
             String substring = Str.unquote(current.source(), current.sourceBegin(), current.sourceEnd());
-            StrAsExpr strAsExpr = new StrAsExpr(Str.of(substring), current);
+            StrAsExpr strAsExpr = new StrAsExpr(Str.intern(substring), current);
             if (next.isOneCharSymbol(HASH_TAG_CHAR)) {
                 return parseStructExpr(strAsExpr);
             }
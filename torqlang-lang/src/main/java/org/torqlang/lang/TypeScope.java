@@ -20,6 +20,10 @@ public final class TypeScope {
         this.monoType = monoType;
     }
 
+    public static TypeScope create(TypeEnv typeEnv, MonoInfr monoType) {
+        return new TypeScope(typeEnv, monoType);
+    }
+
     // TODO: Rename to `rho`
     public final MonoInfr monoType() {
         return monoType;
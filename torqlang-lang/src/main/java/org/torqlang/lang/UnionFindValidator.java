@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.lang;
+
+import org.torqlang.klvm.Ident;
+import org.torqlang.klvm.Int32;
+import org.torqlang.util.ListTools;
+import org.torqlang.util.NeedsImpl;
+
+import java.util.*;
+
+import static org.torqlang.lang.TypeEnv.ADD_IDENT;
+import static org.torqlang.lang.TypeEnv.SUBTRACT_IDENT;
+
+/*
+ * UnionFindValidator is an alternative inference engine for the rules implemented by Validator. Unless it is made
+ * polymorphic, it infers the same types and reports the same errors, but it does not compose substitutions. Because
+ * its bindings are always fully resolved, it may detect a conflict at an earlier language element than Validator.
+ *
+ * Validator follows Algorithm M literally. Each step returns an immutable TypeSubst that the caller combines with its
+ * own and applies to the type environment and to the remaining types. Combining copies every mapping, and applying
+ * rebuilds every type in the environment, so the cost of inference grows quadratically with the number of type
+ * variables.
+ *
+ * Union-find type variables
+ *
+ *     Type variables are mutable nodes (MutableVarInfr). Unifying a variable with a type links the variable to that
+ *     type, and every holder of the variable sees the binding at once. There is nothing to combine and nothing to
+ *     apply. Finding the representative of a variable compresses the path to it.
+ *
+ *     Unification binds variables in the same direction as TypeSubst.unify(), and fresh variables are drawn from the
+ *     SuffixFactory in the same order as Validator draws them. Therefore, the representatives, and the names printed
+ *     for unbound variables, are the same. When unification fails, the bindings it made are undone before the error
+ *     is reported so that the error describes the types as they were before the failed attempt.
+ *
+ * Levels
+ *
+ *     Every type variable records the level at which it was created. Entering a function definition increments the
+ *     current level, and binding a variable lowers the level of each variable in the bound type to the level of the
+ *     variable being bound. After leaving a definition, the variables whose level is still greater than the current
+ *     level are exactly the variables not free in the enclosing environment, which makes generalization proportional
+ *     to the size of the type rather than the size of the environment.
+ *
+ *     By default, function names are bound to monomorphic types, like Validator. Constructed with `polymorphic` set
+ *     to true, UnionFindValidator generalizes the type of each function statement after its body is inferred. The
+ *     quantified variables are marked with a generic level, and each reference to the function instantiates them
+ *     with fresh type variables. The function types added to the given type environment are reported as quantified
+ *     types. See generalize().
+ *
+ * Results
+ *
+ *     infer() accepts the same TypeScope as Validator and returns a TypeSubst for the type variables present in the
+ *     given monotype and type environment. Like Validator, it adds the declarations of the outermost scope to the given
+ *     type environment and applies the inferred types to the type environment.
+ */
+public final class UnionFindValidator extends AbstractValidator<UnionFindValidator.InfrScope, Void> {
+
+    private static final int GENERIC_LEVEL = Integer.MAX_VALUE;
+    private static final int OUTER_LEVEL = 0;
+
+    private static final FuncInfr FUNC_CTOR = FuncInfr.create(List.of());
+
+    private static final MutableInfr BOOL = new MutableAppInfr(ScalarInfr.BOOL, List.of());
+    private static final MutableInfr INT32 = new MutableAppInfr(ScalarInfr.INT32, List.of());
+    private static final MutableInfr INT64 = new MutableAppInfr(ScalarInfr.INT64, List.of());
+    private static final MutableInfr STR = new MutableAppInfr(ScalarInfr.STR, List.of());
+    private static final MutableInfr VOID = new MutableAppInfr(ScalarInfr.VOID, List.of());
+
+    private final SuffixFactory suffixFactory;
+    private final boolean polymorphic;
+    private final Map<String, MutableVarInfr> freeVars = new LinkedHashMap<>();
+    private final List<MutableVarInfr> trail = new ArrayList<>();
+    private int level = OUTER_LEVEL;
+
+    public UnionFindValidator() {
+        this(new SuffixFactory());
+    }
+
+    public UnionFindValidator(SuffixFactory suffixFactory) {
+        this(suffixFactory, false);
+    }
+
+    public UnionFindValidator(SuffixFactory suffixFactory, boolean polymorphic) {
+        this.suffixFactory = suffixFactory;
+        this.polymorphic = polymorphic;
+    }
+
+    private void bind(MutableVarInfr varInfr, MutableInfr type) {
+        occursCheckAndAdjustLevels(varInfr, type);
+        varInfr.link = type;
+        trail.add(varInfr);
+    }
+
+    private MutableInfr createFuncType(Lang lang, List<Pat> params, Type returnType, InfrEnv env) {
+        List<MutableInfr> paramsInfr = new ArrayList<>(params.size() + 1);
+        for (Pat param : params) {
+            if (param instanceof IdentAsPat identAsPat) {
+                paramsInfr.add(resolveTypeAnno(identAsPat, identAsPat.type, env));
+            } else {
+                paramsInfr.add(nextBetaVar());
+            }
+        }
+        paramsInfr.add(resolveTypeAnno(lang, returnType, env));
+        return new MutableAppInfr(FUNC_CTOR, paramsInfr);
+    }
+
+    final void enterLevel() {
+        level++;
+    }
+
+    /*
+     * Quantify the type variables in the given type that were created at a level deeper than the current level.
+     */
+    final PolyInfr generalize(MutableInfr type) {
+        Set<VarInfr> vars = new LinkedHashSet<>();
+        type.captureVarsAbove(level, vars);
+        MonoInfr monoType = type.toMonoInfr();
+        return vars.isEmpty() ? monoType : QuantInfr.create(List.copyOf(vars), monoType);
+    }
+
+    /*
+     * Infer the type of the given language element in the given scope.
+     */
+    public final TypeSubst infer(Lang lang, TypeScope scope) {
+        freeVars.clear();
+        level = OUTER_LEVEL;
+        TypeEnv typeEnv = scope.typeEnv();
+        InfrEnv rootEnv = new InfrEnv(typeEnv);
+        lang.accept(this, new InfrScope(rootEnv, toMutableInfr(scope.monoType(), Map.of())));
+        Map<VarInfr, MonoInfr> mappings = new HashMap<>();
+        for (MutableVarInfr varInfr : freeVars.values()) {
+            if (varInfr.find() != varInfr) {
+                mappings.put(VarInfr.create(varInfr.name), varInfr.toMonoInfr());
+            }
+        }
+        TypeSubst subst = TypeSubst.create(mappings);
+        subst.apply(typeEnv);
+        for (Map.Entry<Ident, MutableInfr> entry : rootEnv.mappings.entrySet()) {
+            MutableInfr type = entry.getValue();
+            typeEnv.put(entry.getKey(), polymorphic ? generalize(type) : type.toMonoInfr());
+        }
+        return subst;
+    }
+
+    /*
+     * Return a fresh instance of the type assigned to the given identifier, or null if the identifier is not defined.
+     * Types declared during inference are returned as is, unless they contain generic type variables, which are
+     * replaced with fresh type variables. Types found in the given TypeEnv are converted, and their quantifiers are
+     * replaced with fresh type variables.
+     */
+    private MutableInfr instantiate(Ident ident, InfrEnv env) {
+        for (InfrEnv e = env; e != null; e = e.parent) {
+            MutableInfr type = e.mappings.get(ident);
+            if (type != null) {
+                return polymorphic ? instantiateGeneric(type, new HashMap<>()) : type;
+            }
+            if (e.typeEnv != null) {
+                PolyInfr polyType = e.typeEnv.get(ident);
+                if (polyType == null) {
+                    return null;
+                }
+                if (polyType instanceof QuantInfr quantInfr) {
+                    Map<String, MutableInfr> quantVars = new HashMap<>();
+                    for (VarInfr quantifier : quantInfr.quantifiers()) {
+                        quantVars.put(quantifier.name(), nextBetaVar());
+                    }
+                    return toMutableInfr(quantInfr.monoType(), quantVars);
+                }
+                return toMutableInfr((MonoInfr) polyType, Map.of());
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Copy the given type, replacing its generic type variables with fresh type variables and sharing all others.
+     */
+    private MutableInfr instantiateGeneric(MutableInfr type, Map<MutableVarInfr, MutableInfr> freshVars) {
+        MutableInfr rep = type.find();
+        if (rep instanceof MutableVarInfr varInfr) {
+            return varInfr.level == GENERIC_LEVEL ? freshVars.computeIfAbsent(varInfr, v -> nextBetaVar()) : varInfr;
+        }
+        MutableAppInfr appInfr = (MutableAppInfr) rep;
+        if (appInfr.params.isEmpty()) {
+            return appInfr;
+        }
+        List<MutableInfr> params = new ArrayList<>(appInfr.params.size());
+        for (MutableInfr param : appInfr.params) {
+            params.add(instantiateGeneric(param, freshVars));
+        }
+        return new MutableAppInfr(appInfr.appInfr, params);
+    }
+
+    final void leaveLevel() {
+        level--;
+    }
+
+    final MutableVarInfr nextBetaVar() {
+        return new MutableVarInfr(suffixFactory.nextBetaVar().name(), level);
+    }
+
+    private void occursCheckAndAdjustLevels(MutableVarInfr varInfr, MutableInfr type) {
+        MutableInfr rep = type.resolve();
+        if (rep == varInfr) {
+            throw new IllegalArgumentException("Occurs check failed, cannot create an infinite type");
+        }
+        if (rep instanceof MutableVarInfr repVar) {
+            if (repVar.level > varInfr.level) {
+                repVar.level = varInfr.level;
+            }
+        } else {
+            for (MutableInfr param : ((MutableAppInfr) rep).params) {
+                occursCheckAndAdjustLevels(varInfr, param);
+            }
+        }
+    }
+
+    /*
+     * Mark the unbound type variables in the given type that were created at a level deeper than the current level as
+     * generic. They are not free in the enclosing environment.
+     */
+    private void quantify(MutableInfr type) {
+        MutableInfr rep = type.find();
+        if (rep instanceof MutableVarInfr varInfr) {
+            if (varInfr.level > level) {
+                varInfr.level = GENERIC_LEVEL;
+            }
+        } else {
+            for (MutableInfr param : ((MutableAppInfr) rep).params) {
+                quantify(param);
+            }
+        }
+    }
+
+    private MutableInfr resolveTypeAnno(Lang lang, Type type, InfrEnv env) {
+        if (type != null) {
+            // Like Validator, resolve type identifiers only
+            MutableInfr declaredType;
+            if (type instanceof IdentAsType identAsType) {
+                declaredType = instantiate(identAsType.ident(), env);
+            } else {
+                throw new NeedsImpl();
+            }
+            if (declaredType == null) {
+                throw new TypeNotFoundError(lang);
+            }
+            return declaredType;
+        } else {
+            return nextBetaVar();
+        }
+    }
+
+    /*
+     * Convert a type from a TypeEnv. Type variables named in the given map are replaced. All other type variables
+     * are free in the TypeEnv and are shared across the inference so that their bindings can be reported.
+     */
+    private MutableInfr toMutableInfr(MonoInfr monoType, Map<String, MutableInfr> quantVars) {
+        if (monoType instanceof VarInfr varInfr) {
+            MutableInfr quantVar = quantVars.get(varInfr.name());
+            if (quantVar != null) {
+                return quantVar;
+            }
+            return freeVars.computeIfAbsent(varInfr.name(), name -> new MutableVarInfr(name, OUTER_LEVEL));
+        }
+        if (monoType instanceof AppInfr appInfr) {
+            List<MonoInfr> params = appInfr.params();
+            List<MutableInfr> mutableParams = new ArrayList<>(params.size());
+            for (MonoInfr param : params) {
+                mutableParams.add(toMutableInfr(param, quantVars));
+            }
+            return new MutableAppInfr(appInfr, mutableParams);
+        }
+        throw new IllegalArgumentException("Cannot convert type: " + monoType);
+    }
+
+    private void undoTrail() {
+        for (MutableVarInfr varInfr : trail) {
+            varInfr.link = null;
+        }
+    }
+
+    /*
+     * Unify the representatives of the given types. Paths are not compressed during unification so that undoing the
+     * trail restores every variable exactly.
+     */
+    private void unify(MutableInfr a, MutableInfr b) {
+        a = a.resolve();
+        b = b.resolve();
+        if (a == b) {
+            return;
+        }
+        if (a instanceof MutableVarInfr aVar) {
+            bind(aVar, b);
+            return;
+        }
+        if (b instanceof MutableVarInfr bVar) {
+            bind(bVar, a);
+            return;
+        }
+        MutableAppInfr aApp = (MutableAppInfr) a;
+        MutableAppInfr bApp = (MutableAppInfr) b;
+        if (aApp.appInfr.getClass() == bApp.appInfr.getClass() &&
+            aApp.appInfr.name().equals(bApp.appInfr.name()) &&
+            aApp.params.size() == bApp.params.size())
+        {
+            for (int i = 0; i < aApp.params.size(); i++) {
+                unify(aApp.params.get(i), bApp.params.get(i));
+            }
+        } else {
+            throw new TypeUnificationError(aApp.appInfr, bApp.appInfr);
+        }
+    }
+
+    private void unify(Lang origin, MutableInfr expected, MutableInfr provided) {
+        try {
+            unify(expected.find(), provided.find());
+        } catch (TypeUnificationError error) {
+            undoTrail();
+            throw new TypeConflictError(origin, expected.toMonoInfr(), provided.toMonoInfr());
+        } finally {
+            trail.clear();
+        }
+    }
+
+    @Override
+    public final Void visitApplyLang(ApplyLang lang, InfrScope scope) {
+        return visitFuncApp(lang, scope.env(), new LangOrIdent(lang.proc, null), lang.args, scope.rho());
+    }
+
+    @Override
+    public final Void visitBeginLang(BeginLang lang, InfrScope scope) {
+        return lang.body.accept(this, new InfrScope(new InfrEnv(scope.env()), scope.rho()));
+    }
+
+    private Void visitFuncApp(Lang origin, InfrEnv env, LangOrIdent func, List<StmtOrExpr> args, MutableInfr rho) {
+        List<MutableInfr> betas = new ArrayList<>(args.size() + 1);
+        for (int i = 0; i < args.size(); i++) {
+            betas.add(nextBetaVar());
+        }
+        betas.add(rho);
+        MutableInfr funcType = new MutableAppInfr(FUNC_CTOR, betas);
+        if (func.ident() != null) {
+            unify(origin, funcType, instantiate(func.ident(), env));
+        } else {
+            func.lang().accept(this, new InfrScope(env, funcType));
+        }
+        for (int i = 0; i < args.size(); i++) {
+            args.get(i).accept(this, new InfrScope(env, betas.get(i)));
+        }
+        return null;
+    }
+
+    private Void visitFuncScope(Lang origin, InfrEnv env, List<Pat> params, SeqLang body, MutableInfr rho) {
+        List<MutableInfr> betas = new ArrayList<>(params.size() + 1);
+        for (int i = 0; i < params.size() + 1; i++) {
+            betas.add(nextBetaVar());
+        }
+        unify(origin, rho, new MutableAppInfr(FUNC_CTOR, betas));
+        for (int i = 0; i < params.size(); i++) {
+            params.get(i).accept(this, new InfrScope(env, betas.get(i)));
+        }
+        return body.accept(this, new InfrScope(env, ListTools.last(betas)));
+    }
+
+    /*
+     * Like Validator, bind the function name to a monomorphic type so that the body may refer to it recursively. The
+     * function type and its body are inferred one level deeper than the enclosing scope. Consequently, type variables
+     * created for the function remain above the current level after the body is inferred. When polymorphic, they are
+     * then quantified so that later references instantiate them.
+     */
+    @Override
+    public final Void visitFuncStmt(FuncStmt lang, InfrScope scope) {
+        InfrEnv thisEnv = scope.env();
+        unify(lang, scope.rho(), VOID);
+        MutableInfr funcType;
+        enterLevel();
+        try {
+            funcType = createFuncType(lang, lang.params, lang.returnType, thisEnv);
+            if (thisEnv.shallowContains(lang.name.ident)) {
+                throw new AlreadyDefinedInScopeError(lang);
+            }
+            thisEnv.put(lang.name.ident, funcType);
+            visitFuncScope(lang, new InfrEnv(thisEnv), lang.params, lang.body, funcType);
+        } finally {
+            leaveLevel();
+        }
+        if (polymorphic) {
+            quantify(funcType);
+        }
+        return null;
+    }
+
+    private Void visitIdent(Lang lang, Ident ident, InfrScope scope) {
+        MutableInfr freshType = instantiate(ident, scope.env());
+        if (freshType == null) {
+            throw new NotDefinedError(lang);
+        }
+        unify(lang, scope.rho(), freshType);
+        return null;
+    }
+
+    @Override
+    public final Void visitIdentAsExpr(IdentAsExpr lang, InfrScope scope) {
+        return visitIdent(lang, lang.ident, scope);
+    }
+
+    @Override
+    public final Void visitIdentAsPat(IdentAsPat lang, InfrScope scope) {
+        if (ILLEGAL_IDENTS.contains(lang.ident)) {
+            throw new IllegalIdentError(lang);
+        }
+        if (lang.escaped) {
+            return visitIdent(lang, lang.ident, scope);
+        }
+        InfrEnv thisEnv = scope.env();
+        if (thisEnv.shallowContains(lang.ident)) {
+            throw new AlreadyDefinedInScopeError(lang);
+        }
+        MutableInfr patType = resolveTypeAnno(lang, lang.type, thisEnv);
+        unify(lang, scope.rho(), patType);
+        thisEnv.put(lang.ident, patType);
+        return null;
+    }
+
+    @Override
+    public final Void visitIdentVarDecl(IdentVarDecl lang, InfrScope scope) {
+        return lang.identAsPat.accept(this, new InfrScope(scope.env(), nextBetaVar()));
+    }
+
+    @Override
+    public final Void visitIfLang(IfLang lang, InfrScope scope) {
+        lang.ifClause.condition.accept(this, new InfrScope(scope.env(), BOOL));
+        lang.ifClause.body.accept(this, new InfrScope(new InfrEnv(scope.env()), scope.rho()));
+        for (IfClause ifClause : lang.altIfClauses) {
+            ifClause.condition.accept(this, new InfrScope(scope.env(), BOOL));
+            ifClause.body.accept(this, new InfrScope(new InfrEnv(scope.env()), scope.rho()));
+        }
+        return lang.elseSeq.accept(this, new InfrScope(new InfrEnv(scope.env()), scope.rho()));
+    }
+
+    @Override
+    public final Void visitInitVarDecl(InitVarDecl lang, InfrScope scope) {
+        MutableInfr varBeta = nextBetaVar();
+        lang.varPat.accept(this, new InfrScope(scope.env(), varBeta));
+        MutableInfr valueBeta = nextBetaVar();
+        lang.valueExpr.accept(this, new InfrScope(scope.env(), valueBeta));
+        unify(lang, varBeta, valueBeta);
+        return null;
+    }
+
+    @Override
+    public final Void visitScalarAsExpr(ScalarAsExpr lang, InfrScope scope) {
+        if (lang instanceof BoolAsExpr) {
+            unify(lang, scope.rho(), BOOL);
+        } else if (lang instanceof Int64AsExpr int64AsExpr) {
+            unify(lang, scope.rho(), int64AsExpr.int64() instanceof Int32 ? INT32 : INT64);
+        } else if (lang instanceof StrAsExpr) {
+            unify(lang, scope.rho(), STR);
+        } else {
+            throw new NeedsImpl();
+        }
+        return null;
+    }
+
+    @Override
+    public final Void visitSeqLang(SeqLang lang, InfrScope scope) {
+        for (int i = 0; i < lang.list.size() - 1; i++) {
+            lang.list.get(i).accept(this, new InfrScope(scope.env(), VOID));
+        }
+        return ListTools.last(lang.list).accept(this, scope);
+    }
+
+    @Override
+    public final Void visitSumExpr(SumExpr lang, InfrScope scope) {
+        Ident sumIdent = lang.oper == SumOper.ADD ? ADD_IDENT : SUBTRACT_IDENT;
+        return visitFuncApp(lang, scope.env(), new LangOrIdent(null, sumIdent), List.of(lang.arg1, lang.arg2),
+            scope.rho());
+    }
+
+    @Override
+    public final Void visitUnifyStmt(UnifyStmt lang, InfrScope scope) {
+        MutableInfr beta = nextBetaVar();
+        lang.leftSide.accept(this, new InfrScope(scope.env(), beta));
+        lang.rightSide.accept(this, new InfrScope(scope.env(), beta));
+        unify(lang, scope.rho(), VOID);
+        return null;
+    }
+
+    @Override
+    public final Void visitVarStmt(VarStmt lang, InfrScope scope) {
+        for (VarDecl vd : lang.varDecls) {
+            vd.accept(this, new InfrScope(scope.env(), VOID));
+        }
+        unify(lang, scope.rho(), VOID);
+        return null;
+    }
+
+    /*
+     * Declarations made during inference. The outermost InfrEnv also refers to the TypeEnv given to infer().
+     */
+    static final class InfrEnv {
+
+        private final Map<Ident, MutableInfr> mappings = new LinkedHashMap<>();
+        private final InfrEnv parent;
+        private final TypeEnv typeEnv;
+
+        private InfrEnv(InfrEnv parent) {
+            this.parent = parent;
+            this.typeEnv = null;
+        }
+
+        private InfrEnv(TypeEnv typeEnv) {
+            this.parent = null;
+            this.typeEnv = typeEnv;
+        }
+
+        private void put(Ident ident, MutableInfr type) {
+            mappings.put(ident, type);
+        }
+
+        private boolean shallowContains(Ident ident) {
+            return mappings.containsKey(ident) || (typeEnv != null && typeEnv.shallowGet(ident) != null);
+        }
+    }
+
+    record InfrScope(InfrEnv env, MutableInfr rho) {
+    }
+
+    record LangOrIdent(Lang lang, Ident ident) {
+    }
+
+}
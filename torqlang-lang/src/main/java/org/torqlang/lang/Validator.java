@@ -14,7 +14,6 @@ import org.torqlang.util.NeedsImpl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import static org.torqlang.lang.TypeEnv.ADD_IDENT;
 import static org.torqlang.lang.TypeEnv.SUBTRACT_IDENT;
@@ -298,32 +297,7 @@ import static org.torqlang.lang.TypeEnv.SUBTRACT_IDENT;
  *     algorithm M, we don't necessarily have to create child environments for additional arguments beyond the first
  *     one.
  */
-public class Validator implements LangVisitor<TypeScope, TypeSubst> {
-
-    private static final Set<Ident> ILLEGAL_IDENTS = Set.of(
-        Ident.create("ActorCfg"),
-        Ident.create("ActorCtor"),
-        Ident.create("Array"),
-        Ident.create("Bool"),
-        Ident.create("Char"),
-        Ident.create("Comp"),
-        Ident.create("Dec128"),
-        Ident.create("Feat"),
-        Ident.create("Func"),
-        Ident.create("Flt32"),
-        Ident.create("Flt64"),
-        Ident.create("Int32"),
-        Ident.create("Int64"),
-        Ident.create("Lit"),
-        Ident.create("Meth"),
-        Ident.create("Null"),
-        Ident.create("Obj"),
-        Ident.create("Proc"),
-        Ident.create("Rec"),
-        Ident.create("Tuple"),
-        Ident.create("Value"),
-        Ident.create("Void")
-    );
+public class Validator extends AbstractValidator<TypeScope, TypeSubst> {
 
     private final SuffixFactory suffixFactory;
 
@@ -379,26 +353,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         }
     }
 
-    @Override
-    public final TypeSubst visitActExpr(ActExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitActorExpr(ActorExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitActorStmt(ActorStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitAndExpr(AndExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     @Override
     public final TypeSubst visitApplyLang(ApplyLang lang, TypeScope scope) {
         lang.setTypeScope(scope);
@@ -409,11 +363,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         );
     }
 
-    @Override
-    public final TypeSubst visitAskStmt(AskStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     @Override
     public final TypeSubst visitBeginLang(BeginLang lang, TypeScope scope) {
         lang.setTypeScope(scope);
@@ -425,66 +374,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return lang.body.accept(this, new TypeScope(nestedTypeEnv, scope.monoType()));
     }
 
-    @Override
-    public final TypeSubst visitBreakStmt(BreakStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitCaseClause(CaseClause lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitCaseLang(CaseLang lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitCatchClause(CatchClause lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitContinueStmt(ContinueStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitDotSelectExpr(DotSelectExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitFeatureAsPat(FeatureAsPat lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitFieldExpr(FieldExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitFieldPat(FieldPat lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitFieldType(FieldType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitForStmt(ForStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitFuncExpr(FuncExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [var]
      *     Γ(x) >- τ
@@ -632,16 +521,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return s2.apply(s1);
     }
 
-    @Override
-    public final TypeSubst visitFuncType(FuncType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitGroupExpr(GroupExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     private TypeSubst visitIdent(Lang lang, Ident ident, TypeScope scope) {
         PolyInfr polyType = scope.typeEnv().get(ident);
         if (polyType == null) {
@@ -696,16 +575,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return result;
     }
 
-    @Override
-    public final TypeSubst visitIdentAsProtocolType(IdentAsProtocolType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitIdentAsType(IdentAsType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     @Override
     public final TypeSubst visitIdentVarDecl(IdentVarDecl lang, TypeScope scope) {
         lang.setTypeScope(scope);
@@ -713,11 +582,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return lang.identAsPat.accept(this, new TypeScope(scope.typeEnv(), varType));
     }
 
-    @Override
-    public final TypeSubst visitIfClause(IfClause lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [if]
      *     Γ ⊢ b1 : Bool   Γ ⊢ e1 : τ   Γ ⊢ b2 : Bool   Γ ⊢ e2 : τ ...   Γ ⊢ bn : Bool   Γ ⊢ en : τ   Γ ⊢ ex : τ
@@ -755,21 +619,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return s.apply(sn);
     }
 
-    @Override
-    public final TypeSubst visitImportName(ImportName lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitImportStmt(ImportStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitIndexSelectExpr(IndexSelectExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     @Override
     public final TypeSubst visitInitVarDecl(InitVarDecl lang, TypeScope scope) {
         lang.setTypeScope(scope);
@@ -790,149 +639,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return TypeSubst.combine(unifySubst, result);
     }
 
-    @Override
-    public final TypeSubst visitIntersectionProtocolType(IntersectionProtocolType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitIntersectionType(IntersectionType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitLocalLang(LocalLang lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitMetaField(MetaField lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitMetaRec(MetaRec lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitMetaTuple(MetaTuple lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitModuleStmt(ModuleStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitNewExpr(NewExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitObjType(ObjType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitOrExpr(OrExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitPackageStmt(PackageStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProcExpr(ProcExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProcStmt(ProcStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProcType(ProcType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProductExpr(ProductExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolStmt(ProtocolStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolTypeAskHandler(ProtocolTypeAskHandler lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolTypeCtor(ProtocolTypeCtor lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolTypeStreamHandler(ProtocolTypeStreamHandler lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolTypeStruct(ProtocolTypeStruct lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitProtocolTypeTellHandler(ProtocolTypeTellHandler lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRecExpr(RecExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRecPat(RecPat lang, TypeScope scope) {
-        // TODO: Destructure record into current typeEnv, bringing new identifiers into scope
-        //       This implies that the caller created a nestedTypeEnv appropriately.
-        //       See visitIdentAsPat()
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRecType(RecType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRecTypeExpr(RecTypeExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRelationalExpr(RelationalExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitRespondStmt(RespondStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitReturnStmt(ReturnStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [con]
      *     Γ ⊢ () : ι
@@ -974,16 +680,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         }
     }
 
-    @Override
-    public final TypeSubst visitScalarAsType(ScalarAsType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitSelectAndApplyLang(SelectAndApplyLang lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [seq]
      *     Γ ⊢ e1 : Void   ...   Γ ⊢ en-1 : Void   Γ ⊢ en : τn
@@ -1010,21 +706,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return s.apply(sn);
     }
 
-    @Override
-    public final TypeSubst visitSetCellValueStmt(SetCellValueStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitSkipStmt(SkipStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitSpawnExpr(SpawnExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [app]
      *     M(Γ, e1 e2, ρ) =
@@ -1042,66 +723,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         );
     }
 
-    @Override
-    public final TypeSubst visitTellStmt(TellStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitThrowLang(ThrowLang lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTryLang(TryLang lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTupleExpr(TupleExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTuplePat(TuplePat lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTupleType(TupleType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTupleTypeExpr(TupleTypeExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTypeCtor(TypeCtor lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTypeDecl(TypeDecl lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTypeParam(TypeParam lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitTypeStmt(TypeStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
-    @Override
-    public final TypeSubst visitUnaryExpr(UnaryExpr lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [assign]
      *     Γ ⊢ e1 : t   Γ ⊢ e2 : t
@@ -1126,11 +747,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return s3.apply(sn);
     }
 
-    @Override
-    public final TypeSubst visitUnionType(UnionType lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     /*
      * [vardecl]
      *     x1 : τ1 ∉ Γ   x2 : τ2 ∉ Γ   ...   xn : τn ∉ Γ
@@ -1152,11 +768,6 @@ public class Validator implements LangVisitor<TypeScope, TypeSubst> {
         return sn;
     }
 
-    @Override
-    public final TypeSubst visitWhileStmt(WhileStmt lang, TypeScope scope) {
-        throw new NeedsImpl();
-    }
-
     record LangOrIdent(Lang lang, Ident ident) {
     }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.lang;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBinaryKernel {
+
+    private static final String ACTOR_SOURCE = """
+        begin
+            actor HelloFactorial() in
+                func fact(x) in
+                    func fact_cps(n, k) in
+                        if n < 2m then
+                            k
+                        else
+                            fact_cps(n - 1m, n * k)
+                        end
+                    end
+                    fact_cps(x, 1m)
+                end
+                handle ask {'hello': num} in
+                    'Hello, ' + num + '! is ' + fact(num)
+                end
+            end
+            hello_factorial_cfg = new HelloFactorial()
+        end""";
+
+    private static final String TRY_SOURCE = """
+        begin
+            try
+                x = 1 / 0
+            catch 'ERROR'#{'name': 'java.lang.ArithmeticException', 'message': m, ...} then
+                a = 'Caught an attempt to divide by zero'
+            finally
+                b = 'Finally done'
+            end
+        end""";
+
+    private static final String VALUES_SOURCE = """
+        begin
+            var c = new Cell(0)
+            x = [1, 2L, 3.5, 4.5f, 5m, &'a', true, false, null, eof, 'text', -6, -7L]
+            y = 'point'#{'x': 1, 'y': -1, 'label': 'origin'}
+            c := @c + 1
+            z = case y
+                of {'x': px, 'y': py, ...} then px * py
+                of [first, second] then first
+                else 0
+            end
+            while @c < 10 do
+                if @c % 2 == 0 then
+                    c := @c + 3
+                else
+                    c := @c + 1
+                end
+            end
+            w = not (@c != 10) && y.x >= 1 || y.y <= -1
+        end""";
+
+    private static Instr generate(String source) throws Exception {
+        return (Instr) Evaluator.builder()
+            .addVar(Ident.create("x"))
+            .setSource(source)
+            .generate()
+            .kernel();
+    }
+
+    @Test
+    public void testFusedInstrIsWrittenUnfused() throws Exception {
+        Instr instr = generate(VALUES_SOURCE);
+        byte[] bytes = BinaryKernelWriter.write(InstrFuser.apply(instr), "key");
+        assertArrayEquals(BinaryKernelWriter.write(instr, "key"), bytes);
+    }
+
+    @Test
+    public void testNotABinaryKernel() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IllegalArgumentException.class, () -> BinaryKernelReader.read(buffer, "key"));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (String source : List.of(ACTOR_SOURCE, TRY_SOURCE, VALUES_SOURCE)) {
+            Instr instr = generate(source);
+            byte[] bytes = BinaryKernelWriter.write(instr, "key");
+            Instr read = BinaryKernelReader.read(ByteBuffer.wrap(bytes), "key");
+            assertNotNull(read);
+            assertEquals(instr.toString(), read.toString());
+            // Source spans are restored against a copy of the original source
+            assertEquals(instr.source().content(), read.source().content());
+            assertEquals(instr.sourceBegin(), read.sourceBegin());
+            assertEquals(instr.sourceEnd(), read.sourceEnd());
+            // Writing the restored instructions produces the same bytes
+            assertArrayEquals(bytes, BinaryKernelWriter.write(read, "key"));
+        }
+    }
+
+    @Test
+    public void testStaleKey() throws Exception {
+        byte[] bytes = BinaryKernelWriter.write(generate(TRY_SOURCE), "old-key");
+        assertNull(BinaryKernelReader.read(ByteBuffer.wrap(bytes), "new-key"));
+        // A different format version is also stale
+        bytes[4] = (byte) (bytes[4] + 1);
+        assertNull(BinaryKernelReader.read(ByteBuffer.wrap(bytes), "old-key"));
+    }
+
+}
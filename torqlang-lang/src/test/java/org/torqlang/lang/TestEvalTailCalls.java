@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.lang;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestEvalTailCalls {
+
+    private static void assertConstantStackSize(String source) throws Exception {
+        for (Machine.StackMode stackMode : Machine.StackMode.values()) {
+            assertEquals(maxStackSize(source, 10, stackMode), maxStackSize(source, 1_000, stackMode));
+        }
+    }
+
+    /*
+     * Compute one instruction at a time and return the largest stack size seen.
+     */
+    private static int maxStackSize(String source, int a, Machine.StackMode stackMode) throws Exception {
+        EvaluatorGenerated g = Evaluator.builder()
+            .setSource(source)
+            .generate();
+        Var x = new Var();
+        Env env = Env.create(new EnvEntry(Ident.create("a"), new Var(Int32.of(a))),
+            new EnvEntry(Ident.create("x"), x));
+        Machine machine = new Machine(null, new Stack((Instr) g.kernel(), env, null), 0, stackMode);
+        int maxSize = 0;
+        while (machine.compute(1) == ComputePreempt.SINGLETON) {
+            Stack stack = machine.stack();
+            if (stack != null && stack.size > maxSize) {
+                maxSize = stack.size;
+            }
+        }
+        assertEquals(Int32.of(a), x.valueOrVarSet());
+        return maxSize;
+    }
+
+    @Test
+    public void testReturnCall() throws Exception {
+        String source = """
+            begin
+                func count(n, acc) in
+                    if n == 0 then
+                        return acc
+                    end
+                    return count(n - 1, acc + 1)
+                end
+                x = count(a, 0)
+            end""";
+        EvaluatorPerformed e = Evaluator.builder()
+            .addVar(Ident.create("a"), new Var(Int32.of(100_000)))
+            .addVar(Ident.create("x"))
+            .setSource(source)
+            .perform();
+        assertEquals(Int32.of(100_000), e.varAtName("x").valueOrVarSet());
+        // The stack does not grow with the depth of recursion
+        assertConstantStackSize(source);
+    }
+
+    @Test
+    public void testLastCallAfterReturn() throws Exception {
+        String source = """
+            begin
+                func count(n, acc) in
+                    if n == 0 then
+                        return acc
+                    end
+                    count(n - 1, acc + 1)
+                end
+                x = count(a, 0)
+            end""";
+        EvaluatorPerformed e = Evaluator.builder()
+            .addVar(Ident.create("a"), new Var(Int32.of(100_000)))
+            .addVar(Ident.create("x"))
+            .setSource(source)
+            .perform();
+        assertEquals(Int32.of(100_000), e.varAtName("x").valueOrVarSet());
+        assertConstantStackSize(source);
+    }
+
+    @Test
+    public void testReturnCallInsideTry() throws Exception {
+        // A call inside a try block is not in tail position, so the try still catches errors thrown by the callee
+        String source = """
+            begin
+                func fail(n) in
+                    throw 'error'#{'name': 'Fail', 'message': 'Failed', 'details': n}
+                end
+                func attempt(n) in
+                    if n == 0 then
+                        return 'none'
+                    end
+                    try
+                        return fail(n)
+                    catch 'error'#{'details': d, ...} then
+                        return d
+                    end
+                end
+                x = attempt(a)
+            end""";
+        EvaluatorPerformed e = Evaluator.builder()
+            .addVar(Ident.create("a"), new Var(Int32.of(5)))
+            .addVar(Ident.create("x"))
+            .setSource(source)
+            .perform();
+        assertEquals(Int32.of(5), e.varAtName("x").valueOrVarSet());
+    }
+
+    @Test
+    public void testReturnFromWhileAfterCall() throws Exception {
+        // The loop procedure jumps to the caller's jump catch, so the call to it must not remove the jump catch
+        String source = """
+            begin
+                func find(n) in
+                    var i = new Cell(0)
+                    while true do
+                        if @i == n then
+                            return @i
+                        end
+                        i := @i + 1
+                    end
+                end
+                x = find(a)
+            end""";
+        EvaluatorPerformed e = Evaluator.builder()
+            .addVar(Ident.create("a"), new Var(Int32.of(5)))
+            .addVar(Ident.create("x"))
+            .addVar(CellMod.CELL_IDENT, new Var(CellMod.singleton().namesake()))
+            .setSource(source)
+            .perform();
+        assertEquals(Int32.of(5), e.varAtName("x").valueOrVarSet());
+        assertTrue(e.kernel().toString().contains("$while()"));
+    }
+
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+
+package org.torqlang.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestUnionFindValidator {
+
+    private static final List<String> SOURCES = List.of(
+        """
+            begin
+                3 + 5
+            end""",
+        """
+            begin
+                var x = 3
+                var y = 5
+                x + y
+            end""",
+        """
+            begin
+                var x
+                var y = 5
+                x + y
+            end""",
+        """
+            begin
+                var x = 3
+                var y
+                x + y
+            end""",
+        """
+            begin
+                var y
+                3 + y
+            end""",
+        """
+            begin
+                var x
+                x + 5
+            end""",
+        """
+            begin
+                var x::Int32
+                var y::Int32
+                x + y
+            end""",
+        """
+            begin
+                var x
+                var y
+                x + y
+            end""",
+        """
+            begin
+                var x = 3
+                var y = 'five'
+                x + y
+            end""",
+        """
+            begin
+                var Int32 = 3
+                var y = 5
+                x + y
+            end""",
+        """
+            begin
+                begin var x = 3; x end + begin var x = 5; x end
+            end""",
+        """
+            begin
+                var x = 'covered_string' // This x will not be seen and its type will have no affect
+                begin var x = 3; x end + begin var x = 5; x end
+            end""",
+        """
+            begin
+                var x, y, z
+                x = 1
+                y = 'two'
+                z = y
+                z
+            end""",
+        """
+            begin
+                func id(a) in
+                    a
+                end
+                id(3)
+            end""",
+        """
+            begin
+                func id(a) in
+                    a
+                end
+                id('three')
+            end""",
+        """
+            begin
+                func sum_args(a::Int32, b::Int32) -> Int32 in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a::Int32, b::Int32) in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a::Int32, b) in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a, b::Int32) in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a, b) -> Int32 in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a, b) in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a, a) in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a::Int32, b::Int32) -> Int64 in
+                    a + b
+                end
+                sum_args(3, 5)
+            end""",
+        """
+            begin
+                func sum_args(a::Int32, b::Int32) -> Int32 in
+                    a + b
+                end
+                sum_args(3, 'five')
+            end""",
+        """
+            if true then
+                3
+            else
+                5
+            end""",
+        """
+            if true then
+                'three'
+            else
+                5
+            end""",
+        """
+            if true then
+                3
+            else
+                'five'
+            end""",
+        """
+            if true then
+                3
+            elseif false then
+                5
+            else
+                7
+            end""",
+        """
+            if true then
+                'three'
+            elseif false then
+                5
+            else
+                7
+            end""",
+        """
+            if true then
+                3
+            elseif false then
+                'five'
+            else
+                7
+            end""",
+        """
+            if true then
+                3
+            elseif false then
+                5
+            else
+                'seven'
+            end""",
+        """
+            begin
+                var x::Str
+                if true then
+                    // Note that "x = 3" of type "Int32" shadows the previous type declaration "x::Str"
+                    var x = 3
+                    x
+                elseif false then
+                    var y = 5
+                    y
+                else
+                    var z = 7
+                    z
+                end
+            end""",
+        """
+            var x""",
+        """
+            var x, y""",
+        """
+            var x = 3""",
+        """
+            var x = 3, y = 'four'""",
+        """
+            begin
+                var x
+                x
+            end""",
+        """
+            begin
+                func id(a) in
+                    a
+                end
+                id
+            end""",
+        """
+            begin
+                func id(a) in
+                    a
+                end
+                var x = id(3)
+                id('three')
+            end""",
+        """
+            begin
+                func add(a, b) in
+                    a + b
+                end
+                func twice(f, x) in
+                    f(f(x, x), x)
+                end
+                twice(add, 3)
+            end""",
+        """
+            begin
+                func loop(a) in
+                    loop(a)
+                end
+                loop
+            end""",
+        """
+            begin
+                var x = y
+            end""",
+        """
+            begin
+                func f(a) -> Str in
+                    a + 1
+                end
+                f
+            end""",
+        """
+            begin
+                var x
+                x = x + 1
+            end"""
+    );
+
+    /*
+     * Run both engines over the same source and require the same inferred type, the same type environment, the same
+     * number of fresh type variables, and the same error. The language element reporting an error is not compared.
+     * TypeSubst.unify() leaves earlier parameter mappings unresolved when it combines them, so Validator may detect a
+     * conflict one argument later than the union-find engine.
+     */
+    private static void assertSameResults(String source) {
+        Outcome expected = infer(source, false);
+        Outcome actual = infer(source, true);
+        assertEquals(expected, actual, source);
+    }
+
+    private static Outcome infer(String source, boolean unionFind) {
+        return infer(source, unionFind, false);
+    }
+
+    private static Outcome infer(String source, boolean unionFind, boolean polymorphic) {
+        StmtOrExpr sox = new Parser(source).parse();
+        SuffixFactory suffixFactory = new SuffixFactory();
+        VarInfr alphaVar = suffixFactory.nextAlphaVar();
+        TypeEnv typeEnv = TypeEnv.create();
+        TypeScope scope = new TypeScope(typeEnv, alphaVar);
+        try {
+            TypeSubst subst = unionFind
+                ? new UnionFindValidator(suffixFactory, polymorphic).infer(sox, scope)
+                : sox.accept(new Validator(suffixFactory), scope);
+            return new Outcome(subst.apply(alphaVar).toString(), typeEnv.toString(),
+                suffixFactory.nextBetaVar().toString(), null);
+        } catch (RuntimeException exc) {
+            return new Outcome(null, null, null, exc.getClass().getSimpleName() + ": " + exc.getMessage());
+        }
+    }
+
+    static String synthesize(int bindings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("begin\n");
+        sb.append("    var x0 = 0\n");
+        for (int i = 0; i < bindings; i++) {
+            sb.append("    func f").append(i).append("(a, b) in a + b - x").append(i).append(" end\n");
+            sb.append("    var y").append(i).append(" = f").append(i).append("(x").append(i).append(", 1)\n");
+            sb.append("    var x").append(i + 1).append(" = y").append(i).append(" + x").append(i).append('\n');
+        }
+        sb.append("    x").append(bindings).append('\n');
+        sb.append("end");
+        return sb.toString();
+    }
+
+    @Test
+    public void testGeneralize() {
+        UnionFindValidator validator = new UnionFindValidator();
+        MutableVarInfr outer = validator.nextBetaVar();
+        validator.enterLevel();
+        MutableVarInfr inner = validator.nextBetaVar();
+        MutableInfr funcType = new MutableAppInfr(FuncInfr.create(List.of()), List.of(inner, outer, inner));
+        validator.leaveLevel();
+        assertEquals("∀β2. (β2, β1) -> β2", validator.generalize(funcType).toString());
+        assertEquals(VarInfr.create("β1"), validator.generalize(outer));
+    }
+
+    @Test
+    public void testPolymorphic() {
+        String source = """
+            begin
+                func id(a) in a end
+                var x = id(3)
+                var y = id('three')
+                x
+            end""";
+        assertEquals(infer(source, false), infer(source, true, false));
+        assertTrue(infer(source, true, false).error().startsWith("TypeConflictError"));
+        assertEquals("Int32", infer(source, true, true).type());
+        // A variable free in the enclosing scope is not quantified
+        source = """
+            begin
+                var z
+                func f(a) in z end
+                var x = f(1) + 1
+                var y = 'y'
+                y = f('one')
+            end""";
+        assertTrue(infer(source, true, true).error().startsWith("TypeConflictError"));
+        // Functions added to the given type environment are reported as quantified types
+        source = """
+            func pair(a, b) in a end""";
+        Outcome outcome = infer(source, true, true);
+        assertNull(outcome.error());
+        assertEquals("{pair: ∀β7.∀β8. (β7, β8) -> β7}", outcome.typeEnv());
+    }
+
+    @Test
+    public void testSameResults() {
+        for (String source : SOURCES) {
+            assertSameResults(source);
+        }
+    }
+
+    @Test
+    public void testSameResultsSynthesized() {
+        String source = synthesize(200);
+        assertSameResults(source);
+        assertEquals("Int32", infer(source, true).type());
+    }
+
+    private record Outcome(String type, String typeEnv, String nextBetaVar, String error) {
+    }
+
+}
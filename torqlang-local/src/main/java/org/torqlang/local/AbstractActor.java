@@ -12,6 +12,9 @@ import org.torqlang.util.Logger;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static org.torqlang.local.OnMessageResult.NOT_FINISHED;
 
@@ -64,19 +67,32 @@ public abstract class AbstractActor implements ActorRef {
 
     /*
      * Concurrency invariants:
-     *     1. All access to the mailbox value must be synchronized on mailboxLock
-     *     2. All access to the state value must be synchronized on mailboxLock
+     *     1. Any thread may add to the mailbox, but only the owner of the actor may consume from the mailbox
+     *     2. The owner is the thread that moved the state from WAITING to SCHEDULED, and then the dispatcher that
+     *        runs as a result, until the state is moved back to WAITING or to a finished state
+     *     3. Senders increment the send count after adding to the mailbox and before reading the state, and an
+     *        owner moving to WAITING reads the send count after writing the state. Therefore, a sender that cannot
+     *        schedule the actor because it is owned is always noticed by the owner.
+     *     4. After a finished state is written, the mailbox is consumed only by whoever holds the drain flag
      */
 
+    private static final AtomicReferenceFieldUpdater<AbstractActor, State> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(AbstractActor.class, State.class, "state");
+    private static final AtomicLongFieldUpdater<AbstractActor> SEND_COUNT =
+        AtomicLongFieldUpdater.newUpdater(AbstractActor.class, "sendCount");
+    private static final AtomicIntegerFieldUpdater<AbstractActor> DRAINING =
+        AtomicIntegerFieldUpdater.newUpdater(AbstractActor.class, "draining");
+
     private final int affinityId;
     private final Address address;
     private final Executor executor;
     private final Dispatcher dispatcher = new Dispatcher();
     private final Logger logger;
     private final Mailbox mailbox;
-    private final Object mailboxLock = new Object();
 
     private volatile State state = State.WAITING;
+    private volatile long sendCount;
+    private volatile int draining;
 
     protected AbstractActor(int affinityId, Address address, Mailbox mailbox, Executor executor, Logger logger) {
         this.affinityId = affinityId == Integer.MIN_VALUE ? System.identityHashCode(this) : affinityId;
@@ -114,13 +130,18 @@ public abstract class AbstractActor implements ActorRef {
         return logger;
     }
 
+    /**
+     * Should only be called by the owner of the actor.
+     */
+    protected final boolean mailboxIsEmpty() {
+        return mailbox.isEmpty();
+    }
+
     /**
      * Should only be used for debugging and tracing.
      */
     protected final int mailboxSize() {
-        synchronized (mailboxLock) {
-            return mailbox.size();
-        }
+        return mailbox.size();
     }
 
     protected abstract OnMessageResult onMessage(Envelope[] next);
@@ -139,8 +160,9 @@ public abstract class AbstractActor implements ActorRef {
     }
 
     /*
-     * INVARIANT: The mailbox is locked during this call so that implementations can empty the mailbox while responding
-     * to pending requests with the error.
+     * INVARIANT: The actor still owns the mailbox during this call so that implementations can empty the mailbox while
+     * responding to pending requests with the error. Messages that arrive afterward are passed to
+     * `onReceivedAfterFailed`.
      */
     protected void onUnhandledError(Mailbox mailbox, Throwable throwable) {
         logger.error(address.toString(), String.format("Unhandled error\n" +
@@ -159,28 +181,60 @@ public abstract class AbstractActor implements ActorRef {
         return new Envelope[]{mailbox.remove()};
     }
 
+    /*
+     * Consume messages left behind by senders that raced with the transition to a finished state. Multiple threads
+     * may arrive here, but only the holder of the drain flag consumes, and it repeats if a send occurred meanwhile.
+     */
+    private void drainAfterFinished() {
+        long sendCountBefore;
+        do {
+            if (!DRAINING.compareAndSet(this, 0, 1)) {
+                // The holder will notice our send when it rechecks the send count
+                return;
+            }
+            sendCountBefore = sendCount;
+            try {
+                Envelope next;
+                while ((next = mailbox.remove()) != null) {
+                    if (state == State.FAILED) {
+                        onReceivedAfterFailed(next);
+                    } else {
+                        onReceivedAfterSuccessful(next);
+                    }
+                }
+            } finally {
+                draining = 0;
+            }
+        } while (sendCount != sendCountBefore);
+    }
+
     @Override
     public final void send(Envelope envelope) {
-        synchronized (mailboxLock) {
-            if (state == State.FAILED) {
-                onReceivedAfterFailed(envelope);
-            } else if (state == State.SUCCESSFUL) {
-                onReceivedAfterSuccessful(envelope);
-            } else {
-                mailbox.add(envelope);
-                // If we are ACTIVE, SCHEDULED, or WAITING-not-executable, there is nothing to do. However, if we are
-                // WAITING-executable, we must schedule for execution.
-                if (state == State.WAITING && isExecutable(mailbox)) {
-                    dispatcher.schedule();
-                }
+        State current = state;
+        if (current == State.FAILED) {
+            onReceivedAfterFailed(envelope);
+            return;
+        }
+        if (current == State.SUCCESSFUL) {
+            onReceivedAfterSuccessful(envelope);
+            return;
+        }
+        mailbox.add(envelope);
+        SEND_COUNT.incrementAndGet(this);
+        // If we are ACTIVE or SCHEDULED, the owner will notice our send. However, if we are WAITING, we must try to
+        // become the owner and schedule for execution if executable.
+        current = state;
+        if (current == State.WAITING) {
+            if (STATE.compareAndSet(this, State.WAITING, State.SCHEDULED)) {
+                dispatcher.scheduleOrWait();
             }
+        } else if (current == State.FAILED || current == State.SUCCESSFUL) {
+            drainAfterFinished();
         }
     }
 
     public final State state() {
-        synchronized (mailboxLock) {
-            return state;
-        }
+        return state;
     }
 
     public enum State {
@@ -216,43 +270,58 @@ public abstract class AbstractActor implements ActorRef {
 
         @Override
         public final void run() {
-            // Because we have just been invoked by the executor, we know we are in the SCHEDULED state.
+            // Because we have just been invoked by the executor, we know we are in the SCHEDULED state and that we
+            // own the mailbox.
             try {
-                Envelope[] next;
-                synchronized (mailboxLock) {
-                    // A message can be selected because we were previously scheduled as "executable", and now we
-                    // are running. We must transition from SCHEDULED to ACTIVE as soon as we select a message from
-                    // the mailbox.
-                    next = selectNext(mailbox);
-                    state = State.ACTIVE;
-                }
-                // CRITICAL: Do not synchronize on the mailboxLock during onMessage(). Releasing the lock allows
-                // messages to be received while processing the current message.
+                // A message can be selected because we were previously scheduled as "executable", and now we
+                // are running. We must transition from SCHEDULED to ACTIVE as soon as we select a message from
+                // the mailbox.
+                Envelope[] next = selectNext(mailbox);
+                state = State.ACTIVE;
+                // CRITICAL: Messages can be received while processing the current message. Senders only add to the
+                // mailbox while we are ACTIVE.
                 OnMessageResult result = onMessage(next);
-                synchronized (mailboxLock) {
-                    if (result == OnMessageResult.FINISHED) {
-                        state = State.SUCCESSFUL;
-                        return;
-                    }
-                    // We just completed processing of a single message, and we are not finished. We must transition
-                    // from ACTIVE to either SCHEDULED or WAITING.
-                    if (isExecutable(mailbox)) {
-                        schedule();
-                    } else {
-                        state = State.WAITING;
-                    }
+                if (result == OnMessageResult.FINISHED) {
+                    state = State.SUCCESSFUL;
+                    drainAfterFinished();
+                    return;
                 }
+                // We just completed processing of a single message, and we are not finished. We must transition
+                // from ACTIVE to either SCHEDULED or WAITING.
+                scheduleOrWait();
             } catch (Throwable throwable) {
-                synchronized (mailboxLock) {
-                    // We have just been interrupted by an unhandled error. We must transition from ACTIVE to FAILED.
-                    state = State.FAILED;
-                    onUnhandledError(mailbox, throwable);
+                // We have just been interrupted by an unhandled error. We must transition from ACTIVE to FAILED.
+                onUnhandledError(mailbox, throwable);
+                state = State.FAILED;
+                drainAfterFinished();
+            }
+        }
+
+        /*
+         * Must be called by the owner. If executable, remain the owner and schedule for execution. Otherwise, release
+         * ownership by transitioning to WAITING, unless a send occurred while we were deciding.
+         */
+        private void scheduleOrWait() {
+            while (true) {
+                long sendCountBefore = sendCount;
+                if (isExecutable(mailbox)) {
+                    schedule();
+                    return;
+                }
+                state = State.WAITING;
+                if (sendCount == sendCountBefore) {
+                    return;
+                }
+                // A sender may have found us owned and left the new message for us. Try to become the owner again,
+                // but if another sender has already done so, it is now responsible.
+                if (!STATE.compareAndSet(AbstractActor.this, State.WAITING, State.SCHEDULED)) {
+                    return;
                 }
             }
         }
 
         /*
-         * Must be called from within a "synchronized {...}" block
+         * Must be called by the owner
          */
         private void schedule() {
             try {
@@ -11,4 +11,9 @@ public interface ActorBuilder {
     Address address();
 
     ActorSystem system();
+
+    /*
+     * Return the time slice given to this actor, or null if the actor uses the time slice of its system.
+     */
+    TimeSlice timeSlice();
 }
@@ -44,6 +44,8 @@ public interface ActorBuilderConfigured extends ActorBuilder {
     ActorBuilderSpawned spawn();
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderConfiguredImpl implements ActorBuilderConfigured {
@@ -51,6 +53,7 @@ final class ActorBuilderConfiguredImpl implements ActorBuilderConfigured {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
     private final ActorStmt actorStmt;
     private final LocalInstr generatedCreateActorRecInstr;
     private final LocalInstr enhancedCreateActorRecInstr;
@@ -63,6 +66,7 @@ final class ActorBuilderConfiguredImpl implements ActorBuilderConfigured {
         address = constructed.address();
         source = constructed.source();
         system = constructed.system();
+        timeSlice = constructed.timeSlice();
         actorStmt = constructed.actorStmt();
         generatedCreateActorRecInstr = constructed.generatedCreateActorRecInstr();
         enhancedCreateActorRecInstr = constructed.enhancedCreateActorRecInstr();
@@ -126,6 +130,11 @@ final class ActorBuilderConfiguredImpl implements ActorBuilderConfigured {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     private void transitionFromConstructedToConfigured() {
         // The actor record will contain values (not vars). Therefore, we can access the ActorCtor directly.
         ActorCtor actorCtor = (ActorCtor) actorRec().findValue($NEW);
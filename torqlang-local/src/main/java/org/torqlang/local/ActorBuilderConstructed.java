@@ -51,6 +51,8 @@ public interface ActorBuilderConstructed extends ActorBuilder {
     ActorBuilderSpawned spawn();
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderConstructedImpl implements ActorBuilderConstructed {
@@ -58,6 +60,7 @@ final class ActorBuilderConstructedImpl implements ActorBuilderConstructed {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
     private final ActorStmt actorStmt;
     private final LocalInstr generatedCreateActorRecInstr;
     private final LocalInstr enhancedCreateActorRecInstr;
@@ -69,6 +72,7 @@ final class ActorBuilderConstructedImpl implements ActorBuilderConstructed {
         this.address = generated.address();
         this.source = generated.source();
         this.system = generated.system();
+        this.timeSlice = generated.timeSlice();
         this.actorStmt = generated.actorStmt();
         this.generatedCreateActorRecInstr = generated.generatedCreateActorRecInstr();
         this.enhancedCreateActorRecInstr = generated.enhancedCreateActorRecInstr();
@@ -136,6 +140,11 @@ final class ActorBuilderConstructedImpl implements ActorBuilderConstructed {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     private void transitionFromGeneratedToConstructed(Rec existingActorRec, List<? extends CompleteOrIdent> existingArgs) {
         if (existingActorRec != null) {
             this.actorRec = existingActorRec;
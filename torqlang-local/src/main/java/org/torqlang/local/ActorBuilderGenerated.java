@@ -41,6 +41,8 @@ public interface ActorBuilderGenerated extends ActorBuilder {
     ActorBuilderSpawned spawn(List<? extends CompleteOrIdent> args);
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderGeneratedImpl implements ActorBuilderGenerated {
@@ -48,6 +50,7 @@ final class ActorBuilderGeneratedImpl implements ActorBuilderGenerated {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
     private final ActorStmt actorStmt;
 
     private LocalInstr generatedCreateActorRecInstr;
@@ -57,6 +60,7 @@ final class ActorBuilderGeneratedImpl implements ActorBuilderGenerated {
         this.address = parsed.address();
         this.source = parsed.source();
         this.system = parsed.system();
+        this.timeSlice = parsed.timeSlice();
         this.actorStmt = parsed.actorStmt();
         transitionFromParsedToGenerated();
     }
@@ -126,6 +130,11 @@ final class ActorBuilderGeneratedImpl implements ActorBuilderGenerated {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     private void transitionFromParsedToGenerated() {
         Generator g = new Generator();
         generatedCreateActorRecInstr = (LocalInstr) g.acceptStmt(actorStmt());
@@ -10,6 +10,9 @@ package org.torqlang.local;
 import org.torqlang.klvm.CompleteOrIdent;
 import org.torqlang.lang.ActorStmt;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface ActorBuilderInit extends ActorBuilder {
@@ -20,6 +23,13 @@ public interface ActorBuilderInit extends ActorBuilder {
 
     ActorImage actorImage(String source);
 
+    /*
+     * Return the image saved in the given snapshot if it was captured from the same source by the same compiler
+     * version. Otherwise, capture the image from the source and save it in the snapshot for the next time. Values that
+     * the constructor computed from imports are frozen in the snapshot. See ActorImageSnapshot.
+     */
+    ActorImage actorImage(String source, Path snapshotPath) throws IOException;
+
     Address address();
 
     ActorBuilderParsed setActorStmt(ActorStmt actorStmt);
@@ -30,6 +40,8 @@ public interface ActorBuilderInit extends ActorBuilder {
 
     ActorBuilderInit setSystem(ActorSystem system);
 
+    ActorBuilderInit setTimeSlice(TimeSlice timeSlice);
+
     String source();
 
     ActorBuilderSpawned spawn(String source);
@@ -37,6 +49,8 @@ public interface ActorBuilderInit extends ActorBuilder {
     ActorBuilderSpawned spawn(String source, List<? extends CompleteOrIdent> args);
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderInitImpl implements ActorBuilderInit {
@@ -44,6 +58,7 @@ final class ActorBuilderInitImpl implements ActorBuilderInit {
     private ActorSystem system;
     private Address address;
     private String source;
+    private TimeSlice timeSlice;
 
     ActorBuilderInitImpl() {
     }
@@ -54,6 +69,20 @@ final class ActorBuilderInitImpl implements ActorBuilderInit {
         return ActorBuilderReady.create(this).actorImage();
     }
 
+    @Override
+    public final ActorImage actorImage(String source, Path snapshotPath) throws IOException {
+        String key = ActorImageSnapshot.key(source);
+        if (Files.exists(snapshotPath)) {
+            ActorImage image = ActorImageSnapshot.read(system(), snapshotPath, key);
+            if (image != null) {
+                return image;
+            }
+        }
+        ActorImage image = actorImage(source);
+        ActorImageSnapshot.write(image, snapshotPath, key);
+        return image;
+    }
+
     @Override
     public final Address address() {
         return address == null ? Address.UNDEFINED : address;
@@ -82,6 +111,12 @@ final class ActorBuilderInitImpl implements ActorBuilderInit {
         return this;
     }
 
+    @Override
+    public final ActorBuilderInit setTimeSlice(TimeSlice timeSlice) {
+        this.timeSlice = timeSlice;
+        return this;
+    }
+
     @Override
     public final String source() {
         return source;
@@ -104,4 +139,9 @@ final class ActorBuilderInitImpl implements ActorBuilderInit {
         return system == null ? ActorSystem.defaultSystem() : system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
 }
@@ -40,6 +40,8 @@ public interface ActorBuilderParsed extends ActorBuilder {
     ActorBuilderSpawned spawn(List<? extends CompleteOrIdent> args);
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderParsedImpl implements ActorBuilderParsed {
@@ -47,6 +49,7 @@ final class ActorBuilderParsedImpl implements ActorBuilderParsed {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
 
     private ActorStmt actorStmt;
 
@@ -54,6 +57,7 @@ final class ActorBuilderParsedImpl implements ActorBuilderParsed {
         address = ready.address();
         source = ready.source();
         system = ready.system();
+        timeSlice = ready.timeSlice();
         transitionFromReadyToParsed(actorStmt);
     }
 
@@ -102,6 +106,11 @@ final class ActorBuilderParsedImpl implements ActorBuilderParsed {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     private void transitionFromReadyToParsed(ActorStmt existingActorStmt) {
         if (existingActorStmt != null) {
             this.actorStmt = existingActorStmt;
@@ -36,6 +36,8 @@ public interface ActorBuilderReady extends ActorBuilder {
     ActorBuilderSpawned spawn(List<? extends CompleteOrIdent> args);
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderReadyImpl implements ActorBuilderReady {
@@ -43,11 +45,13 @@ final class ActorBuilderReadyImpl implements ActorBuilderReady {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
 
     ActorBuilderReadyImpl(ActorBuilderInit init) {
         this.address = init.address();
         this.source = init.source();
         this.system = init.system();
+        this.timeSlice = init.timeSlice();
     }
 
     @Override
@@ -100,4 +104,9 @@ final class ActorBuilderReadyImpl implements ActorBuilderReady {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
 }
\ No newline at end of file
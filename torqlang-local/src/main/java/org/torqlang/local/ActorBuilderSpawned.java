@@ -40,6 +40,8 @@ public interface ActorBuilderSpawned extends ActorBuilder {
     String source();
 
     ActorSystem system();
+
+    TimeSlice timeSlice();
 }
 
 final class ActorBuilderSpawnedImpl implements ActorBuilderSpawned {
@@ -47,6 +49,7 @@ final class ActorBuilderSpawnedImpl implements ActorBuilderSpawned {
     private final Address address;
     private final String source;
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
     private final ActorStmt actorStmt;
     private final LocalInstr generatedCreateActorRecInstr;
     private final LocalInstr enhancedCreateActorRecInstr;
@@ -61,6 +64,7 @@ final class ActorBuilderSpawnedImpl implements ActorBuilderSpawned {
         address = configured.address();
         source = configured.source();
         system = configured.system();
+        timeSlice = configured.timeSlice();
         actorStmt = configured.actorStmt();
         generatedCreateActorRecInstr = configured.generatedCreateActorRecInstr();
         enhancedCreateActorRecInstr = configured.enhancedCreateActorRecInstr();
@@ -140,8 +144,13 @@ final class ActorBuilderSpawnedImpl implements ActorBuilderSpawned {
         return system;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     private void transitionFromConfiguredToSpawned() {
-        localActor = new LocalActor(address(), system());
+        localActor = new LocalActor(address(), system(), timeSlice());
         localActor.configure(actorCfg());
     }
 
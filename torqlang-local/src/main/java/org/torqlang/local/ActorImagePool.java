@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.local;
+
+import org.torqlang.klvm.Null;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * An ActorImagePool is a bounded set of pre-spawned actors created from one actor image. Instead of spawning a new
+ * actor for each request, a caller checks out an idle actor, sends it exactly one request, and checks the actor back
+ * in after receiving the response.
+ *
+ * Checking in an actor sends it a `Recycle` control request. The actor answers on its own thread, after its current
+ * computation, so that the pool never inspects actor state concurrently. An actor that is still computing, waiting,
+ * or holding responses, or that has failed, is evicted and left to the garbage collector. Requests are therefore
+ * isolated: a reused actor begins each request in the same state as a newly spawned actor.
+ *
+ * When no idle actor is available, `checkout` spawns a new actor (a miss) that may join the pool when checked in.
+ */
+public final class ActorImagePool {
+
+    private final Address address;
+    private final ActorImage image;
+    private final int capacity;
+    private final ConcurrentLinkedQueue<ActorRef> idleActors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ActorImagePool(Address address, ActorImage image, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity < 1");
+        }
+        this.address = address;
+        this.image = image;
+        this.capacity = capacity;
+        for (int i = 0; i < capacity; i++) {
+            idleActors.add(LocalActor.spawn(address, image));
+        }
+        idleCount.set(capacity);
+    }
+
+    public final Address address() {
+        return address;
+    }
+
+    public final int capacity() {
+        return capacity;
+    }
+
+    /*
+     * Return an actor that is reserved for one request. The actor must be returned using `checkin` after its response
+     * is received.
+     */
+    public final ActorRef checkout() {
+        ActorRef actorRef = idleActors.poll();
+        if (actorRef != null) {
+            idleCount.decrementAndGet();
+            hitCount.incrementAndGet();
+            return actorRef;
+        }
+        missCount.incrementAndGet();
+        return LocalActor.spawn(address, image);
+    }
+
+    /*
+     * Ask the actor to recycle itself. If it can be reused, and the pool is not full, it becomes idle again.
+     */
+    public final void checkin(ActorRef actorRef) {
+        actorRef.send(Envelope.createControlRequest(Recycle.SINGLETON, new Recycler(actorRef), Null.SINGLETON));
+    }
+
+    public final long evictionCount() {
+        return evictionCount.get();
+    }
+
+    public final long hitCount() {
+        return hitCount.get();
+    }
+
+    public final int idleCount() {
+        return idleCount.get();
+    }
+
+    public final long missCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public final String toString() {
+        return "ActorImagePool{address=" + address + ", capacity=" + capacity + ", idle=" + idleCount.get() +
+            ", hits=" + hitCount.get() + ", misses=" + missCount.get() + ", evictions=" + evictionCount.get() + "}";
+    }
+
+    /*
+     * Receives the answer to a `Recycle` request. A failed actor answers with its `FailedValue` instead of a boolean.
+     */
+    private final class Recycler implements ActorRef {
+        private final ActorRef actorRef;
+
+        private Recycler(ActorRef actorRef) {
+            this.actorRef = actorRef;
+        }
+
+        @Override
+        public final Address address() {
+            return address;
+        }
+
+        @Override
+        public final void send(Envelope envelope) {
+            if (!Boolean.TRUE.equals(envelope.message())) {
+                evictionCount.incrementAndGet();
+                return;
+            }
+            if (idleCount.incrementAndGet() > capacity) {
+                idleCount.decrementAndGet();
+                evictionCount.incrementAndGet();
+                return;
+            }
+            idleActors.add(actorRef);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.torqlang.klvm.BinaryKernelReader;
+import org.torqlang.klvm.BinaryKernelWriter;
+import org.torqlang.klvm.Closure;
+import org.torqlang.klvm.Complete;
+import org.torqlang.klvm.CompleteRec;
+import org.torqlang.klvm.EnvEntry;
+import org.torqlang.klvm.Ident;
+import org.torqlang.klvm.Str;
+import org.torqlang.klvm.Var;
+import org.torqlang.klvm.WaitException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * An actor image snapshot stores the `ask` and `tell` handlers of an actor image in the binary kernel format, so that
+ * a later process can spawn the actor without compiling it and without running its handlers constructor.
+ *
+ * The handlers are written as complete closures together with their captured environments. Native values, such as
+ * the callbacks of the root environment and the members of the packages in an actor system, are written by name and
+ * are resolved again in the actor system given to `read`. A snapshot is written with a key, and `read` returns null if
+ * the snapshot was written with a different key or format version. Use `key(source)`, which combines the content hash
+ * of the actor source with `CompilationCache.COMPILER_VERSION`, so that a snapshot captured by a different compiler is
+ * captured again.
+ *
+ * Only images without mutable state can be captured, therefore a restored image behaves like its original. However,
+ * values that the handlers constructor computed from its imports, such as a constant read from a package member, are
+ * frozen in the snapshot. Natives are resolved again by name, but a changed package member that was copied into such a
+ * value is not detected. Delete the snapshot when a package changes in a way that the constructor depends on.
+ */
+public final class ActorImageSnapshot {
+
+    private ActorImageSnapshot() {
+    }
+
+    private static Complete completeHandler(EnvEntry handlerEntry) {
+        try {
+            return ((Closure) handlerEntry.var.valueOrVarSet()).checkComplete();
+        } catch (WaitException exc) {
+            throw new IllegalStateException("Handler is not complete");
+        }
+    }
+
+    /*
+     * Return the snapshot key for the given actor source under the current compiler version.
+     */
+    public static String key(String source) {
+        return key(CompilationCache.COMPILER_VERSION, source);
+    }
+
+    static String key(int compilerVersion, String source) {
+        return CompilationCache.generateKey(compilerVersion, CompilationCache.contentHash(source), Map.of());
+    }
+
+    /*
+     * Return the native values that a snapshot can refer to by name: the callbacks of the actor root environment and
+     * the members of each package in the given actor system.
+     */
+    static Map<String, Complete> nativesByName(ActorSystem system) {
+        Map<String, Complete> answer = new HashMap<>();
+        for (EnvEntry entry : LocalActor.rootEnv()) {
+            answer.put(entry.ident.name, (Complete) entry.var.valueOrVarSet());
+        }
+        Map<String, CompleteRec> packagesByQualifier = system instanceof BasicActorSystem basicSystem ?
+            basicSystem.packagesByQualifier() : DefaultPackages.singleton().packagesByQualifier();
+        for (Map.Entry<String, CompleteRec> entry : packagesByQualifier.entrySet()) {
+            CompleteRec members = entry.getValue();
+            for (int i = 0; i < members.fieldCount(); i++) {
+                if (members.featureAt(i) instanceof Str name) {
+                    answer.put(entry.getKey() + "." + name.value, members.valueAt(i));
+                }
+            }
+        }
+        return answer;
+    }
+
+    /*
+     * Read the snapshot at the given path and return an image that spawns its actors in the given system. Return null
+     * if the snapshot was written with a different key or format version.
+     */
+    public static ActorImage read(ActorSystem system, Path path, String key) throws IOException {
+        List<Complete> handlers = BinaryKernelReader.readValues(path, key, nativesByName(system));
+        if (handlers == null) {
+            return null;
+        }
+        return new ActorImage(system,
+            new EnvEntry(Ident.$HANDLER, new Var(handlers.get(0))),
+            new EnvEntry(Ident.$HANDLER, new Var(handlers.get(1))));
+    }
+
+    /*
+     * Write the handlers of the given image to a temporary file that is then moved to the given path.
+     */
+    public static void write(ActorImage image, Path path, String key) throws IOException {
+        List<Complete> handlers = List.of(completeHandler(image.askHandlerEntry),
+            completeHandler(image.tellHandlerEntry));
+        byte[] bytes = BinaryKernelWriter.writeValues(handlers, key, nativesByName(image.system));
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempPath = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        Files.write(tempPath, bytes);
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -43,4 +43,6 @@ public interface ActorSystem extends PackageProvider {
 
     @Override
     CompleteRec packageAt(String qualifier);
+
+    TimeSlice timeSlice();
 }
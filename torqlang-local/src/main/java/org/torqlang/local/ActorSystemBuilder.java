@@ -19,6 +19,10 @@ public final class ActorSystemBuilder {
     private final Map<String, CompleteRec> packagesByQualifier = new HashMap<>();
     private String name;
     private Executor executor;
+    private ExecutorMode executorMode;
+    private int concurrency;
+    private CorePinner corePinner;
+    private TimeSlice timeSlice;
 
     public ActorSystemBuilder addActor(String path, ActorRefObj actorRefObj) {
         LocalAddress address = LocalAddress.create(path);
@@ -49,13 +53,49 @@ public final class ActorSystemBuilder {
         } else {
             effectivePackagesByQualifier = packagesByQualifier;
         }
-        return new BasicActorSystem(name, executor, actorsByAddress, effectivePackagesByQualifier);
+        TimeSlice effectiveTimeSlice = timeSlice != null ? timeSlice : TimeSlice.fixed(TimeSlice.DEFAULT_SIZE);
+        return new BasicActorSystem(name, effectiveExecutor(), actorsByAddress, effectivePackagesByQualifier,
+            effectiveTimeSlice);
+    }
+
+    public final int concurrency() {
+        return concurrency;
+    }
+
+    public final CorePinner corePinner() {
+        return corePinner;
+    }
+
+    /*
+     * An explicit executor takes precedence. Otherwise, if an executor mode is given, create a new executor of that
+     * mode. Otherwise, return null so that the system uses the shared default executor.
+     */
+    private Executor effectiveExecutor() {
+        if (executor != null || executorMode == null) {
+            return executor;
+        }
+        String executorName = name != null ? name : "System";
+        int effectiveConcurrency = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        if (executorMode == ExecutorMode.WORK_STEALING) {
+            return new WorkStealingExecutor(executorName, effectiveConcurrency, corePinner);
+        }
+        if (corePinner != null) {
+            throw new IllegalStateException("A core pinner requires executor mode " + ExecutorMode.WORK_STEALING);
+        }
+        if (executorMode == ExecutorMode.VIRTUAL) {
+            return new VirtualThreadExecutor(executorName);
+        }
+        return new AffinityExecutor(executorName, effectiveConcurrency);
     }
 
     public final Executor executor() {
         return executor;
     }
 
+    public final ExecutorMode executorMode() {
+        return executorMode;
+    }
+
     public final String name() {
         return name;
     }
@@ -64,14 +104,38 @@ public final class ActorSystemBuilder {
         return Map.copyOf(packagesByQualifier);
     }
 
+    public final ActorSystemBuilder setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public final ActorSystemBuilder setCorePinner(CorePinner corePinner) {
+        this.corePinner = corePinner;
+        return this;
+    }
+
     public final ActorSystemBuilder setExecutor(Executor executor) {
         this.executor = executor;
         return this;
     }
 
+    public final ActorSystemBuilder setExecutorMode(ExecutorMode executorMode) {
+        this.executorMode = executorMode;
+        return this;
+    }
+
     public final ActorSystemBuilder setName(String name) {
         this.name = name;
         return this;
     }
 
+    public final ActorSystemBuilder setTimeSlice(TimeSlice timeSlice) {
+        this.timeSlice = timeSlice;
+        return this;
+    }
+
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
 }
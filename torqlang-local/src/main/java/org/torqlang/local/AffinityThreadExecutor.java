@@ -46,6 +46,7 @@ public class AffinityThreadExecutor implements Executor {
         @SuppressWarnings({"WhileCanBeDoWhile", "InfiniteLoopStatement"})
         @Override
         public final void run() {
+            WorkerQueue.register(queue::size);
             try {
                 while (true) {
                     Runnable r = queue.poll();
@@ -201,6 +201,11 @@ final class ArrayListMod implements KernelModule {
             return Null.SINGLETON;
         }
 
+        @Override
+        public final PartialObjProcTable<ArrayListObj> objProcTable() {
+            return objProcTable;
+        }
+
         @Override
         public final Value select(Feature feature) {
             return objProcTable.selectAndBind(this, feature);
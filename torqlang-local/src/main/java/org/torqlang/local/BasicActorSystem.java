@@ -13,6 +13,7 @@ import org.torqlang.util.Logger;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executor;
@@ -23,13 +24,16 @@ public final class BasicActorSystem implements ActorSystem {
     private final Executor executor;
     private final ActorEntry[] actorsByAddress;
     private final PackageEntry[] packagesByPath;
+    private final TimeSlice timeSlice;
 
     BasicActorSystem(String name,
                      Executor executor,
                      Map<Address, ActorRefObj> actorsByAddress,
-                     Map<String, CompleteRec> packagesByPath)
+                     Map<String, CompleteRec> packagesByPath,
+                     TimeSlice timeSlice)
     {
         this.name = name;
+        this.timeSlice = timeSlice;
         this.executor = executor != null ?
             executor : ActorSystemDefaults.executor();
         int i = 0;
@@ -79,11 +83,24 @@ public final class BasicActorSystem implements ActorSystem {
         return packagesByPath[i].members;
     }
 
+    final Map<String, CompleteRec> packagesByQualifier() {
+        Map<String, CompleteRec> answer = new HashMap<>();
+        for (PackageEntry entry : packagesByPath) {
+            answer.put(entry.path, entry.members);
+        }
+        return answer;
+    }
+
     @Override
     public final String name() {
         return name;
     }
 
+    @Override
+    public final TimeSlice timeSlice() {
+        return timeSlice;
+    }
+
     @SuppressWarnings("ClassCanBeRecord")
     static final class ActorEntry implements Comparable<ActorEntry> {
         public final Address address;
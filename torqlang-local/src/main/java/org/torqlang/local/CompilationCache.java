@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.torqlang.klvm.BinaryKernelReader;
+import org.torqlang.klvm.BinaryKernelWriter;
+import org.torqlang.klvm.Instr;
+import org.torqlang.lang.ModuleStmt;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * A compilation cache lets a TorqCompiler skip the modules that have not changed since a previous compilation.
+ *
+ * Parsed modules are keyed by the SHA-256 hash of their source content. Generated modules are keyed by a generate key
+ * that combines the compiler version, the content hash of a module, and the content hashes of every module it imports,
+ * directly or indirectly. Therefore, changing a module causes it and its dependents to be generated again, while every
+ * other module reuses its previous instructions. Upgrading to a compiler with a different `COMPILER_VERSION` causes
+ * every module to be generated again.
+ *
+ * A cache created with a directory also keeps an index of the generate key of each module path in the file
+ * `index.properties`. The index is read when the cache is created and written after each generate stage, so that a
+ * compiler can report which modules changed since the last build, even across restarts. In addition, the instructions
+ * of each generated module are written to the file `<generate-key>.tqk` in the binary kernel format. A cache created
+ * later with the same directory loads those files instead of generating the modules again. A file that was written
+ * by a different compiler version has a different generate key, and therefore a different name, so it is never
+ * loaded. A file with a different format version is ignored and its module is generated again. Modules that define types are not
+ * written because their instructions hold opaque type values.
+ *
+ * Parsed modules are only held in memory. Parsing is still required after a restart because the collect and bundle
+ * stages need the module statements. Parsed and generated modules are shared by all the compilers that use the cache.
+ *
+ * A compilation cache is safe to use from multiple threads.
+ */
+public final class CompilationCache {
+
+    /*
+     * The version of the instructions produced for a given source by the generator, the instruction fuser, and the
+     * actor construction that snapshots capture. Increment it whenever any of them produces different instructions or
+     * values for the same source, so that files written by an earlier compiler are not loaded. The binary kernel
+     * format version only covers the encoding, not what was encoded.
+     */
+    public static final int COMPILER_VERSION = 1;
+
+    public static final String GENERATED_FILE_SUFFIX = ".tqk";
+    public static final String INDEX_FILE_NAME = "index.properties";
+
+    private static final String INDEX_COMMENT = "Torq compilation cache index";
+
+    private final Path directory;
+    private final int compilerVersion;
+    private final Map<String, String> previousKeysByPath;
+    private final Map<String, String> currentKeysByPath = new ConcurrentHashMap<>();
+    private final Map<String, ModuleStmt> parsedByContentHash = new ConcurrentHashMap<>();
+    private final Map<String, Instr> generatedByKey = new ConcurrentHashMap<>();
+
+    private final LongAdder parseHitCount = new LongAdder();
+    private final LongAdder parseMissCount = new LongAdder();
+    private final LongAdder generateHitCount = new LongAdder();
+    private final LongAdder generateMissCount = new LongAdder();
+    private final LongAdder generateLoadCount = new LongAdder();
+
+    private CompilationCache(Path directory, int compilerVersion, Map<String, String> previousKeysByPath) {
+        this.directory = directory;
+        this.compilerVersion = compilerVersion;
+        this.previousKeysByPath = previousKeysByPath;
+    }
+
+    public static CompilationCache create() {
+        return new CompilationCache(null, COMPILER_VERSION, Map.of());
+    }
+
+    /*
+     * Create a cache that keeps its index in the given directory. The directory is created if it does not exist.
+     */
+    public static CompilationCache create(Path directory) throws IOException {
+        return create(directory, COMPILER_VERSION);
+    }
+
+    /*
+     * Create a cache that keys its modules as the given compiler version would. Tests use this method to simulate the
+     * files left by a different compiler.
+     */
+    static CompilationCache create(Path directory, int compilerVersion) throws IOException {
+        Files.createDirectories(directory);
+        Path indexPath = directory.resolve(INDEX_FILE_NAME);
+        Map<String, String> previousKeysByPath = new HashMap<>();
+        if (Files.exists(indexPath)) {
+            Properties index = new Properties();
+            try (Reader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+                index.load(reader);
+            }
+            for (String path : index.stringPropertyNames()) {
+                previousKeysByPath.put(path, index.getProperty(path));
+            }
+        }
+        return new CompilationCache(directory, compilerVersion, Collections.unmodifiableMap(previousKeysByPath));
+    }
+
+    /*
+     * Return the SHA-256 hash of the given source content as a hexadecimal string.
+     */
+    public static String contentHash(String content) {
+        return sha256(content);
+    }
+
+    /*
+     * Return the generate key of a module for the current compiler version given its content hash and the content
+     * hashes of the modules it imports, directly or indirectly, by qualified name.
+     */
+    public static String generateKey(String contentHash, Map<String, String> importedContentHashes) {
+        return generateKey(COMPILER_VERSION, contentHash, importedContentHashes);
+    }
+
+    /*
+     * Return the generate key of a module for the given compiler version.
+     */
+    public static String generateKey(int compilerVersion, String contentHash,
+                                     Map<String, String> importedContentHashes)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(compilerVersion).append('\n').append(contentHash);
+        for (Map.Entry<String, String> entry : new TreeMap<>(importedContentHashes).entrySet()) {
+            sb.append('\n').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sha256(sb.toString());
+    }
+
+    private static String sha256(String value) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exc) {
+            throw new IllegalStateException("SHA-256 is not available", exc);
+        }
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public final int compilerVersion() {
+        return compilerVersion;
+    }
+
+    public final Path directory() {
+        return directory;
+    }
+
+    /*
+     * Find the instructions generated for the given key, first in memory and then in the directory of this cache.
+     */
+    final Instr findGenerated(String generateKey) throws IOException {
+        Instr instr = generatedByKey.get(generateKey);
+        if (instr == null && directory != null) {
+            instr = loadGenerated(generateKey);
+            if (instr != null) {
+                generatedByKey.put(generateKey, instr);
+                generateLoadCount.increment();
+            }
+        }
+        if (instr != null) {
+            generateHitCount.increment();
+        } else {
+            generateMissCount.increment();
+        }
+        return instr;
+    }
+
+    final ModuleStmt findParsed(String contentHash) {
+        ModuleStmt moduleStmt = parsedByContentHash.get(contentHash);
+        if (moduleStmt != null) {
+            parseHitCount.increment();
+        } else {
+            parseMissCount.increment();
+        }
+        return moduleStmt;
+    }
+
+    public final long generateHitCount() {
+        return generateHitCount.sum();
+    }
+
+    /*
+     * Return the number of generate hits that were loaded from the directory of this cache.
+     */
+    public final long generateLoadCount() {
+        return generateLoadCount.sum();
+    }
+
+    public final long generateMissCount() {
+        return generateMissCount.sum();
+    }
+
+    private Path generatedPath(String generateKey) {
+        return directory.resolve(generateKey + GENERATED_FILE_SUFFIX);
+    }
+
+    /*
+     * Return true if the module at the given path had a different generate key, or no key, in the index that was read
+     * when this cache was created.
+     */
+    final boolean isChangedSinceLastBuild(String absolutePath, String generateKey) {
+        return !generateKey.equals(previousKeysByPath.get(absolutePath));
+    }
+
+    private Instr loadGenerated(String generateKey) throws IOException {
+        Path path = generatedPath(generateKey);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return BinaryKernelReader.read(path, generateKey);
+        } catch (IllegalArgumentException exc) {
+            // A file that cannot be read is treated as a miss and is replaced when the module is generated again
+            return null;
+        }
+    }
+
+    public final long parseHitCount() {
+        return parseHitCount.sum();
+    }
+
+    public final long parseMissCount() {
+        return parseMissCount.sum();
+    }
+
+    /*
+     * Hold the given instructions in memory and, if this cache has a directory, write them to a temporary file that is
+     * then moved into place.
+     */
+    final void putGenerated(String generateKey, Instr instr) throws IOException {
+        generatedByKey.put(generateKey, instr);
+        if (directory == null) {
+            return;
+        }
+        byte[] bytes;
+        try {
+            bytes = BinaryKernelWriter.write(instr, generateKey);
+        } catch (IllegalArgumentException exc) {
+            // Modules that define types hold opaque values that cannot be written, and are only held in memory
+            return;
+        }
+        Path tempPath = Files.createTempFile(directory, generateKey, ".tmp");
+        Files.write(tempPath, bytes);
+        Files.move(tempPath, generatedPath(generateKey), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    final void putParsed(String contentHash, ModuleStmt moduleStmt) {
+        parsedByContentHash.put(contentHash, moduleStmt);
+    }
+
+    /*
+     * Record the generate keys of the modules just generated, and write them to the index if this cache has a
+     * directory. The index is written to a temporary file first and then moved into place.
+     */
+    final void saveIndex(Map<String, String> keysByPath) throws IOException {
+        currentKeysByPath.putAll(keysByPath);
+        if (directory == null) {
+            return;
+        }
+        Properties index = new Properties();
+        index.putAll(new TreeMap<>(currentKeysByPath));
+        Path tempPath = Files.createTempFile(directory, INDEX_FILE_NAME, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            index.store(writer, INDEX_COMMENT);
+        }
+        Files.move(tempPath, directory.resolve(INDEX_FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public final String toString() {
+        return "CompilationCache{directory=" + directory + ", parsed=" + parsedByContentHash.size() +
+            ", generated=" + generatedByKey.size() + "}";
+    }
+
+}
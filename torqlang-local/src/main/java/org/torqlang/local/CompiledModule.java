@@ -23,6 +23,7 @@ public final class CompiledModule {
     private final FileName torqFile;
     private final ModuleStmt moduleStmt;
 
+    private String contentHash;
     private Instr moduleInstr;
     private Instr moduleInstrEnhanced;
 
@@ -58,6 +59,13 @@ public final class CompiledModule {
         return absolutePath;
     }
 
+    /*
+     * Return the SHA-256 hash of the module source, or null if the module was not compiled with a compilation cache.
+     */
+    public final String contentHash() {
+        return contentHash;
+    }
+
     @Override
     public final boolean equals(Object other) {
         if (other == this) return true;
@@ -97,6 +105,10 @@ public final class CompiledModule {
         return qualifier;
     }
 
+    final void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     final void setModuleInstr(Instr moduleInstr) {
         this.moduleInstr = moduleInstr;
     }
@@ -19,7 +19,7 @@ final class ComputeTools {
             DebugInstr debugInstr = new DebugInstr(DebuggerSetting.get(), instr, env, instr);
             stack = new Stack(debugInstr, Env.emptyEnv(), null);
         } else {
-            stack = new Stack(instr, env, null);
+            stack = new Stack(InstrFuser.apply(instr), env, null);
         }
         Machine.compute(owner, stack, TIME_SLICE_10_000);
     }
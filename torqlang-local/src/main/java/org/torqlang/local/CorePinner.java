@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.local;
+
+/*
+ * A hook for binding executor worker threads to hardware cores. Java cannot pin a thread to a core by itself, so an
+ * implementation typically delegates to an operating system facility or a native affinity library.
+ *
+ * The `pin` method is called once on each worker thread before it begins executing tasks.
+ */
+@FunctionalInterface
+public interface CorePinner {
+
+    void pin(String executorName, int workerIndex);
+
+}
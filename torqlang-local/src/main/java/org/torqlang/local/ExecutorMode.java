@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.local;
+
+/*
+ * The kinds of executors an `ActorSystemBuilder` can create when an executor is not given explicitly.
+ */
+public enum ExecutorMode {
+    AFFINITY,       // an AffinityExecutor, each actor always runs on the thread chosen by its affinity ID
+    WORK_STEALING,  // a WorkStealingExecutor, actors prefer their affinity thread but idle threads may steal them
+    VIRTUAL         // a VirtualThreadExecutor, each dispatch runs on its own virtual thread
+}
@@ -161,6 +161,11 @@ final class HashMapMod implements KernelModule {
             return null;
         }
 
+        @Override
+        public final PartialObjProcTable<HashMapObj> objProcTable() {
+            return objProcTable;
+        }
+
         @Override
         public final Value select(Feature feature) {
             return objProcTable.selectAndBind(this, feature);
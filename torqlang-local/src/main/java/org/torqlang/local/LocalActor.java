@@ -20,9 +20,9 @@ import static org.torqlang.util.ListTools.nullSafeCopyOf;
 import static org.torqlang.util.SourceSpan.emptySourceSpan;
 
 /*
- * Envelope Insertion -- An envelope is placed at the end of the mailbox queue unless the envelope is higher priority
- * than its predecessor. If the envelope is higher priority than its predecessor, their positions in the queue are
- * swapped. This repeats until the envelope is no longer higher priority than its predecessor.
+ * Envelope Insertion -- An envelope is placed at the end of the mailbox lane for its priority. The next envelope is
+ * always taken from the highest priority lane that is not empty, so envelopes of equal priority are received in the
+ * order sent, and an envelope is received ahead of every lower priority envelope.
  *
  * Wait State -- An actor is a single threaded kernel machine. The wait-state is implemented as a single field
  * holding the barrier value that suspended the machine. A non-null wait-state indicates we are waiting on a Response.
@@ -43,9 +43,11 @@ final class LocalActor extends AbstractActor implements PackageProvider {
     private static final Env ROOT_ENV = createRootEnv();
 
     private final ActorSystem system;
+    private final TimeSlice timeSlice;
     private final IdentityHashMap<Var, List<ChildVar>> triggers = new IdentityHashMap<>();
 
     private boolean streamTrace = false;
+    private int timeSliceSize;
     private Machine machine;
     private EnvEntry askHandlerEntry;
     private EnvEntry tellHandlerEntry;
@@ -62,17 +64,28 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         .build();
 
     LocalActor(Address address, ActorImage image) {
-        this(address, image.system, image.askHandlerEntry, image.tellHandlerEntry);
-        machine = new Machine(this, null);
+        this(address, image.system, null, image.askHandlerEntry, image.tellHandlerEntry);
+        machine = createMachine(null);
     }
 
     LocalActor(Address address, ActorSystem system) {
-        this(address, system, null, null);
+        this(address, system, null, null, null);
     }
 
-    private LocalActor(Address address, ActorSystem system, EnvEntry askHandlerEntry, EnvEntry tellHandlerEntry) {
+    /*
+     * A null time slice means the actor uses the time slice of its system.
+     */
+    LocalActor(Address address, ActorSystem system, TimeSlice timeSlice) {
+        this(address, system, timeSlice, null, null);
+    }
+
+    private LocalActor(Address address, ActorSystem system, TimeSlice timeSlice, EnvEntry askHandlerEntry,
+                       EnvEntry tellHandlerEntry)
+    {
         super(address, system.createMailbox(), system.executor(), system.createLogger());
         this.system = system;
+        this.timeSlice = timeSlice != null ? timeSlice : system.timeSlice();
+        this.timeSliceSize = this.timeSlice.initialSize();
         this.askHandlerEntry = askHandlerEntry;
         this.tellHandlerEntry = tellHandlerEntry;
         if (DebuggerSetting.get() != null) {
@@ -273,7 +286,10 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         //         (a) Create a FailedValue with an error and native cause
         //         (b) Native error should be "'error'#{'name': _, 'message': _, ...}"
         waitState = null;
-        ComputeAdvice advice = machine.compute(10_000);
+        ComputeAdvice advice = machine.compute(timeSliceSize);
+        while (advice.isPreempt() && continueAfterExhausted()) {
+            advice = machine.compute(timeSliceSize);
+        }
         if (advice.isWait()) {
             ComputeWait computeWait = (ComputeWait) advice;
             if (DebuggerSetting.get() != null) {
@@ -284,6 +300,7 @@ final class LocalActor extends AbstractActor implements PackageProvider {
             if (DebuggerSetting.get() != null) {
                 DebuggerSetting.get().onPreempt(this, machine);
             }
+            timeSlice.recordResume();
             send(Resume.SINGLETON);
         } else if (advice.isHalt()) {
             throw new MachineHaltError((ComputeHalt) advice);
@@ -291,8 +308,23 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         return advice;
     }
 
+    /*
+     * Record an exhausted time slice and adapt the size of the next time slice. Return true if the actor should
+     * continue computing immediately, which an adaptive time slice allows when nothing else is waiting to run.
+     */
+    private boolean continueAfterExhausted() {
+        timeSlice.recordExhausted();
+        if (!timeSlice.isAdaptive() || DebuggerSetting.get() != null) {
+            return false;
+        }
+        boolean mailboxIsEmpty = mailboxIsEmpty();
+        int queuedCount = WorkerQueue.currentDepth();
+        timeSliceSize = timeSlice.nextSize(timeSliceSize, mailboxIsEmpty, queuedCount);
+        return mailboxIsEmpty && queuedCount == 0;
+    }
+
     private ComputeAdvice computeTimeSlice(Value message, EnvEntry handlerEntry) {
-        if (machine.stack() != null) {
+        if (machine.hasStackEntries()) {
             throw new IllegalStateException("Previous computation is not finished");
         }
         EnvEntry messageEntry = new EnvEntry(Ident.$NEXT, new Var(message));
@@ -312,6 +344,14 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         send(Envelope.createControlNotify(new Configure(actorCfg)));
     }
 
+    /*
+     * An actor computes every message on the same machine, so the machine keeps its stack in reusable arrays instead
+     * of allocating a stack entry for every instruction pushed.
+     */
+    private Machine createMachine(Stack stack) {
+        return new Machine(this, stack, 0, Machine.StackMode.ARRAY);
+    }
+
     private SourceSpan getHandlerSourceSpan(EnvEntry handlerEntry) {
         Closure handlerClosure = (Closure) handlerEntry.var.valueOrVarSet();
         return handlerClosure.sourceSpan();
@@ -352,7 +392,7 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         Act act = (Act) envelope.message();
         Env actEnv = Env.create(ROOT_ENV, act.input);
         actEnv = actEnv.add(new EnvEntry(act.target, new Var()));
-        machine = new Machine(LocalActor.this, new Stack(act.seq, actEnv, null));
+        machine = createMachine(new Stack(act.seq, actEnv, null));
         computeTimeSlice();
         return NOT_FINISHED;
     }
@@ -368,7 +408,7 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         if (!triggers.isEmpty()) {
             throw new IllegalStateException("Triggers exist");
         }
-        if (machine.stack() != null) {
+        if (machine.hasStackEntries()) {
             throw new IllegalStateException("Machine stack exists");
         }
         try {
@@ -415,7 +455,7 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         ActorCfg actorCfg = configure.actorCfg;
 
         // Create the kernel machine and necessary environment to construct the handlers
-        machine = new Machine(LocalActor.this, null);
+        machine = createMachine(null);
         List<EnvEntry> envEntries = new ArrayList<>();
         EnvEntry handlersEntry = new EnvEntry(Ident.$HANDLERS, new Var());
         envEntries.add(handlersEntry);
@@ -480,6 +520,9 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         if (envelope.message() == Stop.SINGLETON) {
             return onStop(envelope);
         }
+        if (envelope.message() == Recycle.SINGLETON) {
+            return onRecycle(envelope);
+        }
         throw new IllegalArgumentException("Invalid control message: " + envelope);
     }
 
@@ -596,6 +639,21 @@ final class LocalActor extends AbstractActor implements PackageProvider {
         }
     }
 
+    /*
+     * A pooled actor is reusable only if its last request left nothing behind. In that case, it forgets the request
+     * so that the next request begins in the same state as a newly spawned actor. Otherwise, the actor keeps running
+     * until it is unreachable, but it is not reused.
+     */
+    private OnMessageResult onRecycle(Envelope envelope) {
+        boolean reusable = !machine.hasStackEntries() && waitState == null && triggers.isEmpty() &&
+            failedValue == null && selectableResponses.isEmpty() && suspendedResponses.isEmpty();
+        if (reusable) {
+            activeRequest = null;
+        }
+        envelope.requester().send(Envelope.createControlResponse(reusable, envelope.requestId()));
+        return NOT_FINISHED;
+    }
+
     private OnMessageResult onResume() {
         if (DebuggerSetting.get() != null) {
             DebuggerSetting.get().onReceiveResume(this, machine);
@@ -760,17 +818,17 @@ final class LocalActor extends AbstractActor implements PackageProvider {
             return new Envelope[]{envelope};
         }
         // Process multiple adjacent responses if possible
-        Envelope peekNext = mailbox.peek();
-        if (peekNext == null || !peekNext.isResponse()) {
+        Envelope nextResponse = mailbox.removeNextIf(Envelope::isResponse);
+        if (nextResponse == null) {
             return new Envelope[]{envelope};
         }
         // We have at least two responses, so accumulate multiple responses
         ArrayList<Envelope> list = new ArrayList<>();
         list.add(envelope);
         do {
-            list.add(mailbox.remove());
-            peekNext = mailbox.peek();
-        } while (peekNext != null && peekNext.isResponse());
+            list.add(nextResponse);
+            nextResponse = mailbox.removeNextIf(Envelope::isResponse);
+        } while (nextResponse != null);
         return list.toArray(new Envelope[0]);
     }
 
@@ -7,13 +7,19 @@
 
 package org.torqlang.local;
 
+import java.util.function.Predicate;
+
 /*
  * A simple and minimal interface to the concept of a Mailbox queue.
+ *
+ * Concurrency -- A mailbox has many producers and a single consumer. The `add` method may be called concurrently by
+ * any thread. All other methods are called only by the actor that currently owns the mailbox, which is the actor's
+ * dispatcher or a sender that has just acquired the right to schedule the actor.
  */
 public interface Mailbox {
 
     static Mailbox createDefault() {
-        return new LinkedListMailbox(EnvelopeComparator.SINGLETON);
+        return new PriorityLaneMailbox();
     }
 
     void add(Envelope envelope);
@@ -30,5 +36,12 @@ public interface Mailbox {
      */
     Envelope remove();
 
+    /**
+     * Remove and return the next message if it satisfies the given predicate. Otherwise, return null and leave the
+     * mailbox unchanged. Unlike a `peek` followed by a `remove`, the message tested is the message removed even if
+     * a higher priority message arrives in between.
+     */
+    Envelope removeNextIf(Predicate<Envelope> predicate);
+
     int size();
 }
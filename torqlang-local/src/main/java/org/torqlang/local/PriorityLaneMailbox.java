@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
+/*
+ * A lock-free, multi-producer, single-consumer mailbox with one FIFO lane per envelope priority. Priority ordering is
+ * preserved by always consuming from the highest priority lane that is not empty, so adding an envelope never scans.
+ *
+ * The lanes follow the priorities defined by `EnvelopeComparator`:
+ *     Lane 0: Control responses
+ *     Lane 1: Control notifications and requests
+ *     Lane 2: Responses
+ *     Lane 3: Notifications and requests
+ *
+ * Each lane is an intrusive linked queue with a stub node. A producer claims the tail with a single atomic swap and
+ * then links the previous tail to its node. Until that link is written, the consumer sees the lane as ending at the
+ * previous tail, which is correct because the producer has not yet returned from `add`.
+ */
+public final class PriorityLaneMailbox implements Mailbox {
+
+    private static final int LANE_COUNT = 4;
+
+    private final Lane[] lanes;
+
+    public PriorityLaneMailbox() {
+        lanes = new Lane[LANE_COUNT];
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    private static int laneIndex(Envelope envelope) {
+        return EnvelopeComparator.SINGLETON.priority(envelope) - 1;
+    }
+
+    @Override
+    public final void add(Envelope envelope) {
+        lanes[laneIndex(envelope)].add(new Node(envelope));
+    }
+
+    private Lane firstNonEmptyLane() {
+        for (Lane lane : lanes) {
+            if (lane.head.next != null) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return firstNonEmptyLane() == null;
+    }
+
+    @Override
+    public final Envelope peek() {
+        Lane lane = firstNonEmptyLane();
+        return lane != null ? lane.head.next.envelope : null;
+    }
+
+    @Override
+    public final Envelope remove() {
+        Lane lane = firstNonEmptyLane();
+        return lane != null ? lane.remove() : null;
+    }
+
+    @Override
+    public final Envelope removeNextIf(Predicate<Envelope> predicate) {
+        Lane lane = firstNonEmptyLane();
+        if (lane == null || !predicate.test(lane.head.next.envelope)) {
+            return null;
+        }
+        return lane.remove();
+    }
+
+    @Override
+    public final int size() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            for (Node n = lane.head.next; n != null; n = n.next) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static final class Lane {
+
+        private static final AtomicReferenceFieldUpdater<Lane, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(Lane.class, Node.class, "tail");
+
+        // The head is a consumed node (initially the stub) whose successor is the next envelope
+        private Node head;
+        private volatile Node tail;
+
+        private Lane() {
+            Node stub = new Node(null);
+            head = stub;
+            tail = stub;
+        }
+
+        private void add(Node node) {
+            Node prev = TAIL.getAndSet(this, node);
+            prev.next = node;
+        }
+
+        /*
+         * The lane must not be empty.
+         */
+        private Envelope remove() {
+            Node next = head.next;
+            Envelope answer = next.envelope;
+            // The removed node becomes the new stub, so release its envelope to the garbage collector
+            next.envelope = null;
+            head = next;
+            return answer;
+        }
+    }
+
+    private static final class Node {
+        private Envelope envelope;
+        private volatile Node next;
+
+        private Node(Envelope envelope) {
+            this.envelope = envelope;
+        }
+    }
+
+}
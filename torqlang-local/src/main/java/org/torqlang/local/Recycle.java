@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.local;
+
+/*
+ * A control request that asks a pooled actor whether it can be reused. The actor responds with `Boolean.TRUE` and
+ * resets itself if its last request left no computation, wait state, or pending responses behind. Otherwise, it
+ * responds with `Boolean.FALSE`.
+ */
+public final class Recycle {
+    public static final Recycle SINGLETON = new Recycle();
+
+    private Recycle() {
+    }
+}
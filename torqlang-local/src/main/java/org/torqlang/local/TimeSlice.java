@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * A time slice is the number of instructions an actor computes before it is preempted. A preempted actor sends
+ * itself a Resume message so that other actors on the same executor thread can run before it continues.
+ *
+ * A fixed time slice always has the same size. An adaptive time slice changes size each time an actor is preempted:
+ *     1. If other runnables are queued on the executor thread, the size is halved, down to the minimum size, so that
+ *        a busy actor yields sooner to the actors waiting behind it
+ *     2. If the actor has no messages waiting and no runnables are queued on the executor thread, the size is
+ *        doubled, up to the maximum size, and the actor continues immediately instead of sending itself a Resume
+ *        message
+ * The size of an adaptive time slice is tracked per actor, starting with the initial size. Queued runnables can only
+ * be seen on the threads of an AffinityExecutor or a WorkStealingExecutor. On other threads, an adaptive time slice
+ * grows while the mailbox is empty, but the actor always resumes by message.
+ *
+ * A time slice counts how many times actors exhausted it and how many times they resumed by message. A time slice
+ * given to an actor system is shared by all of its actors, unless an actor is given its own time slice, so the counts
+ * are totals across the actors that share it.
+ */
+public final class TimeSlice {
+
+    public static final int DEFAULT_SIZE = 10_000;
+
+    private final int initialSize;
+    private final int minSize;
+    private final int maxSize;
+    private final boolean adaptive;
+
+    private final LongAdder exhaustedCount = new LongAdder();
+    private final LongAdder resumeCount = new LongAdder();
+
+    private TimeSlice(int minSize, int initialSize, int maxSize, boolean adaptive) {
+        if (minSize < 1) {
+            throw new IllegalArgumentException("minSize < 1");
+        }
+        if (initialSize < minSize || initialSize > maxSize) {
+            throw new IllegalArgumentException("initialSize is not between minSize and maxSize");
+        }
+        this.initialSize = initialSize;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.adaptive = adaptive;
+    }
+
+    public static TimeSlice adaptive(int minSize, int initialSize, int maxSize) {
+        return new TimeSlice(minSize, initialSize, maxSize, true);
+    }
+
+    public static TimeSlice fixed(int size) {
+        return new TimeSlice(size, size, size, false);
+    }
+
+    /*
+     * Return the number of times an actor computed a whole time slice without finishing or waiting.
+     */
+    public final long exhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    public final int initialSize() {
+        return initialSize;
+    }
+
+    public final boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public final int maxSize() {
+        return maxSize;
+    }
+
+    public final int minSize() {
+        return minSize;
+    }
+
+    /*
+     * Return the size of the next time slice after an actor exhausted a time slice of the given size. The queued count
+     * is the number of runnables queued on the executor thread, or -1 if unknown.
+     */
+    final int nextSize(int size, boolean mailboxIsEmpty, int queuedCount) {
+        if (!adaptive) {
+            return size;
+        }
+        if (queuedCount > 0) {
+            return Math.max(minSize, size / 2);
+        }
+        if (mailboxIsEmpty) {
+            return (int) Math.min(maxSize, size * 2L);
+        }
+        return size;
+    }
+
+    final void recordExhausted() {
+        exhaustedCount.increment();
+    }
+
+    final void recordResume() {
+        resumeCount.increment();
+    }
+
+    /*
+     * Return the number of times an actor sent itself a Resume message after exhausting a time slice.
+     */
+    public final long resumeCount() {
+        return resumeCount.sum();
+    }
+
+    @Override
+    public final String toString() {
+        if (!adaptive) {
+            return "TimeSlice{size=" + initialSize + "}";
+        }
+        return "TimeSlice{minSize=" + minSize + ", initialSize=" + initialSize + ", maxSize=" + maxSize + "}";
+    }
+
+}
@@ -75,12 +75,21 @@ import org.torqlang.util.SourceFileBroker;
 import org.torqlang.util.SourceSpan;
 import org.torqlang.util.SourceString;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -125,9 +134,14 @@ import static org.torqlang.util.ListTools.nullSafeCopyOf;
  *
  * Stages:
  *
+ *     With a parallelism greater than 1, Parse parses files concurrently, and Generate generates the modules of a
+ *     level concurrently, using a fork-join pool. Each file or module records its own messages, and the messages are
+ *     merged in the same order as a sequential compilation, so `messages()` does not depend on the parallelism.
+ *
  *     Parse: Visit each Torq file in the workspace and parse it
  *         Parse each Torq file into a Module structure
  *             Each Module structure contains a ModuleStmt
+ *         With a compilation cache, reuse the ModuleStmt of a file whose content hash is cached
  *
  *     Collect: Visit each import and export in each Module
  *         Create a Member structure for each qualified name found
@@ -135,11 +149,16 @@ import static org.torqlang.util.ListTools.nullSafeCopyOf;
  *             Note that each Member will name the other members that import it
  *                 A member that has imports but is not exported is likely a missing system component
  *                 A member that is exported but not imported is likely an unused system component
+ *         Order the modules by their imports as a list of levels, where each module only imports modules from
+ *             earlier levels (modules in an import cycle share the last level)
  *
  *     Generate: Visit each parsed module and generate its kernel instructions
  *         TODO: Create a global type environment to be used by generate
  *             This is a collection of packages containing types for type checking
  *         Set kernel instructions on each Module
+ *         With a compilation cache, reuse the kernel instructions of a module whose content hash and the content
+ *             hashes of the modules it imports, directly or indirectly, are unchanged
+ *         Generate the modules level by level, following the order found by Collect
  *
  *     Bundle: Bundle exported members by qualifier
  *         Gather exported members for each qualifier
@@ -158,6 +177,10 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
     private final List<Message> messages = new ArrayList<>();
 
     private ActorSystem rootActorSystem;
+    private CompilationCache cache;
+    private int parallelism = 1;
+    private Map<CompiledModule, List<CompiledModule>> importedModules;
+    private List<List<CompiledModule>> generateOrder;
     private LocalLogger logger = ConsoleLogger.global();
     private State state = State.READY;
     private List<SourceFileBroker> workspace;
@@ -216,6 +239,12 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
         apiHandler.routes().add(route);
     }
 
+    private void addCacheMessage(String stage, int hitCount, int moduleCount) {
+        int hitPercent = moduleCount > 0 ? (int) Math.round(hitCount * 100.0 / moduleCount) : 0;
+        addInfoMessage("Compilation cache: " + stage + " " + (moduleCount - hitCount) + " of " + moduleCount +
+            " modules, reused " + hitCount + " (" + hitPercent + "% hits)");
+    }
+
     private void addInfoMessage(String message) {
         if (LoggerLevel.isLoggableAt(MessageLevel.INFO.severity(), logger.threshold())) {
             messages.add(Message.create("TorqCompilerTrace", MessageLevel.INFO, message));
@@ -223,8 +252,12 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
     }
 
     private void addTraceMessage(String message) {
+        addTraceMessage(messages, message);
+    }
+
+    private void addTraceMessage(List<Message> target, String message) {
         if (LoggerLevel.isLoggableAt(MessageLevel.TRACE.severity(), logger.threshold())) {
-            messages.add(Message.create("TorqCompilerTrace", MessageLevel.TRACE, message));
+            target.add(Message.create("TorqCompilerTrace", MessageLevel.TRACE, message));
         }
     }
 
@@ -385,6 +418,10 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
          */
         addTraceMessage("---TODO--- Validate Torq types against their native module references");
         addInfoMessage("Done validating imports correspond to an export");
+        addInfoMessage("Ordering modules by their imports");
+        importedModules = findImportedModules();
+        generateOrder = orderByImports();
+        addInfoMessage("Done ordering modules by their imports");
         this.state = State.COLLECTED;
         return this;
     }
@@ -589,6 +626,23 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
         }
     }
 
+    /*
+     * Return the modules that each module imports from directly. A module imports from the module that exports an
+     * imported member.
+     */
+    private Map<CompiledModule, List<CompiledModule>> findImportedModules() {
+        Map<CompiledModule, List<CompiledModule>> answer = new HashMap<>();
+        for (CompiledMember member : membersByQualifiedName.values()) {
+            if (member.export() == null) {
+                continue;
+            }
+            for (CompiledModule user : member.whereUsed()) {
+                answer.computeIfAbsent(user, k -> new ArrayList<>()).add(member.export().module());
+            }
+        }
+        return answer;
+    }
+
     private String formatFileNamesAsPath(List<FileName> path) {
         return path.stream().map(FileName::value).collect(Collectors.joining("/"));
     }
@@ -607,16 +661,69 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
             throw new TorqCompilerError("Cannot generate at state: " + state, messages);
         }
         addInfoMessage("Generating module instructions");
-        for (Map.Entry<String, CompiledModule> moduleEntry : modulesByAbsolutePath.entrySet()) {
-            addTraceMessage("Generating " + moduleEntry.getKey());
-            Generator g = new Generator();
-            moduleEntry.getValue().setModuleInstr(g.acceptStmt(moduleEntry.getValue().moduleStmt()));
+        Map<String, String> generateKeysByPath = new HashMap<>();
+        int hitCount = 0;
+        int changedCount = 0;
+        for (List<CompiledModule> level : generateOrder) {
+            List<Callable<GeneratedModule>> tasks = new ArrayList<>();
+            for (CompiledModule module : level) {
+                tasks.add(() -> generateModule(module));
+            }
+            for (GeneratedModule generated : invokeAll(tasks)) {
+                messages.addAll(generated.messages());
+                generated.module().setModuleInstr(generated.moduleInstr());
+                if (generated.generateKey() != null) {
+                    generateKeysByPath.put(generated.absolutePath(), generated.generateKey());
+                }
+                if (generated.cacheHit()) {
+                    hitCount++;
+                }
+                if (generated.changed()) {
+                    changedCount++;
+                }
+            }
+        }
+        if (cache != null) {
+            cache.saveIndex(generateKeysByPath);
+            addCacheMessage("generated", hitCount, modulesByAbsolutePath.size());
+            addInfoMessage("Compilation cache: " + changedCount + " of " + modulesByAbsolutePath.size() +
+                " modules changed since the last build");
         }
         addInfoMessage("Done generating module instructions");
         this.state = State.GENERATED;
         return this;
     }
 
+    /*
+     * Generate the kernel instructions of one module. This method may be called concurrently for different modules,
+     * therefore it records its messages in the result instead of adding them to the compiler.
+     */
+    private GeneratedModule generateModule(CompiledModule module) throws IOException {
+        List<Message> moduleMessages = new ArrayList<>();
+        String absolutePath = formatFileNamesAsPath(module.absolutePath());
+        Instr moduleInstr = null;
+        String generateKey = null;
+        boolean changed = false;
+        if (cache != null) {
+            generateKey = CompilationCache.generateKey(cache.compilerVersion(), module.contentHash(),
+                importedContentHashes(module));
+            changed = cache.isChangedSinceLastBuild(absolutePath, generateKey);
+            moduleInstr = cache.findGenerated(generateKey);
+        }
+        boolean cacheHit = moduleInstr != null;
+        if (cacheHit) {
+            addTraceMessage(moduleMessages, "Reusing cached instructions for " + absolutePath);
+        } else {
+            addTraceMessage(moduleMessages, "Generating " + absolutePath);
+            Generator g = new Generator();
+            moduleInstr = g.acceptStmt(module.moduleStmt());
+            if (cache != null) {
+                cache.putGenerated(generateKey, moduleInstr);
+            }
+        }
+        return new GeneratedModule(absolutePath, module, moduleInstr, generateKey, cacheHit, changed, moduleMessages);
+    }
+
     private boolean getExportMetaValue(MetaField metaField) {
         if (metaField.value instanceof BoolAsExpr boolAsExpr) {
             return boolAsExpr.bool.value;
@@ -679,6 +786,59 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
         return TupleTypeExpr.createWithValues(pathElems);
     }
 
+    /*
+     * Return the content hashes, by qualified name, of the modules imported by the given module, directly or
+     * indirectly.
+     */
+    private Map<String, String> importedContentHashes(CompiledModule module) {
+        Map<String, String> answer = new HashMap<>();
+        ArrayDeque<CompiledModule> pending = new ArrayDeque<>();
+        pending.push(module);
+        while (!pending.isEmpty()) {
+            CompiledModule next = pending.pop();
+            for (CompiledModule imported : importedModules.getOrDefault(next, List.of())) {
+                if (imported != module && answer.putIfAbsent(imported.qualifiedName(), imported.contentHash()) == null) {
+                    pending.push(imported);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /*
+     * Call the given tasks and return their results in the same order. If the parallelism is greater than 1, the
+     * tasks are called concurrently on a fork-join pool, and if any tasks fail, the failure of the first failed task
+     * in order is thrown after all the tasks are done.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+        List<T> answer = new ArrayList<>(tasks.size());
+        if (parallelism == 1 || tasks.size() < 2) {
+            for (Callable<T> task : tasks) {
+                answer.add(task.call());
+            }
+            return answer;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                try {
+                    answer.add(future.get());
+                } catch (ExecutionException exc) {
+                    if (exc.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    if (exc.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    throw exc;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return answer;
+    }
+
     private boolean isApiHandler(CompiledExport export) {
         if (!(export instanceof CompiledActorExport actorExport)) {
             return false;
@@ -810,6 +970,41 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
         return modulesByAbsolutePath;
     }
 
+    /*
+     * Order the modules as a list of levels, where each module only imports modules from earlier levels. Modules are
+     * ordered by absolute path within a level. Modules that are part of an import cycle, or that import from one, are
+     * placed together in the last level.
+     */
+    private List<List<CompiledModule>> orderByImports() {
+        List<CompiledModule> remaining = new ArrayList<>(new TreeMap<>(modulesByAbsolutePath).values());
+        Set<CompiledModule> ordered = new HashSet<>();
+        List<List<CompiledModule>> answer = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            List<CompiledModule> level = new ArrayList<>();
+            for (CompiledModule module : remaining) {
+                boolean ready = true;
+                for (CompiledModule imported : importedModules.getOrDefault(module, List.of())) {
+                    if (imported != module && !ordered.contains(imported)) {
+                        ready = false;
+                        break;
+                    }
+                }
+                if (ready) {
+                    level.add(module);
+                }
+            }
+            if (level.isEmpty()) {
+                addTraceMessage("Modules with cyclic imports are ordered last: " + remaining);
+                level = remaining;
+            }
+            remaining = new ArrayList<>(remaining);
+            remaining.removeAll(level);
+            ordered.addAll(level);
+            answer.add(level);
+        }
+        return answer;
+    }
+
     @Override
     public final CompleteRec packageAt(String qualifier) {
         return rootActorSystem.packageAt(qualifier);
@@ -826,48 +1021,86 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
             throw new TorqCompilerError("Cannot parse at state: " + state, messages);
         }
         addInfoMessage("Parsing source modules");
+        List<Callable<ParsedModule>> tasks = new ArrayList<>();
         for (SourceFileBroker fileBroker : workspace) {
             for (List<FileName> root : fileBroker.roots()) {
                 List<FileName> files = fileBroker.list(root);
                 for (FileName file : files) {
-                    parse(fileBroker, root, file);
+                    parse(fileBroker, root, file, tasks);
                 }
             }
         }
+        int hitCount = 0;
+        for (ParsedModule parsed : invokeAll(tasks)) {
+            messages.addAll(parsed.messages());
+            modulesByAbsolutePath.put(parsed.absolutePath(), parsed.module());
+            if (parsed.cacheHit()) {
+                hitCount++;
+            }
+        }
+        if (cache != null) {
+            addCacheMessage("parsed", hitCount, modulesByAbsolutePath.size());
+        }
         addInfoMessage("Done parsing source modules");
         this.state = State.PARSED;
         return this;
     }
 
-    private void parse(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName) throws Exception {
+    /*
+     * Visit the given file, and add a task to parse each Torq source file found.
+     */
+    private void parse(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName,
+                       List<Callable<ParsedModule>> tasks)
+    {
         if (fileName.type() == FileType.FOLDER) {
-            parseFolder(fileBroker, folderPath, fileName);
+            parseFolder(fileBroker, folderPath, fileName, tasks);
         } else if (fileName.type() == FileType.SOURCE && isTorqSourceFile(fileName.value())) {
-            parseTorqSource(fileBroker, folderPath, fileName);
+            tasks.add(() -> parseTorqSource(fileBroker, folderPath, fileName));
         } else {
             addWarnMessage("Skipping unknown file type: " + fileName.value());
         }
     }
 
-    private void parseFolder(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName) throws Exception {
+    private void parseFolder(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName,
+                             List<Callable<ParsedModule>> tasks)
+    {
         List<FileName> children = fileBroker.list(SourceFileBroker.append(folderPath, fileName));
         for (FileName child : children) {
-            parse(fileBroker, SourceFileBroker.append(folderPath, fileName), child);
+            parse(fileBroker, SourceFileBroker.append(folderPath, fileName), child, tasks);
         }
     }
 
-    private void parseTorqSource(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName) throws Exception {
+    /*
+     * Parse one Torq source file. This method may be called concurrently for different files, therefore it records
+     * its messages in the result instead of adding them to the compiler.
+     */
+    private ParsedModule parseTorqSource(SourceFileBroker fileBroker, List<FileName> folderPath, FileName fileName) throws Exception {
+        List<Message> moduleMessages = new ArrayList<>();
         List<FileName> absolutePath = SourceFileBroker.append(folderPath, fileName);
         SourceString source = fileBroker.source(absolutePath);
         String absolutePathFormatted = formatFileNamesAsPath(absolutePath);
-        addTraceMessage("Parsing source module: " + absolutePathFormatted);
-        Parser parser = new Parser(source);
         List<FileName> qualifiedTorqFile = fileBroker.trimRoot(absolutePath);
         if (qualifiedTorqFile.size() < 2) {
             throw new TorqCompilerError("Missing package", messages);
         }
         List<FileName> torqPackage = qualifiedTorqFile.subList(0, qualifiedTorqFile.size() - 1);
-        ModuleStmt moduleStmt = parser.parseModule();
+        String contentHash = null;
+        ModuleStmt moduleStmt = null;
+        if (cache != null) {
+            contentHash = CompilationCache.contentHash(source.content());
+            moduleStmt = cache.findParsed(contentHash);
+        }
+        boolean cacheHit = moduleStmt != null;
+        if (cacheHit) {
+            addTraceMessage(moduleMessages, "Reusing cached source module: " + absolutePathFormatted);
+        } else {
+            addTraceMessage(moduleMessages, "Parsing source module: " + absolutePathFormatted);
+            Parser parser = new Parser(source);
+            moduleStmt = parser.parseModule();
+            if (cache != null) {
+                cache.putParsed(contentHash, moduleStmt);
+            }
+        }
         if (!equalsPackageStmt(torqPackage, moduleStmt.packageStmt)) {
             throw new TorqCompilerError("Package folder does not match package statement", messages);
         }
@@ -880,8 +1113,35 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
             qualifiedName = formatFileNamesAsQualifier(qualifiedTorqFile.subList(0, qualifiedTorqFile.size() - 1)) +
                 "." + simpleTorqFileName;
         }
-        modulesByAbsolutePath.put(absolutePathFormatted,
-            CompiledModule.createAfterParse(qualifiedName, absolutePath, qualifiedTorqFile, torqPackage, fileName, moduleStmt));
+        CompiledModule module = CompiledModule.createAfterParse(qualifiedName, absolutePath, qualifiedTorqFile,
+            torqPackage, fileName, moduleStmt);
+        module.setContentHash(contentHash);
+        return new ParsedModule(absolutePathFormatted, module, cacheHit, moduleMessages);
+    }
+
+    @Override
+    public final TorqCompilerReady setCache(CompilationCache cache) {
+        if (state != State.READY) {
+            throw new TorqCompilerError("Cannot setCache at state: " + state, messages);
+        }
+        this.cache = cache;
+        return this;
+    }
+
+    /*
+     * Set the number of threads used to parse and generate modules. The default parallelism of 1 compiles modules
+     * sequentially on the calling thread.
+     */
+    @Override
+    public final TorqCompilerReady setParallelism(int parallelism) {
+        if (state != State.READY) {
+            throw new TorqCompilerError("Cannot setParallelism at state: " + state, messages);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism < 1");
+        }
+        this.parallelism = parallelism;
+        return this;
     }
 
     @Override
@@ -914,4 +1174,12 @@ public class TorqCompiler implements PackageProvider, TorqCompilerReady, TorqCom
     private record FindExportResult(Lang lang, String stereotype, String nativeModule) {
     }
 
+    private record GeneratedModule(String absolutePath, CompiledModule module, Instr moduleInstr, String generateKey,
+                                   boolean cacheHit, boolean changed, List<Message> messages)
+    {
+    }
+
+    private record ParsedModule(String absolutePath, CompiledModule module, boolean cacheHit, List<Message> messages) {
+    }
+
 }
@@ -17,6 +17,10 @@ public interface TorqCompilerReady {
 
     TorqCompilerParsed parse() throws Exception;
 
+    TorqCompilerReady setCache(CompilationCache cache);
+
     TorqCompilerReady setLogger(LocalLogger logger);
 
+    TorqCompilerReady setParallelism(int parallelism);
+
 }
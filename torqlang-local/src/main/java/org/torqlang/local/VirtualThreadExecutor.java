@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * A VirtualThreadExecutor runs each dispatch on its own virtual thread. Actors never run concurrently with
+ * themselves, so a thread per dispatch is safe, and a native module that blocks on I/O parks its virtual thread
+ * instead of holding a carrier thread that other actors need.
+ *
+ * Virtual threads arrived in Java 21, but Torq targets Java 17. Therefore, virtual threads are located reflectively
+ * at runtime. On a runtime without virtual threads, this executor falls back to an unbounded pool of cached daemon
+ * platform threads. The fallback preserves the property that a blocked dispatch does not starve other actors, but
+ * not the low cost of virtual threads. Use `isVirtual()` to determine which kind of thread is in use.
+ */
+public final class VirtualThreadExecutor implements Executor {
+
+    private static final String THREAD_NAME_PREFIX = "torq-virtual-thread-";
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+        } catch (ReflectiveOperationException exc) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+    }
+
+    private final String name;
+    private final ThreadFactory virtualThreadFactory;
+    private final ExecutorService platformFallback;
+
+    public VirtualThreadExecutor(String name) {
+        this.name = name;
+        String threadNamePrefix = THREAD_NAME_PREFIX + name + "-";
+        if (OF_VIRTUAL != null) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), threadNamePrefix, 0L);
+                virtualThreadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException exc) {
+                throw new IllegalStateException("Cannot create virtual thread factory", exc);
+            }
+            platformFallback = null;
+        } else {
+            virtualThreadFactory = null;
+            AtomicLong threadCount = new AtomicLong();
+            platformFallback = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, threadNamePrefix + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /*
+     * Return true if the current Java runtime supports virtual threads.
+     */
+    public static boolean areVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    @Override
+    public final void execute(Runnable runnable) throws RejectedExecutionException {
+        if (virtualThreadFactory != null) {
+            virtualThreadFactory.newThread(runnable).start();
+        } else {
+            platformFallback.execute(runnable);
+        }
+    }
+
+    /*
+     * Return true if dispatches run on virtual threads, or false if they run on the platform thread fallback.
+     */
+    public final boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    public final String name() {
+        return name;
+    }
+
+    @Override
+    public final String toString() {
+        return "VirtualThreadExecutor{name='" + name + "', virtual=" + isVirtual() + "}";
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+package org.torqlang.local;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * A WorkStealingExecutor keeps the affinity design of AffinityExecutor as its default: a runnable is queued on the
+ * worker chosen by its hash code, which for an actor dispatcher is the actor's affinity ID. However, a worker that
+ * runs out of work steals whole runnables from the other workers, so skewed hash codes cannot leave some workers
+ * saturated while others are idle.
+ *
+ * Work stealing is safe for actors because an actor dispatcher is queued at most once at a time. Stealing moves an
+ * actor to another thread for one dispatch, but never runs an actor on two threads at once.
+ *
+ * Workers use non-blocking queues and park when idle. A producer that queues work for a busy worker unparks one idle
+ * worker so that it can steal. Workers may optionally be pinned to cores using a `CorePinner`.
+ */
+public final class WorkStealingExecutor implements Executor {
+
+    private static final String THREAD_NAME_PREFIX = "torq-stealing-thread-";
+
+    private final String name;
+    private final Worker[] workers;
+    private final CorePinner corePinner;
+
+    public WorkStealingExecutor(String name, int concurrency) {
+        this(name, concurrency, null);
+    }
+
+    public WorkStealingExecutor(String name, int concurrency, CorePinner corePinner) {
+        this.name = name;
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency < 1");
+        }
+        this.corePinner = corePinner;
+        workers = new Worker[concurrency];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    public final int concurrency() {
+        return workers.length;
+    }
+
+    @Override
+    public final void execute(Runnable runnable) throws RejectedExecutionException {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+        Worker worker = workers[Math.abs(runnable.hashCode() % workers.length)];
+        worker.queueDepth.incrementAndGet();
+        worker.queue.offer(runnable);
+        if (worker.idle) {
+            LockSupport.unpark(worker.thread);
+        } else {
+            signalIdleWorker(worker.index);
+        }
+    }
+
+    /*
+     * Return the number of runnables executed by the given worker, including runnables it stole.
+     */
+    public final long executedCount(int workerIndex) {
+        return workers[workerIndex].executedCount.get();
+    }
+
+    public final String name() {
+        return name;
+    }
+
+    /*
+     * Return the number of runnables waiting in the given worker's queue.
+     */
+    public final int queueDepth(int workerIndex) {
+        return workers[workerIndex].queueDepth.get();
+    }
+
+    private void signalIdleWorker(int busyIndex) {
+        for (int i = 1; i < workers.length; i++) {
+            Worker candidate = workers[(busyIndex + i) % workers.length];
+            if (candidate.idle) {
+                LockSupport.unpark(candidate.thread);
+                return;
+            }
+        }
+    }
+
+    /*
+     * Return the number of runnables the given worker stole from other workers.
+     */
+    public final long stealCount(int workerIndex) {
+        return workers[workerIndex].stealCount.get();
+    }
+
+    @Override
+    public final String toString() {
+        return "WorkStealingExecutor{name='" + name + "', size=" + workers.length + "}";
+    }
+
+    private final class Worker implements Runnable {
+
+        private final int index;
+        private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicLong executedCount = new AtomicLong();
+        private final AtomicLong stealCount = new AtomicLong();
+        private final Thread thread;
+
+        private volatile boolean idle;
+
+        private Worker(int index) {
+            this.index = index;
+            this.thread = new Thread(this, THREAD_NAME_PREFIX + name + "-" + index);
+        }
+
+        private Runnable poll() {
+            Runnable r = queue.poll();
+            if (r != null) {
+                queueDepth.decrementAndGet();
+            }
+            return r;
+        }
+
+        @SuppressWarnings("InfiniteLoopStatement")
+        @Override
+        public final void run() {
+            if (corePinner != null) {
+                corePinner.pin(name, index);
+            }
+            WorkerQueue.register(queueDepth::get);
+            while (true) {
+                Runnable r = poll();
+                if (r == null) {
+                    r = steal();
+                }
+                if (r == null) {
+                    // Announce that we are idle before checking again, so that a producer either sees us idle and
+                    // unparks us, or queues its work before we check.
+                    idle = true;
+                    r = poll();
+                    if (r == null) {
+                        r = steal();
+                    }
+                    if (r == null) {
+                        LockSupport.park(this);
+                        idle = false;
+                        continue;
+                    }
+                    idle = false;
+                }
+                executedCount.incrementAndGet();
+                try {
+                    r.run();
+                } catch (Throwable throwable) {
+                    System.err.println("WorkStealingExecutor task failed:\n" + throwable);
+                }
+            }
+        }
+
+        private Runnable steal() {
+            for (int i = 1; i < workers.length; i++) {
+                Runnable r = workers[(index + i) % workers.length].poll();
+                if (r != null) {
+                    stealCount.incrementAndGet();
+                    return r;
+                }
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import java.util.function.IntSupplier;
+
+/*
+ * Executor threads that keep their own queue of runnables register it here, so that a runnable can see how much work
+ * is waiting behind it on the same thread.
+ */
+final class WorkerQueue {
+
+    private static final ThreadLocal<IntSupplier> CURRENT_DEPTH = new ThreadLocal<>();
+
+    private WorkerQueue() {
+    }
+
+    /*
+     * Return the number of runnables queued on the current executor thread, or -1 if the current thread is not a
+     * registered executor thread.
+     */
+    static int currentDepth() {
+        IntSupplier depth = CURRENT_DEPTH.get();
+        return depth != null ? depth.getAsInt() : -1;
+    }
+
+    static void register(IntSupplier depth) {
+        CURRENT_DEPTH.set(depth);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestActorImagePool {
+
+    private static final String SOURCE = """
+        actor Pooled() in
+            handle ask 'fail' in
+                throw 'error'#{'message': 'Failed as requested'}
+            end
+            handle ask {'double': n} in
+                n * 2
+            end
+            handle tell 'wait' in
+                var x
+                x + 1
+            end
+        end""";
+
+    private static Object ask(ActorRef actorRef, Complete message) throws Exception {
+        return RequestClient.builder()
+            .setAddress(Address.create(TestActorImagePool.class.getName() + "Client"))
+            .send(actorRef, message)
+            .awaitResponse(1, TimeUnit.SECONDS);
+    }
+
+    private static void awaitCount(long expected, LongSupplier count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (count.getAsLong() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, count.getAsLong());
+    }
+
+    @Test
+    public void testCheckoutAndCheckin() throws Exception {
+        ActorImage image = Actor.builder().actorImage(SOURCE);
+        ActorImagePool pool = new ActorImagePool(Address.create(getClass().getName() + "Actor"), image, 2);
+        assertEquals(2, pool.idleCount());
+
+        CompleteRec m = Rec.completeRecBuilder().addField(Str.of("double"), Int32.of(21)).build();
+        ActorRef first = pool.checkout();
+        ActorRef second = pool.checkout();
+        ActorRef third = pool.checkout();
+        assertEquals(2, pool.hitCount());
+        assertEquals(1, pool.missCount());
+        assertEquals(0, pool.idleCount());
+        assertEquals(Int32.of(42), ask(first, m));
+        assertEquals(Int32.of(42), ask(second, m));
+        assertEquals(Int32.of(42), ask(third, m));
+        pool.checkin(first);
+        pool.checkin(second);
+        pool.checkin(third);
+        // The pool is bounded, so one of the three actors is evicted
+        awaitCount(2, pool::idleCount);
+        awaitCount(1, pool::evictionCount);
+
+        // A reused actor serves the next request as if newly spawned
+        ActorRef reused = pool.checkout();
+        assertTrue(reused == first || reused == second || reused == third);
+        assertEquals(3, pool.hitCount());
+        assertEquals(Int32.of(42), ask(reused, m));
+    }
+
+    @Test
+    public void testEvictFailedAndWaiting() throws Exception {
+        ActorImage image = Actor.builder().actorImage(SOURCE);
+        ActorImagePool pool = new ActorImagePool(Address.create(getClass().getName() + "Actor"), image, 2);
+
+        ActorRef failed = pool.checkout();
+        Object response = ask(failed, Str.of("fail"));
+        assertInstanceOf(FailedValue.class, response);
+        pool.checkin(failed);
+        awaitCount(1, pool::evictionCount);
+
+        ActorRef waiting = pool.checkout();
+        waiting.send(Envelope.createNotify(Str.of("wait")));
+        // Control messages are selected before notifications, so let the actor begin waiting before recycling it
+        Thread.sleep(100);
+        pool.checkin(waiting);
+        awaitCount(2, pool::evictionCount);
+        assertEquals(0, pool.idleCount());
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.torqlang.klvm.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestActorImageSnapshot {
+
+    private static final String HELLO_FACTORIAL_SOURCE = """
+        actor HelloFactorial() in
+            func fact(x) in
+                func fact_cps(n, k) in
+                    if n < 2m then
+                        k
+                    else
+                        fact_cps(n - 1m, n * k)
+                    end
+                end
+                fact_cps(x, 1m)
+            end
+            handle ask {'hello': num} in
+                'Hello, ' + num + '! is ' + fact(num)
+            end
+        end""";
+
+    private static final String SUM_TUPLE_SOURCE = """
+        actor SumTuple() in
+            import torq.lang.{Cell, ValueIter}
+            var one_thru_five = [1, 2, 3, 4, 5]
+            handle ask 'perform' in
+                var sum = new Cell(0)
+                for i in new ValueIter(one_thru_five) do
+                    sum := @sum + i
+                end
+                @sum
+            end
+        end""";
+
+    private Object ask(ActorImage image, Complete message) throws Exception {
+        ActorRef actorRef = Actor.spawn(Address.create(getClass().getName() + "Actor"), image);
+        return RequestClient.builder()
+            .setAddress(Address.create(getClass().getName() + "Client"))
+            .send(actorRef, message)
+            .awaitResponse(100, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testHelloFactorial(@TempDir Path directory) throws Exception {
+        Path snapshotPath = directory.resolve("HelloFactorial.tqi");
+        ActorImage captured = Actor.builder().actorImage(HELLO_FACTORIAL_SOURCE, snapshotPath);
+        assertTrue(Files.exists(snapshotPath));
+
+        // The restored handlers are complete closures, and the recursive closure `fact_cps` captures itself
+        String key = ActorImageSnapshot.key(HELLO_FACTORIAL_SOURCE);
+        ActorImage restored = ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath, key);
+        assertNotNull(restored);
+        assertInstanceOf(CompleteClosure.class, restored.askHandlerEntry.var.valueOrVarSet());
+        assertNotSame(captured.askHandlerEntry, restored.askHandlerEntry);
+
+        CompleteRec m = Rec.completeRecBuilder().addField(Str.of("hello"), Dec128.of(10)).build();
+        assertEquals(Str.of("Hello, 10! is 3628800"), ask(captured, m));
+        assertEquals(Str.of("Hello, 10! is 3628800"), ask(restored, m));
+        // A restored image can be spawned many times
+        assertEquals(Str.of("Hello, 10! is 3628800"), ask(restored, m));
+    }
+
+    @Test
+    public void testNativeMembers(@TempDir Path directory) throws Exception {
+        // The handler captures the native classes `Cell` and `ValueIter`, which are written by name
+        Path snapshotPath = directory.resolve("SumTuple.tqi");
+        Actor.builder().actorImage(SUM_TUPLE_SOURCE, snapshotPath);
+        ActorImage restored = Actor.builder().actorImage(SUM_TUPLE_SOURCE, snapshotPath);
+        assertInstanceOf(CompleteClosure.class, restored.askHandlerEntry.var.valueOrVarSet());
+        assertEquals(Int32.of(15), ask(restored, Str.of("perform")));
+    }
+
+    @Test
+    public void testStaleSnapshot(@TempDir Path directory) throws Exception {
+        Path snapshotPath = directory.resolve("HelloFactorial.tqi");
+        Actor.builder().actorImage(HELLO_FACTORIAL_SOURCE, snapshotPath);
+        assertNull(ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath, "other-key"));
+
+        // A snapshot of a different source is replaced
+        String changedSource = HELLO_FACTORIAL_SOURCE.replace("'Hello, '", "'Hi, '");
+        ActorImage image = Actor.builder().actorImage(changedSource, snapshotPath);
+        CompleteRec m = Rec.completeRecBuilder().addField(Str.of("hello"), Dec128.of(3)).build();
+        assertEquals(Str.of("Hi, 3! is 6"), ask(image, m));
+        assertNotNull(ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath,
+            ActorImageSnapshot.key(changedSource)));
+
+        // A snapshot of the same source captured by a different compiler version is replaced
+        String earlierKey = ActorImageSnapshot.key(CompilationCache.COMPILER_VERSION - 1, changedSource);
+        assertNotEquals(earlierKey, ActorImageSnapshot.key(changedSource));
+        ActorImageSnapshot.write(image, snapshotPath, earlierKey);
+        assertNull(ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath,
+            ActorImageSnapshot.key(changedSource)));
+        image = Actor.builder().actorImage(changedSource, snapshotPath);
+        assertEquals(Str.of("Hi, 3! is 6"), ask(image, m));
+        assertNull(ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath, earlierKey));
+        assertNotNull(ActorImageSnapshot.read(ActorSystem.defaultSystem(), snapshotPath,
+            ActorImageSnapshot.key(changedSource)));
+    }
+
+}
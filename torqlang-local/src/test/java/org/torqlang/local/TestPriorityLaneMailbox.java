@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPriorityLaneMailbox {
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int producerCount = 8;
+        int messagesPerProducer = 10_000;
+        PriorityLaneMailbox mailbox = new PriorityLaneMailbox();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exc) {
+                    throw new IllegalStateException(exc);
+                }
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    mailbox.add(Envelope.createNotify(new int[]{producer, i}));
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        // Consume while producing and verify that each producer's messages arrive in the order sent
+        int[] nextExpected = new int[producerCount];
+        int received = 0;
+        while (received < producerCount * messagesPerProducer) {
+            Envelope next = mailbox.remove();
+            if (next == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int[] message = (int[]) next.message();
+            assertEquals(nextExpected[message[0]], message[1]);
+            nextExpected[message[0]]++;
+            received++;
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        assertTrue(mailbox.isEmpty());
+        assertNull(mailbox.remove());
+    }
+
+    @Test
+    public void testPriority() {
+        PriorityLaneMailbox mailbox = new PriorityLaneMailbox();
+        assertTrue(mailbox.isEmpty());
+        assertNull(mailbox.peek());
+        assertNull(mailbox.remove());
+
+        ActorRef requester = new ActorRef() {
+            @Override
+            public Address address() {
+                return Address.create("requester");
+            }
+
+            @Override
+            public void send(Envelope envelope) {
+            }
+        };
+        Envelope request1 = Envelope.createRequest("request-1", requester, 1);
+        Envelope notify2 = Envelope.createNotify("notify-2");
+        Envelope response3 = Envelope.createResponse("response-3", 3);
+        Envelope response4 = Envelope.createResponse("response-4", 4);
+        Envelope control5 = Envelope.createControlNotify("control-5");
+        Envelope controlResponse6 = Envelope.createControlResponse("control-response-6", 6);
+
+        mailbox.add(request1);
+        mailbox.add(notify2);
+        mailbox.add(response3);
+        mailbox.add(response4);
+        mailbox.add(control5);
+        mailbox.add(controlResponse6);
+        assertEquals(6, mailbox.size());
+
+        assertSame(controlResponse6, mailbox.peek());
+        assertSame(controlResponse6, mailbox.remove());
+        assertSame(control5, mailbox.remove());
+        assertSame(response3, mailbox.removeNextIf(Envelope::isResponse));
+        assertSame(response4, mailbox.removeNextIf(Envelope::isResponse));
+        assertNull(mailbox.removeNextIf(Envelope::isResponse));
+        assertEquals(2, mailbox.size());
+        assertSame(request1, mailbox.remove());
+        assertSame(notify2, mailbox.remove());
+        assertTrue(mailbox.isEmpty());
+        assertEquals(0, mailbox.size());
+    }
+
+}
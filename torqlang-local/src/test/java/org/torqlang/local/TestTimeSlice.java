@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.Int32;
+import org.torqlang.klvm.Str;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTimeSlice {
+
+    private static final String SPIN_SOURCE = """
+        actor Spin() in
+            func loop(n, acc) in
+                if n == 0 then
+                    acc
+                else
+                    loop(n - 1, acc + 1)
+                end
+            end
+            handle ask 'spin' in
+                loop(20000, 0)
+            end
+        end""";
+
+    private static Object askSpin(ActorBuilderInit builder, String name) throws Exception {
+        ActorRef actorRef = builder
+            .setAddress(Address.create(name + "Actor"))
+            .setSource(SPIN_SOURCE)
+            .spawn()
+            .actorRef();
+        return RequestClient.builder()
+            .setAddress(Address.create(name + "Client"))
+            .send(actorRef, Str.of("spin"))
+            .awaitResponse(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testAdaptiveActor() throws Exception {
+        ActorSystem system = ActorSystem.builder()
+            .setName("TestAdaptiveActor")
+            .setExecutorMode(ExecutorMode.WORK_STEALING)
+            .setConcurrency(1)
+            .addDefaultPackages()
+            .build();
+        TimeSlice timeSlice = TimeSlice.adaptive(100, 100, 100_000);
+        Object response = askSpin(Actor.builder().setSystem(system).setTimeSlice(timeSlice), "TestAdaptiveActor");
+        assertEquals(Int32.of(20000), response);
+        // Alone on its worker with an empty mailbox, the actor grows its time slice and continues in place
+        assertTrue(timeSlice.exhaustedCount() > 0);
+        assertTrue(timeSlice.resumeCount() < timeSlice.exhaustedCount());
+    }
+
+    @Test
+    public void testFixedActor() throws Exception {
+        TimeSlice timeSlice = TimeSlice.fixed(100);
+        Object response = askSpin(Actor.builder().setTimeSlice(timeSlice), "TestFixedActor");
+        assertEquals(Int32.of(20000), response);
+        // A fixed time slice always resumes by message
+        assertTrue(timeSlice.exhaustedCount() > 0);
+        assertEquals(timeSlice.exhaustedCount(), timeSlice.resumeCount());
+    }
+
+    @Test
+    public void testNextSize() {
+        TimeSlice fixed = TimeSlice.fixed(1_000);
+        assertFalse(fixed.isAdaptive());
+        assertEquals(1_000, fixed.nextSize(1_000, true, 0));
+        assertEquals(1_000, fixed.nextSize(1_000, false, 5));
+
+        TimeSlice adaptive = TimeSlice.adaptive(100, 1_000, 4_000);
+        assertTrue(adaptive.isAdaptive());
+        // Shrink while other runnables are queued on the worker
+        assertEquals(500, adaptive.nextSize(1_000, true, 1));
+        assertEquals(100, adaptive.nextSize(150, false, 3));
+        // Grow while nothing else is waiting
+        assertEquals(2_000, adaptive.nextSize(1_000, true, 0));
+        assertEquals(4_000, adaptive.nextSize(3_000, true, -1));
+        // Hold while messages are waiting in the mailbox
+        assertEquals(1_000, adaptive.nextSize(1_000, false, 0));
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> TimeSlice.fixed(0));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlice.adaptive(100, 50, 1_000));
+        assertThrows(IllegalArgumentException.class, () -> TimeSlice.adaptive(100, 2_000, 1_000));
+        assertEquals(TimeSlice.DEFAULT_SIZE, ActorSystem.defaultSystem().timeSlice().initialSize());
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.torqlang.util.FileName;
+import org.torqlang.util.FileType;
+import org.torqlang.util.LoggerLevel;
+import org.torqlang.util.Message;
+import org.torqlang.util.SourceFile;
+import org.torqlang.util.SourceFileBroker;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTorqCompiler {
+
+    private static final String DOUBLER_SOURCE = """
+        package d
+
+        meta#{'export': true, 'stereotype': 'api'}
+        actor Doubler() in
+            meta#{'export': true}
+            handle ask 'GET'#{'headers': headers, 'path': ['double', n::Int32], 'query': query, 'context': context} -> Int32 in
+                n * 2
+            end
+        end""";
+
+    private static final String LINE_SOURCE = """
+        package b
+
+        import a.Point
+
+        meta#{'export': true}
+        type Line = {'from': Point, 'to': Point}""";
+
+    private static final String POINT_SOURCE = """
+        package a
+
+        meta#{'export': true}
+        type Point = {'x': Int32, 'y': Int32}""";
+
+    private static final String SIZE_SOURCE = """
+        package c
+
+        meta#{'export': true}
+        type Size = {'width': Int32, 'height': Int32}""";
+
+    private static TorqCompilerBundled compile(SourceFileBroker broker, CompilationCache cache) throws Exception {
+        return TorqCompiler.create()
+            .setWorkspace(List.of(broker))
+            .setCache(cache)
+            .parse()
+            .collect()
+            .generate()
+            .bundle();
+    }
+
+    private static TorqCompilerBundled compile(List<SourceFileBroker> workspace, int parallelism) throws Exception {
+        return TorqCompiler.create()
+            .setWorkspace(workspace)
+            .setParallelism(parallelism)
+            .parse()
+            .collect()
+            .generate()
+            .bundle();
+    }
+
+    private static int indexOfMessage(TorqCompilerBundled compiled, String text) {
+        for (int i = 0; i < compiled.messages().size(); i++) {
+            if (compiled.messages().get(i).message().equals(text)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasMessage(TorqCompilerBundled compiled, String text) {
+        for (Message message : compiled.messages()) {
+            if (message.message().equals(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testCacheReusesUnchangedModules() throws Exception {
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("a/Point.torq", POINT_SOURCE);
+        broker.put("b/Line.torq", LINE_SOURCE);
+        broker.put("c/Size.torq", SIZE_SOURCE);
+        CompilationCache cache = CompilationCache.create();
+
+        TorqCompilerBundled compiled = compile(broker, cache);
+        assertEquals(3, compiled.modules().size());
+        assertEquals(0, cache.parseHitCount());
+        assertEquals(3, cache.parseMissCount());
+        assertEquals(0, cache.generateHitCount());
+        assertEquals(3, cache.generateMissCount());
+        assertTrue(hasMessage(compiled, "Compilation cache: parsed 3 of 3 modules, reused 0 (0% hits)"));
+        assertTrue(hasMessage(compiled, "Compilation cache: generated 3 of 3 modules, reused 0 (0% hits)"));
+
+        // Nothing changed, therefore nothing is parsed or generated again
+        TorqCompilerBundled recompiled = compile(broker, cache);
+        assertEquals(3, cache.parseHitCount());
+        assertEquals(3, cache.generateHitCount());
+        assertTrue(hasMessage(recompiled, "Compilation cache: parsed 0 of 3 modules, reused 3 (100% hits)"));
+        assertTrue(hasMessage(recompiled, "Compilation cache: generated 0 of 3 modules, reused 3 (100% hits)"));
+        for (String path : compiled.modules().keySet()) {
+            assertSame(compiled.modules().get(path).moduleStmt(), recompiled.modules().get(path).moduleStmt());
+            assertSame(compiled.modules().get(path).moduleInstr(), recompiled.modules().get(path).moduleInstr());
+        }
+
+        // Changing Point parses Point again, and generates Point and its dependent Line again
+        broker.put("a/Point.torq", POINT_SOURCE + "\n");
+        recompiled = compile(broker, cache);
+        assertEquals(5, cache.parseHitCount());
+        assertEquals(4, cache.parseMissCount());
+        assertEquals(4, cache.generateHitCount());
+        assertEquals(5, cache.generateMissCount());
+        assertTrue(hasMessage(recompiled, "Compilation cache: parsed 1 of 3 modules, reused 2 (67% hits)"));
+        assertTrue(hasMessage(recompiled, "Compilation cache: generated 2 of 3 modules, reused 1 (33% hits)"));
+        assertSame(compiled.modules().get("c/Size.torq").moduleInstr(),
+            recompiled.modules().get("c/Size.torq").moduleInstr());
+        assertNotSame(compiled.modules().get("b/Line.torq").moduleInstr(),
+            recompiled.modules().get("b/Line.torq").moduleInstr());
+    }
+
+    @Test
+    public void testCacheIndex(@TempDir Path directory) throws Exception {
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("a/Point.torq", POINT_SOURCE);
+        broker.put("b/Line.torq", LINE_SOURCE);
+        broker.put("c/Size.torq", SIZE_SOURCE);
+
+        TorqCompilerBundled compiled = compile(broker, CompilationCache.create(directory));
+        assertTrue(Files.exists(directory.resolve(CompilationCache.INDEX_FILE_NAME)));
+        assertTrue(hasMessage(compiled, "Compilation cache: 3 of 3 modules changed since the last build"));
+
+        // A new cache over the same directory, as after a restart, knows which modules changed
+        broker.put("c/Size.torq", SIZE_SOURCE + "\n");
+        compiled = compile(broker, CompilationCache.create(directory));
+        assertTrue(hasMessage(compiled, "Compilation cache: 1 of 3 modules changed since the last build"));
+        compiled = compile(broker, CompilationCache.create(directory));
+        assertTrue(hasMessage(compiled, "Compilation cache: 0 of 3 modules changed since the last build"));
+    }
+
+    @Test
+    public void testCacheLoadsGeneratedModules(@TempDir Path directory) throws Exception {
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("a/Point.torq", POINT_SOURCE);
+        broker.put("d/Doubler.torq", DOUBLER_SOURCE);
+
+        // Only Doubler is written, because Point defines a type that holds an opaque value
+        TorqCompilerBundled compiled = compile(broker, CompilationCache.create(directory));
+        List<Path> generatedPaths = new ArrayList<>();
+        String glob = "*" + CompilationCache.GENERATED_FILE_SUFFIX;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            stream.forEach(generatedPaths::add);
+        }
+        assertEquals(1, generatedPaths.size());
+
+        // A new cache over the same directory, as after a restart, loads Doubler instead of generating it
+        CompilationCache cache = CompilationCache.create(directory);
+        TorqCompilerBundled recompiled = compile(broker, cache);
+        assertEquals(1, cache.generateHitCount());
+        assertEquals(1, cache.generateLoadCount());
+        assertTrue(hasMessage(recompiled, "Compilation cache: generated 1 of 2 modules, reused 1 (50% hits)"));
+        for (String path : compiled.modules().keySet()) {
+            assertEquals(compiled.modules().get(path).moduleInstr().toString(),
+                recompiled.modules().get(path).moduleInstr().toString());
+        }
+
+        // A file that cannot be read is ignored, and its module is generated and written again
+        Files.write(generatedPaths.get(0), new byte[]{0, 1, 2, 3});
+        cache = CompilationCache.create(directory);
+        compile(broker, cache);
+        assertEquals(0, cache.generateLoadCount());
+        assertEquals(2, cache.generateMissCount());
+        cache = CompilationCache.create(directory);
+        compile(broker, cache);
+        assertEquals(1, cache.generateLoadCount());
+    }
+
+    @Test
+    public void testCacheIgnoresOtherCompilerVersion(@TempDir Path directory) throws Exception {
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("d/Doubler.torq", DOUBLER_SOURCE);
+
+        // Files written by an earlier compiler are not loaded, and every module is reported as changed
+        int earlierVersion = CompilationCache.COMPILER_VERSION - 1;
+        compile(broker, CompilationCache.create(directory, earlierVersion));
+        CompilationCache cache = CompilationCache.create(directory, earlierVersion);
+        compile(broker, cache);
+        assertEquals(1, cache.generateLoadCount());
+        cache = CompilationCache.create(directory);
+        TorqCompilerBundled compiled = compile(broker, cache);
+        assertEquals(0, cache.generateLoadCount());
+        assertEquals(1, cache.generateMissCount());
+        assertTrue(hasMessage(compiled, "Compilation cache: 1 of 1 modules changed since the last build"));
+
+        // The current compiler writes its own file, which it loads after a restart
+        cache = CompilationCache.create(directory);
+        compile(broker, cache);
+        assertEquals(1, cache.generateLoadCount());
+    }
+
+    @Test
+    public void testGenerateKey() {
+        String pointHash = CompilationCache.contentHash(POINT_SOURCE);
+        assertEquals(64, pointHash.length());
+        assertEquals(pointHash, CompilationCache.contentHash(POINT_SOURCE));
+        assertNotEquals(pointHash, CompilationCache.contentHash(LINE_SOURCE));
+        String lineHash = CompilationCache.contentHash(LINE_SOURCE);
+        String key = CompilationCache.generateKey(lineHash, Map.of("a.Point", pointHash));
+        assertNotEquals(key, CompilationCache.generateKey(lineHash, Map.of()));
+        assertNotEquals(key, CompilationCache.generateKey(lineHash,
+            Map.of("a.Point", CompilationCache.contentHash(POINT_SOURCE + "\n"))));
+        Map<String, String> imports = new TreeMap<>(Map.of("a.Point", pointHash, "c.Size", lineHash));
+        assertEquals(CompilationCache.generateKey(lineHash, imports),
+            CompilationCache.generateKey(lineHash, Map.of("c.Size", lineHash, "a.Point", pointHash)));
+        assertEquals(key, CompilationCache.generateKey(CompilationCache.COMPILER_VERSION, lineHash,
+            Map.of("a.Point", pointHash)));
+        assertNotEquals(key, CompilationCache.generateKey(CompilationCache.COMPILER_VERSION + 1, lineHash,
+            Map.of("a.Point", pointHash)));
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws Exception {
+        // Line is in package 'a' and imports Point from package 'b', so import order differs from path order
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("a/Line.torq", LINE_SOURCE.replace("package b", "package a").replace("a.Point", "b.Point"));
+        broker.put("b/Point.torq", POINT_SOURCE.replace("package a", "package b"));
+        for (int i = 0; i < 20; i++) {
+            broker.put("c/Size" + i + ".torq", SIZE_SOURCE.replace("Size", "Size" + i));
+        }
+        List<SourceFileBroker> workspace = List.of(StandardLibraryBroker.get(), broker);
+        LocalLogger logger = ConsoleLogger.global();
+        LoggerLevel threshold = logger.threshold();
+        logger.setThreshold(LoggerLevel.TRACE);
+        try {
+            TorqCompilerBundled sequential = compile(workspace, 1);
+            TorqCompilerBundled parallel = compile(workspace, 4);
+            assertEquals(38, parallel.modules().size());
+            assertEquals(sequential.messages(), parallel.messages());
+            for (String path : sequential.modules().keySet()) {
+                assertEquals(sequential.modules().get(path).moduleInstr().toString(),
+                    parallel.modules().get(path).moduleInstr().toString());
+            }
+            int pointIndex = indexOfMessage(parallel, "Generating b/Point.torq");
+            int lineIndex = indexOfMessage(parallel, "Generating a/Line.torq");
+            assertTrue(pointIndex != -1 && lineIndex != -1);
+            assertTrue(pointIndex < lineIndex);
+        } finally {
+            logger.setThreshold(threshold);
+        }
+    }
+
+    @Test
+    public void testParallelParseError() {
+        MemoryFileBroker broker = new MemoryFileBroker();
+        broker.put("a/Point.torq", POINT_SOURCE);
+        broker.put("b/Line.torq", LINE_SOURCE);
+        broker.put("c/Size.torq", SIZE_SOURCE.replace("package c", "package d"));
+        TorqCompilerError error = assertThrows(TorqCompilerError.class, () -> compile(List.of(broker), 4));
+        assertEquals("Package folder does not match package statement", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TorqCompiler.create().setParallelism(0));
+    }
+
+    /*
+     * A file broker over source held in memory, keyed by a path such as "a/Point.torq".
+     */
+    private static final class MemoryFileBroker implements SourceFileBroker {
+
+        private final Map<String, String> sources = new TreeMap<>();
+
+        private static String formatPath(List<FileName> path) {
+            List<String> values = new ArrayList<>();
+            for (FileName fileName : path) {
+                values.add(fileName.value());
+            }
+            return String.join("/", values);
+        }
+
+        @Override
+        public final List<FileName> list(List<FileName> absolutePath) {
+            String prefix = absolutePath.isEmpty() ? "" : formatPath(absolutePath) + "/";
+            List<FileName> answer = new ArrayList<>();
+            for (String path : sources.keySet()) {
+                if (path.startsWith(prefix)) {
+                    String rest = path.substring(prefix.length());
+                    int slash = rest.indexOf('/');
+                    FileName fileName = slash == -1 ? new FileName(FileType.SOURCE, rest) :
+                        new FileName(FileType.FOLDER, rest.substring(0, slash));
+                    if (!answer.contains(fileName)) {
+                        answer.add(fileName);
+                    }
+                }
+            }
+            return answer;
+        }
+
+        final void put(String path, String source) {
+            sources.put(path, source);
+        }
+
+        @Override
+        public final List<List<FileName>> roots() {
+            return List.of(List.of());
+        }
+
+        @Override
+        public final SourceFile source(List<FileName> path) {
+            String content = sources.get(formatPath(path));
+            return new SourceFile() {
+                @Override
+                public SourceFileBroker broker() {
+                    return MemoryFileBroker.this;
+                }
+
+                @Override
+                public char charAt(int index) {
+                    return content.charAt(index);
+                }
+
+                @Override
+                public boolean containsIndex(int index) {
+                    return index > -1 && index < content.length();
+                }
+
+                @Override
+                public String content() {
+                    return content;
+                }
+
+                @Override
+                public boolean isEmpty() {
+                    return content.isEmpty();
+                }
+
+                @Override
+                public List<FileName> path() {
+                    return path;
+                }
+
+                @Override
+                public String substring(int beginIndex, int endIndex) {
+                    return content.substring(beginIndex, endIndex);
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.Int32;
+import org.torqlang.klvm.Str;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestVirtualThreadExecutor {
+
+    @Test
+    public void testAskCounter() throws Exception {
+        String source = """
+            actor Counter() in
+                import torq.lang.Cell
+                var count = new Cell(0)
+                handle ask 'count' in
+                    @count
+                end
+                handle tell 'increment' in
+                    count := @count + 1
+                end
+            end""";
+        ActorSystem system = ActorSystem.builder()
+            .setName("TestVirtualThreadExecutor")
+            .setExecutorMode(ExecutorMode.VIRTUAL)
+            .build();
+        VirtualThreadExecutor executor = assertInstanceOf(VirtualThreadExecutor.class, system.executor());
+        assertEquals(VirtualThreadExecutor.areVirtualThreadsSupported(), executor.isVirtual());
+        ActorRef counter = Actor.builder()
+            .setSystem(system)
+            .setAddress(Address.create(getClass().getName() + "Counter"))
+            .spawn(source)
+            .actorRef();
+        for (int i = 0; i < 100; i++) {
+            counter.send(Envelope.createNotify(Str.of("increment")));
+        }
+        Object response = RequestClient.builder()
+            .setAddress(Address.create(getClass().getName() + "Client"))
+            .send(counter, Str.of("count"))
+            .awaitResponse(5, TimeUnit.SECONDS);
+        assertEquals(Int32.of(100), response);
+    }
+
+    @Test
+    public void testBlockedDispatchDoesNotStarveOthers() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("TestBlocked");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException exc) {
+                throw new IllegalStateException(exc);
+            }
+        });
+        executor.execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.local;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestWorkStealingExecutor {
+
+    @Test
+    public void testCorePinner() throws Exception {
+        int concurrency = 3;
+        Set<Integer> pinned = ConcurrentHashMap.newKeySet();
+        CountDownLatch allPinned = new CountDownLatch(concurrency);
+        ActorSystem system = ActorSystem.builder()
+            .setName("TestCorePinner")
+            .setExecutorMode(ExecutorMode.WORK_STEALING)
+            .setConcurrency(concurrency)
+            .setCorePinner((executorName, workerIndex) -> {
+                assertEquals("TestCorePinner", executorName);
+                pinned.add(workerIndex);
+                allPinned.countDown();
+            })
+            .build();
+        WorkStealingExecutor executor = (WorkStealingExecutor) system.executor();
+        assertEquals(concurrency, executor.concurrency());
+        assertTrue(allPinned.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of(0, 1, 2), pinned);
+    }
+
+    @Test
+    public void testStealFromBusyWorker() throws Exception {
+        int concurrency = 4;
+        int taskCount = 1_000;
+        WorkStealingExecutor executor = new WorkStealingExecutor("TestSteal", concurrency);
+        // Occupy one worker so that everything else queued with its affinity must be stolen. The blocking task
+        // normally runs on worker 0, but a worker that is still starting may steal it, so find out where it runs.
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger busyIndex = new AtomicInteger();
+        executor.execute(new AffinityTask(0, () -> {
+            String threadName = Thread.currentThread().getName();
+            busyIndex.set(Integer.parseInt(threadName.substring(threadName.lastIndexOf('-') + 1)));
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exc) {
+                throw new IllegalStateException(exc);
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        int busy = busyIndex.get();
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(new AffinityTask(busy, () -> {
+                executed.incrementAndGet();
+                done.countDown();
+            }));
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals(taskCount, executed.get());
+        long stolen = 0;
+        for (int i = 0; i < concurrency; i++) {
+            if (i != busy) {
+                stolen += executor.stealCount(i);
+            }
+        }
+        assertTrue(stolen >= taskCount);
+        for (int i = 0; i < concurrency; i++) {
+            assertEquals(0, executor.queueDepth(i));
+        }
+    }
+
+    private static final class AffinityTask implements Runnable {
+        private final int affinity;
+        private final Runnable body;
+
+        private AffinityTask(int affinity, Runnable body) {
+            this.affinity = affinity;
+            this.body = body;
+        }
+
+        @Override
+        public final int hashCode() {
+            return affinity;
+        }
+
+        @Override
+        public final void run() {
+            body.run();
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ module org.torqlang.server {
 
     requires org.eclipse.jetty.server;
     requires org.eclipse.jetty.http2.server;
+    requires org.eclipse.jetty.util;
 
     exports org.torqlang.server;
 }
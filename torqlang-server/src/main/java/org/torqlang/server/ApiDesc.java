@@ -17,6 +17,8 @@ import org.torqlang.lang.RecType;
 import org.torqlang.lang.TupleType;
 import org.torqlang.lang.Type;
 
+import java.nio.ByteBuffer;
+
 /*
  * An API description bundles together types and methods for transforming HTTP text to and from kernel values.
  */
@@ -45,6 +47,18 @@ public interface ApiDesc {
     CompleteRec toRequestRec(String method, CompleteTuple pathTuple, CompleteRec headersRec, CompleteRec queryRec,
                              CompleteRec contextRec, String requestText);
 
+    /*
+     * Same as the `String` variant, but read the request body directly from its UTF-8 bytes. A null body means the
+     * request has no body, such as a GET request.
+     */
+    CompleteRec toRequestRec(String method, CompleteTuple pathTuple, CompleteRec headersRec, CompleteRec queryRec,
+                             CompleteRec contextRec, ByteBuffer requestBody);
+
+    /*
+     * Return a writer that streams the response as UTF-8 JSON.
+     */
+    JsonKernelWriter toResponseBodyWriter(Complete responseRec);
+
     String toResponseBodyText(Complete responseRec);
 
 }
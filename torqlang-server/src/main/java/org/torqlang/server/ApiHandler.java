@@ -10,18 +10,21 @@ package org.torqlang.server;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.ByteBufferPool;
 import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.io.RetainableByteBuffer;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Response;
 import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.IteratingCallback;
 import org.torqlang.klvm.*;
 import org.torqlang.local.*;
 import org.torqlang.server.ApiTarget.ApiTargetImage;
 import org.torqlang.server.ApiTarget.ApiTargetRef;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 public final class ApiHandler extends Handler.Abstract.NonBlocking {
 
@@ -29,6 +32,7 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
     private static final String TEXT_PLAIN_CHARSET_UTF_8 = "text/plain; charset=utf-8";
 
     private static final String RESPONSE_ADDRESS_PREFIX = "ApiHandler.ResponseAddress";
+    private static final int RESPONSE_BUFFER_SIZE = 8192;
 
     private final ActorSystem system;
     private final ApiRouter router;
@@ -44,16 +48,15 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
 
     @Override
     public final boolean handle(final Request request, final Response response, final Callback callback) {
-        // This method simply sends a request message. However, if a text body can be present, we must first
-        // retrieve the text asynchronously.
+        // This method simply sends a request message. However, if a body can be present, we must first retrieve its
+        // bytes asynchronously.
         final String method = request.getMethod();
-        final String pathInContext = URLDecoder.decode(Request.getPathInContext(request), StandardCharsets.UTF_8);
-        final ApiPath path = ApiPath.parse(pathInContext);
-        final ApiRoute route = router.findRoute(path);
-        if (route == null) {
+        final ApiRouteMatch match = router.findRoute(method, Request.getPathInContext(request));
+        if (match == null) {
             Response.writeError(request, response, callback, HttpStatus.NOT_FOUND_404);
             return true;
         }
+        final ApiRoute route = match.route();
         if (route.rateLimiter != null) {
             // Checking if the rate is exceeded also records rate usage
             if (route.rateLimiter.rateExceeded()) {
@@ -61,7 +64,7 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
                 return true;
             }
         }
-        final CompleteTuple pathTuple = route.desc.toPathTuple(path);
+        final CompleteTuple pathTuple = route.desc.toPathTuple(match.path());
         final CompleteRec headersRec = route.desc.toHeadersRec(request.getHeaders());
         final CompleteRec queryRec = route.desc.toQueryRec(Request.extractQueryParameters(request));
         final CompleteRec contextRec = route.desc.toContextRec(request);
@@ -69,31 +72,46 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
             sendRequestMessage(request, response, callback, route, headersRec, method, pathTuple, queryRec,
                 contextRec, null);
         } else {
-            Content.Source.asStringAsync(request, StandardCharsets.UTF_8)
-                .thenAccept((requestText -> sendRequestMessage(request, response, callback, route, headersRec, method, pathTuple,
-                    queryRec, contextRec, requestText)));
+            readRequestBody(request)
+                .thenAccept((requestBody -> sendRequestMessage(request, response, callback, route, headersRec, method, pathTuple,
+                    queryRec, contextRec, requestBody)));
         }
         return true;
     }
 
+    /*
+     * Collect the entire request body into one buffer before it is parsed. The body is buffered rather than streamed
+     * because JsonKernelReader parses a complete document. The text path used before JsonKernelReader buffered the
+     * body as a String in the same way. Now the body is held once, as bytes, instead of as bytes and then chars.
+     */
+    static CompletableFuture<ByteBuffer> readRequestBody(Content.Source source) {
+        return Content.Source.asByteBufferAsync(source);
+    }
+
     public final ApiRouter router() {
         return router;
     }
 
     private void sendRequestMessage(Request request, Response response, Callback callback, ApiRoute route,
                                     CompleteRec headersRec, String method, CompleteTuple pathTuple,
-                                    CompleteRec queryRec, CompleteRec contextRec, String requestText)
+                                    CompleteRec queryRec, CompleteRec contextRec, ByteBuffer requestBody)
     {
         try {
+            CompleteRec requestRec = route.desc.toRequestRec(method, pathTuple, headersRec, queryRec,
+                contextRec, requestBody);
             ActorRef actorRef;
+            ActorImagePool pool = null;
             if (route.target instanceof ApiTargetImage targetImage) {
-                actorRef = Actor.spawn(targetImage.address, targetImage.value());
+                pool = targetImage.pool;
+                if (pool != null) {
+                    actorRef = pool.checkout();
+                } else {
+                    actorRef = Actor.spawn(targetImage.address, targetImage.value());
+                }
             } else {
                 actorRef = ((ApiTargetRef) route.target).actorRef;
             }
-            CompleteRec requestRec = route.desc.toRequestRec(method, pathTuple, headersRec, queryRec,
-                contextRec, requestText);
-            ActorRef responseAdapter = new ResponseAdapter(request, response, callback, route);
+            ActorRef responseAdapter = new ResponseAdapter(request, response, callback, route, pool, actorRef);
             actorRef.send(Envelope.createRequest(requestRec, responseAdapter, Null.SINGLETON));
         } catch (Exception exc) {
             Response.writeError(request, response, callback, exc);
@@ -104,19 +122,86 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
         return system;
     }
 
+    /*
+     * Streams a JSON response body through one pooled buffer. Each iteration encodes the next chunk and writes it to
+     * the response. The next iteration begins when Jetty completes the write, so a large body is never materialized.
+     */
+    private static final class JsonBodyWriter extends IteratingCallback {
+        private final Response response;
+        private final Callback callback;
+        private final JsonKernelWriter writer;
+        private final RetainableByteBuffer buffer;
+        private boolean firstChunkEncoded;
+
+        private JsonBodyWriter(Request request, Response response, Callback callback, JsonKernelWriter writer) {
+            this.response = response;
+            this.callback = callback;
+            this.writer = writer;
+            ByteBufferPool bufferPool = request.getComponents().getByteBufferPool();
+            this.buffer = bufferPool.acquire(RESPONSE_BUFFER_SIZE, false);
+            try {
+                encodeNextChunk();
+            } catch (RuntimeException exc) {
+                buffer.release();
+                throw exc;
+            }
+            firstChunkEncoded = true;
+        }
+
+        private void encodeNextChunk() {
+            ByteBuffer byteBuffer = buffer.getByteBuffer();
+            byteBuffer.clear();
+            writer.encode(byteBuffer);
+            byteBuffer.flip();
+        }
+
+        @Override
+        protected final void onCompleteFailure(Throwable cause) {
+            buffer.release();
+            callback.failed(cause);
+        }
+
+        @Override
+        protected final void onCompleteSuccess() {
+            buffer.release();
+            callback.succeeded();
+        }
+
+        @Override
+        protected final Action process() {
+            if (firstChunkEncoded) {
+                // The first chunk was encoded by the constructor
+                firstChunkEncoded = false;
+            } else {
+                if (writer.isFinished()) {
+                    return Action.SUCCEEDED;
+                }
+                encodeNextChunk();
+            }
+            response.write(writer.isFinished(), buffer.getByteBuffer(), this);
+            return Action.SCHEDULED;
+        }
+    }
+
     private static class ResponseAdapter implements ActorRef {
         private final Address address;
         private final Request request;
         private final Response response;
         private final Callback callback;
         private final ApiRoute route;
+        private final ActorImagePool pool;
+        private final ActorRef pooledActor;
 
-        private ResponseAdapter(Request request, Response response, Callback callback, ApiRoute route) {
+        private ResponseAdapter(Request request, Response response, Callback callback, ApiRoute route,
+                                ActorImagePool pool, ActorRef pooledActor)
+        {
             address = Address.create(RESPONSE_ADDRESS_PREFIX + "." + request.getId());
             this.request = request;
             this.response = response;
             this.callback = callback;
             this.route = route;
+            this.pool = pool;
+            this.pooledActor = pooledActor;
         }
 
         @Override
@@ -126,6 +211,9 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
 
         @Override
         public void send(Envelope envelope) {
+            if (pool != null && envelope.isResponse()) {
+                pool.checkin(pooledActor);
+            }
             try {
                 Complete message = (Complete) envelope.message();
                 if (!envelope.isResponse()) {
@@ -137,10 +225,13 @@ public final class ApiHandler extends Handler.Abstract.NonBlocking {
                     response.getHeaders().put(HttpHeader.CONTENT_TYPE, TEXT_PLAIN_CHARSET_UTF_8);
                     Content.Sink.write(response, true, failedValue.toDetailsString(), callback);
                 } else {
-                    String bodyText = route.desc.toResponseBodyText(message);
+                    // Encode the first chunk before committing to a status so that an invalid response value can
+                    // still be reported as an error
+                    JsonBodyWriter bodyWriter = new JsonBodyWriter(request, response, callback,
+                        route.desc.toResponseBodyWriter(message));
                     response.setStatus(200);
                     response.getHeaders().put(HttpHeader.CONTENT_TYPE, APPLICATION_JSON_CHARSET_UTF_8);
-                    Content.Sink.write(response, true, bodyText, callback);
+                    bodyWriter.iterate();
                 }
             } catch (Exception exc) {
                 Response.writeError(request, response, callback, exc);
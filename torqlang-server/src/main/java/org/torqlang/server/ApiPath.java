@@ -18,6 +18,13 @@ public final class ApiPath implements Comparable<ApiPath> {
         this.segs = segs;
     }
 
+    /*
+     * Create a path from segments that were already split and decoded, such as by a router match.
+     */
+    static ApiPath create(List<String> segs) {
+        return new ApiPath(segs);
+    }
+
     public static ApiPath parse(String path) {
         List<String> segs;
         if (path.equals("/")) {
@@ -45,7 +52,7 @@ public final class ApiPath implements Comparable<ApiPath> {
         return seg.compareTo(targetSeg);
     }
 
-    private static boolean isWildcard(String seg) {
+    static boolean isWildcard(String seg) {
         char firstChar = seg.charAt(0);
         if (firstChar == '{') {
             char lastChar = seg.charAt(seg.length() - 1);
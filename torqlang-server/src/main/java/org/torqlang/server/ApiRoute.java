@@ -34,6 +34,12 @@ public final class ApiRoute {
         return new ApiRoute(path, ApiTarget.create(toAddress(path), actorImage), desc, rateLimiter);
     }
 
+    public static ApiRoute create(ApiPath path, ActorImage actorImage, ApiDesc desc, RateLimiter rateLimiter,
+                                  int poolSize)
+    {
+        return new ApiRoute(path, ApiTarget.create(toAddress(path), actorImage, poolSize), desc, rateLimiter);
+    }
+
     public static ApiRoute create(ApiPath path, ActorRef actorRef, ApiDesc desc) {
         return new ApiRoute(path, ApiTarget.create(actorRef), desc, null);
     }
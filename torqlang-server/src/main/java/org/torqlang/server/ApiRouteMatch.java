@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+/*
+ * A route found for a request along with the request path split into decoded segments. Path parameters are the
+ * segments at the positions of the route's `{param}` segments.
+ */
+public record ApiRouteMatch(ApiRoute route, ApiPath path) {
+}
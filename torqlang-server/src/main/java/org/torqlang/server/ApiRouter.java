@@ -7,11 +7,28 @@
 
 package org.torqlang.server;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
 public interface ApiRouter {
 
     static StaticApiRouterBuilder staticBuilder() {
         return new StaticApiRouterBuilder();
     }
 
+    static TrieApiRouterBuilder trieBuilder() {
+        return new TrieApiRouterBuilder();
+    }
+
     ApiRoute findRoute(ApiPath path);
+
+    /*
+     * Find the route for an HTTP method and a raw, still encoded, request path. Return null if there is no route.
+     */
+    default ApiRouteMatch findRoute(String method, String rawPath) {
+        ApiPath path = ApiPath.parse(URLDecoder.decode(rawPath, StandardCharsets.UTF_8));
+        ApiRoute route = findRoute(path);
+        return route != null ? new ApiRouteMatch(route, path) : null;
+    }
+
 }
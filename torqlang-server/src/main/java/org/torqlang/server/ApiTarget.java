@@ -8,13 +8,23 @@
 package org.torqlang.server;
 
 import org.torqlang.local.ActorImage;
+import org.torqlang.local.ActorImagePool;
 import org.torqlang.local.ActorRef;
 import org.torqlang.local.Address;
 
 public interface ApiTarget {
 
     static ApiTarget create(Address address, ActorImage actorImage) {
-        return new ApiTargetImage(address, actorImage);
+        return new ApiTargetImage(address, actorImage, null);
+    }
+
+    /*
+     * Create an image target that serves requests from a pool of pre-spawned actors. A pool size of zero disables
+     * pooling so that each request spawns a new actor.
+     */
+    static ApiTarget create(Address address, ActorImage actorImage, int poolSize) {
+        ActorImagePool pool = poolSize > 0 ? new ActorImagePool(address, actorImage, poolSize) : null;
+        return new ApiTargetImage(address, actorImage, pool);
     }
 
     static ApiTarget create(ActorRef actorRef) {
@@ -26,16 +36,22 @@ public interface ApiTarget {
     final class ApiTargetImage implements ApiTarget {
         public final Address address;
         public final ActorImage actorImage;
+        public final ActorImagePool pool;
 
-        ApiTargetImage(Address address, ActorImage actorImage) {
+        ApiTargetImage(Address address, ActorImage actorImage, ActorImagePool pool) {
             this.address = address;
             this.actorImage = actorImage;
+            this.pool = pool;
         }
 
         public final Address address() {
             return address;
         }
 
+        public final ActorImagePool pool() {
+            return pool;
+        }
+
         @Override
         public final ActorImage value() {
             return actorImage;
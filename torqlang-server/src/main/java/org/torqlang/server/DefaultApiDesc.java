@@ -15,14 +15,33 @@ import org.torqlang.klvm.*;
 import org.torqlang.lang.*;
 import org.torqlang.local.ValueTools;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
 final class DefaultApiDesc implements ApiDesc {
 
+    private static final Str BODY = Str.intern("body");
+    private static final Str CONTEXT = Str.intern("context");
+    private static final Str HEADERS = Str.intern("headers");
+    private static final Str PATH = Str.intern("path");
+    private static final Str QUERY = Str.intern("query");
+
+    private static final List<Str> REQUEST_FEATURES = List.of(HEADERS, PATH, QUERY, CONTEXT);
+    private static final List<Str> REQUEST_FEATURES_WITH_BODY = List.of(HEADERS, PATH, QUERY, BODY, CONTEXT);
+
     private final Type inputType;
     private final Type outputType;
     private final TupleType pathType;
     private final RecType queryType;
     private final ContextProvider contextProvider;
 
+    // Every request record for a method has one of two arities, depending on whether it has a body
+    private final ConcurrentHashMap<String, Arity> requestArities = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Arity> requestAritiesWithBody = new ConcurrentHashMap<>();
+
     DefaultApiDesc(TupleType pathType,
                    RecType queryType,
                    Type inputType,
@@ -127,30 +146,47 @@ final class DefaultApiDesc implements ApiDesc {
     public final CompleteRec toRequestRec(String method, CompleteTuple pathTuple, CompleteRec headersRec,
                                           CompleteRec queryRec, CompleteRec contextRec, String requestText)
     {
-        CompleteRecBuilder requestRecBuilder = Rec.completeRecBuilder()
-            .setLabel(Str.of(method))
-            .addField(Str.of("headers"), headersRec)
-            .addField(Str.of("path"), pathTuple)
-            .addField(Str.of("query"), queryRec);
-        if (requestText != null) {
+        ByteBuffer requestBody = requestText != null ?
+            ByteBuffer.wrap(requestText.getBytes(StandardCharsets.UTF_8)) : null;
+        return toRequestRec(method, pathTuple, headersRec, queryRec, contextRec, requestBody);
+    }
+
+    @Override
+    public final CompleteRec toRequestRec(String method, CompleteTuple pathTuple, CompleteRec headersRec,
+                                          CompleteRec queryRec, CompleteRec contextRec, ByteBuffer requestBody)
+    {
+        Arity arity;
+        if (requestBody != null) {
+            arity = requestAritiesWithBody.computeIfAbsent(method,
+                m -> Arity.create(Str.of(m), REQUEST_FEATURES_WITH_BODY));
+        } else {
+            arity = requestArities.computeIfAbsent(method, m -> Arity.create(Str.of(m), REQUEST_FEATURES));
+        }
+        Complete[] values = new Complete[arity.fieldCount()];
+        values[arity.indexOf(HEADERS)] = headersRec;
+        values[arity.indexOf(PATH)] = pathTuple;
+        values[arity.indexOf(QUERY)] = queryRec;
+        if (requestBody != null) {
             Complete bodyValue;
-            if (requestText.isBlank()) {
+            if (JsonKernelReader.isBlank(requestBody)) {
                 bodyValue = Null.SINGLETON;
             } else {
-                // TODO: Optimize with a text-to-kernel instead of text-to-native-to-kernel
-                bodyValue = ValueTools.toKernelValue(new JsonParser(requestText).parse(), inputType);
+                bodyValue = JsonKernelReader.read(requestBody, inputType);
             }
-            requestRecBuilder.addField(Str.of("body"), bodyValue);
+            values[arity.indexOf(BODY)] = bodyValue;
         }
-        requestRecBuilder.addField(Str.of("context"), contextRec);
-        return requestRecBuilder.build();
+        values[arity.indexOf(CONTEXT)] = contextRec;
+        return CompleteRec.create(arity, Arrays.asList(values));
+    }
+
+    @Override
+    public final JsonKernelWriter toResponseBodyWriter(Complete response) {
+        return new JsonKernelWriter(response);
     }
 
     @Override
     public String toResponseBodyText(Complete response) {
-        // TODO: Optimize with a kernel-to-text instead of kernel-to-native-to-text
-        Object nativeResponseValue = ValueTools.toNativeValue(response);
-        return Json.format(nativeResponseValue);
+        return JsonKernelWriter.format(response);
     }
 
 }
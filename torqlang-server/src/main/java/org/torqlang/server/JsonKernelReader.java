@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.torqlang.klvm.*;
+import org.torqlang.lang.*;
+import org.torqlang.local.ValueTools;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * A JsonKernelReader reads UTF-8 JSON bytes directly into complete kernel values. It produces the same values as
+ * `ValueTools.toKernelValue(JsonParser.parse(text), type)` without first decoding the bytes to a string and without
+ * building an intermediate graph of Java maps, lists, and boxed numbers.
+ *
+ * Objects become records, arrays become tuples, and objects of the form `{"$label": _, "$fields": _}` become labeled
+ * records or tuples. When a type is given, it guides the conversion of nested values. For example, a JSON string is
+ * converted to a LocalDate when its type is LocalDate, and a JSON number is converted to an Int32, Int64, Flt64, or
+ * Dec128 according to its type.
+ *
+ * Number conversions are more lenient than `ValueTools.toKernelValue`:
+ *     - A JSON integer is accepted where the type is Flt64, because JSON writers commonly omit the fraction of a
+ *       whole number, for example `2` instead of `2.0`. ValueTools rejects an integer for a Flt64 type.
+ *     - A JSON number is accepted where the type is Dec128. ValueTools accepts only a string.
+ *     - An integer read as Int64 keeps all 64 bits. ValueTools truncates it to 32 bits.
+ *
+ * The reader parses a complete document held in one buffer. It does not parse incrementally, so the caller must
+ * collect the entire body first. See `ApiHandler.readRequestBody`.
+ */
+public final class JsonKernelReader {
+
+    private final ByteBuffer source;
+    private final int limit;
+    private int position;
+
+    private JsonKernelReader(ByteBuffer source) {
+        this.source = source;
+        this.position = source.position();
+        this.limit = source.limit();
+    }
+
+    /*
+     * Return true if the remaining bytes contain only JSON whitespace.
+     */
+    public static boolean isBlank(ByteBuffer source) {
+        for (int i = source.position(); i < source.limit(); i++) {
+            if (!isWhitespace(source.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /*
+     * Read the remaining bytes of the given buffer as exactly one JSON value. The buffer position is not changed.
+     */
+    public static Complete read(ByteBuffer source, Type type) {
+        JsonKernelReader reader = new JsonKernelReader(source);
+        Complete answer = reader.readValue(type);
+        reader.skipWhitespace();
+        if (reader.position != reader.limit) {
+            throw reader.unexpected();
+        }
+        return answer;
+    }
+
+    private static Type labelType(Type type) {
+        if (type instanceof RecTypeExpr recTypeExpr) {
+            return recTypeExpr.label;
+        }
+        if (type instanceof TupleTypeExpr tupleTypeExpr) {
+            return tupleTypeExpr.label;
+        }
+        return null;
+    }
+
+    private static int hexValue(int b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        throw new IllegalArgumentException("Invalid hex digit: " + (char) b);
+    }
+
+    private void accept(char expected) {
+        skipWhitespace();
+        if (position == limit || source.get(position) != expected) {
+            throw new IllegalArgumentException(expected + " expected at " + position);
+        }
+        position++;
+    }
+
+    private void acceptKeyword(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (position == limit || source.get(position) != keyword.charAt(i)) {
+                throw unexpected();
+            }
+            position++;
+        }
+    }
+
+    private String decodeUtf8(int begin, int end) {
+        if (source.hasArray()) {
+            return new String(source.array(), source.arrayOffset() + begin, end - begin, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[end - begin];
+        source.get(begin, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int peek() {
+        skipWhitespace();
+        if (position == limit) {
+            throw new IllegalArgumentException("Unexpected end of JSON");
+        }
+        return source.get(position);
+    }
+
+    /*
+     * Read the elements of a JSON array as tuple values. The type must be null, an Array type, or a tuple type.
+     */
+    private List<Complete> readArrayValues(Type type) {
+        Type arrayElementType = null;
+        TupleTypeExpr tupleTypeExpr = null;
+        if (type != null) {
+            if (type instanceof TypeCtor typeApply) {
+                if (typeApply.name.ident().equals(ArrayType.IDENT)) {
+                    arrayElementType = typeApply.typeArgs.get(0);
+                } else {
+                    throw new IllegalArgumentException("Cannot convert JSON array to " + type);
+                }
+            } else if (type instanceof TupleTypeExpr tupleTypeExprFound) {
+                tupleTypeExpr = tupleTypeExprFound;
+            } else if (!(type instanceof ArrayType)) {
+                throw new IllegalArgumentException("Cannot convert JSON array to " + type);
+            }
+        }
+        accept('[');
+        List<Complete> values = new ArrayList<>();
+        if (peek() == ']') {
+            position++;
+            return values;
+        }
+        while (true) {
+            Type valueType;
+            if (tupleTypeExpr != null) {
+                if (values.size() >= tupleTypeExpr.values.size()) {
+                    throw new IllegalArgumentException("Too many JSON array elements for " + type);
+                }
+                valueType = tupleTypeExpr.values.get(values.size());
+            } else {
+                valueType = arrayElementType;
+            }
+            values.add(readValue(valueType));
+            int next = peek();
+            position++;
+            if (next == ']') {
+                return values;
+            }
+            if (next != ',') {
+                position--;
+                throw unexpected();
+            }
+        }
+    }
+
+    private Complete readNumber(Type type) {
+        int begin = position;
+        boolean isFloat = false;
+        while (position < limit) {
+            int b = source.get(position);
+            if (b == '.' || b == 'e' || b == 'E') {
+                isFloat = true;
+            } else if (!(b >= '0' && b <= '9') && b != '-' && b != '+') {
+                break;
+            }
+            position++;
+        }
+        if (begin == position) {
+            throw unexpected();
+        }
+        // Numbers are ASCII, so we can decode them as Latin-1 without validating UTF-8
+        String text = source.hasArray() ?
+            new String(source.array(), source.arrayOffset() + begin, position - begin, StandardCharsets.ISO_8859_1) :
+            decodeUtf8(begin, position);
+        if (type instanceof Dec128Type) {
+            return Dec128.decode(text);
+        }
+        if (isFloat) {
+            if (type == null || type instanceof Flt64Type) {
+                return Flt64.of(Double.parseDouble(text));
+            }
+            throw new IllegalArgumentException("Cannot convert JSON number to " + type);
+        }
+        if (type instanceof Int32Type) {
+            return Int32.of(Integer.parseInt(text));
+        }
+        if (type == null || type instanceof Int64Type) {
+            return Int64.of(Long.parseLong(text));
+        }
+        if (type instanceof Flt64Type) {
+            return Flt64.of(Double.parseDouble(text));
+        }
+        throw new IllegalArgumentException("Cannot convert JSON number to " + type);
+    }
+
+    /*
+     * Read a JSON object. The fields are collected before the record is created so that an object of the form
+     * `{"$label": _, "$fields": _}` can be recognized regardless of the order of its two members. The fields of a
+     * labeled structure are read as plain fields.
+     */
+    private Complete readObject(Type type, boolean labeledStructAllowed) {
+        RecTypeExpr recTypeExpr = type instanceof RecTypeExpr recTypeExprFound ? recTypeExprFound : null;
+        accept('{');
+        List<CompleteField> fields = new ArrayList<>();
+        Literal label = null;
+        List<CompleteField> labeledFields = null;
+        List<Complete> labeledValues = null;
+        if (peek() == '}') {
+            position++;
+        } else {
+            while (true) {
+                if (peek() != '"') {
+                    throw new IllegalArgumentException("String expected at " + position);
+                }
+                String key = readString();
+                accept(':');
+                if (labeledStructAllowed && key.equals(Rec.$LABEL) && label == null) {
+                    Complete labelValue = readValue(labelType(type));
+                    if (!(labelValue instanceof Literal labelLiteral)) {
+                        throw new IllegalArgumentException("A label must be a literal: " + labelValue);
+                    }
+                    label = labelLiteral;
+                } else if (labeledStructAllowed && key.equals(Rec.$FIELDS) && labeledFields == null &&
+                    labeledValues == null)
+                {
+                    int next = peek();
+                    if (next == '{') {
+                        labeledFields = readObjectFields(type);
+                    } else if (next == '[') {
+                        labeledValues = readArrayValues(type);
+                    } else {
+                        throw new IllegalArgumentException("A label must precede a structure");
+                    }
+                } else {
+                    Str feature = Str.of(key);
+                    Type valueType = recTypeExpr != null ?
+                        recTypeExpr.findValue(FeatureAsType.create(feature)) : null;
+                    fields.add(new CompleteField(feature, readValue(valueType)));
+                }
+                int next = peek();
+                position++;
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    position--;
+                    throw unexpected();
+                }
+            }
+        }
+        if (label != null && fields.isEmpty()) {
+            if (labeledFields != null) {
+                return CompleteRec.create(label, labeledFields);
+            }
+            if (labeledValues != null) {
+                return CompleteTuple.create(label, labeledValues);
+            }
+        }
+        // Not a labeled structure, so "$label" and "$fields" are ordinary fields
+        if (label != null) {
+            fields.add(new CompleteField(Str.of(Rec.$LABEL), label));
+        }
+        if (labeledFields != null) {
+            fields.add(new CompleteField(Str.of(Rec.$FIELDS), CompleteRec.create(labeledFields)));
+        } else if (labeledValues != null) {
+            fields.add(new CompleteField(Str.of(Rec.$FIELDS), CompleteTuple.create(labeledValues)));
+        }
+        if (type != null && !(type instanceof RecType)) {
+            throw new IllegalArgumentException("Cannot convert JSON object to " + type);
+        }
+        return CompleteRec.create(fields);
+    }
+
+    private List<CompleteField> readObjectFields(Type type) {
+        CompleteRec rec = (CompleteRec) readObject(type, false);
+        List<CompleteField> fields = new ArrayList<>(rec.fieldCount());
+        for (int i = 0; i < rec.fieldCount(); i++) {
+            fields.add(new CompleteField(rec.featureAt(i), rec.valueAt(i)));
+        }
+        return fields;
+    }
+
+    /*
+     * Read a JSON string starting at its opening quote. Runs of bytes without escapes are decoded as UTF-8 directly
+     * from the source buffer.
+     */
+    private String readString() {
+        position++; // accept '"'
+        int begin = position;
+        while (position < limit) {
+            int b = source.get(position);
+            if (b == '"') {
+                String answer = decodeUtf8(begin, position);
+                position++; // accept '"'
+                return answer;
+            }
+            if (b == '\\') {
+                return readStringWithEscapes(begin);
+            }
+            position++;
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    private String readStringWithEscapes(int begin) {
+        StringBuilder sb = new StringBuilder();
+        int runBegin = begin;
+        while (position < limit) {
+            int b = source.get(position);
+            if (b == '"') {
+                sb.append(decodeUtf8(runBegin, position));
+                position++; // accept '"'
+                return sb.toString();
+            }
+            if (b != '\\') {
+                position++;
+                continue;
+            }
+            sb.append(decodeUtf8(runBegin, position));
+            position++; // accept '\'
+            if (position == limit) {
+                break;
+            }
+            int escaped = source.get(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> sb.append((char) escaped);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (position + 4 > limit) {
+                        throw new IllegalArgumentException("Invalid unicode escape");
+                    }
+                    int c = 0;
+                    for (int i = 0; i < 4; i++) {
+                        c = (c << 4) | hexValue(source.get(position++));
+                    }
+                    sb.append((char) c);
+                }
+                default -> throw new IllegalArgumentException("Invalid escape: \\" + (char) escaped);
+            }
+            runBegin = position;
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    private Complete readValue(Type type) {
+        int next = peek();
+        if (next == '"') {
+            return ValueTools.toKernelValue(readString(), type);
+        }
+        if (next == '{') {
+            return readObject(type, true);
+        }
+        if (next == '[') {
+            return CompleteTuple.create(readArrayValues(type));
+        }
+        if (next == 't') {
+            acceptKeyword("true");
+            return ValueTools.toKernelValue(Boolean.TRUE, type);
+        }
+        if (next == 'f') {
+            acceptKeyword("false");
+            return ValueTools.toKernelValue(Boolean.FALSE, type);
+        }
+        if (next == 'n') {
+            acceptKeyword("null");
+            return Null.SINGLETON;
+        }
+        return readNumber(type);
+    }
+
+    private void skipWhitespace() {
+        while (position < limit && isWhitespace(source.get(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException unexpected() {
+        if (position >= limit) {
+            return new IllegalArgumentException("Unexpected end of JSON");
+        }
+        return new IllegalArgumentException("Unexpected character '" + (char) source.get(position) + "' at " +
+            position);
+    }
+
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.torqlang.klvm.*;
+import org.torqlang.lang.Json;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/*
+ * A JsonKernelWriter encodes a complete kernel value as UTF-8 JSON without first building a graph of Java maps and
+ * lists, and without building a string. Its output is equivalent to `Json.format(ValueTools.toNativeValue(value))`,
+ * but not always identical. Scalars and tuples are written the same way. The fields of a record are written in
+ * feature order, whereas the native path writes them in the iteration order of a Java map. Like
+ * `ValueTools.toNativeValue`, the writer throws an IllegalArgumentException for a record that contains itself, which
+ * it detects before writing any part of the cycle a second time.
+ *
+ * The writer is incremental. Each call to `encode` fills the given buffer with as many bytes as fit and remembers
+ * where it stopped, so that a large value can be streamed through one small buffer. The traversal uses an explicit
+ * stack of frames instead of recursion so that it can be suspended at any byte.
+ *
+ * Records become objects, tuples become arrays, and labeled records and tuples become objects of the form
+ * `{"$label": _, "$fields": _}`. Dec128 and LocalDate values are written as strings to preserve their precision and
+ * format.
+ */
+public final class JsonKernelWriter {
+
+    private static final String LABEL_PREFIX = "{\"" + Rec.$LABEL + "\":";
+    private static final String FIELDS_PREFIX = ",\"" + Rec.$FIELDS + "\":";
+    // The longest unit that is never split across buffers is a six-byte unicode escape
+    public static final int MIN_BUFFER_SIZE = 6;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final Complete value;
+    private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+    // The records on the stack, used to detect a record that contains itself
+    private final Set<CompleteRec> path = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private boolean started;
+    private boolean finished;
+
+    // The current piece of output and how much of it has been written
+    private String piece;
+    private boolean pieceQuoted;
+    private boolean pieceOpened;
+    private int pieceIndex;
+
+    public JsonKernelWriter(Complete value) {
+        this.value = value;
+    }
+
+    /*
+     * Format the JSON text the same way as JsonFormatter. In particular, finite numbers are written with sixteen
+     * fractional digits before trailing zeros are trimmed. Like `String.format("%.16f", n)`, this rounds the shortest
+     * decimal representation, but it avoids the formatter and only uses BigDecimal when rounding is necessary.
+     */
+    static String formatDouble(double n) {
+        String s;
+        if (!Double.isFinite(n) || (n == 0.0 && 1.0 / n < 0)) {
+            s = String.format("%.16f", n);
+        } else {
+            s = Double.toString(n);
+            // Plain text with sixteen or fewer fractional digits needs no rounding, only trimming
+            int dot = s.indexOf('.');
+            if (s.indexOf('E') >= 0 || s.length() - dot - 1 > 16) {
+                s = new BigDecimal(s).setScale(16, RoundingMode.HALF_UP).toPlainString();
+            }
+        }
+        // Trim trailing zeros
+        int stop = s.length();
+        while (stop > 3) {
+            int next = stop - 1;
+            if (s.charAt(next) != '0' || s.charAt(next - 1) == '.') {
+                break;
+            }
+            stop = next;
+        }
+        return s.substring(0, stop);
+    }
+
+    /*
+     * Encode the entire value and return it as a string.
+     */
+    public static String format(Complete value) {
+        JsonKernelWriter writer = new JsonKernelWriter(value);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (true) {
+            writer.encode(buffer);
+            if (writer.isFinished()) {
+                break;
+            }
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    private void beginStruct(CompleteRec struct, boolean withLabel) {
+        // The fields of a labeled struct are written by a second frame for the same struct
+        Frame parent = stack.peek();
+        boolean entered = parent == null || !parent.withLabel || parent.struct != struct;
+        if (entered && !path.add(struct)) {
+            throw new IllegalArgumentException("Circular reference error");
+        }
+        if (withLabel) {
+            stack.push(new Frame(struct, true, entered));
+            setPiece(LABEL_PREFIX, false);
+        } else {
+            stack.push(new Frame(struct, false, entered));
+            setPiece(struct instanceof CompleteTuple ? "[" : "{", false);
+        }
+    }
+
+    private void beginValue(Complete next) {
+        if (next instanceof Str str) {
+            setPiece(str.value, true);
+        } else if (next instanceof CompleteRec rec) {
+            // A CompleteTuple is also a CompleteRec
+            beginStruct(rec, !rec.label().equals(Rec.DEFAULT_LABEL));
+        } else if (next instanceof Int64 int64) {
+            setPiece(Long.toString(int64.longValue()), false);
+        } else if (next instanceof Flt64 flt64) {
+            setPiece(formatDouble(flt64.doubleValue()), false);
+        } else if (next instanceof Dec128 dec128) {
+            setPiece(dec128.toNativeValue().toString(), true);
+        } else if (next instanceof Bool bool) {
+            setPiece(bool.value ? "true" : "false", false);
+        } else if (next == Null.SINGLETON) {
+            setPiece("null", false);
+        } else {
+            Object nativeValue = next.toNativeValue();
+            if (nativeValue instanceof String nativeString) {
+                setPiece(nativeString, true);
+            } else if (nativeValue instanceof LocalDate localDate) {
+                setPiece(localDate.toString(), true);
+            } else {
+                setPiece(Json.format(nativeValue), false);
+            }
+        }
+    }
+
+    /*
+     * Write as many bytes as fit into the given buffer, which must be in fill mode with at least MIN_BUFFER_SIZE bytes
+     * remaining. Return the number of bytes written.
+     */
+    public final int encode(ByteBuffer buffer) {
+        if (buffer.remaining() < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer must have at least " + MIN_BUFFER_SIZE + " bytes remaining");
+        }
+        int begin = buffer.position();
+        while (!finished) {
+            if (piece != null) {
+                if (!writePiece(buffer)) {
+                    break;
+                }
+                piece = null;
+            }
+            if (!nextPiece()) {
+                finished = true;
+            }
+        }
+        return buffer.position() - begin;
+    }
+
+    private void endStruct() {
+        Frame frame = stack.pop();
+        if (frame.entered) {
+            path.remove(frame.struct);
+        }
+    }
+
+    public final boolean isFinished() {
+        return finished;
+    }
+
+    /*
+     * Advance the traversal and set the next piece of output. Return false if there is no more output.
+     */
+    private boolean nextPiece() {
+        if (!started) {
+            started = true;
+            beginValue(value);
+            return true;
+        }
+        Frame frame = stack.peek();
+        if (frame == null) {
+            return false;
+        }
+        if (frame.withLabel) {
+            switch (frame.phase++) {
+                case 0 -> beginValue(frame.struct.label());
+                case 1 -> setPiece(FIELDS_PREFIX, false);
+                case 2 -> beginStruct(frame.struct, false);
+                default -> {
+                    endStruct();
+                    setPiece("}", false);
+                }
+            }
+            return true;
+        }
+        if (!(frame.struct instanceof CompleteTuple tuple)) {
+            CompleteRec rec = frame.struct;
+            if (frame.index == rec.fieldCount()) {
+                endStruct();
+                setPiece("}", false);
+                return true;
+            }
+            switch (frame.phase) {
+                case 0 -> {
+                    if (frame.index > 0) {
+                        setPiece(",", false);
+                        frame.phase = 1;
+                    } else {
+                        setFeaturePiece(rec.featureAt(frame.index));
+                        frame.phase = 2;
+                    }
+                }
+                case 1 -> {
+                    setFeaturePiece(rec.featureAt(frame.index));
+                    frame.phase = 2;
+                }
+                case 2 -> {
+                    setPiece(":", false);
+                    frame.phase = 3;
+                }
+                default -> {
+                    frame.phase = 0;
+                    beginValue(rec.valueAt(frame.index++));
+                }
+            }
+            return true;
+        }
+        if (frame.index == tuple.fieldCount()) {
+            endStruct();
+            setPiece("]", false);
+            return true;
+        }
+        if (frame.phase == 0 && frame.index > 0) {
+            frame.phase = 1;
+            setPiece(",", false);
+            return true;
+        }
+        frame.phase = 0;
+        beginValue(tuple.valueAt(frame.index++));
+        return true;
+    }
+
+    private void setFeaturePiece(Feature feature) {
+        if (feature instanceof Str str) {
+            setPiece(str.value, true);
+        } else {
+            setPiece(String.valueOf(feature.toNativeValue()), true);
+        }
+    }
+
+    private void setPiece(String piece, boolean quoted) {
+        this.piece = piece;
+        this.pieceQuoted = quoted;
+        this.pieceOpened = false;
+        this.pieceIndex = 0;
+    }
+
+    /*
+     * Write the remainder of the current piece. Return false if the buffer filled before the piece was written. A
+     * quoted piece is escaped and enclosed in quotes. Characters are encoded as UTF-8, and a character and its escape
+     * sequence or encoding are never split across buffers.
+     */
+    private boolean writePiece(ByteBuffer buffer) {
+        if (pieceQuoted && !pieceOpened) {
+            if (!buffer.hasRemaining()) {
+                return false;
+            }
+            buffer.put((byte) '"');
+            pieceOpened = true;
+        }
+        String s = piece;
+        int length = s.length();
+        while (pieceIndex < length) {
+            char c = s.charAt(pieceIndex);
+            if (c < 0x80) {
+                if (pieceQuoted && (c < 0x20 || c == '"' || c == '\\')) {
+                    if (!writeEscape(c, buffer)) {
+                        return false;
+                    }
+                } else {
+                    if (!buffer.hasRemaining()) {
+                        return false;
+                    }
+                    buffer.put((byte) c);
+                }
+                pieceIndex++;
+            } else if (c < 0x800) {
+                if (buffer.remaining() < 2) {
+                    return false;
+                }
+                buffer.put((byte) (0xc0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+                pieceIndex++;
+            } else if (Character.isSurrogate(c)) {
+                char low = pieceIndex + 1 < length ? s.charAt(pieceIndex + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    if (buffer.remaining() < 4) {
+                        return false;
+                    }
+                    int cp = Character.toCodePoint(c, low);
+                    buffer.put((byte) (0xf0 | (cp >> 18)));
+                    buffer.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+                    buffer.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+                    buffer.put((byte) (0x80 | (cp & 0x3f)));
+                    pieceIndex += 2;
+                } else {
+                    // Encode a malformed surrogate the same way as String.getBytes(UTF_8)
+                    if (!buffer.hasRemaining()) {
+                        return false;
+                    }
+                    buffer.put((byte) '?');
+                    pieceIndex++;
+                }
+            } else {
+                if (buffer.remaining() < 3) {
+                    return false;
+                }
+                buffer.put((byte) (0xe0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                buffer.put((byte) (0x80 | (c & 0x3f)));
+                pieceIndex++;
+            }
+        }
+        if (pieceQuoted) {
+            if (!buffer.hasRemaining()) {
+                return false;
+            }
+            buffer.put((byte) '"');
+        }
+        return true;
+    }
+
+    private static boolean writeEscape(char c, ByteBuffer buffer) {
+        char simple = switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '\r' -> 'r';
+            case '\n' -> 'n';
+            case '\t' -> 't';
+            case '\f' -> 'f';
+            case '\b' -> 'b';
+            default -> 0;
+        };
+        if (simple != 0) {
+            if (buffer.remaining() < 2) {
+                return false;
+            }
+            buffer.put((byte) '\\');
+            buffer.put((byte) simple);
+            return true;
+        }
+        if (buffer.remaining() < 6) {
+            return false;
+        }
+        buffer.put((byte) '\\');
+        buffer.put((byte) 'u');
+        buffer.put(HEX_DIGITS[(c >> 12) & 0xf]);
+        buffer.put(HEX_DIGITS[(c >> 8) & 0xf]);
+        buffer.put(HEX_DIGITS[(c >> 4) & 0xf]);
+        buffer.put(HEX_DIGITS[c & 0xf]);
+        return true;
+    }
+
+    private static final class Frame {
+        private final CompleteRec struct;
+        private final boolean withLabel;
+        private final boolean entered;
+        private int index;
+        private int phase;
+
+        private Frame(CompleteRec struct, boolean withLabel, boolean entered) {
+            this.struct = struct;
+            this.withLabel = withLabel;
+            this.entered = entered;
+        }
+    }
+
+}
@@ -11,10 +11,13 @@ import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
 import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 public final class LocalServerBuilder {
 
     private int port;
+    private boolean useVirtualThreads;
     private final ContextHandlerCollection contextHandlers = new ContextHandlerCollection(false);
 
     LocalServerBuilder() {
@@ -29,6 +32,19 @@ public final class LocalServerBuilder {
         return port;
     }
 
+    /*
+     * When true, and when the Java runtime supports virtual threads, Jetty runs request handling on virtual threads.
+     * Otherwise, Jetty uses its default pool of platform threads.
+     */
+    public final LocalServerBuilder setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+        return this;
+    }
+
+    public final boolean useVirtualThreads() {
+        return useVirtualThreads;
+    }
+
     public final LocalServerBuilder addContextHandler(Handler handler, String contextPath) {
         ContextHandler contextHandler = new ContextHandler(handler, contextPath);
         contextHandlers.addHandler(contextHandler);
@@ -36,12 +52,18 @@ public final class LocalServerBuilder {
     }
 
     public LocalServer build() {
-        Server server = new Server(port);
+        QueuedThreadPool threadPool = new QueuedThreadPool();
+        threadPool.setName("torq-server");
+        if (useVirtualThreads && VirtualThreads.areSupported()) {
+            threadPool.setVirtualThreadsExecutor(VirtualThreads.getNamedVirtualThreadsExecutor("torq-server-virtual"));
+        }
+        Server server = new Server(threadPool);
         HttpConfiguration httpConfig = new HttpConfiguration();
         httpConfig.setSendServerVersion(false);
         HttpConnectionFactory http11 = new HttpConnectionFactory(httpConfig);
         HTTP2CServerConnectionFactory http2c = new HTTP2CServerConnectionFactory(httpConfig);
-        Connector connector = new ServerConnector(server, http11, http2c);
+        ServerConnector connector = new ServerConnector(server, http11, http2c);
+        connector.setPort(port);
         server.addConnector(connector);
         server.setHandler(contextHandlers);
         return new LocalServer(server, port);
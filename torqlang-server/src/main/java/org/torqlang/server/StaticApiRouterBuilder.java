@@ -29,6 +29,21 @@ public final class StaticApiRouterBuilder {
         return this;
     }
 
+    /*
+     * Serve requests from a pool of `poolSize` pre-spawned actors instead of spawning an actor per request.
+     */
+    public final StaticApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc, int poolSize) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        routes.add(ApiRoute.create(path, actorImage, desc, null, poolSize));
+        return this;
+    }
+
+    public final StaticApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc, RateLimiter rateLimiter, int poolSize) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        routes.add(ApiRoute.create(path, actorImage, desc, rateLimiter, poolSize));
+        return this;
+    }
+
     public final StaticApiRouterBuilder addRoute(String pathExpr, ActorRef actorRef, ApiDesc desc) {
         ApiPath path = ApiPath.parse(pathExpr);
         routes.add(ApiRoute.create(path, actorRef, desc));
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/*
+ * A router backed by a trie of path segments. Each node holds its literal children in a sorted array and at most one
+ * parameter child, which stands for every `{param}` segment at that position regardless of its name. Matching
+ * prefers a literal segment over a parameter segment and backtracks to the parameter child if the literal branch
+ * does not lead to a route. For example, given `/orders/{id}` and `/orders/open`, the path `/orders/open` matches the
+ * literal route and `/orders/42` matches the parameter route.
+ *
+ * Each node holds a route per HTTP method and, optionally, a route for any method. A route for a specific method
+ * takes precedence.
+ *
+ * Matching scans the raw request path in place. A segment is only decoded, and therefore allocated, if it contains
+ * an escape. The decoded segments are captured during the descent and become the `ApiPath` of the match. A literal
+ * segment is captured as the route's own literal string, so only parameter segments allocate. When matching
+ * backtracks, the segments captured at the deeper positions are overwritten by the next branch.
+ */
+final class TrieApiRouter implements ApiRouter {
+
+    private final Node root;
+
+    TrieApiRouter(List<MethodRoute> methodRoutes) {
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (MethodRoute methodRoute : methodRoutes) {
+            NodeBuilder next = rootBuilder;
+            for (String seg : methodRoute.route.path.segs) {
+                next = next.child(seg);
+            }
+            next.addRoute(methodRoute.method, methodRoute.route);
+        }
+        this.root = rootBuilder.build();
+    }
+
+    private static int compareSeg(String literal, String path, int start, int end) {
+        int literalLength = literal.length();
+        int segLength = end - start;
+        int length = Math.min(literalLength, segLength);
+        for (int i = 0; i < length; i++) {
+            int compare = Character.compare(literal.charAt(i), path.charAt(start + i));
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return Integer.compare(literalLength, segLength);
+    }
+
+    private static String decodeSeg(String path, int start, int end) {
+        // Decode the same way as ApiHandler did before matching on raw paths
+        return URLDecoder.decode(path.substring(start, end), StandardCharsets.UTF_8);
+    }
+
+    private static boolean isEncoded(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Match the segment that begins at `start` and the segments that follow it. The decoded segment is captured in
+     * `segs` at index `depth` before descending.
+     */
+    private static ApiRoute match(Node node, String method, String path, int start, List<String> segs, int depth) {
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        if (end == start) {
+            // Empty segments, including a trailing '/', do not match
+            return null;
+        }
+        int literalIndex = node.literalIndex(path, start, end);
+        if (literalIndex >= 0) {
+            setSeg(segs, depth, node.literals[literalIndex]);
+            ApiRoute route = matchChild(node.literalChildren[literalIndex], method, path, end, segs, depth);
+            if (route != null) {
+                return route;
+            }
+        }
+        if (node.paramChild != null) {
+            setSeg(segs, depth, isEncoded(path, start, end) ? decodeSeg(path, start, end) : path.substring(start, end));
+            return matchChild(node.paramChild, method, path, end, segs, depth);
+        }
+        return null;
+    }
+
+    private static ApiRoute matchChild(Node child, String method, String path, int end, List<String> segs,
+                                       int depth)
+    {
+        if (end == path.length()) {
+            return child.route(method);
+        }
+        return match(child, method, path, end + 1, segs, depth + 1);
+    }
+
+    private static void setSeg(List<String> segs, int depth, String seg) {
+        if (depth == segs.size()) {
+            segs.add(seg);
+        } else {
+            segs.set(depth, seg);
+        }
+    }
+
+    /*
+     * Find the route that matches the given segments for any method.
+     */
+    @Override
+    public final ApiRoute findRoute(ApiPath path) {
+        return findRoute(root, null, path.segs, 0);
+    }
+
+    private static ApiRoute findRoute(Node node, String method, List<String> segs, int index) {
+        if (index == segs.size()) {
+            return node.route(method);
+        }
+        String seg = segs.get(index);
+        int literalIndex = node.literalIndex(seg, 0, seg.length());
+        if (literalIndex >= 0) {
+            ApiRoute route = findRoute(node.literalChildren[literalIndex], method, segs, index + 1);
+            if (route != null) {
+                return route;
+            }
+        }
+        if (node.paramChild != null) {
+            return findRoute(node.paramChild, method, segs, index + 1);
+        }
+        return null;
+    }
+
+    @Override
+    public final ApiRouteMatch findRoute(String method, String rawPath) {
+        if (rawPath.isEmpty() || rawPath.charAt(0) != '/') {
+            return null;
+        }
+        if (rawPath.length() == 1) {
+            ApiRoute route = root.route(method);
+            return route != null ? new ApiRouteMatch(route, ApiPath.create(List.of())) : null;
+        }
+        // A successful match descends through every segment, so every captured segment belongs to the match
+        List<String> segs = new ArrayList<>();
+        ApiRoute route = match(root, method, rawPath, 1, segs, 0);
+        if (route == null) {
+            return null;
+        }
+        return new ApiRouteMatch(route, ApiPath.create(segs));
+    }
+
+    record MethodRoute(String method, ApiRoute route) {
+    }
+
+    private static final class Node {
+        private final String[] literals;
+        private final Node[] literalChildren;
+        private final Node paramChild;
+        private final String[] methods;
+        private final ApiRoute[] methodRoutes;
+        private final ApiRoute anyMethodRoute;
+
+        private Node(String[] literals, Node[] literalChildren, Node paramChild, String[] methods,
+                     ApiRoute[] methodRoutes, ApiRoute anyMethodRoute)
+        {
+            this.literals = literals;
+            this.literalChildren = literalChildren;
+            this.paramChild = paramChild;
+            this.methods = methods;
+            this.methodRoutes = methodRoutes;
+            this.anyMethodRoute = anyMethodRoute;
+        }
+
+        /*
+         * Return the index of the literal that equals the decoded segment, or -1 if there is none.
+         */
+        private int literalIndex(String path, int start, int end) {
+            if (literals.length == 0) {
+                return -1;
+            }
+            if (isEncoded(path, start, end)) {
+                String seg = decodeSeg(path, start, end);
+                path = seg;
+                start = 0;
+                end = seg.length();
+            }
+            int low = 0;
+            int high = literals.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compare = compareSeg(literals[mid], path, start, end);
+                if (compare < 0) {
+                    low = mid + 1;
+                } else if (compare > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private ApiRoute route(String method) {
+            if (method != null) {
+                // A node holds very few methods, so a linear scan is faster than hashing
+                for (int i = 0; i < methods.length; i++) {
+                    if (methods[i].equals(method)) {
+                        return methodRoutes[i];
+                    }
+                }
+            }
+            return anyMethodRoute;
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final TreeMap<String, NodeBuilder> literalChildren = new TreeMap<>();
+        private final Map<String, ApiRoute> methodRoutes = new LinkedHashMap<>();
+        private NodeBuilder paramChild;
+        private ApiRoute anyMethodRoute;
+
+        private void addRoute(String method, ApiRoute route) {
+            if (method == null) {
+                if (anyMethodRoute != null) {
+                    throw new IllegalArgumentException("Duplicate route: " + String.join("/", route.path.segs));
+                }
+                anyMethodRoute = route;
+            } else if (methodRoutes.putIfAbsent(method, route) != null) {
+                throw new IllegalArgumentException("Duplicate route: " + method + " " +
+                    String.join("/", route.path.segs));
+            }
+        }
+
+        private Node build() {
+            String[] literals = literalChildren.keySet().toArray(new String[0]);
+            Node[] builtChildren = new Node[literals.length];
+            int i = 0;
+            for (NodeBuilder child : literalChildren.values()) {
+                builtChildren[i++] = child.build();
+            }
+            return new Node(literals, builtChildren, paramChild != null ? paramChild.build() : null,
+                methodRoutes.keySet().toArray(new String[0]), methodRoutes.values().toArray(new ApiRoute[0]),
+                anyMethodRoute);
+        }
+
+        private NodeBuilder child(String seg) {
+            if (ApiPath.isWildcard(seg)) {
+                if (paramChild == null) {
+                    paramChild = new NodeBuilder();
+                }
+                return paramChild;
+            }
+            return literalChildren.computeIfAbsent(seg, k -> new NodeBuilder());
+        }
+    }
+
+}
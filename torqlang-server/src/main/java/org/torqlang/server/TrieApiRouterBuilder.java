@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.torqlang.local.ActorImage;
+import org.torqlang.local.ActorRef;
+import org.torqlang.server.TrieApiRouter.MethodRoute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Routes added without a method serve any HTTP method. Routes added with a method, such as "GET", serve only that
+ * method and take precedence over a route for any method at the same path.
+ */
+public final class TrieApiRouterBuilder {
+
+    private final List<MethodRoute> routes = new ArrayList<>();
+
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorImage, desc));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc, RateLimiter rateLimiter) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorImage, desc, rateLimiter));
+    }
+
+    /*
+     * Serve requests from a pool of `poolSize` pre-spawned actors instead of spawning an actor per request.
+     */
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc, int poolSize) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorImage, desc, null, poolSize));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorImage actorImage, ApiDesc desc, RateLimiter rateLimiter, int poolSize) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorImage, desc, rateLimiter, poolSize));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorRef actorRef, ApiDesc desc) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorRef, desc));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String pathExpr, ActorRef actorRef, ApiDesc desc, RateLimiter rateLimiter) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(null, ApiRoute.create(path, actorRef, desc, rateLimiter));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String method, String pathExpr, ActorImage actorImage, ApiDesc desc) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(method, ApiRoute.create(path, actorImage, desc));
+    }
+
+    public final TrieApiRouterBuilder addRoute(String method, String pathExpr, ActorRef actorRef, ApiDesc desc) {
+        ApiPath path = ApiPath.parse(pathExpr);
+        return addRoute(method, ApiRoute.create(path, actorRef, desc));
+    }
+
+    /*
+     * Add a route for the given method, or for any method if the method is null.
+     */
+    public final TrieApiRouterBuilder addRoute(String method, ApiRoute route) {
+        routes.add(new MethodRoute(method, route));
+        return this;
+    }
+
+    public final ApiRouter build() {
+        return new TrieApiRouter(routes);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.io.content.ChunksContentSource;
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.*;
+import org.torqlang.lang.*;
+import org.torqlang.local.ValueTools;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonKernelReader {
+
+    private static Complete read(String json, Type type) {
+        return JsonKernelReader.read(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)), type);
+    }
+
+    private static void assertSameAsParser(String json) {
+        Complete expected = ValueTools.toKernelValue(JsonParser.parse(json), null);
+        Complete actual = read(json, null);
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testSameAsParser() {
+        assertSameAsParser("{}");
+        assertSameAsParser("[]");
+        assertSameAsParser("  \"abc\"  ");
+        assertSameAsParser("0");
+        assertSameAsParser("-42");
+        assertSameAsParser("3.25");
+        assertSameAsParser("true");
+        assertSameAsParser("false");
+        assertSameAsParser("null");
+        assertSameAsParser("""
+            {"id":42,"customer":{"first":"Abraham","last":"Lincoln"},
+             "items":[{"sku":"A-1","qty":2},{"sku":"B-7","qty":1}], "tags": [], "note": null}""");
+        assertSameAsParser("{\"$label\": \"order\", \"$fields\": {\"id\": 1, \"open\": true}}");
+        assertSameAsParser("{\"$fields\": [1, 2, 3], \"$label\": \"point\"}");
+        assertSameAsParser("{\"$label\": \"order\", \"id\": 1}");
+    }
+
+    @Test
+    public void testStrings() {
+        assertEquals(Str.of("quote \" backslash \\ slash / tab \t newline \n"),
+            read("\"quote \\\" backslash \\\\ slash \\/ tab \\t newline \\n\"", null));
+        assertEquals(Str.of("caf\u00e9 \u20ac \uD83D\uDE00"), read("\"caf\u00e9 \u20ac \uD83D\uDE00\"", null));
+        assertEquals(Str.of("caf\u00e9 \uD83D\uDE00"), read("\"caf\\u00e9 \\uD83D\\uDE00\"", null));
+        // A direct buffer has no backing array
+        byte[] bytes = "\"caf\u00e9\"".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(Str.of("caf\u00e9"), JsonKernelReader.read(direct, null));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void testTyped() {
+        assertEquals(Int32.of(7), read("7", Int32Type.SINGLETON));
+        assertEquals(Int64.of(10_000_000_000L), read("10000000000", Int64Type.SINGLETON));
+        assertEquals(Int64.of(10_000_000_000L), read("10000000000", null));
+        assertEquals(Flt64.of(2.0), read("2", Flt64Type.SINGLETON));
+        assertEquals(Dec128.of("12.50"), read("12.50", Dec128Type.SINGLETON));
+        assertEquals(Dec128.of("12.50"), read("\"12.50\"", Dec128Type.SINGLETON));
+        assertThrows(IllegalArgumentException.class, () -> read("1.5", Int32Type.SINGLETON));
+
+        RecTypeExpr recType = RecTypeExpr.createWithFields(List.of(
+            FieldType.create(StrAsType.create(Str.of("amount")), Dec128Type.SINGLETON),
+            FieldType.create(StrAsType.create(Str.of("count")), Int32Type.SINGLETON)
+        ));
+        Complete rec = read("{\"amount\": 3.10, \"count\": 3, \"other\": 4}", recType);
+        CompleteRec expected = Rec.completeRecBuilder()
+            .addField(Str.of("amount"), Dec128.of("3.10"))
+            .addField(Str.of("count"), Int32.of(3))
+            .addField(Str.of("other"), Int64.of(4))
+            .build();
+        assertEquals(expected, rec);
+        assertThrows(IllegalArgumentException.class, () -> read("[1]", recType));
+    }
+
+    @Test
+    public void testBodyInChunks() throws Exception {
+        // ApiHandler collects the whole body before it is parsed, so a chunk boundary may split a multibyte character
+        // or a number
+        String json = "{\"name\": \"caf\u00e9\", \"count\": 12}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        int splitChar = "{\"name\": \"caf".getBytes(StandardCharsets.UTF_8).length + 1;
+        int splitNumber = bytes.length - 2;
+        List<Content.Chunk> chunks = List.of(
+            Content.Chunk.from(ByteBuffer.wrap(Arrays.copyOfRange(bytes, 0, splitChar)), false),
+            Content.Chunk.from(ByteBuffer.wrap(Arrays.copyOfRange(bytes, splitChar, splitNumber)), false),
+            Content.Chunk.from(ByteBuffer.wrap(Arrays.copyOfRange(bytes, splitNumber, bytes.length)), true)
+        );
+        ByteBuffer body = ApiHandler.readRequestBody(new ChunksContentSource(chunks)).get();
+        CompleteRec expected = Rec.completeRecBuilder()
+            .addField(Str.of("count"), Int64.of(12))
+            .addField(Str.of("name"), Str.of("caf\u00e9"))
+            .build();
+        assertEquals(expected, JsonKernelReader.read(body, null));
+    }
+
+    @Test
+    public void testIntegerAsFlt64() {
+        // Unlike ValueTools, JsonKernelReader accepts a JSON integer where the type is Flt64
+        assertThrows(IllegalArgumentException.class,
+            () -> ValueTools.toKernelValue(JsonParser.parse("2"), Flt64Type.SINGLETON));
+        assertEquals(Flt64.of(2.0), read("2", Flt64Type.SINGLETON));
+        assertEquals(Flt64.of(-3.0), read("-3", Flt64Type.SINGLETON));
+        assertEquals(Flt64.of(2.5), read("2.5", Flt64Type.SINGLETON));
+        RecTypeExpr recType = RecTypeExpr.createWithFields(List.of(
+            FieldType.create(StrAsType.create(Str.of("price")), Flt64Type.SINGLETON)
+        ));
+        CompleteRec expected = Rec.completeRecBuilder()
+            .addField(Str.of("price"), Flt64.of(10.0))
+            .build();
+        assertEquals(expected, read("{\"price\": 10}", recType));
+        assertThrows(IllegalArgumentException.class, () -> read("true", Flt64Type.SINGLETON));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertTrue(JsonKernelReader.isBlank(ByteBuffer.wrap(" \r\n\t".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(JsonKernelReader.isBlank(ByteBuffer.wrap(" {}".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IllegalArgumentException.class, () -> read("{\"a\": 1", null));
+        assertThrows(IllegalArgumentException.class, () -> read("[1 2]", null));
+        assertThrows(IllegalArgumentException.class, () -> read("{} {}", null));
+        assertThrows(IllegalArgumentException.class, () -> read("\"abc", null));
+        assertThrows(IllegalArgumentException.class, () -> read("tru", null));
+        assertThrows(IllegalArgumentException.class, () -> read("{1: 2}", null));
+    }
+
+}
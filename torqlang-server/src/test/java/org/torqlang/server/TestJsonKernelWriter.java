@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.*;
+import org.torqlang.lang.Json;
+import org.torqlang.lang.JsonParser;
+import org.torqlang.local.ValueTools;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonKernelWriter {
+
+    private static String formatViaNative(Complete value) {
+        return Json.format(ValueTools.toNativeValue(value));
+    }
+
+    private static String encodeInChunks(Complete value, int chunkSize) {
+        JsonKernelWriter writer = new JsonKernelWriter(value);
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (!writer.isFinished()) {
+            buffer.clear();
+            writer.encode(buffer);
+            buffer.flip();
+            out.write(buffer.array(), 0, buffer.limit());
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testChunked() {
+        Complete order = JsonKernelReader.read(ByteBuffer.wrap("""
+            {"id":42,"customer":{"first":"Abraham","last":"Lincoln","note":"caf\\u00e9 \\u20ac \\uD83D\\uDE00"},
+             "items":[{"sku":"A-1","qty":2,"price":3.25},{"sku":"B-7","qty":1,"price":10.5}],"open":true}"""
+            .getBytes(StandardCharsets.UTF_8)), null);
+        String expected = JsonKernelWriter.format(order);
+        // Multibyte characters and escapes are never split across chunks
+        for (int chunkSize = JsonKernelWriter.MIN_BUFFER_SIZE; chunkSize < 40; chunkSize++) {
+            assertEquals(expected, encodeInChunks(order, chunkSize));
+        }
+        ByteBuffer tooSmall = ByteBuffer.allocate(JsonKernelWriter.MIN_BUFFER_SIZE - 1);
+        assertThrows(IllegalArgumentException.class, () -> new JsonKernelWriter(order).encode(tooSmall));
+    }
+
+    /*
+     * Create the complete record `y` for `var y = label#{'a': y}`.
+     */
+    private static Complete createCycle(Literal label) throws WaitVarException {
+        Var y = new Var();
+        Rec rec = Rec.partialRecBuilder()
+            .setLabel(label)
+            .addField(Str.of("a"), y)
+            .build();
+        y.bindToValue(rec, null);
+        return rec.checkComplete();
+    }
+
+    @Test
+    public void testCircular() throws Exception {
+        Complete cycle = createCycle(Rec.DEFAULT_LABEL);
+        Exception exc = assertThrows(IllegalArgumentException.class, () -> ValueTools.toNativeValue(cycle));
+        assertEquals("Circular reference error", exc.getMessage());
+        exc = assertThrows(IllegalArgumentException.class, () -> JsonKernelWriter.format(cycle));
+        assertEquals("Circular reference error", exc.getMessage());
+        // The cycle is detected as the record is entered the second time, even when streaming
+        JsonKernelWriter writer = new JsonKernelWriter(cycle);
+        ByteBuffer buffer = ByteBuffer.allocate(JsonKernelWriter.MIN_BUFFER_SIZE);
+        exc = assertThrows(IllegalArgumentException.class, () -> {
+            while (!writer.isFinished()) {
+                buffer.clear();
+                writer.encode(buffer);
+            }
+        });
+        assertEquals("Circular reference error", exc.getMessage());
+        Complete labeledCycle = createCycle(Str.of("node"));
+        exc = assertThrows(IllegalArgumentException.class, () -> JsonKernelWriter.format(labeledCycle));
+        assertEquals("Circular reference error", exc.getMessage());
+        // A record that appears twice without containing itself is not circular
+        CompleteRec shared = CompleteRec.create(List.of(new CompleteField(Str.of("n"), Int32.of(1))));
+        CompleteTuple twice = CompleteTuple.create(List.of(shared, shared));
+        assertEquals("[{\"n\":1},{\"n\":1}]", JsonKernelWriter.format(twice));
+        CompleteRec labeled = CompleteRec.create(Str.of("point"), List.of(new CompleteField(Str.of("x"), shared)));
+        assertEquals("{\"$label\":\"point\",\"$fields\":{\"x\":{\"n\":1}}}", JsonKernelWriter.format(labeled));
+    }
+
+    @Test
+    public void testFormatDouble() {
+        Random random = new Random(17);
+        for (int i = 0; i < 10_000; i++) {
+            double n = switch (i % 3) {
+                case 0 -> random.nextDouble();
+                case 1 -> (random.nextDouble() - 0.5) * 1_000_000;
+                default -> random.nextInt(1000) / 8.0;
+            };
+            assertEquals(formatViaNative(Flt64.of(n)), JsonKernelWriter.formatDouble(n));
+        }
+        for (double n : new double[]{0.0, -0.0, 1.0, -1.0, 0.1, 1e-20, 1e20, Double.MIN_VALUE, Double.MAX_VALUE}) {
+            assertEquals(formatViaNative(Flt64.of(n)), JsonKernelWriter.formatDouble(n));
+        }
+    }
+
+    @Test
+    public void testLabeled() {
+        CompleteRec rec = CompleteRec.create(Str.of("order"), List.of(
+            new CompleteField(Str.of("id"), Int64.of(1))
+        ));
+        assertEquals("{\"$label\":\"order\",\"$fields\":{\"id\":1}}", JsonKernelWriter.format(rec));
+        CompleteTuple tuple = CompleteTuple.create(Str.of("point"), List.of(Int64.of(1), Int64.of(2)));
+        assertEquals("{\"$label\":\"point\",\"$fields\":[1,2]}", JsonKernelWriter.format(tuple));
+        // Labeled values, whose untyped integers are Int64, read back to the same kernel values
+        assertEquals(rec, JsonKernelReader.read(ByteBuffer.wrap(JsonKernelWriter.format(rec)
+            .getBytes(StandardCharsets.UTF_8)), null));
+        assertEquals(tuple, JsonKernelReader.read(ByteBuffer.wrap(JsonKernelWriter.format(tuple)
+            .getBytes(StandardCharsets.UTF_8)), null));
+    }
+
+    @Test
+    public void testSameAsNative() {
+        List<Complete> values = List.of(
+            Str.of("abc"),
+            Str.of("quote \" backslash \\ slash / tab \t newline \n control \u0001 caf\u00e9 \uD83D\uDE00"),
+            Int32.of(-42),
+            Int64.of(10_000_000_000L),
+            Flt64.of(3.25),
+            Dec128.of("12.50"),
+            Bool.TRUE,
+            Bool.FALSE,
+            Null.SINGLETON,
+            CompleteRec.create(List.of(new CompleteField(Str.of("name"), Str.of("Lincoln")))),
+            CompleteTuple.create(List.of(Int32.of(1), Str.of("two"), Bool.TRUE, Null.SINGLETON)),
+            CompleteTuple.create(List.of())
+        );
+        for (Complete value : values) {
+            assertEquals(formatViaNative(value), JsonKernelWriter.format(value));
+        }
+        // Multi-field records are written in feature order, so compare the parsed structures
+        CompleteRec order = CompleteRec.create(List.of(
+            new CompleteField(Str.of("id"), Int32.of(42)),
+            new CompleteField(Str.of("customer"), CompleteRec.create(List.of(
+                new CompleteField(Str.of("first"), Str.of("Abraham")),
+                new CompleteField(Str.of("last"), Str.of("Lincoln"))
+            ))),
+            new CompleteField(Str.of("items"), CompleteTuple.create(List.of(Int32.of(1), Int32.of(2))))
+        ));
+        assertEquals(JsonParser.parse(formatViaNative(order)), JsonParser.parse(JsonKernelWriter.format(order)));
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.server;
+
+import org.eclipse.jetty.server.Request;
+import org.junit.jupiter.api.Test;
+import org.torqlang.klvm.CompleteRec;
+import org.torqlang.klvm.Rec;
+import org.torqlang.local.Actor;
+import org.torqlang.local.ActorImage;
+import org.torqlang.local.ActorSystem;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTrieApiRouter {
+
+    private static final String SOURCE = """
+        actor TestApi() in
+            handle ask 'GET'#{'query': query} in
+                null
+            end
+        end""";
+
+    private static CompleteRec emptyContextProvider(Request request) {
+        return Rec.completeRecBuilder().build();
+    }
+
+    private static ApiDesc emptyApiDesc() {
+        return ApiDesc.builder()
+            .setContextProvider(TestTrieApiRouter::emptyContextProvider)
+            .build();
+    }
+
+    private static ActorImage testActorImage() throws Exception {
+        return Actor.builder()
+            .setSystem(ActorSystem.defaultSystem())
+            .actorImage(SOURCE);
+    }
+
+    private static ApiRoute route(ApiRouter router, String rawPath) {
+        ApiRouteMatch match = router.findRoute("GET", rawPath);
+        return match != null ? match.route() : null;
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+
+        ApiDesc desc = emptyApiDesc();
+        ActorImage image = testActorImage();
+        ApiRouter router;
+
+        router = ApiRouter.trieBuilder().build();
+        assertNull(route(router, "/orders"));
+        assertNull(route(router, "/"));
+
+        // An actor address cannot be empty, so route the root path to a route without a target
+        router = ApiRouter.trieBuilder()
+            .addRoute(null, new ApiRoute(ApiPath.parse("/"), null, desc, null))
+            .addRoute("/orders", image, desc)
+            .build();
+        assertEquals(List.of(), router.findRoute("GET", "/").path().segs);
+        assertNotNull(route(router, "/orders"));
+        assertNull(route(router, "/orders/1"));
+        assertNull(route(router, "/orders/"));
+        assertNull(route(router, "//orders"));
+        assertNull(route(router, "/shippers"));
+        assertNull(route(router, "orders"));
+        assertNull(route(router, ""));
+
+        router = ApiRouter.trieBuilder()
+            .addRoute("/inventory", image, desc)
+            .addRoute("/inventory/{id}", image, desc)
+            .addRoute("/orders", image, desc)
+            .addRoute("/orders/{id}", image, desc)
+            .addRoute("/orders/{id}/releases", image, desc)
+            .addRoute("/orders/{orderId}/releases/{releaseId}", image, desc)
+            .build();
+        assertEquals("/inventory", pathExpr(route(router, "/inventory")));
+        assertEquals("/inventory/{id}", pathExpr(route(router, "/inventory/1")));
+        assertNull(route(router, "/inventory/1/locations"));
+        assertEquals("/orders/{id}", pathExpr(route(router, "/orders/1")));
+        assertEquals("/orders/{id}/releases", pathExpr(route(router, "/orders/1/releases")));
+        assertEquals("/orders/{orderId}/releases/{releaseId}", pathExpr(route(router, "/orders/1/releases/2")));
+        assertNull(route(router, "/orders/1/customer"));
+        assertNull(route(router, "/orders/1/customer/address"));
+        assertNull(route(router, "/shippers"));
+        // The ApiPath variant matches the same way
+        assertEquals("/orders/{id}/releases", pathExpr(router.findRoute(ApiPath.parse("/orders/1/releases"))));
+        assertNull(router.findRoute(ApiPath.parse("/orders/1/customer")));
+    }
+
+    @Test
+    public void testLiteralBeforeParam() throws Exception {
+
+        ApiDesc desc = emptyApiDesc();
+        ActorImage image = testActorImage();
+
+        ApiRouter router = ApiRouter.trieBuilder()
+            .addRoute("/orders/{id}", image, desc)
+            .addRoute("/orders/open", image, desc)
+            .addRoute("/orders/{id}/releases", image, desc)
+            .addRoute("/orders/open/summary", image, desc)
+            .build();
+        assertEquals("/orders/open", pathExpr(route(router, "/orders/open")));
+        assertEquals("/orders/{id}", pathExpr(route(router, "/orders/42")));
+        assertEquals("/orders/open/summary", pathExpr(route(router, "/orders/open/summary")));
+        // The literal branch has no 'releases' child, so matching backtracks to the parameter branch
+        assertEquals("/orders/{id}/releases", pathExpr(route(router, "/orders/open/releases")));
+        assertNull(route(router, "/orders/42/summary"));
+        // Segments captured on the abandoned literal branch are replaced by those of the parameter branch
+        assertEquals(List.of("orders", "open", "releases"),
+            router.findRoute("GET", "/orders/open/releases").path().segs);
+        assertEquals(List.of("orders", "42", "releases"),
+            router.findRoute("GET", "/orders/42/releases").path().segs);
+    }
+
+    @Test
+    public void testMethods() throws Exception {
+
+        ApiDesc desc = emptyApiDesc();
+        ActorImage image = testActorImage();
+        ApiRoute getOrder = ApiRoute.create(ApiPath.parse("/orders/{id}"), image, desc);
+        ApiRoute putOrder = ApiRoute.create(ApiPath.parse("/orders/{id}"), image, desc);
+        ApiRoute anyOrder = ApiRoute.create(ApiPath.parse("/orders/{id}"), image, desc);
+        ApiRoute postOpen = ApiRoute.create(ApiPath.parse("/orders/open"), image, desc);
+
+        ApiRouter router = ApiRouter.trieBuilder()
+            .addRoute("GET", getOrder)
+            .addRoute("PUT", putOrder)
+            .addRoute(null, anyOrder)
+            .addRoute("POST", postOpen)
+            .build();
+        assertSame(getOrder, router.findRoute("GET", "/orders/1").route());
+        assertSame(putOrder, router.findRoute("PUT", "/orders/1").route());
+        assertSame(anyOrder, router.findRoute("DELETE", "/orders/1").route());
+        assertSame(postOpen, router.findRoute("POST", "/orders/open").route());
+        // There is no GET route for the literal, so matching backtracks to the parameter route
+        assertSame(getOrder, router.findRoute("GET", "/orders/open").route());
+
+        router = ApiRouter.trieBuilder()
+            .addRoute("GET", "/orders", image, desc)
+            .build();
+        assertNotNull(router.findRoute("GET", "/orders"));
+        assertNull(router.findRoute("POST", "/orders"));
+
+        TrieApiRouterBuilder duplicates = ApiRouter.trieBuilder()
+            .addRoute("GET", "/orders/{id}", image, desc)
+            .addRoute("GET", "/orders/{orderId}", image, desc);
+        assertThrows(IllegalArgumentException.class, duplicates::build);
+    }
+
+    @Test
+    public void testPathSegments() throws Exception {
+
+        ApiDesc desc = emptyApiDesc();
+        ActorImage image = testActorImage();
+
+        ApiRouter router = ApiRouter.trieBuilder()
+            .addRoute("/customers/{name}/orders/{id}", image, desc)
+            .addRoute(null, new ApiRoute(ApiPath.parse("/caf\u00e9"), null, desc, null))
+            .build();
+        ApiRouteMatch match = router.findRoute("GET", "/customers/Abraham%20Lincoln/orders/42");
+        assertEquals(List.of("customers", "Abraham Lincoln", "orders", "42"), match.path().segs);
+        // An encoded '/' is part of a segment and not a separator
+        match = router.findRoute("GET", "/customers/a%2Fb/orders/42");
+        assertEquals(List.of("customers", "a/b", "orders", "42"), match.path().segs);
+        // Encoded literals match their decoded form
+        match = router.findRoute("GET", "/caf%C3%A9");
+        assertEquals(List.of("caf\u00e9"), match.path().segs);
+    }
+
+    private static String pathExpr(ApiRoute route) {
+        assertNotNull(route);
+        return "/" + String.join("/", route.path.segs);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+ * A concurrent intern table that holds its values weakly. Interning a key returns the one canonical value for that
+ * key for as long as the canonical value is reachable. Once a canonical value is no longer reachable, its entry is
+ * expunged and a later request creates a new canonical value.
+ */
+public final class WeakValueInterner<K, V> {
+
+    private final ConcurrentHashMap<K, ValueRef<K, V>> values = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> staleRefs = new ReferenceQueue<>();
+
+    public WeakValueInterner() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expungeStaleEntries() {
+        Reference<? extends V> ref;
+        while ((ref = staleRefs.poll()) != null) {
+            ValueRef<K, V> valueRef = (ValueRef<K, V>) ref;
+            values.remove(valueRef.key, valueRef);
+        }
+    }
+
+    /*
+     * Return the canonical value for the given key, creating it with the given factory if necessary. The factory may
+     * be called more than once under contention, but only one created value becomes canonical.
+     */
+    public final V intern(K key, Function<? super K, ? extends V> factory) {
+        ValueRef<K, V> existingRef = values.get(key);
+        if (existingRef != null) {
+            V existing = existingRef.get();
+            if (existing != null) {
+                return existing;
+            }
+        }
+        expungeStaleEntries();
+        while (true) {
+            existingRef = values.get(key);
+            if (existingRef != null) {
+                V existing = existingRef.get();
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            V created = factory.apply(key);
+            ValueRef<K, V> createdRef = new ValueRef<>(key, created, staleRefs);
+            if (existingRef == null) {
+                if (values.putIfAbsent(key, createdRef) == null) {
+                    return created;
+                }
+            } else if (values.replace(key, existingRef, createdRef)) {
+                return created;
+            }
+        }
+    }
+
+    public final int size() {
+        expungeStaleEntries();
+        return values.size();
+    }
+
+    private static final class ValueRef<K, V> extends WeakReference<V> {
+        private final K key;
+
+        private ValueRef(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+}
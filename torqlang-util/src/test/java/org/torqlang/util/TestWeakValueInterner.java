@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024-2026 Torqware LLC. All rights reserved.
+ *
+ * You should have received a copy of the Torq Lang License v1.0 along with this program.
+ * If not, see <http://torq-lang.github.io/licensing/torq-lang-license-v1_0>.
+ */
+
+package org.torqlang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestWeakValueInterner {
+
+    @Test
+    public void testConcurrentIntern() throws Exception {
+        WeakValueInterner<String, StringBuilder> interner = new WeakValueInterner<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<StringBuilder>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> interner.intern("a", StringBuilder::new)));
+            }
+            StringBuilder first = futures.get(0).get();
+            for (Future<StringBuilder> f : futures) {
+                assertSame(first, f.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testIntern() {
+        WeakValueInterner<String, StringBuilder> interner = new WeakValueInterner<>();
+        StringBuilder a1 = interner.intern("a", StringBuilder::new);
+        StringBuilder a2 = interner.intern("a", StringBuilder::new);
+        StringBuilder b = interner.intern("b", StringBuilder::new);
+        assertSame(a1, a2);
+        assertNotSame(a1, b);
+        assertEquals("a", a1.toString());
+        assertEquals("b", b.toString());
+        assertEquals(2, interner.size());
+    }
+
+}